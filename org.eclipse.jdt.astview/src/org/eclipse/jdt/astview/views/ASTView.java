@@ -22,7 +22,6 @@ import java.util.List;
 import org.eclipse.jdt.astview.ASTViewImages;
 import org.eclipse.jdt.astview.ASTViewPlugin;
 import org.eclipse.jdt.astview.EditorUtility;
-import org.eclipse.jdt.astview.TreeInfoCollector;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.custom.SashForm;
@@ -37,9 +36,12 @@ import org.eclipse.swt.widgets.TreeItem;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.ListenerList;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.core.filebuffers.FileBuffers;
 import org.eclipse.core.filebuffers.IFileBuffer;
@@ -375,6 +377,165 @@ public class ASTView extends ViewPart implements IShowInSource, IShowInTargetLis
 		}
 	}
 
+	/**
+	 * Creates the AST off the UI thread. The settings of the view are captured when the job is
+	 * created, so that changing them while the job runs does not affect the result.
+	 */
+	private final class ParseJob extends Job {
+
+		private final ITypeRoot fInput;
+		private final int fOffset;
+		private final int fLength;
+		private final int fInputKind;
+		private final int fASTLevel;
+		private final boolean fResolveBindings;
+		private final boolean fUseStatementsRecovery;
+		private final boolean fUseBindingsRecovery;
+		private final boolean fSkipMethodBodies;
+
+		private volatile CompilationUnit fResult;
+		private volatile ParseStatistics fStatistics;
+
+		public ParseJob(ITypeRoot input, int offset, int length) {
+			super("Creating AST for " + input.getElementName()); //$NON-NLS-1$
+			fInput= input;
+			fOffset= offset;
+			fLength= length;
+			fInputKind= getCurrentInputKind();
+			fASTLevel= fCurrentASTLevel;
+			fResolveBindings= fCreateBindings;
+			fUseStatementsRecovery= fStatementsRecovery;
+			fUseBindingsRecovery= fBindingsRecovery;
+			fSkipMethodBodies= fIgnoreMethodBodies;
+			setSystem(true);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			IStatus status;
+			try {
+				fResult= createAST(monitor);
+				status= Status.OK_STATUS;
+			} catch (OperationCanceledException e) {
+				return Status.CANCEL_STATUS;
+			} catch (CoreException e) {
+				status= e.getStatus();
+			} catch (RuntimeException e) {
+				status= getErrorStatus("Could not create AST:\n" + e.getMessage(), e); //$NON-NLS-1$
+			}
+			if (monitor.isCanceled()) {
+				return Status.CANCEL_STATUS;
+			}
+			IStatus result= status;
+			PlatformUI.getWorkbench().getDisplay().asyncExec(() -> parseDone(this, result));
+			return Status.OK_STATUS;
+		}
+
+		private CompilationUnit createAST(IProgressMonitor monitor) throws JavaModelException, CoreException {
+			long startTime;
+			long endTime;
+			long parseTime= ParseStatistics.NOT_MEASURED;
+			long recoveryTime= ParseStatistics.NOT_MEASURED;
+			long bindingsTime= ParseStatistics.NOT_MEASURED;
+			CompilationUnit root;
+
+			if (fInputKind == ASTInputKindAction.USE_RECONCILE) {
+				final IProblemRequestor problemRequestor= new IProblemRequestor() { //strange: don't get bindings when supplying null as problemRequestor
+					@Override
+					public void acceptProblem(IProblem problem) {/*not interested*/}
+					@Override
+					public void beginReporting() {/*not interested*/}
+					@Override
+					public void endReporting() {/*not interested*/}
+					@Override
+					public boolean isActive() {
+						return true;
+					}
+				};
+				WorkingCopyOwner workingCopyOwner= new WorkingCopyOwner() {
+					@Override
+					public IProblemRequestor getProblemRequestor(ICompilationUnit workingCopy) {
+						return problemRequestor;
+					}
+				};
+				ICompilationUnit wc= fInput.getWorkingCopy(workingCopyOwner, null);
+				try {
+					int reconcileFlags= ICompilationUnit.FORCE_PROBLEM_DETECTION;
+					if (fUseStatementsRecovery)
+						reconcileFlags |= ICompilationUnit.ENABLE_STATEMENTS_RECOVERY;
+					if (fUseBindingsRecovery)
+						reconcileFlags |= ICompilationUnit.ENABLE_BINDINGS_RECOVERY;
+					if (fSkipMethodBodies)
+						reconcileFlags |= ICompilationUnit.IGNORE_METHOD_BODIES;
+					startTime= System.nanoTime();
+					root= wc.reconcile(fASTLevel, reconcileFlags, null, monitor);
+					endTime= System.nanoTime();
+				} finally {
+					wc.discardWorkingCopy();
+				}
+
+			} else if (fInput instanceof ICompilationUnit && (fInputKind == ASTInputKindAction.USE_CACHE)) {
+				ICompilationUnit cu= (ICompilationUnit) fInput;
+				startTime= System.nanoTime();
+				root= SharedASTProviderCore.getAST(cu, SharedASTProviderCore.WAIT_NO, monitor);
+				endTime= System.nanoTime();
+
+			} else {
+				if (fResolveBindings || fUseStatementsRecovery) {
+					// the parser does not report its phases, so measure the parse without
+					// the optional phases and attribute the differences to them
+					long baseTime= timeParse(false, false, monitor);
+					parseTime= baseTime;
+					if (fUseStatementsRecovery) {
+						long recoveredTime= timeParse(false, true, monitor);
+						recoveryTime= Math.max(0, recoveredTime - baseTime);
+						baseTime= recoveredTime;
+					}
+					startTime= System.nanoTime();
+					root= (CompilationUnit) newParser(fResolveBindings, fUseStatementsRecovery).createAST(monitor);
+					endTime= System.nanoTime();
+					if (fResolveBindings) {
+						bindingsTime= Math.max(0, endTime - startTime - baseTime);
+					}
+				} else {
+					startTime= System.nanoTime();
+					root= (CompilationUnit) newParser(false, false).createAST(monitor);
+					endTime= System.nanoTime();
+					parseTime= endTime - startTime;
+				}
+			}
+			if (root != null) {
+				root.accept(new StatementChecker());
+				fStatistics= new ParseStatistics(root, endTime - startTime, parseTime, recoveryTime, bindingsTime);
+			}
+			return root;
+		}
+
+		private ASTParser newParser(boolean resolveBindings, boolean statementsRecovery) {
+			ASTParser parser= ASTParser.newParser(fASTLevel);
+			parser.setResolveBindings(resolveBindings);
+			parser.setSource(fInput);
+			parser.setStatementsRecovery(statementsRecovery);
+			parser.setBindingsRecovery(resolveBindings && fUseBindingsRecovery);
+			parser.setIgnoreMethodBodies(fSkipMethodBodies);
+			if (fInputKind == ASTInputKindAction.USE_FOCAL) {
+				parser.setFocalPosition(fOffset);
+			}
+			return parser;
+		}
+
+		private long timeParse(boolean resolveBindings, boolean statementsRecovery, IProgressMonitor monitor) {
+			ASTParser parser= newParser(resolveBindings, statementsRecovery);
+			long start= System.nanoTime();
+			parser.createAST(monitor);
+			long time= System.nanoTime() - start;
+			if (monitor.isCanceled()) {
+				throw new OperationCanceledException();
+			}
+			return time;
+		}
+	}
+
 	private static final class StatementChecker extends ASTVisitor {
 
 		@Override
@@ -436,6 +597,7 @@ public class ASTView extends ViewPart implements IShowInSource, IShowInTargetLis
 
 	private SashForm fSash;
 	private TreeViewer fViewer;
+	private ASTViewContentProvider fContentProvider;
 	private ASTViewLabelProvider fASTLabelProvider;
 	private TreeViewer fTray;
 
@@ -468,6 +630,7 @@ public class ASTView extends ViewPart implements IShowInSource, IShowInTargetLis
 	private ITextEditor fEditor;
 	private ITypeRoot fTypeRoot;
 	private CompilationUnit fRoot;
+	private ParseStatistics fStatistics;
 	private IDocument fCurrentDocument;
 	private ArrayList<Object> fTrayRoots;
 
@@ -479,6 +642,7 @@ public class ASTView extends ViewPart implements IShowInSource, IShowInTargetLis
 	private boolean fIgnoreMethodBodies;
 
 	private Object fPreviousDouble;
+	private ParseJob fParseJob;
 
 	private ListenerMix fSuperListener;
 	private ISelectionChangedListener fTrayUpdater;
@@ -569,6 +733,7 @@ public class ASTView extends ViewPart implements IShowInSource, IShowInTargetLis
 
 		fEditor= null;
 		fRoot= null;
+		fStatistics= null;
 
 		if (editor != null) {
 			ITypeRoot typeRoot= EditorUtility.getJavaInput(editor);
@@ -580,7 +745,7 @@ public class ASTView extends ViewPart implements IShowInSource, IShowInTargetLis
 			ISelection selection= editor.getSelectionProvider().getSelection();
 			if (selection instanceof ITextSelection) {
 				ITextSelection textSelection= (ITextSelection) selection;
-				fRoot= internalSetInput(typeRoot, textSelection.getOffset(), textSelection.getLength());
+				internalSetInput(typeRoot, textSelection.getOffset(), textSelection.getLength());
 				fEditor= editor;
 			}
 			installModificationListener();
@@ -588,25 +753,52 @@ public class ASTView extends ViewPart implements IShowInSource, IShowInTargetLis
 
 	}
 
-	private CompilationUnit internalSetInput(ITypeRoot input, int offset, int length) throws CoreException {
+	private void internalSetInput(ITypeRoot input, int offset, int length) throws CoreException {
 		if (input.getBuffer() == null) {
 			throw new CoreException(getErrorStatus("Input has no buffer", null)); //$NON-NLS-1$
 		}
 
-		CompilationUnit root;
-		try {
-			root= createAST(input, offset);
-			resetView(root);
-			if (root == null) {
-				setContentDescription("AST could not be created."); //$NON-NLS-1$
-				return null;
-			}
-		} catch (RuntimeException e) {
-			throw new CoreException(getErrorStatus("Could not create AST:\n" + e.getMessage(), e)); //$NON-NLS-1$
+		cancelParseJob();
+		fRoot= null;
+		fStatistics= null;
+		resetView(null);
+		setContentDescription("Creating AST of " + input.getElementName() + "..."); //$NON-NLS-1$ //$NON-NLS-2$
+
+		fParseJob= new ParseJob(input, offset, length);
+		fParseJob.schedule();
+	}
+
+	private void cancelParseJob() {
+		if (fParseJob != null) {
+			fParseJob.cancel();
+			fParseJob= null;
+		}
+	}
+
+	private void parseDone(ParseJob job, IStatus status) {
+		if (job != fParseJob || fViewer.getTree().isDisposed()) {
+			return; // superseded by a newer input
+		}
+		fParseJob= null;
+
+		CompilationUnit root= job.fResult;
+		if (!status.isOK()) {
+			resetView(null);
+			setContentDescription(status.getMessage());
+			ASTViewPlugin.log(status);
+			return;
+		}
+		fStatistics= job.fStatistics;
+		resetView(root);
+		if (root == null) {
+			setContentDescription("AST could not be created."); //$NON-NLS-1$
+			return;
 		}
+		fRoot= root;
+		updateContentDescription(job.fInput, root, job.fInputKind);
 
 		try {
-			ASTNode node= NodeFinder.perform(root, offset, length);
+			ASTNode node= NodeFinder.perform(root, job.fOffset, job.fLength);
 			if (node != null) {
 				fViewer.getTree().setRedraw(false);
 				try {
@@ -619,8 +811,6 @@ public class ASTView extends ViewPart implements IShowInSource, IShowInTargetLis
 		} catch (RuntimeException e) {
 			showAndLogError("Could not select node for editor selection", e); //$NON-NLS-1$
 		}
-
-		return root;
 	}
 
 	private void clearView() {
@@ -630,6 +820,7 @@ public class ASTView extends ViewPart implements IShowInSource, IShowInTargetLis
 
 
 	private void resetView(CompilationUnit root) {
+		fContentProvider.setStatistics(root, fStatistics);
 		fViewer.setInput(root);
 		fViewer.getTree().setEnabled(root != null);
 		fSash.setMaximizedControl(fViewer.getTree());
@@ -642,73 +833,6 @@ public class ASTView extends ViewPart implements IShowInSource, IShowInTargetLis
 		fPreviousDouble= null; // avoid leaking AST
 	}
 
-	private CompilationUnit createAST(ITypeRoot input, int offset) throws JavaModelException, CoreException {
-		long startTime;
-		long endTime;
-		CompilationUnit root;
-
-		if ((getCurrentInputKind() == ASTInputKindAction.USE_RECONCILE)) {
-			final IProblemRequestor problemRequestor= new IProblemRequestor() { //strange: don't get bindings when supplying null as problemRequestor
-				@Override
-				public void acceptProblem(IProblem problem) {/*not interested*/}
-				@Override
-				public void beginReporting() {/*not interested*/}
-				@Override
-				public void endReporting() {/*not interested*/}
-				@Override
-				public boolean isActive() {
-					return true;
-				}
-			};
-			WorkingCopyOwner workingCopyOwner= new WorkingCopyOwner() {
-				@Override
-				public IProblemRequestor getProblemRequestor(ICompilationUnit workingCopy) {
-					return problemRequestor;
-				}
-			};
-			ICompilationUnit wc= input.getWorkingCopy(workingCopyOwner, null);
-			try {
-				int reconcileFlags= ICompilationUnit.FORCE_PROBLEM_DETECTION;
-				if (fStatementsRecovery)
-					reconcileFlags |= ICompilationUnit.ENABLE_STATEMENTS_RECOVERY;
-				if (fBindingsRecovery)
-					reconcileFlags |= ICompilationUnit.ENABLE_BINDINGS_RECOVERY;
-				if (fIgnoreMethodBodies)
-					reconcileFlags |= ICompilationUnit.IGNORE_METHOD_BODIES;
-				startTime= System.currentTimeMillis();
-				root= wc.reconcile(fCurrentASTLevel, reconcileFlags, null, null);
-				endTime= System.currentTimeMillis();
-			} finally {
-				wc.discardWorkingCopy();
-			}
-
-		} else if (input instanceof ICompilationUnit && (getCurrentInputKind() == ASTInputKindAction.USE_CACHE)) {
-			ICompilationUnit cu= (ICompilationUnit) input;
-			startTime= System.currentTimeMillis();
-			root= SharedASTProviderCore.getAST(cu, SharedASTProviderCore.WAIT_NO, null);
-			endTime= System.currentTimeMillis();
-
-		} else {
-			ASTParser parser= ASTParser.newParser(fCurrentASTLevel);
-			parser.setResolveBindings(fCreateBindings);
-			parser.setSource(input);
-			parser.setStatementsRecovery(fStatementsRecovery);
-			parser.setBindingsRecovery(fBindingsRecovery);
-			parser.setIgnoreMethodBodies(fIgnoreMethodBodies);
-			if (getCurrentInputKind() == ASTInputKindAction.USE_FOCAL) {
-				parser.setFocalPosition(offset);
-			}
-			startTime= System.currentTimeMillis();
-			root= (CompilationUnit) parser.createAST(null);
-			endTime= System.currentTimeMillis();
-		}
-		if (root != null) {
-			root.accept(new StatementChecker());
-			updateContentDescription(input, root, endTime - startTime);
-		}
-		return root;
-	}
-
 	protected void refreshASTSettingsActions() {
 		boolean enabled;
 		switch (getCurrentInputKind()) {
@@ -728,9 +852,9 @@ public class ASTView extends ViewPart implements IShowInSource, IShowInTargetLis
 		}
 	}
 
-	private void updateContentDescription(IJavaElement element, CompilationUnit root, long time) {
+	private void updateContentDescription(IJavaElement element, CompilationUnit root, int inputKind) {
 		StringBuilder version= new StringBuilder("AST Level ").append(root.getAST().apiLevel());
-		switch (getCurrentInputKind()) {
+		switch (inputKind) {
 		case ASTInputKindAction.USE_RECONCILE:
 			version.append(", from reconciler"); //$NON-NLS-1$
 			break;
@@ -743,16 +867,17 @@ public class ASTView extends ViewPart implements IShowInSource, IShowInTargetLis
 		default:
 			break;
 		}
-		TreeInfoCollector collector= new TreeInfoCollector(root);
+		ParseStatistics statistics= fStatistics;
 
 		String msg= "{0} ({1}).  Creation time: {2,number} ms.  Size: {3,number} nodes, {4,number} bytes (AST nodes only)."; //$NON-NLS-1$
-		Object[] args= { element.getElementName(), version.toString(), Long.valueOf(time),  Integer.valueOf(collector.getNumberOfNodes()), Integer.valueOf(collector.getSize())};
+		Object[] args= { element.getElementName(), version.toString(), Long.valueOf(statistics.getCreationTime() / 1_000_000),  Integer.valueOf(statistics.getNumberOfNodes()), Integer.valueOf(statistics.getSize())};
 		setContentDescription(MessageFormat.format(msg, args));
 
 	}
 
 	@Override
 	public void dispose() {
+		cancelParseJob();
 		if (fSuperListener != null) {
 			if (fEditor != null) {
 				uninstallModificationListener();
@@ -781,7 +906,8 @@ public class ASTView extends ViewPart implements IShowInSource, IShowInTargetLis
 		fSash= new SashForm(parent, SWT.VERTICAL | SWT.SMOOTH);
 		fViewer = new TreeViewer(fSash, SWT.MULTI | SWT.H_SCROLL | SWT.V_SCROLL);
 		fDrillDownAdapter = new DrillDownAdapter(fViewer);
-		fViewer.setContentProvider(new ASTViewContentProvider());
+		fContentProvider= new ASTViewContentProvider();
+		fViewer.setContentProvider(fContentProvider);
 		fASTLabelProvider= new ASTViewLabelProvider();
 		fViewer.setLabelProvider(fASTLabelProvider);
 		fViewer.addSelectionChangedListener(fSuperListener);
@@ -1287,6 +1413,9 @@ public class ASTView extends ViewPart implements IShowInSource, IShowInTargetLis
 			return;
 		}
 		if (fRoot == null || part != fEditor) {
+			if (part == fEditor && fParseJob != null) {
+				return; // the AST is still being created
+			}
 			if (part instanceof ITextEditor && (EditorUtility.getJavaInput((ITextEditor) part) != null)) {
 				try {
 					setInput((ITextEditor) part);
@@ -1377,6 +1506,7 @@ public class ASTView extends ViewPart implements IShowInSource, IShowInTargetLis
 	}
 
 	protected void performClear() {
+		cancelParseJob();
 		fTypeRoot= null;
 		try {
 			setInput(null);
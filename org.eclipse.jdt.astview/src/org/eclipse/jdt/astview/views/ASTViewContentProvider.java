@@ -59,6 +59,20 @@ import org.eclipse.jdt.core.dom.VariableDeclaration;
 
 public class ASTViewContentProvider implements ITreeContentProvider {
 
+	private CompilationUnit fStatisticsRoot;
+	private ParseStatistics fStatistics;
+
+	/**
+	 * Sets the statistics shown for the given root.
+	 *
+	 * @param root the AST root, or <code>null</code>
+	 * @param statistics the statistics of the root, or <code>null</code>
+	 */
+	public void setStatistics(CompilationUnit root, ParseStatistics statistics) {
+		fStatisticsRoot= root;
+		fStatistics= statistics;
+	}
+
 	@Override
 	public void inputChanged(Viewer v, Object oldInput, Object newInput) {
 	}
@@ -223,6 +237,7 @@ public class ASTViewContentProvider implements ITreeContentProvider {
 			res.add(new CommentsProperty(root));
 			res.add(new ProblemsProperty(root));
 			res.add(new SettingsProperty(root));
+			res.add(new StatisticsProperty(root, root == fStatisticsRoot ? fStatistics : null));
 			res.add(new WellKnownTypesProperty(root));
 		}
 
@@ -0,0 +1,185 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.astview.views;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.IBinding;
+import org.eclipse.jdt.core.dom.Name;
+import org.eclipse.jdt.core.dom.Type;
+
+/**
+ * Instrumentation data of one AST creation. The statistics are computed in the thread that
+ * created the AST and are kept by the view next to the root. They are not stored as an AST
+ * property, since the root may be shared with other clients.
+ */
+public class ParseStatistics {
+
+	/**
+	 * Time value of a phase that has not been measured separately.
+	 */
+	public static final long NOT_MEASURED= -1;
+
+	private static class Collector extends ASTVisitor {
+
+		private final Map<Class<? extends ASTNode>, int[]> fNodeCounts= new HashMap<>();
+		private final Set<IBinding> fBindings;
+		private int fNumberOfNodes;
+
+		public Collector(boolean collectBindings) {
+			fBindings= collectBindings ? Collections.newSetFromMap(new IdentityHashMap<>()) : null;
+		}
+
+		@Override
+		public void preVisit(ASTNode node) {
+			fNumberOfNodes++;
+			fNodeCounts.computeIfAbsent(node.getClass(), k -> new int[1])[0]++;
+			if (fBindings != null) {
+				if (node instanceof Name name) {
+					add(name.resolveBinding());
+				} else if (node instanceof Type type) {
+					add(type.resolveBinding());
+				}
+				if (node instanceof Expression expression) {
+					add(expression.resolveTypeBinding());
+				}
+			}
+		}
+
+		private void add(IBinding binding) {
+			if (binding != null) {
+				fBindings.add(binding);
+			}
+		}
+	}
+
+	public static final class NodeCount {
+		private final String fTypeName;
+		private final int fCount;
+
+		NodeCount(String typeName, int count) {
+			fTypeName= typeName;
+			fCount= count;
+		}
+
+		public String getTypeName() {
+			return fTypeName;
+		}
+
+		public int getCount() {
+			return fCount;
+		}
+	}
+
+	private final long fCreationTime;
+	private final long fParseTime;
+	private final long fRecoveryTime;
+	private final long fBindingsTime;
+	private final int fNumberOfNodes;
+	private final int fSize;
+	private final int fNumberOfBindings;
+	private final NodeCount[] fNodeCounts;
+
+	/**
+	 * Collects the statistics of the given AST.
+	 *
+	 * @param root the created AST
+	 * @param creationTime the overall creation time in nanoseconds
+	 * @param parseTime the time to parse without statements recovery and bindings, or {@link #NOT_MEASURED}
+	 * @param recoveryTime the additional time spent in statements recovery, or {@link #NOT_MEASURED}
+	 * @param bindingsTime the additional time spent in binding resolution, or {@link #NOT_MEASURED}
+	 */
+	public ParseStatistics(CompilationUnit root, long creationTime, long parseTime, long recoveryTime, long bindingsTime) {
+		fCreationTime= creationTime;
+		fParseTime= parseTime;
+		fRecoveryTime= recoveryTime;
+		fBindingsTime= bindingsTime;
+
+		boolean hasBindings= root.getAST().hasResolvedBindings();
+		Collector collector= new Collector(hasBindings);
+		root.accept(collector);
+		fNumberOfNodes= collector.fNumberOfNodes;
+		fNumberOfBindings= hasBindings ? collector.fBindings.size() : -1;
+		fSize= root.subtreeBytes();
+
+		List<NodeCount> counts= new ArrayList<>(collector.fNodeCounts.size());
+		for (Map.Entry<Class<? extends ASTNode>, int[]> entry : collector.fNodeCounts.entrySet()) {
+			counts.add(new NodeCount(entry.getKey().getSimpleName(), entry.getValue()[0]));
+		}
+		counts.sort((c1, c2) -> {
+			int diff= Integer.compare(c2.getCount(), c1.getCount());
+			return diff != 0 ? diff : c1.getTypeName().compareTo(c2.getTypeName());
+		});
+		fNodeCounts= counts.toArray(new NodeCount[counts.size()]);
+	}
+
+	public long getCreationTime() {
+		return fCreationTime;
+	}
+
+	public long getParseTime() {
+		return fParseTime;
+	}
+
+	public long getRecoveryTime() {
+		return fRecoveryTime;
+	}
+
+	public long getBindingsTime() {
+		return fBindingsTime;
+	}
+
+	public int getNumberOfNodes() {
+		return fNumberOfNodes;
+	}
+
+	/**
+	 * @return the estimated size of the AST nodes in bytes, see {@link ASTNode#subtreeBytes()}
+	 */
+	public int getSize() {
+		return fSize;
+	}
+
+	/**
+	 * @return the number of distinct bindings resolved from the names, types and expressions of
+	 *         the AST, or <code>-1</code> if the AST has no bindings
+	 */
+	public int getNumberOfBindings() {
+		return fNumberOfBindings;
+	}
+
+	/**
+	 * @return the node counts per node type, most frequent first
+	 */
+	public NodeCount[] getNodeCounts() {
+		return fNodeCounts;
+	}
+
+	public static String formatTime(long nanos) {
+		if (nanos == NOT_MEASURED) {
+			return "n/a"; //$NON-NLS-1$
+		}
+		return String.format("%.1f ms", Double.valueOf(nanos / 1_000_000d)); //$NON-NLS-1$
+	}
+}
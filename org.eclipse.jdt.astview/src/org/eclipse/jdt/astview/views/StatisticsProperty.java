@@ -0,0 +1,244 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.astview.views;
+
+import java.text.MessageFormat;
+import java.util.List;
+
+import org.eclipse.swt.graphics.Image;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.FieldDeclaration;
+import org.eclipse.jdt.core.dom.Initializer;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
+
+import org.eclipse.jdt.astview.views.ParseStatistics.NodeCount;
+
+public class StatisticsProperty extends ASTAttribute {
+
+	private static class Group extends ASTAttribute {
+
+		private final Object fParent;
+		private final String fLabel;
+		private Object[] fChildren;
+
+		public Group(Object parent, String label) {
+			fParent= parent;
+			fLabel= label;
+		}
+
+		@Override
+		public Object getParent() {
+			return fParent;
+		}
+
+		@Override
+		public Object[] getChildren() {
+			return fChildren;
+		}
+
+		@Override
+		public String getLabel() {
+			return fLabel;
+		}
+
+		@Override
+		public Image getImage() {
+			return null;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (obj == null || !obj.getClass().equals(getClass())) {
+				return false;
+			}
+			Group other= (Group) obj;
+			return fParent.equals(other.fParent) && fLabel.equals(other.fLabel);
+		}
+
+		@Override
+		public int hashCode() {
+			return fParent.hashCode() + fLabel.hashCode();
+		}
+	}
+
+	/**
+	 * Estimated retained size of a declaration subtree.
+	 */
+	private static class SubtreeSize extends ASTAttribute {
+
+		private final Object fParent;
+		private final ASTNode fNode;
+		private final int fTotal;
+
+		public SubtreeSize(Object parent, ASTNode node, int total) {
+			fParent= parent;
+			fNode= node;
+			fTotal= total;
+		}
+
+		@Override
+		public Object getParent() {
+			return fParent;
+		}
+
+		@Override
+		public Object[] getChildren() {
+			return createSubtreeSizes(this, getDeclarations(fNode), fTotal);
+		}
+
+		@Override
+		public String getLabel() {
+			int size= fNode.subtreeBytes();
+			String percent= fTotal > 0 ? String.format("%.1f", Double.valueOf(size * 100d / fTotal)) : "0"; //$NON-NLS-1$ //$NON-NLS-2$
+			return MessageFormat.format("{0} {1}: {2,number} bytes ({3}%)", //$NON-NLS-1$
+					fNode.getClass().getSimpleName(), getName(fNode), Integer.valueOf(size), percent);
+		}
+
+		@Override
+		public Image getImage() {
+			return null;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (obj == null || !obj.getClass().equals(getClass())) {
+				return false;
+			}
+			SubtreeSize other= (SubtreeSize) obj;
+			return fParent.equals(other.fParent) && fNode == other.fNode;
+		}
+
+		@Override
+		public int hashCode() {
+			return fParent.hashCode() + System.identityHashCode(fNode);
+		}
+
+		private static String getName(ASTNode node) {
+			if (node instanceof AbstractTypeDeclaration type) {
+				return type.getName().getIdentifier();
+			} else if (node instanceof MethodDeclaration method) {
+				return method.getName().getIdentifier() + "()"; //$NON-NLS-1$
+			} else if (node instanceof FieldDeclaration field) {
+				List<VariableDeclarationFragment> fragments= field.fragments();
+				return fragments.isEmpty() ? "" : fragments.get(0).getName().getIdentifier(); //$NON-NLS-1$
+			} else if (node instanceof Initializer) {
+				return "{...}"; //$NON-NLS-1$
+			}
+			return ""; //$NON-NLS-1$
+		}
+	}
+
+	private final CompilationUnit fRoot;
+	private final ParseStatistics fStatistics;
+
+	/**
+	 * @param root the AST root
+	 * @param statistics the statistics of the root, or <code>null</code> if not available
+	 */
+	public StatisticsProperty(CompilationUnit root, ParseStatistics statistics) {
+		fRoot= root;
+		fStatistics= statistics;
+	}
+
+	@Override
+	public Object getParent() {
+		return fRoot;
+	}
+
+	@Override
+	public Object[] getChildren() {
+		ParseStatistics statistics= fStatistics;
+		if (statistics == null) {
+			return new Object[] { new GeneralAttribute(this, "not available") }; //$NON-NLS-1$
+		}
+
+		NodeCount[] nodeCounts= statistics.getNodeCounts();
+		Group counts= new Group(this, "node counts: " + statistics.getNumberOfNodes() + " nodes, " + nodeCounts.length + " types"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		Object[] countChildren= new Object[nodeCounts.length];
+		for (int i= 0; i < nodeCounts.length; i++) {
+			countChildren[i]= new GeneralAttribute(counts, nodeCounts[i].getTypeName(), Integer.valueOf(nodeCounts[i].getCount()));
+		}
+		counts.fChildren= countChildren;
+
+		int total= statistics.getSize();
+		Group sizes= new Group(this, "retained size (estimated): " + total + " bytes"); //$NON-NLS-1$ //$NON-NLS-2$
+		sizes.fChildren= createSubtreeSizes(sizes, fRoot.types(), total);
+
+		int bindings= statistics.getNumberOfBindings();
+		Object[] res= {
+				new GeneralAttribute(this, "creation time", ParseStatistics.formatTime(statistics.getCreationTime())), //$NON-NLS-1$
+				new GeneralAttribute(this, "parse time", ParseStatistics.formatTime(statistics.getParseTime())), //$NON-NLS-1$
+				new GeneralAttribute(this, "statements recovery time", ParseStatistics.formatTime(statistics.getRecoveryTime())), //$NON-NLS-1$
+				new GeneralAttribute(this, "binding resolution time", ParseStatistics.formatTime(statistics.getBindingsTime())), //$NON-NLS-1$
+				new GeneralAttribute(this, "bindings", bindings == -1 ? "not resolved" : String.valueOf(bindings)), //$NON-NLS-1$ //$NON-NLS-2$
+				counts,
+				sizes,
+		};
+		return res;
+	}
+
+	private static List<? extends ASTNode> getDeclarations(ASTNode node) {
+		if (node instanceof AbstractTypeDeclaration type) {
+			return type.bodyDeclarations();
+		}
+		return List.of();
+	}
+
+	private static Object[] createSubtreeSizes(Object parent, List<? extends ASTNode> nodes, int total) {
+		Object[] res= new Object[nodes.size()];
+		for (int i= 0; i < res.length; i++) {
+			res[i]= new SubtreeSize(parent, nodes.get(i), total);
+		}
+		return res;
+	}
+
+	@Override
+	public String getLabel() {
+		return "> statistics";  //$NON-NLS-1$
+	}
+
+	@Override
+	public Image getImage() {
+		return null;
+	}
+
+	/*
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null || !obj.getClass().equals(getClass())) {
+			return false;
+		}
+		return true;
+	}
+
+	/*
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return 23;
+	}
+}
@@ -15,10 +15,10 @@
 package org.eclipse.jdt.bcoview.asm;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import org.objectweb.asm.Label;
 import org.objectweb.asm.Opcodes;
@@ -46,29 +46,34 @@ public class DecompiledMethod {
 	private final List<LocalVariableNode> localVariables;
 
 	/**
-	 * decompiled line -> source line
+	 * marks missing entries in the line mapping tables
 	 */
-	private final Map<Integer, Integer> sourceLines;
+	private static final int NONE = Integer.MIN_VALUE;
 
 	/**
-	 * source line -> decompiled line
+	 * decompiled line -> source line, or -1
 	 */
-	private final Map<Integer, Integer> decompiledLines;
+	private int[] sourceLines;
 
 	/**
-	 * decompiled line -> insn
+	 * (source line - first source line) -> decompiled line, or -1
 	 */
-	private final Map<Integer, Integer> insns;
+	private int[] decompiledLines;
 
 	/**
-	 * decompiled line -> opcode
+	 * decompiled line -> insn, or {@link #NONE}
 	 */
-	private final Map<Integer, Integer> opcodes;
+	private int[] insns;
 
 	/**
-	 * insn -> decompile line
+	 * decompiled line -> opcode, or {@link #NONE}
 	 */
-	private final Map<Integer, Integer> insnLines;
+	private int[] opcodes;
+
+	/**
+	 * insn -> decompile line, or -1
+	 */
+	private int[] insnLines;
 
 	private int lineCount;
 
@@ -86,6 +91,11 @@ public class DecompiledMethod {
 
 	private Frame<?>[] frames;
 
+	/**
+	 * true if the analyzer has to run before frames or errors are accessed
+	 */
+	private boolean analyzerPending;
+
 	private String error;
 
 	private int errorInsn;
@@ -108,18 +118,19 @@ public class DecompiledMethod {
 		this.access = access;
 		this.text = new ArrayList<>();
 		this.localVariables = meth.localVariables;
-		this.sourceLines = new HashMap<>();
-		this.decompiledLines = new HashMap<>();
-		this.insns = new HashMap<>();
-		this.opcodes = new HashMap<>();
-		this.insnLines = new HashMap<>();
 	}
 
 	void setText(List<?> inputText) {
-		formatText(inputText, new HashMap<>(), new StringBuffer(), this.text);
+		formatText(inputText, new HashMap<>(), new StringBuilder(), this.text);
 		computeMaps(lineNumbers);
 
-		if (options.modes.get(BCOConstants.F_SHOW_ANALYZER) && (access & Opcodes.ACC_ABSTRACT) == 0) {
+		// frames are computed on first access: most methods of a large class are never inspected
+		analyzerPending = options.modes.get(BCOConstants.F_SHOW_ANALYZER) && (access & Opcodes.ACC_ABSTRACT) == 0;
+	}
+
+	private void ensureAnalyzed() {
+		if (analyzerPending) {
+			analyzerPending = false;
 			analyzeMethod();
 		}
 	}
@@ -151,27 +162,16 @@ public class DecompiledMethod {
 		if (!containsSource(sourceLine)) {
 			return -1;
 		}
-		Set<Integer> set = decompiledLines.keySet();
-		if (set.size() == 0) {
-			return -1;
-		}
-		int bestMatch = -1;
-		for (Integer integer : set) {
-			int line = integer.intValue();
-			int delta = sourceLine - line;
-			if (delta < 0) {
-				continue;
-			} else if (delta == 0) {
-				return line;
-			}
-			if (bestMatch < 0 || delta < sourceLine - bestMatch) {
-				bestMatch = line;
+		// the nearest mapped source line at or above the given one
+		for (int i = sourceLine - firstSourceLine; i >= 0; i--) {
+			if (decompiledLines[i] != -1) {
+				if (i == sourceLine - firstSourceLine) {
+					return sourceLine;
+				}
+				return decompiledLines[i];
 			}
 		}
-		if (bestMatch < 0) {
-			return -1;
-		}
-		return decompiledLines.get(Integer.valueOf(bestMatch)).intValue();
+		return -1;
 	}
 
 	private void analyzeMethod() {
@@ -202,7 +202,7 @@ public class DecompiledMethod {
 		frames = a.getFrames();
 	}
 
-	private void formatText(List<?> input, Map<Integer, String> locals, StringBuffer line, List<Object> result) {
+	private void formatText(List<?> input, Map<Integer, String> locals, StringBuilder line, List<Object> result) {
 		for (int i = 0; i < input.size(); ++i) {
 			Object o = input.get(i);
 			if (o instanceof List) {
@@ -263,6 +263,41 @@ public class DecompiledMethod {
 		int currentDecompiledLine = 0;
 		int firstLine = -1;
 		int lastLine = -1;
+		int maxInsn = -1;
+		for (Object o : text) {
+			if (o instanceof Index) {
+				Index index = (Index) o;
+				maxInsn = Math.max(maxInsn, index.insn);
+				Integer sourceLine = index.labelNode != null ? lineNumbers1.get(index.labelNode.getLabel()) : null;
+				if (sourceLine != null) {
+					int line = sourceLine.intValue();
+					if (firstLine == -1 || line < firstLine) {
+						firstLine = line;
+					}
+					if (lastLine == -1 || line > lastLine) {
+						lastLine = line;
+					}
+				}
+			} else {
+				++currentDecompiledLine;
+			}
+		}
+		lineCount = currentDecompiledLine;
+		firstSourceLine = firstLine;
+		lastSourceLine = lastLine;
+
+		sourceLines = new int[lineCount + 1];
+		Arrays.fill(sourceLines, -1);
+		insns = new int[lineCount + 1];
+		Arrays.fill(insns, NONE);
+		opcodes = new int[lineCount + 1];
+		Arrays.fill(opcodes, NONE);
+		decompiledLines = new int[firstLine == -1 ? 0 : lastLine - firstLine + 1];
+		Arrays.fill(decompiledLines, -1);
+		insnLines = new int[maxInsn + 1];
+		Arrays.fill(insnLines, -1);
+
+		currentDecompiledLine = 0;
 		for (Object o : text) {
 			int currentOpcode = -1;
 			int currentInsn1 = -1;
@@ -275,41 +310,28 @@ public class DecompiledMethod {
 				}
 				if (sourceLine != null) {
 					currentSourceLine = sourceLine.intValue();
-					if (firstLine == -1 || currentSourceLine < firstLine) {
-						firstLine = currentSourceLine;
-					}
-					if (lastLine == -1 || currentSourceLine > lastLine) {
-						lastLine = currentSourceLine;
-					}
 				}
 				currentInsn1 = index.insn;
 				currentOpcode = index.opcode;
 			} else {
 				++currentDecompiledLine;
 			}
-			Integer cdl = Integer.valueOf(currentDecompiledLine);
-			Integer ci = Integer.valueOf(currentInsn1);
-			Integer co = Integer.valueOf(currentOpcode);
 			if (currentSourceLine >= 0) {
-				Integer csl = Integer.valueOf(currentSourceLine);
-				sourceLines.put(cdl, csl);
-				if (decompiledLines.get(csl) == null) {
-					decompiledLines.put(csl, cdl);
+				sourceLines[currentDecompiledLine] = currentSourceLine;
+				if (decompiledLines[currentSourceLine - firstLine] == -1) {
+					decompiledLines[currentSourceLine - firstLine] = currentDecompiledLine;
 				}
 			}
-			insns.put(cdl, ci);
-			opcodes.put(cdl, co);
-			if (insnLines.get(ci) == null) {
-				insnLines.put(ci, cdl);
+			insns[currentDecompiledLine] = currentInsn1;
+			opcodes[currentDecompiledLine] = currentOpcode;
+			if (currentInsn1 >= 0 && insnLines[currentInsn1] == -1) {
+				insnLines[currentInsn1] = currentDecompiledLine;
 			}
 		}
-		lineCount = currentDecompiledLine;
-		firstSourceLine = firstLine;
-		lastSourceLine = lastLine;
 	}
 
 	public String getText() {
-		StringBuffer buf = new StringBuffer();
+		StringBuilder buf = new StringBuilder();
 		for (Object o : text) {
 			if (!(o instanceof Index)) {
 				buf.append((String) o);
@@ -319,6 +341,7 @@ public class DecompiledMethod {
 	}
 
 	public String[][] getTextTable() {
+		ensureAnalyzed();
 		Frame<?> frame = null;
 		String error1 = ""; //$NON-NLS-1$
 		List<String[]> lines = new ArrayList<>();
@@ -370,11 +393,11 @@ public class DecompiledMethod {
 	}
 
 	public int getErrorLine() {
-		if (error == null) {
+		ensureAnalyzed();
+		if (error == null || errorInsn < 0 || errorInsn >= insnLines.length) {
 			return -1;
 		}
-		Integer i = insnLines.get(Integer.valueOf(errorInsn));
-		return i == null ? -1 : i.intValue();
+		return insnLines[errorInsn];
 	}
 
 	private static void appendFrame(StringBuffer buf, Frame<?> f) {
@@ -408,16 +431,25 @@ public class DecompiledMethod {
 	}
 
 	public int getSourceLine(int decompiledLine) {
-		Integer i = sourceLines.get(Integer.valueOf(decompiledLine));
-		return i == null ? -1 : i.intValue();
+		if (decompiledLine < 0 || decompiledLine >= sourceLines.length) {
+			return -1;
+		}
+		return sourceLines[decompiledLine];
 	}
 
 	public Integer getBytecodeOffset(int decompiledLine) {
-		return insns.get(Integer.valueOf(decompiledLine));
+		return get(insns, decompiledLine);
 	}
 
 	public Integer getBytecodeInsn(int decompiledLine) {
-		return opcodes.get(Integer.valueOf(decompiledLine));
+		return get(opcodes, decompiledLine);
+	}
+
+	private static Integer get(int[] table, int decompiledLine) {
+		if (decompiledLine < 0 || decompiledLine >= table.length || table[decompiledLine] == NONE) {
+			return null;
+		}
+		return Integer.valueOf(table[decompiledLine]);
 	}
 
 	public String[][][] getFrameTables(int decompiledLine, boolean useQualifiedNames) {
@@ -429,6 +461,7 @@ public class DecompiledMethod {
 	}
 
 	public String[][][] getFrameTablesForInsn(int insn, boolean useQualifiedNames) {
+		ensureAnalyzed();
 		if (error != null && insn == errorInsn) {
 			return null;
 		}
@@ -502,8 +535,11 @@ public class DecompiledMethod {
 	}
 
 	public int getDecompiledLine(int sourceLine) {
-		Integer i = decompiledLines.get(Integer.valueOf(sourceLine));
-		return i == null ? -1 : i.intValue();
+		int i = sourceLine - firstSourceLine;
+		if (firstSourceLine == -1 || i < 0 || i >= decompiledLines.length) {
+			return -1;
+		}
+		return decompiledLines[i];
 	}
 
 	@Override
@@ -15,7 +15,10 @@
 package org.eclipse.jdt.bcoview.asm;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.tree.ClassNode;
@@ -26,14 +29,117 @@ import org.eclipse.jdt.bcoview.preferences.BCOConstants;
 
 public class DecompilerHelper {
 
+	/**
+	 * Number of class files whose parsed class and decompiled results are kept
+	 */
+	private static final int MAX_CACHED_CLASSES = 8;
+
+	/**
+	 * Number of decompiled results (one per set of options) kept per class file
+	 */
+	private static final int MAX_CACHED_RESULTS = 32;
+
+	/**
+	 * Parsed class and decompiled results of one class file version
+	 */
+	private static final class CacheEntry {
+
+		/** class nodes read without and with expanded frames */
+		final ClassNode[] classNodes = new ClassNode[2];
+
+		final Map<List<Object>, DecompiledClass> results = new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<List<Object>, DecompiledClass> eldest) {
+				return size() > MAX_CACHED_RESULTS;
+			}
+		};
+	}
+
+	/** key is the class file stamp */
+	private static final Map<String, CacheEntry> cache = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+			return size() > MAX_CACHED_CLASSES;
+		}
+	};
+
+	/**
+	 * @param classFileStamp identifies the class file and its modification stamp, see
+	 *            {@link org.eclipse.jdt.bcoview.ui.JdtUtils#getClassFileStamp}
+	 * @param options decompiler options
+	 * @return the class decompiled before with the same options, or null
+	 */
+	public static DecompiledClass getCachedDecompiledClass(String classFileStamp, DecompilerOptions options) {
+		if (classFileStamp == null) {
+			return null;
+		}
+		synchronized (cache) {
+			CacheEntry entry = cache.get(classFileStamp);
+			return entry == null ? null : entry.results.get(getOptionsKey(options));
+		}
+	}
+
+	/**
+	 * Decompiles the class and caches the result. The parsed class is reused for other options, so
+	 * that following the selection through a large class only decompiles the selected members.
+	 *
+	 * @param classFileStamp identifies the class file and its modification stamp, or null to
+	 *            bypass the cache
+	 * @param bytes class file content
+	 * @param options decompiler options
+	 * @return decompiled class
+	 */
+	public static DecompiledClass getDecompiledClass(String classFileStamp, byte[] bytes, DecompilerOptions options) throws UnsupportedClassVersionError {
+		if (classFileStamp == null) {
+			return getDecompiledClass(bytes, options);
+		}
+		boolean expandFrames = options.modes.get(BCOConstants.F_EXPAND_STACKMAP);
+		List<Object> optionsKey = getOptionsKey(options);
+		CacheEntry entry;
+		ClassNode cn;
+		synchronized (cache) {
+			entry = cache.computeIfAbsent(classFileStamp, k -> new CacheEntry());
+			DecompiledClass result = entry.results.get(optionsKey);
+			if (result != null) {
+				return result;
+			}
+			cn = entry.classNodes[expandFrames ? 1 : 0];
+		}
+		if (cn == null) {
+			cn = readClass(bytes, expandFrames);
+		}
+		DecompiledClass result = decompile(cn, options);
+		synchronized (cache) {
+			entry.classNodes[expandFrames ? 1 : 0] = cn;
+			entry.results.put(optionsKey, result);
+		}
+		return result;
+	}
+
+	private static List<Object> getOptionsKey(DecompilerOptions options) {
+		return Arrays.asList(options.fieldFilter, options.methodFilter, options.modes.clone());
+	}
+
 	public static DecompiledClass getDecompiledClass(byte[] bytes, DecompilerOptions options) throws UnsupportedClassVersionError {
+		return decompile(readClass(bytes, options.modes.get(BCOConstants.F_EXPAND_STACKMAP)), options);
+	}
+
+	private static ClassNode readClass(byte[] bytes, boolean expandFrames) {
 		ClassReader cr = new ClassReader(bytes);
 		ClassNode cn = new ClassNode(DecompilerOptions.LATEST_ASM_VERSION);
 		int crFlags = 0;
-		if (options.modes.get(BCOConstants.F_EXPAND_STACKMAP)) {
+		if (expandFrames) {
 			crFlags |= ClassReader.EXPAND_FRAMES;
 		}
 		cr.accept(cn, crFlags);
+		return cn;
+	}
+
+	private static DecompiledClass decompile(ClassNode cn, DecompilerOptions options) {
 		ICommentedClassVisitor printer;
 		if (options.modes.get(BCOConstants.F_SHOW_ASMIFIER_CODE)) {
 			printer = new CommentedASMifierClassVisitor(cn, options);
@@ -47,7 +153,7 @@ public class DecompilerHelper {
 
 	private static DecompiledClass getResult(ICommentedClassVisitor printer, ClassNode classNode) {
 		List<Object> classText = new ArrayList<>();
-		formatText(printer.getText(), new StringBuffer(), classText);
+		formatText(printer.getText(), new StringBuilder(), classText);
 		while (classText.size() > 0 && "\n".equals(classText.get(0))) { //$NON-NLS-1$
 			classText.remove(0);
 		}
@@ -56,7 +162,7 @@ public class DecompilerHelper {
 		return new DecompiledClass(classText, classInfo, classNode);
 	}
 
-	private static void formatText(final List<?> input, final StringBuffer line, final List<Object> result) {
+	private static void formatText(final List<?> input, final StringBuilder line, final List<Object> result) {
 		for (int i = 0; i < input.size(); ++i) {
 			Object o = input.get(i);
 			if (o instanceof List) {
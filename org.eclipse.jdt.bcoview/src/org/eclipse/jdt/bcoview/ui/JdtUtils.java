@@ -781,6 +781,55 @@ public class JdtUtils {
 		return sb.toString();
 	}
 
+	/**
+	 * @param javaElement non null
+	 * @return string which identifies the bytecode class file of given element together with its
+	 *         modification stamp, or null if the class file cannot be found or has no usable stamp
+	 */
+	public static String getClassFileStamp(IJavaElement javaElement) {
+		IClassFile classFile = (IClassFile) javaElement.getAncestor(IJavaElement.CLASS_FILE);
+		String name;
+		File file;
+		if (classFile != null) {
+			// existing read-only class files: stamp of the class file or of its archive
+			name = classFile.getHandleIdentifier();
+			IResource resource = classFile.getResource();
+			IPackageFragmentRoot root = (IPackageFragmentRoot) classFile.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+			if (resource == null && root != null && root.isArchive()) {
+				resource = root.getResource();
+				if (resource == null) {
+					file = root.getPath().toFile();
+				} else {
+					file = toFile(resource);
+				}
+			} else {
+				file = toFile(resource);
+			}
+		} else {
+			if (!isOnClasspath(javaElement)) {
+				return null;
+			}
+			name = getByteCodePath(javaElement);
+			file = name.isEmpty() ? null : new File(name);
+		}
+		if (file == null) {
+			return null;
+		}
+		long lastModified = file.lastModified();
+		if (lastModified == 0) {
+			return null;
+		}
+		return name + '|' + lastModified + '|' + file.length();
+	}
+
+	private static File toFile(IResource resource) {
+		if (resource == null) {
+			return null;
+		}
+		IPath location = resource.getLocation();
+		return location == null ? null : location.toFile();
+	}
+
 	/**
 	 * @param javaElement non null
 	 * @return new generated input stream for given element bytecode class file, or null if class
@@ -1433,26 +1433,31 @@ public class BytecodeOutlineView extends ViewPart implements IBytecodePart {
 		if (type == null) {
 			return null;
 		}
+		String fieldName = null;
+		String methodName = null;
+		/*
+		 * find out, which name we should use for selected element
+		 */
+		if (modes.get(BCOConstants.F_SHOW_ONLY_SELECTED_ELEMENT) && childEl != null) {
+			if (childEl.getElementType() == IJavaElement.FIELD) {
+				fieldName = childEl.getElementName();
+			} else {
+				methodName = JdtUtils.getMethodSignature(childEl);
+			}
+		}
+		DecompilerOptions options = new DecompilerOptions(fieldName, methodName, modes);
+		String classFileStamp = JdtUtils.getClassFileStamp(type);
+		DecompiledClass decompiledClass = DecompilerHelper.getCachedDecompiledClass(classFileStamp, options);
+		if (decompiledClass != null) {
+			return decompiledClass;
+		}
 		byte[] bytes = JdtUtils.readClassBytes(type);
 		if (bytes == null) {
 			return null;
 		}
-		DecompiledClass decompiledClass = null;
 		int available = bytes.length;
 		try {
-			String fieldName = null;
-			String methodName = null;
-			/*
-			 * find out, which name we should use for selected element
-			 */
-			if (modes.get(BCOConstants.F_SHOW_ONLY_SELECTED_ELEMENT) && childEl != null) {
-				if (childEl.getElementType() == IJavaElement.FIELD) {
-					fieldName = childEl.getElementName();
-				} else {
-					methodName = JdtUtils.getMethodSignature(childEl);
-				}
-			}
-			decompiledClass = DecompilerHelper.getDecompiledClass(bytes, new DecompilerOptions(fieldName, methodName, modes));
+			decompiledClass = DecompilerHelper.getDecompiledClass(classFileStamp, bytes, options);
 		} catch (Exception e) {
 			try {
 				// check if compilation unit is ok - then this is the user problem
@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.manipulation.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import org.eclipse.jdt.internal.corext.dom.ASTFlattener;
+
+/**
+ * Benchmarks {@link ASTFlattener} on complete compilation units.
+ */
+public class ASTFlattenerBenchmark extends AbstractProjectBenchmark {
+
+	private final List<CompilationUnit> fASTs= new ArrayList<>();
+
+	@Override
+	protected void setUp() {
+		fASTs.clear();
+		for (ICompilationUnit unit : fProject.getCompilationUnits()) {
+			fASTs.add(SyntheticProject.parse(unit, false));
+		}
+	}
+
+	@Benchmark
+	public void flatten(Blackhole blackhole) {
+		for (CompilationUnit ast : fASTs) {
+			blackhole.consume(ASTFlattener.asString(ast));
+		}
+	}
+}
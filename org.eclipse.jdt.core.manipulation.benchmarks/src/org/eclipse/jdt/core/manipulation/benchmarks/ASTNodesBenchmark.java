@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.manipulation.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.Block;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.dom.Statement;
+
+import org.eclipse.jdt.internal.corext.dom.ASTNodes;
+
+/**
+ * Benchmarks for frequently used {@link ASTNodes} utilities on resolved ASTs.
+ */
+public class ASTNodesBenchmark extends AbstractProjectBenchmark {
+
+	private final List<MethodDeclaration> fMethods= new ArrayList<>();
+	private final List<Statement> fStatements= new ArrayList<>();
+	private final List<SimpleName> fNames= new ArrayList<>();
+
+	@Override
+	protected void setUp() {
+		fMethods.clear();
+		fStatements.clear();
+		fNames.clear();
+		for (ICompilationUnit unit : fProject.getCompilationUnits()) {
+			CompilationUnit ast= SyntheticProject.parse(unit, true);
+			ast.accept(new ASTVisitor() {
+				@Override
+				public boolean visit(MethodDeclaration node) {
+					fMethods.add(node);
+					return true;
+				}
+
+				@Override
+				public boolean visit(Block node) {
+					fStatements.addAll(node.statements());
+					return true;
+				}
+
+				@Override
+				public boolean visit(SimpleName node) {
+					fNames.add(node);
+					return false;
+				}
+			});
+		}
+	}
+
+	@Benchmark
+	public void localVariableIdentifiers(Blackhole blackhole) {
+		for (MethodDeclaration method : fMethods) {
+			blackhole.consume(ASTNodes.getLocalVariableIdentifiers(method, true));
+		}
+	}
+
+	@Benchmark
+	public void siblings(Blackhole blackhole) {
+		for (Statement statement : fStatements) {
+			blackhole.consume(ASTNodes.getPreviousSiblings(statement));
+			blackhole.consume(ASTNodes.getNextSiblings(statement));
+		}
+	}
+
+	@Benchmark
+	public void ancestors(Blackhole blackhole) {
+		for (SimpleName name : fNames) {
+			blackhole.consume(ASTNodes.getTypedAncestor(name, MethodDeclaration.class));
+			blackhole.consume(ASTNodes.getNormalizedNode(name));
+		}
+	}
+
+	@Benchmark
+	public void targetTypes(Blackhole blackhole) {
+		for (SimpleName name : fNames) {
+			blackhole.consume(ASTNodes.getTargetType(name));
+		}
+	}
+}
@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.manipulation.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.eclipse.core.runtime.CoreException;
+
+/**
+ * Base class for benchmarks that run on a {@link SyntheticProject}. The project size is
+ * controlled by the <code>types</code>, <code>methods</code> and <code>statements</code>
+ * parameters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations= 3, time= 2)
+@Measurement(iterations= 5, time= 2)
+public abstract class AbstractProjectBenchmark {
+
+	@Param("20")
+	public int types;
+
+	@Param("20")
+	public int methods;
+
+	@Param("12")
+	public int statements;
+
+	protected SyntheticProject fProject;
+
+	@Setup(Level.Trial)
+	public void createProject() throws CoreException {
+		SyntheticSourceGenerator generator= new SyntheticSourceGenerator(methods, statements, hasMissingImports());
+		fProject= SyntheticProject.create(getClass().getSimpleName(), types, generator);
+		setUp();
+	}
+
+	@TearDown(Level.Trial)
+	public void deleteProject() throws CoreException {
+		if (fProject != null) {
+			fProject.delete();
+			fProject= null;
+		}
+	}
+
+	/**
+	 * Returns whether the generated sources miss imports. The default is <code>false</code>.
+	 *
+	 * @return <code>true</code> if imports are missing
+	 */
+	protected boolean hasMissingImports() {
+		return false;
+	}
+
+	/**
+	 * Prepares the benchmark after the project was created. Subclasses may extend.
+	 *
+	 * @throws CoreException if the preparation fails
+	 */
+	protected void setUp() throws CoreException {
+	}
+}
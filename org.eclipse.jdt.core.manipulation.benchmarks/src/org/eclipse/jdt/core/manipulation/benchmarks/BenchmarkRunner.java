@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.manipulation.benchmarks;
+
+import static org.junit.Assert.assertFalse;
+
+import java.util.Collection;
+
+import org.junit.Test;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the JMH benchmarks of this bundle inside the running OSGi framework. The benchmarks are
+ * not forked, since a forked JVM would not have the workspace and the bundles of the test
+ * runtime.
+ * <p>
+ * The run is configured through system properties:
+ * </p>
+ * <ul>
+ * <li><code>jdt.benchmarks.include</code>: regular expression selecting the benchmarks</li>
+ * <li><code>jdt.benchmarks.result</code>: file the JSON results are written to</li>
+ * <li><code>jdt.benchmarks.param.&lt;name&gt;</code>: comma separated values for the benchmark
+ * parameter <code>&lt;name&gt;</code>, e.g. <code>-Djdt.benchmarks.param.types=10,100</code></li>
+ * </ul>
+ */
+public class BenchmarkRunner {
+
+	public static final String INCLUDE_PROPERTY= "jdt.benchmarks.include"; //$NON-NLS-1$
+	public static final String RESULT_PROPERTY= "jdt.benchmarks.result"; //$NON-NLS-1$
+	public static final String PARAM_PROPERTY_PREFIX= "jdt.benchmarks.param."; //$NON-NLS-1$
+
+	@Test
+	public void runBenchmarks() throws RunnerException {
+		ChainedOptionsBuilder builder= new OptionsBuilder()
+				.include(System.getProperty(INCLUDE_PROPERTY, ".*")) //$NON-NLS-1$
+				.forks(0)
+				.shouldFailOnError(true);
+
+		String result= System.getProperty(RESULT_PROPERTY);
+		if (result != null && !result.isEmpty())
+			builder.resultFormat(ResultFormatType.JSON).result(result);
+
+		for (String name : System.getProperties().stringPropertyNames()) {
+			if (name.startsWith(PARAM_PROPERTY_PREFIX))
+				builder.param(name.substring(PARAM_PROPERTY_PREFIX.length()), System.getProperty(name).split(",")); //$NON-NLS-1$
+		}
+
+		Collection<RunResult> results= new Runner(builder.build()).run();
+		assertFalse("No benchmark was run", results.isEmpty()); //$NON-NLS-1$
+	}
+}
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.manipulation.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.manipulation.CleanUpOptionsCore;
+
+import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
+import org.eclipse.jdt.internal.corext.fix.CleanUpRefactoring;
+
+import org.eclipse.jdt.ui.cleanup.CleanUpContext;
+import org.eclipse.jdt.ui.cleanup.ICleanUp;
+
+import org.eclipse.jdt.internal.ui.fix.DoWhileRatherThanWhileCleanUpCore;
+import org.eclipse.jdt.internal.ui.fix.ElseIfCleanUpCore;
+import org.eclipse.jdt.internal.ui.fix.PrimitiveComparisonCleanUpCore;
+import org.eclipse.jdt.internal.ui.fix.RedundantSemicolonsCleanUpCore;
+import org.eclipse.jdt.internal.ui.fix.StringBufferToStringBuilderCleanUpCore;
+import org.eclipse.jdt.internal.ui.fix.ValueOfRatherThanInstantiationCleanUpCore;
+import org.eclipse.jdt.internal.ui.fix.VariableDeclarationCleanUpCore;
+
+/**
+ * Benchmarks {@link CleanUpRefactoring#calculateChange(CleanUpContext, ICleanUp[], List, java.util.HashSet)}
+ * for every compilation unit of a project. The <code>profile</code> parameter selects the
+ * enabled clean ups:
+ * <ul>
+ * <li><code>codeStyle</code>: else-if, do-while, redundant semicolons and final local
+ * variables</li>
+ * <li><code>modernize</code>: StringBuilder, valueOf and primitive comparison</li>
+ * <li><code>all</code>: the union of the above</li>
+ * </ul>
+ */
+public class CleanUpBenchmark extends AbstractProjectBenchmark {
+
+	private static final String[] CODE_STYLE= {
+			CleanUpConstants.ELSE_IF,
+			CleanUpConstants.DO_WHILE_RATHER_THAN_WHILE,
+			CleanUpConstants.REMOVE_REDUNDANT_SEMICOLONS,
+			CleanUpConstants.VARIABLE_DECLARATIONS_USE_FINAL,
+			CleanUpConstants.VARIABLE_DECLARATIONS_USE_FINAL_LOCAL_VARIABLES
+	};
+
+	private static final String[] MODERNIZE= {
+			CleanUpConstants.STRINGBUFFER_TO_STRINGBUILDER,
+			CleanUpConstants.VALUEOF_RATHER_THAN_INSTANTIATION,
+			CleanUpConstants.PRIMITIVE_COMPARISON
+	};
+
+	@Param({ "codeStyle", "modernize", "all" })
+	public String profile;
+
+	private ICleanUp[] fCleanUps;
+
+	@Override
+	protected void setUp() {
+		Map<String, String> options= new HashMap<>();
+		if (!"modernize".equals(profile)) { //$NON-NLS-1$
+			for (String key : CODE_STYLE) {
+				options.put(key, CleanUpOptionsCore.TRUE);
+			}
+		}
+		if (!"codeStyle".equals(profile)) { //$NON-NLS-1$
+			for (String key : MODERNIZE) {
+				options.put(key, CleanUpOptionsCore.TRUE);
+			}
+		}
+		fCleanUps= new ICleanUp[] {
+				new ElseIfCleanUpCore(options),
+				new DoWhileRatherThanWhileCleanUpCore(options),
+				new RedundantSemicolonsCleanUpCore(options),
+				new VariableDeclarationCleanUpCore(options),
+				new StringBufferToStringBuilderCleanUpCore(options),
+				new ValueOfRatherThanInstantiationCleanUpCore(options),
+				new PrimitiveComparisonCleanUpCore(options)
+		};
+	}
+
+	@Benchmark
+	public void calculateChange(Blackhole blackhole) throws CoreException {
+		for (ICompilationUnit unit : fProject.getCompilationUnits()) {
+			CleanUpContext context= new CleanUpContext(unit, SyntheticProject.parse(unit, true));
+			List<ICleanUp> undone= new ArrayList<>();
+			blackhole.consume(CleanUpRefactoring.calculateChange(context, fCleanUps, undone, null));
+			blackhole.consume(undone);
+		}
+	}
+}
@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.manipulation.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.rewrite.ImportRewrite;
+
+import org.eclipse.jdt.internal.corext.dom.Selection;
+import org.eclipse.jdt.internal.corext.refactoring.code.ExtractMethodAnalyzer;
+
+/**
+ * Benchmarks the selection and flow analysis of Extract Method. The selection covers the
+ * statements between {@link SyntheticSourceGenerator#SELECTION_START} and
+ * {@link SyntheticSourceGenerator#SELECTION_END} in the first method of every type.
+ */
+public class ExtractMethodAnalyzerBenchmark extends AbstractProjectBenchmark {
+
+	private final List<CompilationUnit> fASTs= new ArrayList<>();
+	private final List<Selection> fSelections= new ArrayList<>();
+
+	@Override
+	protected void setUp() throws CoreException {
+		fASTs.clear();
+		fSelections.clear();
+		for (ICompilationUnit unit : fProject.getCompilationUnits()) {
+			String source= unit.getSource();
+			int start= source.indexOf(SyntheticSourceGenerator.SELECTION_START) + SyntheticSourceGenerator.SELECTION_START.length();
+			int end= source.indexOf(SyntheticSourceGenerator.SELECTION_END);
+			fASTs.add(SyntheticProject.parse(unit, true));
+			fSelections.add(Selection.createFromStartEnd(start, end));
+		}
+	}
+
+	@Benchmark
+	public void analyze(Blackhole blackhole) throws CoreException {
+		for (int i= 0; i < fASTs.size(); i++) {
+			CompilationUnit ast= fASTs.get(i);
+			ExtractMethodAnalyzer analyzer= new ExtractMethodAnalyzer((ICompilationUnit) ast.getJavaElement(), fSelections.get(i));
+			ast.accept(analyzer);
+			blackhole.consume(analyzer.checkInitialConditions(ImportRewrite.create(ast, true)));
+			blackhole.consume(analyzer.getArguments());
+		}
+	}
+}
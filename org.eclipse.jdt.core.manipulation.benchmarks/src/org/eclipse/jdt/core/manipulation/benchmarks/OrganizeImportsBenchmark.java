@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.manipulation.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.manipulation.OrganizeImportsOperation;
+import org.eclipse.jdt.core.manipulation.OrganizeImportsOperation.IChooseImportQuery;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+
+/**
+ * Benchmarks computing the organize imports edit for every compilation unit of a project. The
+ * generated sources miss some imports and contain unused ones.
+ */
+public class OrganizeImportsBenchmark extends AbstractProjectBenchmark {
+
+	private static final IChooseImportQuery CHOOSE_FIRST= (openChoices, ranges) -> {
+		TypeNameMatch[] result= new TypeNameMatch[openChoices.length];
+		for (int i= 0; i < openChoices.length; i++) {
+			result[i]= openChoices[i][0];
+		}
+		return result;
+	};
+
+	@Override
+	protected boolean hasMissingImports() {
+		return true;
+	}
+
+	@Benchmark
+	public void organizeImports(Blackhole blackhole) throws CoreException {
+		for (ICompilationUnit unit : fProject.getCompilationUnits()) {
+			OrganizeImportsOperation operation= new OrganizeImportsOperation(unit, SyntheticProject.parse(unit, true), true, false, true, CHOOSE_FIRST);
+			blackhole.consume(operation.createTextEdit(null));
+		}
+	}
+}
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.manipulation.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.NamingConventions;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+
+import org.eclipse.jdt.internal.core.manipulation.StubUtility;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * Benchmarks code generation through {@link StubUtility}: method comments from the code
+ * templates and variable name suggestions.
+ */
+public class StubUtilityBenchmark extends AbstractProjectBenchmark {
+
+	private final List<MethodDeclaration> fMethods= new ArrayList<>();
+
+	@Override
+	protected void setUp() {
+		// registers the code templates with org.eclipse.jdt.core.manipulation
+		JavaPlugin.getDefault();
+
+		fMethods.clear();
+		for (ICompilationUnit unit : fProject.getCompilationUnits()) {
+			SyntheticProject.parse(unit, true).accept(new ASTVisitor() {
+				@Override
+				public boolean visit(MethodDeclaration node) {
+					fMethods.add(node);
+					return false;
+				}
+			});
+		}
+	}
+
+	@Benchmark
+	public void methodComments(Blackhole blackhole) throws CoreException {
+		for (MethodDeclaration method : fMethods) {
+			ICompilationUnit unit= (ICompilationUnit) ((CompilationUnit) method.getRoot()).getJavaElement();
+			String typeName= ((AbstractTypeDeclaration) method.getParent()).getName().getIdentifier();
+			blackhole.consume(StubUtility.getMethodComment(unit, typeName, method, false, null, null, null, false, "\n")); //$NON-NLS-1$
+		}
+	}
+
+	@Benchmark
+	public void variableNameSuggestions(Blackhole blackhole) {
+		for (MethodDeclaration method : fMethods) {
+			blackhole.consume(StubUtility.getVariableNameSuggestions(NamingConventions.VK_LOCAL, fProject.getJavaProject(), method.getName().getIdentifier(), 0, Collections.emptyList(), true));
+		}
+	}
+}
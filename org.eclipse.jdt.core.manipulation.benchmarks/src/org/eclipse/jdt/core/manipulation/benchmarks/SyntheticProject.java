@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.manipulation.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IProjectDescription;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceDescription;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import org.eclipse.jdt.launching.JavaRuntime;
+
+/**
+ * A Java project in the benchmark workspace that contains sources created by a
+ * {@link SyntheticSourceGenerator}.
+ */
+public final class SyntheticProject {
+
+	private final IJavaProject fJavaProject;
+	private final List<ICompilationUnit> fCompilationUnits;
+
+	private SyntheticProject(IJavaProject javaProject, List<ICompilationUnit> compilationUnits) {
+		fJavaProject= javaProject;
+		fCompilationUnits= Collections.unmodifiableList(compilationUnits);
+	}
+
+	/**
+	 * Creates a Java project with the given number of generated types. An existing project with
+	 * the same name is replaced. Auto-building is switched off, so that builds do not interfere
+	 * with the measurements.
+	 *
+	 * @param name the project name
+	 * @param types the number of types
+	 * @param generator the generator for the sources
+	 * @return the created project
+	 * @throws CoreException if creating the project fails
+	 */
+	public static SyntheticProject create(String name, int types, SyntheticSourceGenerator generator) throws CoreException {
+		IWorkspace workspace= ResourcesPlugin.getWorkspace();
+		IWorkspaceDescription workspaceDescription= workspace.getDescription();
+		if (workspaceDescription.isAutoBuilding()) {
+			workspaceDescription.setAutoBuilding(false);
+			workspace.setDescription(workspaceDescription);
+		}
+
+		IProject project= workspace.getRoot().getProject(name);
+		if (project.exists())
+			project.delete(true, true, null);
+		project.create(null);
+		project.open(null);
+
+		IProjectDescription description= project.getDescription();
+		description.setNatureIds(new String[] { JavaCore.NATURE_ID });
+		project.setDescription(description, null);
+
+		IFolder source= project.getFolder("src"); //$NON-NLS-1$
+		source.create(true, true, null);
+		IFolder output= project.getFolder("bin"); //$NON-NLS-1$
+		output.create(true, true, null);
+
+		IJavaProject javaProject= JavaCore.create(project);
+		IClasspathEntry[] classpath= { JavaCore.newSourceEntry(source.getFullPath()), JavaRuntime.getDefaultJREContainerEntry() };
+		javaProject.setRawClasspath(classpath, output.getFullPath(), null);
+
+		Map<String, String> options= javaProject.getOptions(false);
+		JavaCore.setComplianceOptions(JavaCore.VERSION_17, options);
+		javaProject.setOptions(options);
+
+		IPackageFragmentRoot root= javaProject.getPackageFragmentRoot(source);
+		IPackageFragment pack= root.createPackageFragment(SyntheticSourceGenerator.PACKAGE_NAME, true, null);
+		List<ICompilationUnit> units= new ArrayList<>(types);
+		for (int i= 0; i < types; i++) {
+			String typeName= "Generated" + i; //$NON-NLS-1$
+			units.add(pack.createCompilationUnit(typeName + ".java", generator.generate(typeName), true, null)); //$NON-NLS-1$
+		}
+		return new SyntheticProject(javaProject, units);
+	}
+
+	public IJavaProject getJavaProject() {
+		return fJavaProject;
+	}
+
+	public List<ICompilationUnit> getCompilationUnits() {
+		return fCompilationUnits;
+	}
+
+	public void delete() throws CoreException {
+		fJavaProject.getProject().delete(true, true, null);
+	}
+
+	/**
+	 * Parses a compilation unit of this project.
+	 *
+	 * @param unit the compilation unit
+	 * @param resolveBindings whether bindings are resolved
+	 * @return the AST
+	 */
+	public static CompilationUnit parse(ICompilationUnit unit, boolean resolveBindings) {
+		ASTParser parser= ASTParser.newParser(AST.getJLSLatest());
+		parser.setSource(unit);
+		parser.setResolveBindings(resolveBindings);
+		return (CompilationUnit) parser.createAST(null);
+	}
+}
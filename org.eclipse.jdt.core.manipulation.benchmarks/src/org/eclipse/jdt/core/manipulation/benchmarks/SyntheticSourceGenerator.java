@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.manipulation.benchmarks;
+
+/**
+ * Generates the Java sources of the synthetic projects the benchmarks run on. The size of a
+ * source is controlled by the number of methods per type and the number of statement groups per
+ * method. Each statement group contains code that is picked up by clean ups (nested
+ * <code>if</code> in <code>else</code>, boxing constructors, <code>StringBuffer</code>), loops and
+ * local variables for the flow analysis.
+ */
+public final class SyntheticSourceGenerator {
+
+	public static final String PACKAGE_NAME= "bench"; //$NON-NLS-1$
+
+	/**
+	 * Marks the start of the statements selected by the extract method benchmark. Only the first
+	 * method of a type contains the markers.
+	 */
+	public static final String SELECTION_START= "/*[*/"; //$NON-NLS-1$
+
+	/**
+	 * Marks the end of the statements selected by the extract method benchmark.
+	 */
+	public static final String SELECTION_END= "/*]*/"; //$NON-NLS-1$
+
+	private final int fMethods;
+	private final int fStatements;
+	private final boolean fMissingImports;
+
+	/**
+	 * Creates a generator.
+	 *
+	 * @param methods the number of methods per type
+	 * @param statements the number of statement groups per method
+	 * @param missingImports if <code>true</code>, some referenced types are not imported, so that
+	 *            organize imports has to search for them
+	 */
+	public SyntheticSourceGenerator(int methods, int statements, boolean missingImports) {
+		fMethods= methods;
+		fStatements= statements;
+		fMissingImports= missingImports;
+	}
+
+	public String generate(String typeName) {
+		StringBuilder buf= new StringBuilder();
+		buf.append("package ").append(PACKAGE_NAME).append(";\n\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		buf.append("import java.util.ArrayList;\n"); //$NON-NLS-1$
+		if (!fMissingImports) {
+			buf.append("import java.util.HashMap;\n"); //$NON-NLS-1$
+			buf.append("import java.util.concurrent.ConcurrentHashMap;\n"); //$NON-NLS-1$
+		}
+		buf.append("import java.util.LinkedList;\n"); //$NON-NLS-1$
+		buf.append("import java.util.Map;\n\n"); //$NON-NLS-1$
+		buf.append("/**\n * Generated type ").append(typeName).append(".\n */\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		buf.append("public class ").append(typeName).append(" {\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		buf.append("\tprivate final Map<String, Integer> fCounts= new HashMap<>();\n"); //$NON-NLS-1$
+		buf.append("\tprivate final Map<String, String> fNames= new ConcurrentHashMap<>();\n"); //$NON-NLS-1$
+		buf.append("\tprivate int fTotal;\n\n"); //$NON-NLS-1$
+		for (int i= 0; i < fMethods; i++) {
+			appendMethod(buf, i);
+		}
+		buf.append("\tpublic int getTotal() {\n\t\treturn fTotal;\n\t}\n"); //$NON-NLS-1$
+		buf.append("}\n"); //$NON-NLS-1$
+		return buf.toString();
+	}
+
+	private void appendMethod(StringBuilder buf, int index) {
+		buf.append("\t/**\n\t * Generated method.\n\t *\n\t * @param a a value\n\t * @param s a string\n\t * @return the result\n\t */\n"); //$NON-NLS-1$
+		buf.append("\tpublic int method").append(index).append("(int a, String s) {\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		buf.append("\t\tint result= 0;\n"); //$NON-NLS-1$
+		buf.append("\t\tArrayList<String> names= new ArrayList<>();\n"); //$NON-NLS-1$
+		buf.append("\t\tStringBuffer text= new StringBuffer();\n"); //$NON-NLS-1$
+		if (index == 0)
+			buf.append("\t\t").append(SELECTION_START).append('\n'); //$NON-NLS-1$
+		for (int i= 0; i < fStatements; i++) {
+			switch (i % 4) {
+				case 0:
+					buf.append("\t\tif (a > ").append(i).append(") {\n"); //$NON-NLS-1$ //$NON-NLS-2$
+					buf.append("\t\t\tresult += a * ").append(i).append(";\n"); //$NON-NLS-1$ //$NON-NLS-2$
+					buf.append("\t\t} else {\n\t\t\tif (s != null) {\n\t\t\t\tresult -= s.length();\n\t\t\t}\n\t\t}\n"); //$NON-NLS-1$
+					break;
+				case 1:
+					buf.append("\t\tfor (int i").append(i).append("= 0; i").append(i).append(" < a; i").append(i).append("++) {\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+					buf.append("\t\t\tnames.add(s + i").append(i).append(");\n"); //$NON-NLS-1$ //$NON-NLS-2$
+					buf.append("\t\t\ttext.append(i").append(i).append(");\n\t\t}\n"); //$NON-NLS-1$ //$NON-NLS-2$
+					break;
+				case 2:
+					buf.append("\t\tInteger boxed").append(i).append("= new Integer(result);\n"); //$NON-NLS-1$ //$NON-NLS-2$
+					buf.append("\t\tfCounts.put(s, boxed").append(i).append(");\n"); //$NON-NLS-1$ //$NON-NLS-2$
+					buf.append("\t\tfNames.put(s, String.valueOf(boxed").append(i).append("));\n"); //$NON-NLS-1$ //$NON-NLS-2$
+					break;
+				default:
+					buf.append("\t\twhile (result > 100) {\n\t\t\tresult /= 2;\n\t\t\tfTotal++;\n\t\t}\n"); //$NON-NLS-1$
+					break;
+			}
+		}
+		if (index == 0)
+			buf.append("\t\t").append(SELECTION_END).append('\n'); //$NON-NLS-1$
+		buf.append("\t\treturn result + names.size() + text.length();\n\t}\n\n"); //$NON-NLS-1$
+	}
+}
@@ -216,6 +216,31 @@ public class CoreJavadocAccess {
 	 * @throws CoreException is thrown when the element's Javadoc cannot be accessed
 	 */
 	public String getHTMLContent(IJavaElement element, boolean useAttachedJavadoc) throws CoreException {
+		JavadocHTMLCache cache= isCaching() ? JavadocHTMLCache.getDefault() : null;
+		JavadocHTMLCache.Key key= cache != null ? cache.createKey(element, useAttachedJavadoc) : null;
+		if (key != null) {
+			String html= cache.get(key);
+			if (html != null)
+				return html;
+		}
+		String html= readHTMLContent(element, useAttachedJavadoc);
+		if (key != null && html != null)
+			cache.put(key, html);
+		return html;
+	}
+
+	/**
+	 * Tells whether rendered Javadoc of library members is shared through the
+	 * {@link JavadocHTMLCache}. Subclasses and custom factories render differently and are not
+	 * cached.
+	 *
+	 * @return <code>true</code> if the rendered Javadoc is cached
+	 */
+	protected boolean isCaching() {
+		return getClass() == CoreJavadocAccess.class && fFactory == JavadocLookup.DEFAULT_FACTORY;
+	}
+
+	protected String readHTMLContent(IJavaElement element, boolean useAttachedJavadoc) throws CoreException {
 		if (element instanceof IPackageFragment) {
 			return getHTMLContent((IPackageFragment) element);
 		}
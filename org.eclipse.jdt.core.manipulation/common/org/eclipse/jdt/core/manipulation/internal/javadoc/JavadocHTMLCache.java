@@ -0,0 +1,415 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.manipulation.internal.javadoc;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.eclipse.core.runtime.IPath;
+
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.jdt.core.IClasspathAttribute;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+import org.eclipse.jdt.core.JavaModelException;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+import org.eclipse.jdt.internal.corext.util.SuperTypeHierarchyCache;
+
+/**
+ * Cache for the rendered Javadoc of members of libraries.
+ * <p>
+ * Entries are kept in a bounded memory cache and in the plug-in state location. They are keyed
+ * by the handle of the member and a stamp of its library, which covers the archive's time stamp
+ * and size as well as its source and Javadoc attachments. The key of a method also covers the
+ * libraries of the overridden methods it may inherit its Javadoc from. Members of source folders
+ * and class folders are not cached.
+ * </p>
+ */
+public final class JavadocHTMLCache {
+
+	/** Maximum number of characters of rendered Javadoc kept in memory */
+	private static final int MAX_MEMORY_CHARS= 4_000_000;
+
+	/** Maximum number of libraries whose rendered Javadoc is kept on disk */
+	private static final int MAX_DISK_LIBRARIES= 200;
+
+	/** Maximum number of types whose inherited libraries are remembered */
+	private static final int MAX_INHERITED_LIBRARIES= 500;
+
+	private static final String DIRECTORY_NAME= "javadocCache"; //$NON-NLS-1$
+
+	private static final String FILE_EXTENSION= ".html"; //$NON-NLS-1$
+
+	private static JavadocHTMLCache fgDefault;
+
+	/**
+	 * Returns the shared cache.
+	 *
+	 * @return the shared cache
+	 */
+	public static synchronized JavadocHTMLCache getDefault() {
+		if (fgDefault == null) {
+			File directory= null;
+			JavaManipulationPlugin plugin= JavaManipulationPlugin.getDefault();
+			if (plugin != null) {
+				try {
+					directory= plugin.getStateLocation().append(DIRECTORY_NAME).toFile();
+				} catch (IllegalStateException e) {
+					// no instance location: keep the cache in memory only
+				}
+			}
+			fgDefault= new JavadocHTMLCache(directory);
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Identifies the rendered Javadoc of a member.
+	 *
+	 * @param library the stamp of the library
+	 * @param member the handle identifier of the member and the lookup options
+	 */
+	public record Key(String library, String member) {
+	}
+
+	/**
+	 * The libraries of the supertypes of a type that declare methods the methods of the type may
+	 * inherit their Javadoc from.
+	 *
+	 * @param roots maps the name and parameter count of a method to the other libraries
+	 *            declaring it, sorted by path
+	 * @param unstamped the names and parameter counts of methods declared by supertypes that are
+	 *            not in a library
+	 */
+	private record InheritedLibraries(Map<String, Map<String, IPackageFragmentRoot>> roots, Set<String> unstamped) {
+	}
+
+	private final Map<Key, String> fMemoryCache= new LinkedHashMap<>(256, 0.75f, true);
+
+	/**
+	 * The inherited libraries of types, keyed by the handle identifier of the type and the stamp of
+	 * its library, guarded by itself.
+	 */
+	private final Map<String, InheritedLibraries> fInheritedLibraries= new LinkedHashMap<>(64, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, InheritedLibraries> eldest) {
+			return size() > MAX_INHERITED_LIBRARIES;
+		}
+	};
+
+	private int fMemoryChars;
+
+	/** The directory of the disk cache, or <code>null</code> */
+	private final File fDirectory;
+
+	private boolean fDirectoryPruned;
+
+	/**
+	 * Creates a cache.
+	 *
+	 * @param directory the directory of the disk cache, or <code>null</code> to keep the entries
+	 *            in memory only
+	 */
+	public JavadocHTMLCache(File directory) {
+		fDirectory= directory;
+	}
+
+	/**
+	 * Returns the key of the rendered Javadoc of an element.
+	 *
+	 * @param element the element
+	 * @param useAttachedJavadoc whether attached Javadoc is used if there is no source
+	 * @return the key, or <code>null</code> if the Javadoc of the element is not cached
+	 */
+	public Key createKey(IJavaElement element, boolean useAttachedJavadoc) {
+		if (!(element instanceof IMember) || !((IMember) element).isBinary())
+			return null;
+		IPackageFragmentRoot root= (IPackageFragmentRoot) element.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+		if (root == null || !root.isArchive())
+			return null;
+		try {
+			String library= getLibraryStamp(root);
+			if (library == null)
+				return null;
+			if (element instanceof IMethod method && !method.isConstructor()) {
+				String inherited= getInheritedLibrariesStamp(method, library);
+				if (inherited == null)
+					return null;
+				library+= inherited;
+			}
+			return new Key(library, element.getHandleIdentifier() + (useAttachedJavadoc ? "" : "#source")); //$NON-NLS-1$ //$NON-NLS-2$
+		} catch (JavaModelException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the stamps of the other libraries that declare methods the given method may inherit
+	 * its Javadoc from, either through <code>{@inheritDoc}</code> or because it has no comment.
+	 *
+	 * @param method the method
+	 * @param library the stamp of the library of the method
+	 * @return the stamps, or <code>null</code> if the Javadoc may be inherited from a member that
+	 *         is not in a library
+	 * @throws JavaModelException if the hierarchy cannot be computed
+	 */
+	private String getInheritedLibrariesStamp(IMethod method, String library) throws JavaModelException {
+		InheritedLibraries inherited= getInheritedLibraries(method.getDeclaringType(), library);
+		String signature= method.getElementName() + '/' + method.getNumberOfParameters();
+		if (inherited.unstamped().contains(signature))
+			return null;
+		Map<String, IPackageFragmentRoot> roots= inherited.roots().get(signature);
+		if (roots == null)
+			return ""; //$NON-NLS-1$
+		StringBuilder stamp= new StringBuilder();
+		for (IPackageFragmentRoot superRoot : roots.values()) {
+			String superStamp= getLibraryStamp(superRoot);
+			if (superStamp == null)
+				return null;
+			stamp.append("|inherited|").append(superStamp); //$NON-NLS-1$
+		}
+		return stamp.toString();
+	}
+
+	/*
+	 * The supertypes and their methods are scanned once per type and library stamp, not on every
+	 * lookup. The stamps of the other libraries are still computed on every lookup.
+	 */
+	private InheritedLibraries getInheritedLibraries(IType type, String library) throws JavaModelException {
+		String key= type.getHandleIdentifier() + '|' + library;
+		synchronized (fInheritedLibraries) {
+			InheritedLibraries inherited= fInheritedLibraries.get(key);
+			if (inherited != null)
+				return inherited;
+		}
+		IPackageFragmentRoot root= (IPackageFragmentRoot) type.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+		ITypeHierarchy hierarchy= SuperTypeHierarchyCache.getTypeHierarchy(type);
+		Map<String, Map<String, IPackageFragmentRoot>> roots= new HashMap<>();
+		Set<String> unstamped= new HashSet<>();
+		for (IType supertype : hierarchy.getAllSupertypes(type)) {
+			IPackageFragmentRoot superRoot= (IPackageFragmentRoot) supertype.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+			if (root.equals(superRoot))
+				continue;
+			boolean isArchive= superRoot != null && superRoot.isArchive();
+			for (IMethod superMethod : supertype.getMethods()) {
+				String signature= superMethod.getElementName() + '/' + superMethod.getNumberOfParameters();
+				if (isArchive)
+					roots.computeIfAbsent(signature, s -> new TreeMap<>()).put(superRoot.getPath().toString(), superRoot);
+				else
+					unstamped.add(signature);
+			}
+		}
+		InheritedLibraries inherited= new InheritedLibraries(roots, unstamped);
+		synchronized (fInheritedLibraries) {
+			fInheritedLibraries.put(key, inherited);
+		}
+		return inherited;
+	}
+
+	private static String getLibraryStamp(IPackageFragmentRoot root) throws JavaModelException {
+		File file;
+		IResource resource= root.getResource();
+		if (resource != null) {
+			IPath location= resource.getLocation();
+			if (location == null)
+				return null;
+			file= location.toFile();
+		} else {
+			file= root.getPath().toFile();
+		}
+		long lastModified= file.lastModified();
+		if (lastModified == 0)
+			return null;
+
+		StringBuilder stamp= new StringBuilder();
+		stamp.append(file.getAbsolutePath()).append('|').append(lastModified).append('|').append(file.length());
+		IClasspathEntry entry= root.getResolvedClasspathEntry();
+		if (entry != null) {
+			stamp.append('|').append(entry.getSourceAttachmentPath()).append('|').append(entry.getSourceAttachmentRootPath());
+			for (IClasspathAttribute attribute : entry.getExtraAttributes()) {
+				stamp.append('|').append(attribute.getName()).append('=').append(attribute.getValue());
+			}
+		}
+		return stamp.toString();
+	}
+
+	/**
+	 * Returns the cached rendered Javadoc.
+	 *
+	 * @param key the key
+	 * @return the rendered Javadoc, or <code>null</code> if it is not cached
+	 */
+	public String get(Key key) {
+		synchronized (fMemoryCache) {
+			String html= fMemoryCache.get(key);
+			if (html != null)
+				return html;
+		}
+		String html= readFromDisk(key);
+		if (html != null)
+			putInMemory(key, html);
+		return html;
+	}
+
+	/**
+	 * Caches rendered Javadoc.
+	 *
+	 * @param key the key
+	 * @param html the rendered Javadoc
+	 */
+	public void put(Key key, String html) {
+		putInMemory(key, html);
+		writeToDisk(key, html);
+	}
+
+	/**
+	 * Tells whether the rendered Javadoc is in the memory cache.
+	 *
+	 * @param key the key
+	 * @return <code>true</code> if the rendered Javadoc does not need to be read or rendered
+	 */
+	public boolean isInMemory(Key key) {
+		synchronized (fMemoryCache) {
+			return fMemoryCache.containsKey(key);
+		}
+	}
+
+	/**
+	 * Removes all entries from memory and disk.
+	 */
+	public void clear() {
+		synchronized (fMemoryCache) {
+			fMemoryCache.clear();
+			fMemoryChars= 0;
+		}
+		synchronized (fInheritedLibraries) {
+			fInheritedLibraries.clear();
+		}
+		if (fDirectory != null) {
+			File[] libraries= fDirectory.listFiles();
+			if (libraries != null) {
+				for (File library : libraries) {
+					delete(library);
+				}
+			}
+		}
+	}
+
+	private void putInMemory(Key key, String html) {
+		if (html.length() > MAX_MEMORY_CHARS / 8)
+			return;
+		synchronized (fMemoryCache) {
+			String previous= fMemoryCache.put(key, html);
+			if (previous != null)
+				fMemoryChars-= previous.length();
+			fMemoryChars+= html.length();
+			for (Iterator<String> iterator= fMemoryCache.values().iterator(); fMemoryChars > MAX_MEMORY_CHARS && iterator.hasNext();) {
+				fMemoryChars-= iterator.next().length();
+				iterator.remove();
+			}
+		}
+	}
+
+	private File getFile(Key key) {
+		File library= new File(fDirectory, Integer.toHexString(key.library().hashCode()));
+		return new File(library, Integer.toHexString(key.member().hashCode()) + FILE_EXTENSION);
+	}
+
+	private String readFromDisk(Key key) {
+		if (fDirectory == null)
+			return null;
+		File file= getFile(key);
+		if (!file.isFile())
+			return null;
+		try {
+			String content= Files.readString(file.toPath(), StandardCharsets.UTF_8);
+			// the first two lines hold the key, since file names are hashes
+			int libraryEnd= content.indexOf('\n');
+			int memberEnd= libraryEnd == -1 ? -1 : content.indexOf('\n', libraryEnd + 1);
+			if (memberEnd == -1
+					|| !key.library().equals(content.substring(0, libraryEnd))
+					|| !key.member().equals(content.substring(libraryEnd + 1, memberEnd)))
+				return null;
+			return content.substring(memberEnd + 1);
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	private void writeToDisk(Key key, String html) {
+		if (fDirectory == null || key.library().indexOf('\n') != -1 || key.member().indexOf('\n') != -1)
+			return;
+		File file= getFile(key);
+		File library= file.getParentFile();
+		try {
+			if (!library.isDirectory()) {
+				pruneLibraries();
+				Files.createDirectories(library.toPath());
+			}
+			Path temp= Files.createTempFile(library.toPath(), null, null);
+			Files.writeString(temp, key.library() + '\n' + key.member() + '\n' + html, StandardCharsets.UTF_8);
+			Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			// the entry is still cached in memory
+		}
+	}
+
+	/**
+	 * Deletes the entries of the least recently added libraries if there are too many.
+	 */
+	private synchronized void pruneLibraries() {
+		if (fDirectoryPruned)
+			return;
+		fDirectoryPruned= true;
+		File[] libraries= fDirectory.listFiles(File::isDirectory);
+		if (libraries == null || libraries.length < MAX_DISK_LIBRARIES)
+			return;
+		Arrays.sort(libraries, Comparator.comparingLong(File::lastModified));
+		for (int i= 0; i <= libraries.length - MAX_DISK_LIBRARIES; i++) {
+			delete(libraries[i]);
+		}
+	}
+
+	private static void delete(File file) {
+		File[] children= file.listFiles();
+		if (children != null) {
+			for (File child : children) {
+				delete(child);
+			}
+		}
+		file.delete();
+	}
+}
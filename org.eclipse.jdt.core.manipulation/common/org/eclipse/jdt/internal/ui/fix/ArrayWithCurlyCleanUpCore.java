@@ -28,7 +28,7 @@ import org.eclipse.jdt.ui.cleanup.CleanUpContext;
 import org.eclipse.jdt.ui.cleanup.CleanUpRequirements;
 import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
 
-public class ArrayWithCurlyCleanUpCore extends AbstractCleanUp {
+public class ArrayWithCurlyCleanUpCore extends AbstractCleanUp implements IChangedRegionsCleanUp {
 	public ArrayWithCurlyCleanUpCore(final Map<String, String> options) {
 		super(options);
 	}
@@ -56,6 +56,11 @@ public class ArrayWithCurlyCleanUpCore extends AbstractCleanUp {
 		return ArrayWithCurlyFixCore.createCleanUp(compilationUnit);
 	}
 
+	@Override
+	public boolean isRestrictedToChangedRegions() {
+		return isEnabled(CleanUpConstants.ARRAY_WITH_CURLY) && isEnabled(CleanUpConstants.CLEANUP_ON_SAVE_CHANGED_REGIONS_ONLY);
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		List<String> result= new ArrayList<>();
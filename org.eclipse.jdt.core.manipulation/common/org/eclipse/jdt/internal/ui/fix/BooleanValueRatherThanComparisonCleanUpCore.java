@@ -26,7 +26,7 @@ import org.eclipse.jdt.ui.cleanup.CleanUpContext;
 import org.eclipse.jdt.ui.cleanup.CleanUpRequirements;
 import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
 
-public class BooleanValueRatherThanComparisonCleanUpCore extends AbstractCleanUp {
+public class BooleanValueRatherThanComparisonCleanUpCore extends AbstractCleanUp implements IChangedRegionsCleanUp {
 	public BooleanValueRatherThanComparisonCleanUpCore(final Map<String, String> options) {
 		super(options);
 	}
@@ -54,6 +54,11 @@ public class BooleanValueRatherThanComparisonCleanUpCore extends AbstractCleanUp
 		return BooleanValueRatherThanComparisonFixCore.createCleanUp(compilationUnit);
 	}
 
+	@Override
+	public boolean isRestrictedToChangedRegions() {
+		return isEnabled(CleanUpConstants.BOOLEAN_VALUE_RATHER_THAN_COMPARISON) && isEnabled(CleanUpConstants.CLEANUP_ON_SAVE_CHANGED_REGIONS_ONLY);
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		if (isEnabled(CleanUpConstants.BOOLEAN_VALUE_RATHER_THAN_COMPARISON)) {
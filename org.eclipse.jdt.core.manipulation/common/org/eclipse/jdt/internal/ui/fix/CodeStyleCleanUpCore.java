@@ -37,7 +37,7 @@ import org.eclipse.jdt.ui.text.java.IProblemLocation;
  * Creates fixes which can resolve code style issues
  * @see org.eclipse.jdt.internal.corext.fix.CodeStyleFixCore
  */
-public class CodeStyleCleanUpCore extends AbstractMultiFix {
+public class CodeStyleCleanUpCore extends AbstractMultiFix implements IChangedRegionsCleanUp {
 
 	public CodeStyleCleanUpCore() {
 	}
@@ -68,6 +68,11 @@ public class CodeStyleCleanUpCore extends AbstractMultiFix {
 		       nonStaticMethods && isEnabled(CleanUpConstants.MEMBER_ACCESSES_NON_STATIC_METHOD_USE_THIS_IF_NECESSARY);
 	}
 
+	@Override
+	public boolean isRestrictedToChangedRegions() {
+		return requireAST() && isEnabled(CleanUpConstants.CLEANUP_ON_SAVE_CHANGED_REGIONS_ONLY);
+	}
+
 	@Override
 	public org.eclipse.jdt.ui.cleanup.ICleanUpFix createFix(CompilationUnit compilationUnit) throws CoreException {
 		if (compilationUnit == null)
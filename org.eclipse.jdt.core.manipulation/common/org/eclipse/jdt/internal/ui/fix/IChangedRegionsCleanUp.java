@@ -0,0 +1,36 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.fix;
+
+import org.eclipse.jdt.ui.cleanup.ICleanUp;
+
+import org.eclipse.jdt.internal.corext.fix.ChangedRegionScope;
+import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
+
+/**
+ * A clean up whose fixes only depend on the body declaration they are found in, or on the
+ * compiler problems reported inside of it. For the latter, a member that did not change keeps
+ * its problems, e.g. a private field whose last use was removed from another member is not
+ * removed. Problems outside of type declarations, like unused imports, are always fixed. When run on save
+ * with {@link CleanUpConstants#CLEANUP_ON_SAVE_CHANGED_REGIONS_ONLY} enabled, such a clean up only
+ * analyzes the members intersecting the changed regions, see {@link ChangedRegionScope}.
+ */
+public interface IChangedRegionsCleanUp extends ICleanUp {
+
+	/**
+	 * @return <code>true</code> if the analysis of this clean up is to be restricted to the changed
+	 *         regions of a {@link IMultiLineCleanUp.MultiLineCleanUpContext}
+	 */
+	boolean isRestrictedToChangedRegions();
+}
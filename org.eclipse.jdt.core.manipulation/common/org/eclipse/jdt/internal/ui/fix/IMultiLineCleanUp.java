@@ -32,10 +32,23 @@ public interface IMultiLineCleanUp extends ICleanUp {
 	public static class MultiLineCleanUpContext extends CleanUpContext {
 
 		private final IRegion[] fRegions;
+		private final boolean fRestrictToRegions;
 
 		public MultiLineCleanUpContext(ICompilationUnit unit, CompilationUnit ast, IRegion[] regions) {
+			this(unit, ast, regions, false);
+		}
+
+		/**
+		 * @param unit the compilation unit
+		 * @param ast the AST of the unit or <code>null</code>
+		 * @param regions the changed regions
+		 * @param restrictToRegions whether {@link IChangedRegionsCleanUp}s may restrict their
+		 *            analysis to the given regions
+		 */
+		public MultiLineCleanUpContext(ICompilationUnit unit, CompilationUnit ast, IRegion[] regions, boolean restrictToRegions) {
 			super(unit, ast);
 			fRegions= regions;
+			fRestrictToRegions= restrictToRegions;
 		}
 
 		/**
@@ -48,5 +61,13 @@ public interface IMultiLineCleanUp extends ICleanUp {
 		public IRegion[] getRegions() {
 			return fRegions;
 		}
+
+		/**
+		 * @return <code>true</code> if region scoped clean ups may skip the members outside of
+		 *         {@link #getRegions()}
+		 */
+		public boolean isRestrictedToRegions() {
+			return fRestrictToRegions && fRegions != null;
+		}
 	}
 }
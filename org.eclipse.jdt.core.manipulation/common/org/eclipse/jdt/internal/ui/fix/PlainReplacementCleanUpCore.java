@@ -28,7 +28,7 @@ import org.eclipse.jdt.ui.cleanup.CleanUpContext;
 import org.eclipse.jdt.ui.cleanup.CleanUpRequirements;
 import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
 
-public class PlainReplacementCleanUpCore extends AbstractCleanUp {
+public class PlainReplacementCleanUpCore extends AbstractCleanUp implements IChangedRegionsCleanUp {
 	public PlainReplacementCleanUpCore(final Map<String, String> options) {
 		super(options);
 	}
@@ -56,6 +56,11 @@ public class PlainReplacementCleanUpCore extends AbstractCleanUp {
 		return PlainReplacementFixCore.createCleanUp(compilationUnit);
 	}
 
+	@Override
+	public boolean isRestrictedToChangedRegions() {
+		return isEnabled(CleanUpConstants.PLAIN_REPLACEMENT) && isEnabled(CleanUpConstants.CLEANUP_ON_SAVE_CHANGED_REGIONS_ONLY);
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		List<String> result= new ArrayList<>();
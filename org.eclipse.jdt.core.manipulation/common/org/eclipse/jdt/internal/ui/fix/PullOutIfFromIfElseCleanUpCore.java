@@ -26,7 +26,7 @@ import org.eclipse.jdt.ui.cleanup.CleanUpContext;
 import org.eclipse.jdt.ui.cleanup.CleanUpRequirements;
 import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
 
-public class PullOutIfFromIfElseCleanUpCore extends AbstractCleanUp {
+public class PullOutIfFromIfElseCleanUpCore extends AbstractCleanUp implements IChangedRegionsCleanUp {
 	public PullOutIfFromIfElseCleanUpCore(final Map<String, String> options) {
 		super(options);
 	}
@@ -54,6 +54,11 @@ public class PullOutIfFromIfElseCleanUpCore extends AbstractCleanUp {
 		return PullOutIfFromIfElseFixCore.createCleanUp(compilationUnit);
 	}
 
+	@Override
+	public boolean isRestrictedToChangedRegions() {
+		return isEnabled(CleanUpConstants.PULL_OUT_IF_FROM_IF_ELSE) && isEnabled(CleanUpConstants.CLEANUP_ON_SAVE_CHANGED_REGIONS_ONLY);
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		if (isEnabled(CleanUpConstants.PULL_OUT_IF_FROM_IF_ELSE)) {
@@ -28,7 +28,7 @@ import org.eclipse.jdt.ui.cleanup.CleanUpContext;
 import org.eclipse.jdt.ui.cleanup.CleanUpRequirements;
 import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
 
-public class StandardComparisonCleanUpCore extends AbstractCleanUp {
+public class StandardComparisonCleanUpCore extends AbstractCleanUp implements IChangedRegionsCleanUp {
 	public StandardComparisonCleanUpCore(final Map<String, String> options) {
 		super(options);
 	}
@@ -56,6 +56,11 @@ public class StandardComparisonCleanUpCore extends AbstractCleanUp {
 		return StandardComparisonFixCore.createCleanUp(compilationUnit);
 	}
 
+	@Override
+	public boolean isRestrictedToChangedRegions() {
+		return isEnabled(CleanUpConstants.STANDARD_COMPARISON) && isEnabled(CleanUpConstants.CLEANUP_ON_SAVE_CHANGED_REGIONS_ONLY);
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		List<String> result= new ArrayList<>();
@@ -38,7 +38,7 @@ import org.eclipse.jdt.ui.text.java.IProblemLocation;
  * Create fixes which can remove unused code
  * see org.eclipse.jdt.internal.corext.fix.UnusedCodeFix
  */
-public class UnusedCodeCleanUpCore extends AbstractMultiFix {
+public class UnusedCodeCleanUpCore extends AbstractMultiFix implements IChangedRegionsCleanUp {
 
 	public UnusedCodeCleanUpCore(Map<String, String> options) {
 		super(options);
@@ -67,6 +67,11 @@ public class UnusedCodeCleanUpCore extends AbstractMultiFix {
 				isEnabled(CleanUpConstants.REMOVE_UNUSED_CODE_METHOD_PARAMETERS);
 	}
 
+	@Override
+	public boolean isRestrictedToChangedRegions() {
+		return requireAST() && isEnabled(CleanUpConstants.CLEANUP_ON_SAVE_CHANGED_REGIONS_ONLY);
+	}
+
 	@Override
 	public ICleanUpFix createFix(CompilationUnit compilationUnit) throws CoreException {
 		boolean removeUnuseMembers= isEnabled(CleanUpConstants.REMOVE_UNUSED_CODE_PRIVATE_MEMBERS);
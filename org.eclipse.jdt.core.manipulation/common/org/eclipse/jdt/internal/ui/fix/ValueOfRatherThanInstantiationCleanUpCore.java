@@ -28,7 +28,7 @@ import org.eclipse.jdt.ui.cleanup.CleanUpContext;
 import org.eclipse.jdt.ui.cleanup.CleanUpRequirements;
 import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
 
-public class ValueOfRatherThanInstantiationCleanUpCore extends AbstractCleanUp {
+public class ValueOfRatherThanInstantiationCleanUpCore extends AbstractCleanUp implements IChangedRegionsCleanUp {
 	public ValueOfRatherThanInstantiationCleanUpCore(final Map<String, String> options) {
 		super(options);
 	}
@@ -56,6 +56,11 @@ public class ValueOfRatherThanInstantiationCleanUpCore extends AbstractCleanUp {
 		return ValueOfRatherThanInstantiationFixCore.createCleanUp(compilationUnit);
 	}
 
+	@Override
+	public boolean isRestrictedToChangedRegions() {
+		return isEnabled(CleanUpConstants.VALUEOF_RATHER_THAN_INSTANTIATION) && isEnabled(CleanUpConstants.CLEANUP_ON_SAVE_CHANGED_REGIONS_ONLY);
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		List<String> result= new ArrayList<>();
@@ -51,6 +51,8 @@ import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
 import org.eclipse.jdt.internal.core.manipulation.Messages;
 import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
 import org.eclipse.jdt.internal.corext.dom.ASTNodes;
+import org.eclipse.jdt.internal.corext.dom.BindingOccurrenceIndex;
+import org.eclipse.jdt.internal.corext.dom.BindingOccurrenceIndex.Occurrence;
 import org.eclipse.jdt.internal.corext.dom.Bindings;
 
 public class OccurrencesFinder extends ASTVisitor implements IOccurrencesFinder {
@@ -102,7 +104,14 @@ public class OccurrencesFinder extends ASTVisitor implements IOccurrencesFinder
 		if (fResult == null) {
 			fResult= new ArrayList<>();
 			fWriteUsages= new HashSet<>();
-			fRoot.accept(this);
+			if (fTargetIsStaticMethodImport) {
+				// all static methods of that name match, so the binding key cannot be used
+				fRoot.accept(this);
+			} else {
+				for (Occurrence occurrence : BindingOccurrenceIndex.get(fRoot).getOccurrences(fTarget)) {
+					addOccurrence(occurrence.name(), occurrence.isWrite());
+				}
+			}
 		}
 	}
 
@@ -262,20 +271,23 @@ public class OccurrencesFinder extends ASTVisitor implements IOccurrencesFinder
 
 	private boolean addUsage(Name node, IBinding binding) {
 		if (binding != null && Bindings.equals(getBindingDeclaration(binding), fTarget)) {
-			int flag= 0;
-			String description= fReadDescription;
-			if (fTarget instanceof IVariableBinding) {
-				boolean isWrite= fWriteUsages.remove(node);
-				flag= isWrite ? F_WRITE_OCCURRENCE : F_READ_OCCURRENCE;
-				if (isWrite)
-					description= fWriteDescription;
-			}
-			fResult.add(new OccurrenceLocation(node.getStartPosition(), node.getLength(), flag, description));
+			addOccurrence(node, fWriteUsages.remove(node));
 			return true;
 		}
 		return false;
 	}
 
+	private void addOccurrence(Name node, boolean isWrite) {
+		int flag= 0;
+		String description= fReadDescription;
+		if (fTarget instanceof IVariableBinding) {
+			flag= isWrite ? F_WRITE_OCCURRENCE : F_READ_OCCURRENCE;
+			if (isWrite)
+				description= fWriteDescription;
+		}
+		fResult.add(new OccurrenceLocation(node.getStartPosition(), node.getLength(), flag, description));
+	}
+
 	@Override
 	public int getSearchKind() {
 		return K_OCCURRENCE;
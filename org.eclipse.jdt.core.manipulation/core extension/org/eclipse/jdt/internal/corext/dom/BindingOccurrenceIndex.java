@@ -0,0 +1,390 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.dom;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.Assignment;
+import org.eclipse.jdt.core.dom.ClassInstanceCreation;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.FieldAccess;
+import org.eclipse.jdt.core.dom.FieldDeclaration;
+import org.eclipse.jdt.core.dom.IBinding;
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.eclipse.jdt.core.dom.IVariableBinding;
+import org.eclipse.jdt.core.dom.ImportDeclaration;
+import org.eclipse.jdt.core.dom.Modifier;
+import org.eclipse.jdt.core.dom.Name;
+import org.eclipse.jdt.core.dom.NameQualifiedType;
+import org.eclipse.jdt.core.dom.ParameterizedType;
+import org.eclipse.jdt.core.dom.PostfixExpression;
+import org.eclipse.jdt.core.dom.PrefixExpression;
+import org.eclipse.jdt.core.dom.QualifiedName;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.dom.SimpleType;
+import org.eclipse.jdt.core.dom.SingleVariableDeclaration;
+import org.eclipse.jdt.core.dom.Type;
+import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
+
+import org.eclipse.jdt.internal.ui.util.ASTHelper;
+
+/**
+ * Index from the bindings referenced in a compilation unit to the names referring to them.
+ * <p>
+ * The index is stored as a property of the AST root, so it is created once per AST and shared by
+ * all clients asking for the same AST (mark occurrences, find occurrences in file and linked
+ * rename). It is discarded as soon as the AST is modified. Each of the two views is built by a
+ * single walk over the AST on its first query; after that a query is a map lookup.
+ * </p>
+ * <ul>
+ * <li>{@link #getOccurrences(IBinding)} has the semantics of
+ * {@link org.eclipse.jdt.internal.core.manipulation.search.OccurrencesFinder}</li>
+ * <li>{@link #getLinkedNames(IBinding)} has the semantics of
+ * {@link LinkedNodeFinder#findByBinding(org.eclipse.jdt.core.dom.ASTNode, IBinding)}</li>
+ * </ul>
+ */
+public final class BindingOccurrenceIndex {
+
+	/**
+	 * An occurrence of a binding.
+	 *
+	 * @param name the name referring to the binding
+	 * @param isWrite <code>true</code> if the name is written to
+	 */
+	public record Occurrence(Name name, boolean isWrite) {
+	}
+
+	private record LinkedName(SimpleName name, int index, boolean hasRecordComponent) {
+	}
+
+	private static final String PROPERTY= BindingOccurrenceIndex.class.getName();
+
+	private static final Object fgLock= new Object();
+
+	private static final Object NO_KEY= new Object();
+
+	private final CompilationUnit fRoot;
+	private final long fModificationCount;
+
+	private Map<Object, List<Occurrence>> fOccurrences;
+	private Map<Object, List<Occurrence>> fStaticImports;
+
+	private Map<IBinding, List<LinkedName>> fLinkedNames;
+	private Map<IBinding, List<LinkedName>> fLinkedRecordComponents;
+
+	private BindingOccurrenceIndex(CompilationUnit root, long modificationCount) {
+		fRoot= root;
+		fModificationCount= modificationCount;
+	}
+
+	/**
+	 * Returns the index for the given AST, creating it if the AST has none yet or has been
+	 * modified since the index was created.
+	 *
+	 * @param root the AST root
+	 * @return the index of the AST
+	 */
+	public static BindingOccurrenceIndex get(CompilationUnit root) {
+		long modificationCount= root.getAST().modificationCount();
+		synchronized (fgLock) {
+			Object property= root.getProperty(PROPERTY);
+			if (property instanceof BindingOccurrenceIndex index && index.fModificationCount == modificationCount)
+				return index;
+
+			BindingOccurrenceIndex index= new BindingOccurrenceIndex(root, modificationCount);
+			root.setProperty(PROPERTY, index);
+			return index;
+		}
+	}
+
+	/**
+	 * Returns the occurrences of the given binding declaration in AST order.
+	 *
+	 * @param declaration the type, method or variable declaration binding to search for
+	 * @return the occurrences, never <code>null</code>
+	 */
+	public synchronized List<Occurrence> getOccurrences(IBinding declaration) {
+		if (fOccurrences == null) {
+			fOccurrences= new HashMap<>();
+			fStaticImports= new HashMap<>();
+			fRoot.accept(new OccurrenceCollector());
+		}
+
+		List<Occurrence> occurrences= fOccurrences.getOrDefault(getKey(declaration), Collections.emptyList());
+		if (declaration instanceof IMethodBinding method && Modifier.isStatic(method.getModifiers())) {
+			Object importKey= getStaticImportKey(method);
+			List<Occurrence> imports= importKey != null ? fStaticImports.get(importKey) : null;
+			if (imports != null) {
+				// imports precede all other names of a compilation unit
+				List<Occurrence> result= new ArrayList<>(imports.size() + occurrences.size());
+				result.addAll(imports);
+				result.addAll(occurrences);
+				return result;
+			}
+		}
+		return occurrences;
+	}
+
+	/**
+	 * Returns the simple names linked to the given binding in AST order.
+	 *
+	 * @param binding the binding to search for
+	 * @return the linked names, never <code>null</code>
+	 */
+	public synchronized SimpleName[] getLinkedNames(IBinding binding) {
+		if (fLinkedNames == null) {
+			fLinkedNames= new IdentityHashMap<>();
+			fLinkedRecordComponents= new IdentityHashMap<>();
+			fRoot.accept(new LinkedNameCollector());
+		}
+
+		IBinding declaration= LinkedNodeFinder.getDeclaration(binding);
+		List<LinkedName> result= new ArrayList<>(fLinkedNames.getOrDefault(declaration, Collections.emptyList()));
+		boolean sort= false;
+		List<LinkedName> recordComponentNames= fLinkedRecordComponents.get(declaration);
+		if (recordComponentNames != null) {
+			result.addAll(recordComponentNames);
+			sort= true;
+		}
+		if (declaration instanceof IMethodBinding method) {
+			for (Map.Entry<IBinding, List<LinkedName>> entry : fLinkedNames.entrySet()) {
+				if (entry.getKey() != declaration && entry.getKey() instanceof IMethodBinding curr && (method.overrides(curr) || curr.overrides(method))) {
+					for (LinkedName name : entry.getValue()) {
+						if (!name.hasRecordComponent()) {
+							result.add(name);
+							sort= true;
+						}
+					}
+				}
+			}
+		}
+		if (sort)
+			result.sort(Comparator.comparingInt(LinkedName::index));
+
+		SimpleName[] names= new SimpleName[result.size()];
+		for (int i= 0; i < names.length; i++) {
+			names[i]= result.get(i).name();
+		}
+		return names;
+	}
+
+	private static Object getKey(IBinding declaration) {
+		String key= declaration.getKey();
+		return key != null ? key : declaration;
+	}
+
+	private static Object getStaticImportKey(IMethodBinding method) {
+		ITypeBinding declaringClass= method.getDeclaringClass();
+		if (declaringClass == null)
+			return null;
+		String key= declaringClass.getTypeDeclaration().getKey();
+		return key != null ? key + '#' + method.getName() : null;
+	}
+
+	private static IBinding getBindingDeclaration(IBinding binding) {
+		switch (binding.getKind()) {
+			case IBinding.TYPE :
+				return ((ITypeBinding)binding).getTypeDeclaration();
+			case IBinding.METHOD :
+				return ((IMethodBinding)binding).getMethodDeclaration();
+			case IBinding.VARIABLE :
+				return ((IVariableBinding)binding).getVariableDeclaration();
+			default:
+				return binding;
+		}
+	}
+
+	/**
+	 * Collects the occurrences of all bindings at once. Mirrors the visitor of
+	 * <code>OccurrencesFinder</code>: where the finder stops descending into a qualified name
+	 * that matched its target, the names below it are not recorded for that binding.
+	 */
+	private final class OccurrenceCollector extends ASTVisitor {
+
+		private final Set<Name> fWrites= new HashSet<>();
+		private final ArrayDeque<Object> fCoveredKeys= new ArrayDeque<>();
+
+		public OccurrenceCollector() {
+			super(true);
+		}
+
+		@Override
+		public boolean visit(QualifiedName node) {
+			IBinding binding= node.resolveBinding();
+			if (binding instanceof IVariableBinding && ((IVariableBinding)binding).isField()) {
+				SimpleName name= node.getName();
+				fCoveredKeys.push(addUsage(name, name.resolveBinding()));
+			} else if (binding instanceof IMethodBinding && isStaticImport(node)) {
+				fCoveredKeys.push(addStaticImport(node.getName(), (IMethodBinding) binding));
+			} else {
+				fCoveredKeys.push(addUsage(node, binding));
+			}
+			return true;
+		}
+
+		@Override
+		public void endVisit(QualifiedName node) {
+			fCoveredKeys.pop();
+		}
+
+		@Override
+		public boolean visit(SimpleName node) {
+			addUsage(node, node.resolveBinding());
+			return true;
+		}
+
+		@Override
+		public boolean visit(ClassInstanceCreation node) {
+			Type type= node.getType();
+			if (type instanceof ParameterizedType) {
+				type= ((ParameterizedType) type).getType();
+			}
+			if (type instanceof SimpleType) {
+				Name name= ((SimpleType) type).getName();
+				if (name instanceof QualifiedName)
+					name= ((QualifiedName)name).getName();
+				addUsage(name, node.resolveConstructorBinding());
+			} else if (type instanceof NameQualifiedType) {
+				Name name= ((NameQualifiedType) type).getName();
+				addUsage(name, node.resolveConstructorBinding());
+			}
+			return true;
+		}
+
+		@Override
+		public boolean visit(Assignment node) {
+			addWrite(getSimpleName(node.getLeftHandSide()));
+			return true;
+		}
+
+		@Override
+		public boolean visit(SingleVariableDeclaration node) {
+			addWrite(node.getName());
+			return true;
+		}
+
+		@Override
+		public boolean visit(VariableDeclarationFragment node) {
+			if (node.getParent() instanceof FieldDeclaration || node.getInitializer() != null)
+				addWrite(node.getName());
+			return true;
+		}
+
+		@Override
+		public boolean visit(PrefixExpression node) {
+			PrefixExpression.Operator operator= node.getOperator();
+			if (operator == PrefixExpression.Operator.INCREMENT || operator == PrefixExpression.Operator.DECREMENT)
+				addWrite(getSimpleName(node.getOperand()));
+			return true;
+		}
+
+		@Override
+		public boolean visit(PostfixExpression node) {
+			addWrite(getSimpleName(node.getOperand()));
+			return true;
+		}
+
+		private void addWrite(SimpleName name) {
+			if (name != null)
+				fWrites.add(name);
+		}
+
+		private Object addUsage(Name node, IBinding binding) {
+			if (binding == null)
+				return NO_KEY;
+
+			Object key= getKey(getBindingDeclaration(binding));
+			if (!fCoveredKeys.contains(key)) {
+				fOccurrences.computeIfAbsent(key, k -> new ArrayList<>()).add(new Occurrence(node, fWrites.contains(node)));
+			}
+			return key;
+		}
+
+		private Object addStaticImport(SimpleName name, IMethodBinding binding) {
+			if (!Modifier.isStatic(binding.getModifiers()))
+				return NO_KEY;
+
+			Object importKey= getStaticImportKey(binding);
+			if (importKey == null)
+				return NO_KEY;
+
+			fStaticImports.computeIfAbsent(importKey, k -> new ArrayList<>()).add(new Occurrence(name, false));
+			return getKey(getBindingDeclaration(binding));
+		}
+
+		private boolean isStaticImport(QualifiedName node) {
+			return node.getParent() instanceof ImportDeclaration && ((ImportDeclaration) node.getParent()).isStatic();
+		}
+
+		private SimpleName getSimpleName(Expression expression) {
+			if (expression instanceof SimpleName)
+				return ((SimpleName)expression);
+			else if (expression instanceof QualifiedName)
+				return (((QualifiedName) expression).getName());
+			else if (expression instanceof FieldAccess)
+				return ((FieldAccess)expression).getName();
+			return null;
+		}
+	}
+
+	/**
+	 * Collects the linked names of all bindings at once. Mirrors the visitor of
+	 * <code>LinkedNodeFinder#findByBinding</code>.
+	 */
+	private final class LinkedNameCollector extends ASTVisitor {
+
+		private int fIndex;
+
+		public LinkedNameCollector() {
+			super(true);
+		}
+
+		@Override
+		public boolean visit(SimpleName node) {
+			if (node.getAST().apiLevel() >= ASTHelper.JLS10 && node.isVar()) {
+				return false;
+			}
+			IBinding binding= node.resolveBinding();
+			if (binding == null) {
+				return false;
+			}
+			IBinding declaration= LinkedNodeFinder.getDeclaration(binding);
+			SimpleName rcNode= LinkedNodeFinder.getAssociatedRecordComponentNode(node);
+			LinkedName name= new LinkedName(node, fIndex++, rcNode != null);
+			fLinkedNames.computeIfAbsent(declaration, k -> new ArrayList<>()).add(name);
+			if (rcNode != null) {
+				IBinding rcBinding= rcNode.resolveBinding();
+				if (rcBinding != null) {
+					IBinding rcDeclaration= LinkedNodeFinder.getDeclaration(rcBinding);
+					if (rcDeclaration != declaration) {
+						fLinkedRecordComponents.computeIfAbsent(rcDeclaration, k -> new ArrayList<>()).add(name);
+					}
+				}
+			}
+			return false;
+		}
+	}
+}
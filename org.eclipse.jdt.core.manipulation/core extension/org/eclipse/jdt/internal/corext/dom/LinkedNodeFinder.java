@@ -190,6 +190,9 @@ public class LinkedNodeFinder  {
 	 * @return Return
 	 */
 	public static SimpleName[] findByBinding(ASTNode root, IBinding binding) {
+		if (root instanceof CompilationUnit) {
+			return BindingOccurrenceIndex.get((CompilationUnit) root).getLinkedNames(binding);
+		}
 		ArrayList<SimpleName> res= new ArrayList<>();
 		BindingFinder nodeFinder= new BindingFinder(binding, res);
 		root.accept(nodeFinder);
@@ -499,21 +502,21 @@ public class LinkedNodeFinder  {
 			}
 			return false;
 		}
+	}
 
-		private static IBinding getDeclaration(IBinding binding) {
-			if (binding instanceof ITypeBinding) {
-				return ((ITypeBinding) binding).getTypeDeclaration();
-			} else if (binding instanceof IMethodBinding) {
-				IMethodBinding methodBinding= (IMethodBinding) binding;
-				if (methodBinding.isConstructor()) { // link all constructors with their type
-					return methodBinding.getDeclaringClass().getTypeDeclaration();
-				} else {
-					return methodBinding.getMethodDeclaration();
-				}
-			} else if (binding instanceof IVariableBinding) {
-				return ((IVariableBinding) binding).getVariableDeclaration();
+	static IBinding getDeclaration(IBinding binding) {
+		if (binding instanceof ITypeBinding) {
+			return ((ITypeBinding) binding).getTypeDeclaration();
+		} else if (binding instanceof IMethodBinding) {
+			IMethodBinding methodBinding= (IMethodBinding) binding;
+			if (methodBinding.isConstructor()) { // link all constructors with their type
+				return methodBinding.getDeclaringClass().getTypeDeclaration();
+			} else {
+				return methodBinding.getMethodDeclaration();
 			}
-			return binding;
+		} else if (binding instanceof IVariableBinding) {
+			return ((IVariableBinding) binding).getVariableDeclaration();
 		}
+		return binding;
 	}
 }
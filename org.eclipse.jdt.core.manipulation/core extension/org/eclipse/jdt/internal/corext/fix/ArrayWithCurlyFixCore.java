@@ -132,7 +132,7 @@ public class ArrayWithCurlyFixCore extends CompilationUnitRewriteOperationsFixCo
 	public static ICleanUpFix createCleanUp(final CompilationUnit compilationUnit) {
 		List<ArrayWithCurlyFixOperation> operations= new ArrayList<>();
 		ArrayWithCurlyFinder finder= new ArrayWithCurlyFinder(operations);
-		compilationUnit.accept(finder);
+		ChangedRegionScope.accept(compilationUnit, finder);
 
 		if (operations.isEmpty()) {
 			return null;
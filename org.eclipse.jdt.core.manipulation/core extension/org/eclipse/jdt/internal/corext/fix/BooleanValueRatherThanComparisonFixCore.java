@@ -171,7 +171,7 @@ public class BooleanValueRatherThanComparisonFixCore extends CompilationUnitRewr
 	public static ICleanUpFix createCleanUp(final CompilationUnit compilationUnit) {
 		List<CompilationUnitRewriteOperation> operations= new ArrayList<>();
 		BooleanValueRatherThanComparisonFinder finder= new BooleanValueRatherThanComparisonFinder(operations);
-		compilationUnit.accept(finder);
+		ChangedRegionScope.accept(compilationUnit, finder);
 
 		if (operations.isEmpty()) {
 			return null;
@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.fix;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jface.text.IRegion;
+
+import org.eclipse.jdt.core.compiler.IProblem;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.ChildListPropertyDescriptor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.NodeFinder;
+import org.eclipse.jdt.core.dom.StructuralPropertyDescriptor;
+
+import org.eclipse.jdt.ui.text.java.IProblemLocation;
+
+import org.eclipse.jdt.internal.ui.text.correction.ProblemLocation;
+
+/**
+ * Restricts the analysis of local clean ups to the body declarations intersecting the changed
+ * regions of a compilation unit.
+ * <p>
+ * A scope is entered by the clean up driver for the duration of a single
+ * <code>createFix</code> call and is bound to the current thread and to one AST, so shared ASTs
+ * are never annotated. Fix cores use {@link #accept(CompilationUnit, ASTVisitor)} instead of
+ * <code>CompilationUnit#accept(ASTVisitor)</code>, and {@link #getProblemLocations(CompilationUnit)}
+ * instead of <code>CompilationUnit#getProblems()</code>; outside of a scope they are equivalent.
+ * </p>
+ * <p>
+ * Only clean ups whose fixes depend solely on the visited node and its enclosing body declaration
+ * may be scoped, see {@link org.eclipse.jdt.internal.ui.fix.IChangedRegionsCleanUp}.
+ * </p>
+ */
+public final class ChangedRegionScope {
+
+	private static final ThreadLocal<ChangedRegionScope> fgCurrent= new ThreadLocal<>();
+
+	private final CompilationUnit fAST;
+	private final IRegion[] fRegions;
+
+	private ChangedRegionScope(CompilationUnit ast, IRegion[] regions) {
+		fAST= ast;
+		fRegions= regions;
+	}
+
+	/**
+	 * Enters a scope for the given AST on the current thread.
+	 *
+	 * @param ast the AST the regions refer to
+	 * @param regions the changed regions, must not be <code>null</code>
+	 * @return the previously active scope, to be passed to {@link #leave(ChangedRegionScope)}
+	 */
+	public static ChangedRegionScope enter(CompilationUnit ast, IRegion[] regions) {
+		ChangedRegionScope previous= fgCurrent.get();
+		fgCurrent.set(new ChangedRegionScope(ast, regions));
+		return previous;
+	}
+
+	/**
+	 * Leaves the current scope and restores the given one.
+	 *
+	 * @param previous the scope returned by {@link #enter(CompilationUnit, IRegion[])}
+	 */
+	public static void leave(ChangedRegionScope previous) {
+		if (previous == null) {
+			fgCurrent.remove();
+		} else {
+			fgCurrent.set(previous);
+		}
+	}
+
+	/**
+	 * Lets the visitor visit the given compilation unit. If a scope for this AST is active on the
+	 * current thread only the type members intersecting the changed regions are visited, otherwise
+	 * the whole unit is.
+	 *
+	 * @param unit the compilation unit to visit
+	 * @param visitor the visitor
+	 */
+	public static void accept(CompilationUnit unit, ASTVisitor visitor) {
+		ChangedRegionScope scope= fgCurrent.get();
+		if (scope == null || scope.fAST != unit) {
+			unit.accept(visitor);
+			return;
+		}
+		scope.acceptChildren(unit, visitor);
+	}
+
+	/**
+	 * Returns the problems of the given compilation unit. If a scope for this AST is active on the
+	 * current thread only the problems inside the type members intersecting the changed regions
+	 * are returned. Problems outside of type declarations, like unused imports, are always
+	 * returned since they depend on the whole unit.
+	 *
+	 * @param unit the compilation unit
+	 * @return the locations of the problems in scope
+	 */
+	public static IProblemLocation[] getProblemLocations(CompilationUnit unit) {
+		ChangedRegionScope scope= fgCurrent.get();
+		IProblem[] problems= unit.getProblems();
+		List<IProblemLocation> result= new ArrayList<>(problems.length);
+		for (IProblem problem : problems) {
+			if (scope == null || scope.fAST != unit || scope.contains(problem.getSourceStart(), problem.getSourceEnd() - problem.getSourceStart() + 1)) {
+				result.add(new ProblemLocation(problem));
+			}
+		}
+		return result.toArray(new IProblemLocation[result.size()]);
+	}
+
+	/*
+	 * Returns whether the given range would be visited by a scoped visit, which descends into the
+	 * changed type declarations and visits their changed members as a whole.
+	 */
+	private boolean contains(int offset, int length) {
+		List<ASTNode> path= new ArrayList<>();
+		for (ASTNode node= NodeFinder.perform(fAST, offset, length); node != null && node != fAST; node= node.getParent()) {
+			path.add(0, node);
+		}
+		if (path.isEmpty() || !(path.get(0) instanceof AbstractTypeDeclaration))
+			return true;
+
+		for (ASTNode node : path) {
+			if (!intersectsRegions(node))
+				return false;
+			if (!(node instanceof AbstractTypeDeclaration))
+				return true;
+		}
+		return true;
+	}
+
+	private void acceptChildren(ASTNode node, ASTVisitor visitor) {
+		for (Object property : node.structuralPropertiesForType()) {
+			StructuralPropertyDescriptor descriptor= (StructuralPropertyDescriptor) property;
+			Object value= node.getStructuralProperty(descriptor);
+			if (descriptor instanceof ChildListPropertyDescriptor) {
+				for (Object child : (List<?>) value) {
+					acceptIfChanged((ASTNode) child, visitor);
+				}
+			} else if (value instanceof ASTNode child) {
+				acceptIfChanged(child, visitor);
+			}
+		}
+	}
+
+	private void acceptIfChanged(ASTNode node, ASTVisitor visitor) {
+		if (!intersectsRegions(node))
+			return;
+
+		if (node instanceof AbstractTypeDeclaration) {
+			// only descend into the changed members, but keep modifiers and super types
+			acceptChildren(node, visitor);
+		} else {
+			node.accept(visitor);
+		}
+	}
+
+	private boolean intersectsRegions(ASTNode node) {
+		int start= fAST.getExtendedStartPosition(node);
+		int end= start + fAST.getExtendedLength(node);
+		for (IRegion region : fRegions) {
+			int regionStart= region.getOffset();
+			int regionEnd= regionStart + region.getLength();
+			if (regionStart < end && start <= regionEnd)
+				return true;
+		}
+		return false;
+	}
+}
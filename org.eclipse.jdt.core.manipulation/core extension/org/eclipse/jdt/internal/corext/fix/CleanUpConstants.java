@@ -2281,6 +2281,19 @@ public class CleanUpConstants {
 
 	public static final String CLEANUP_ON_SAVE_ADDITIONAL_OPTIONS= "cleanup.on_save_use_additional_actions"; //$NON-NLS-1$
 
+	/**
+	 * Restricts the analysis of additional save actions which only touch the member they are
+	 * found in to the members intersecting the lines changed since the last save.<br>
+	 * <br>
+	 * Possible values: {TRUE, FALSE}<br>
+	 *
+	 * <br>
+	 *
+	 * @see CleanUpOptions#TRUE
+	 * @see CleanUpOptions#FALSE
+	 */
+	public static final String CLEANUP_ON_SAVE_CHANGED_REGIONS_ONLY= "cleanup.on_save_changed_regions_only"; //$NON-NLS-1$
+
 	/**
 	 * The id of the profile used as a default profile when executing clean up.<br>
 	 * <br>
@@ -77,8 +77,6 @@ import org.eclipse.jdt.internal.corext.util.Messages;
 import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
 import org.eclipse.jdt.ui.text.java.IProblemLocation;
 
-import org.eclipse.jdt.internal.ui.text.correction.ProblemLocation;
-
 /**
  * A fix which fixes code style issues.
  */
@@ -598,19 +596,15 @@ public class CodeStyleFixCore extends CompilationUnitRewriteOperationsFixCore {
 		List<CompilationUnitRewriteOperation> operations= new ArrayList<>();
 		if (addThisQualifier || qualifyStaticFieldAccess || qualifyMethodAccess || qualifyStaticMethodAccess) {
 			CodeStyleVisitor codeStyleVisitor= new CodeStyleVisitor(compilationUnit, addThisQualifier, qualifyStaticFieldAccess, qualifyMethodAccess, qualifyStaticMethodAccess, operations);
-			compilationUnit.accept(codeStyleVisitor);
+			ChangedRegionScope.accept(compilationUnit, codeStyleVisitor);
 		}
 
-		IProblem[] problems= compilationUnit.getProblems();
-		IProblemLocation[] locations= new IProblemLocation[problems.length];
-		for (int i= 0; i < problems.length; i++) {
-			locations[i]= new ProblemLocation(problems[i]);
-		}
+		IProblemLocation[] locations= ChangedRegionScope.getProblemLocations(compilationUnit);
 		addToStaticAccessOperations(compilationUnit, locations, changeNonStaticAccessToStatic, changeIndirectStaticAccessToDirect, operations);
 
 		if (removeFieldQualifier || removeMethodQualifier) {
 			ThisQualifierVisitor visitor= new ThisQualifierVisitor(removeFieldQualifier, removeMethodQualifier, compilationUnit, operations);
-			compilationUnit.accept(visitor);
+			ChangedRegionScope.accept(compilationUnit, visitor);
 		}
 
 		if (operations.isEmpty())
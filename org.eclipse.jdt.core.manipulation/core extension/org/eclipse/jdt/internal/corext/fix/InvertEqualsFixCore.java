@@ -130,7 +130,7 @@ public class InvertEqualsFixCore extends CompilationUnitRewriteOperationsFixCore
 	public static ICleanUpFix createCleanUp(final CompilationUnit compilationUnit) {
 		List<InvertEqualsFixOperation> operations= new ArrayList<>();
 		InvertEqualsFinder finder= new InvertEqualsFinder(operations);
-		compilationUnit.accept(finder);
+		ChangedRegionScope.accept(compilationUnit, finder);
 
 		if (operations.isEmpty()) {
 			return null;
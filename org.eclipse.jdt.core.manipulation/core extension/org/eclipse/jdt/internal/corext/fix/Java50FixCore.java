@@ -66,8 +66,6 @@ import org.eclipse.jdt.internal.corext.util.Messages;
 import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
 import org.eclipse.jdt.ui.text.java.IProblemLocation;
 
-import org.eclipse.jdt.internal.ui.text.correction.ProblemLocation;
-
 /**
  * Fix which introduce new language constructs to pre Java50 code.
  * Requires a compiler level setting of 5.0+
@@ -217,11 +215,7 @@ public class Java50FixCore extends CompilationUnitRewriteOperationsFixCore {
 
 		List<CompilationUnitRewriteOperation> operations= new ArrayList<>();
 
-		IProblem[] problems= compilationUnit.getProblems();
-		IProblemLocation[] locations= new IProblemLocation[problems.length];
-		for (int i= 0; i < problems.length; i++) {
-			locations[i]= new ProblemLocation(problems[i]);
-		}
+		IProblemLocation[] locations= ChangedRegionScope.getProblemLocations(compilationUnit);
 
 		if (addOverrideAnnotation)
 			createAddOverrideAnnotationOperations(compilationUnit, addOverrideInterfaceAnnotation, locations, operations);
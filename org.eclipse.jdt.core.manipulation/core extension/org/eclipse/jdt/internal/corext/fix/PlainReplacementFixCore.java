@@ -165,7 +165,7 @@ public class PlainReplacementFixCore extends CompilationUnitRewriteOperationsFix
 	public static ICleanUpFix createCleanUp(final CompilationUnit compilationUnit) {
 		List<PlainReplacementFixOperation> operations= new ArrayList<>();
 		PlainReplacementFinder finder= new PlainReplacementFinder(operations);
-		compilationUnit.accept(finder);
+		ChangedRegionScope.accept(compilationUnit, finder);
 
 		if (operations.isEmpty()) {
 			return null;
@@ -137,7 +137,7 @@ public class PrimitiveComparisonFixCore extends CompilationUnitRewriteOperations
 	public static ICleanUpFix createCleanUp(final CompilationUnit compilationUnit) {
 		List<PrimitiveComparisonFixOperation> operations= new ArrayList<>();
 		PrimitiveComparisonFinder finder= new PrimitiveComparisonFinder(operations);
-		compilationUnit.accept(finder);
+		ChangedRegionScope.accept(compilationUnit, finder);
 
 		if (operations.isEmpty()) {
 			return null;
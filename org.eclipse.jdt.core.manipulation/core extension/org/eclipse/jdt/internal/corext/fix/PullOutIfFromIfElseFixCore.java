@@ -108,7 +108,7 @@ public class PullOutIfFromIfElseFixCore extends CompilationUnitRewriteOperations
 	public static ICleanUpFix createCleanUp(final CompilationUnit compilationUnit) {
 		List<CompilationUnitRewriteOperation> operations= new ArrayList<>();
 		PullOutIfFromIfElseFinder finder= new PullOutIfFromIfElseFinder(operations);
-		compilationUnit.accept(finder);
+		ChangedRegionScope.accept(compilationUnit, finder);
 
 		if (operations.isEmpty()) {
 			return null;
@@ -127,7 +127,7 @@ public class StandardComparisonFixCore extends CompilationUnitRewriteOperationsF
 	public static ICleanUpFix createCleanUp(final CompilationUnit compilationUnit) {
 		List<StandardComparisonFixOperation> operations= new ArrayList<>();
 		StandardComparisonFinder finder= new StandardComparisonFinder(operations);
-		compilationUnit.accept(finder);
+		ChangedRegionScope.accept(compilationUnit, finder);
 
 		if (operations.isEmpty()) {
 			return null;
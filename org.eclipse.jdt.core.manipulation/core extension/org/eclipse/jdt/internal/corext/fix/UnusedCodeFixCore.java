@@ -97,7 +97,6 @@ import org.eclipse.jdt.ui.text.java.IProblemLocation;
 
 import org.eclipse.jdt.internal.ui.fix.UnusedCodeCleanUpCore;
 import org.eclipse.jdt.internal.ui.text.correction.JavadocTagsSubProcessorCore;
-import org.eclipse.jdt.internal.ui.text.correction.ProblemLocation;
 
 /**
  * Fix which removes unused code.
@@ -822,11 +821,7 @@ public class UnusedCodeFixCore extends CompilationUnitRewriteOperationsFixCore {
 			boolean removeUnusedCast,
 			boolean removeUnusedParameter) {
 
-		IProblem[] problems= compilationUnit.getProblems();
-		IProblemLocation[] locations= new IProblemLocation[problems.length];
-		for (int i= 0; i < problems.length; i++) {
-			locations[i]= new ProblemLocation(problems[i]);
-		}
+		IProblemLocation[] locations= ChangedRegionScope.getProblemLocations(compilationUnit);
 
 		return createCleanUp(compilationUnit, locations,
 				removeUnusedPrivateMethods,
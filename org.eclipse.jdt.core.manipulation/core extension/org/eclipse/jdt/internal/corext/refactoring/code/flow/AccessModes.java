@@ -0,0 +1,250 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.code.flow;
+
+import java.util.List;
+
+import org.eclipse.jdt.core.dom.IVariableBinding;
+
+/**
+ * The access modes of all locals managed by a {@link FlowContext}. Every mode except
+ * <code>UNUSED</code> is stored as a bit set over the local indices (one <code>long</code> per
+ * 64 locals). A local that is not contained in any of the sets is unused. Sets that don't contain
+ * any local are not allocated, so a flow info that only touches a single local costs one word per
+ * 64 locals.
+ * <p>
+ * The merge operations are the bitwise equivalents of the tables and rules in {@link FlowInfo}.
+ * Like the <code>int[]</code> they replace, instances are mutable and are shared by reference
+ * between flow infos.
+ * </p>
+ */
+public final class AccessModes {
+
+	private static final int READ_SET= 0;
+	private static final int READ_POTENTIAL_SET= 1;
+	private static final int WRITE_SET= 2;
+	private static final int WRITE_POTENTIAL_SET= 3;
+	private static final int UNKNOWN_SET= 4;
+	private static final int SET_COUNT= 5;
+
+	private static final int[] MODES= {
+		FlowInfo.READ, FlowInfo.READ_POTENTIAL, FlowInfo.WRITE, FlowInfo.WRITE_POTENTIAL, FlowInfo.UNKNOWN
+	};
+
+	private final int fLength;
+	private final int fWordCount;
+	private final long[][] fSets= new long[SET_COUNT][];
+
+	/**
+	 * Creates the access modes for <code>length</code> locals, all of them unused.
+	 *
+	 * @param length the number of locals
+	 */
+	public AccessModes(int length) {
+		fLength= length;
+		fWordCount= (length + 63) >>> 6;
+	}
+
+	public int length() {
+		return fLength;
+	}
+
+	public int get(int index) {
+		int word= index >>> 6;
+		long bit= 1L << index;
+		for (int i= 0; i < SET_COUNT; i++) {
+			long[] set= fSets[i];
+			if (set != null && (set[word] & bit) != 0)
+				return MODES[i];
+		}
+		return FlowInfo.UNUSED;
+	}
+
+	public void set(int index, int mode) {
+		int word= index >>> 6;
+		long bit= 1L << index;
+		for (long[] set : fSets) {
+			if (set != null)
+				set[word]&= ~bit;
+		}
+		if (mode == FlowInfo.UNUSED)
+			return;
+		int setIndex= getSetIndex(mode);
+		if (fSets[setIndex] == null)
+			fSets[setIndex]= new long[fWordCount];
+		fSets[setIndex][word]|= bit;
+	}
+
+	/**
+	 * Adds the locals having one of the given access modes to <code>result</code>, in index order.
+	 *
+	 * @param context the flow context managing the locals
+	 * @param mode the access modes of interest, any combination of the <code>FlowInfo</code> access modes
+	 * @param result the list to add the locals to
+	 */
+	void collect(FlowContext context, int mode, List<IVariableBinding> result) {
+		for (int w= 0; w < fWordCount; w++) {
+			long bits= select(w, mode);
+			while (bits != 0) {
+				int bit= Long.numberOfTrailingZeros(bits);
+				result.add(context.getLocalFromIndex((w << 6) + bit));
+				bits&= bits - 1;
+			}
+		}
+	}
+
+	private long select(int w, int mode) {
+		long result= 0;
+		long used= 0;
+		for (int i= 0; i < SET_COUNT; i++) {
+			long value= word(i, w);
+			used|= value;
+			if ((mode & MODES[i]) != 0)
+				result|= value;
+		}
+		if ((mode & FlowInfo.UNUSED) != 0)
+			result|= ~used & validBits(w);
+		return result;
+	}
+
+	/**
+	 * Applies the open branch table: reads and writes become potential.
+	 */
+	public void openBranch() {
+		for (int w= 0; w < fWordCount; w++) {
+			long read= word(READ_SET, w);
+			long write= word(WRITE_SET, w);
+			store(READ_POTENTIAL_SET, w, word(READ_POTENTIAL_SET, w) | read);
+			store(WRITE_POTENTIAL_SET, w, word(WRITE_POTENTIAL_SET, w) | write);
+		}
+		fSets[READ_SET]= null;
+		fSets[WRITE_SET]= null;
+	}
+
+	/**
+	 * Applies the conditional merge table. Merging with <code>null</code> (all locals unused) is the
+	 * same as opening a branch.
+	 *
+	 * @param others the access modes of the other branch or <code>null</code>
+	 */
+	public void mergeConditional(AccessModes others) {
+		if (others == null) {
+			openBranch();
+			return;
+		}
+		for (int w= 0; w < fWordCount; w++) {
+			long read= word(READ_SET, w), otherRead= others.word(READ_SET, w);
+			long write= word(WRITE_SET, w), otherWrite= others.word(WRITE_SET, w);
+			long anyRead= read | word(READ_POTENTIAL_SET, w);
+			long anyWrite= write | word(WRITE_POTENTIAL_SET, w);
+			long otherAnyRead= otherRead | others.word(READ_POTENTIAL_SET, w);
+			long otherAnyWrite= otherWrite | others.word(WRITE_POTENTIAL_SET, w);
+
+			long unknown= word(UNKNOWN_SET, w) | others.word(UNKNOWN_SET, w)
+					| (anyRead & otherAnyWrite) | (anyWrite & otherAnyRead);
+			long bothRead= read & otherRead;
+			long bothWrite= write & otherWrite;
+			store(READ_SET, w, bothRead);
+			store(WRITE_SET, w, bothWrite);
+			store(READ_POTENTIAL_SET, w, (anyRead | otherAnyRead) & ~bothRead & ~unknown);
+			store(WRITE_POTENTIAL_SET, w, (anyWrite | otherAnyWrite) & ~bothWrite & ~unknown);
+			store(UNKNOWN_SET, w, unknown);
+		}
+	}
+
+	/**
+	 * Sequential merge when computing arguments: an unused local takes the other mode, and a
+	 * potential write is superseded by a following (potential) read or completed by a following
+	 * write.
+	 *
+	 * @param others the access modes of the following statement
+	 */
+	public void mergeArguments(AccessModes others) {
+		for (int w= 0; w < fWordCount; w++) {
+			long writePotential= word(WRITE_POTENTIAL_SET, w);
+			long take= unused(w) | (writePotential & (others.word(READ_SET, w) | others.word(READ_POTENTIAL_SET, w)));
+			takeOver(others, w, take, writePotential & others.word(WRITE_SET, w));
+		}
+	}
+
+	/**
+	 * Sequential merge when computing return values: a write is kept, a potential write is only
+	 * completed by a following write, and every other local takes the other mode unless that one
+	 * is unused.
+	 *
+	 * @param others the access modes of the following statement
+	 */
+	public void mergeReturnValues(AccessModes others) {
+		for (int w= 0; w < fWordCount; w++) {
+			long writePotential= word(WRITE_POTENTIAL_SET, w);
+			long take= ~(word(WRITE_SET, w) | writePotential) & ~others.unused(w) & validBits(w);
+			takeOver(others, w, take, writePotential & others.word(WRITE_SET, w));
+		}
+	}
+
+	private void takeOver(AccessModes others, int w, long take, long completedWrites) {
+		for (int i= 0; i < SET_COUNT; i++) {
+			long value= (word(i, w) & ~take) | (others.word(i, w) & take);
+			if (i == WRITE_SET)
+				value|= completedWrites;
+			else if (i == WRITE_POTENTIAL_SET)
+				value&= ~completedWrites;
+			store(i, w, value);
+		}
+	}
+
+	private long unused(int w) {
+		long used= 0;
+		for (int i= 0; i < SET_COUNT; i++)
+			used|= word(i, w);
+		return ~used & validBits(w);
+	}
+
+	private long validBits(int w) {
+		int remaining= fLength - (w << 6);
+		return remaining >= 64 ? -1L : (1L << remaining) - 1;
+	}
+
+	private long word(int setIndex, int w) {
+		long[] set= fSets[setIndex];
+		return set == null ? 0 : set[w];
+	}
+
+	private void store(int setIndex, int w, long value) {
+		long[] set= fSets[setIndex];
+		if (set == null) {
+			if (value == 0)
+				return;
+			set= fSets[setIndex]= new long[fWordCount];
+		}
+		set[w]= value;
+	}
+
+	private static int getSetIndex(int mode) {
+		switch (mode) {
+			case FlowInfo.READ:
+				return READ_SET;
+			case FlowInfo.READ_POTENTIAL:
+				return READ_POTENTIAL_SET;
+			case FlowInfo.WRITE:
+				return WRITE_SET;
+			case FlowInfo.WRITE_POTENTIAL:
+				return WRITE_POTENTIAL_SET;
+			case FlowInfo.UNKNOWN:
+				return UNKNOWN_SET;
+			default:
+				throw new IllegalArgumentException(String.valueOf(mode));
+		}
+	}
+}
@@ -14,16 +14,13 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.refactoring.code.flow;
 
-import java.util.HashSet;
-
 import org.eclipse.jdt.core.dom.SimpleName;
 
 class BranchFlowInfo extends FlowInfo {
 
-	public BranchFlowInfo(SimpleName label) {
+	public BranchFlowInfo(SimpleName label, FlowContext context) {
 		super(NO_RETURN);
-		fBranches= new HashSet<>(2);
-		fBranches.add(makeString(label));
+		addLabel(label, context);
 	}
 }
 
@@ -183,7 +183,7 @@ abstract class FlowAnalyzer extends GenericVisitor {
 	}
 
 	protected BranchFlowInfo createBranch(SimpleName label) {
-		return new BranchFlowInfo(label);
+		return new BranchFlowInfo(label, fFlowContext);
 	}
 
 	protected GenericSequentialFlowInfo createSequential() {
@@ -401,7 +401,7 @@ abstract class FlowAnalyzer extends GenericVisitor {
 		for (FlowInfo case1 : data.getInfos())
 			switchFlowInfo.mergeCase(case1, fFlowContext);
 		switchFlowInfo.mergeDefault(data.hasDefaultCase(), fFlowContext);
-		switchFlowInfo.removeLabel(null);
+		switchFlowInfo.removeLabel(null, fFlowContext);
 	}
 
 	//---- concret endVisit methods ---------------------------------------------------
@@ -585,7 +585,7 @@ abstract class FlowAnalyzer extends GenericVisitor {
 		setFlowInfo(node, info);
 		info.mergeAction(getFlowInfo(node.getBody()));
 		info.mergeCondition(getFlowInfo(node.getExpression()), fFlowContext);
-		info.removeLabel(null);
+		info.removeLabel(null, fFlowContext);
 	}
 
 	@Override
@@ -602,7 +602,7 @@ abstract class FlowAnalyzer extends GenericVisitor {
 		forInfo.mergeParameter(getFlowInfo(node.getParameter()), fFlowContext);
 		forInfo.mergeExpression(getFlowInfo(node.getExpression()), fFlowContext);
 		forInfo.mergeAction(getFlowInfo(node.getBody()), fFlowContext);
-		forInfo.removeLabel(null);
+		forInfo.removeLabel(null, fFlowContext);
 	}
 
 	@Override
@@ -656,7 +656,7 @@ abstract class FlowAnalyzer extends GenericVisitor {
 		forInfo.mergeAction(getFlowInfo(node.getBody()), fFlowContext);
 		// Increments are executed after the action.
 		forInfo.mergeIncrement(createSequential(node.updaters()), fFlowContext);
-		forInfo.removeLabel(null);
+		forInfo.removeLabel(null, fFlowContext);
 	}
 
 	@Override
@@ -709,7 +709,7 @@ abstract class FlowAnalyzer extends GenericVisitor {
 			return;
 		FlowInfo info= assignFlowInfo(node, node.getBody());
 		if (info != null)
-			info.removeLabel(node.getLabel());
+			info.removeLabel(node.getLabel(), fFlowContext);
 	}
 
 	@Override
@@ -1075,7 +1075,7 @@ abstract class FlowAnalyzer extends GenericVisitor {
 		setFlowInfo(node, info);
 		info.mergeCondition(getFlowInfo(node.getExpression()), fFlowContext);
 		info.mergeAction(getFlowInfo(node.getBody()), fFlowContext);
-		info.removeLabel(null);
+		info.removeLabel(null, fFlowContext);
 	}
 
 	@Override
@@ -15,13 +15,16 @@
 package org.eclipse.jdt.internal.corext.refactoring.code.flow;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.core.runtime.Assert;
 
 import org.eclipse.jdt.core.dom.CatchClause;
 import org.eclipse.jdt.core.dom.ITypeBinding;
 import org.eclipse.jdt.core.dom.IVariableBinding;
+import org.eclipse.jdt.core.dom.SimpleName;
 import org.eclipse.jdt.core.dom.SingleVariableDeclaration;
 import org.eclipse.jdt.core.dom.TryStatement;
 
@@ -42,6 +45,7 @@ public class FlowContext {
 	private Enum fComputeMode;
 	private IVariableBinding[] fLocals;
 	private List<List<CatchClause>> fExceptionStack;
+	private Map<String, Integer> fLabelIds;
 
 	private static final List<CatchClause> EMPTY_CATCH_CLAUSE= new ArrayList<>(0);
 
@@ -117,6 +121,34 @@ public class FlowContext {
 		fLocals[local.getVariableId() - fStart]= local;
 	}
 
+	//---- Branch labels ------------------------------------------------------------
+
+	/**
+	 * Returns the id of the given branch label. The unlabeled branch has the id <code>0</code>.
+	 *
+	 * @param label the label or <code>null</code> for an unlabeled break or continue
+	 * @param create whether to assign a new id if the label is not yet known
+	 * @return the id of the label or <code>-1</code> if the label is unknown and <code>create</code>
+	 * 	is <code>false</code>
+	 */
+	int getLabelId(SimpleName label, boolean create) {
+		if (label == null)
+			return 0;
+		if (fLabelIds == null) {
+			if (!create)
+				return -1;
+			fLabelIds= new HashMap<>();
+		}
+		Integer id= fLabelIds.get(label.getIdentifier());
+		if (id == null) {
+			if (!create)
+				return -1;
+			id= Integer.valueOf(fLabelIds.size() + 1);
+			fLabelIds.put(label.getIdentifier(), id);
+		}
+		return id.intValue();
+	}
+
 	//---- Exception handling --------------------------------------------------------
 
 	void pushExcptions(TryStatement node) {
@@ -89,7 +89,7 @@ public class InputFlowAnalyzer extends FlowAnalyzer {
 			setFlowInfo(node, info);
 			info.mergeAction(getFlowInfo(node.getBody()));
 			// No need to merge the condition. It was already considered by the InputFlowAnalyzer.
-			info.removeLabel(null);
+			info.removeLabel(null, fFlowContext);
 		}
 		@Override
 		public void endVisit(EnhancedForStatement node) {
@@ -111,7 +111,7 @@ public class InputFlowAnalyzer extends FlowAnalyzer {
 				forInfo.mergeParameter(paramInfo, fFlowContext);
 				forInfo.mergeAction(actionInfo, fFlowContext);
 			}
-			forInfo.removeLabel(null);
+			forInfo.removeLabel(null, fFlowContext);
 		}
 		@Override
 		public void endVisit(ForStatement node) {
@@ -143,7 +143,7 @@ public class InputFlowAnalyzer extends FlowAnalyzer {
 				forInfo.mergeCondition(conditionInfo, fFlowContext);
 				forInfo.mergeAction(actionInfo, fFlowContext);
 			}
-			forInfo.removeLabel(null);
+			forInfo.removeLabel(null, fFlowContext);
 		}
 	}
 
@@ -264,7 +264,7 @@ public class InputFlowAnalyzer extends FlowAnalyzer {
 				setFlowInfo(node, info);
 				info.merge(getFlowInfo(expression), fFlowContext);
 				info.merge(data.getInfo(i), fFlowContext);
-				info.removeLabel(null);
+				info.removeLabel(null, fFlowContext);
 				return null;
 			}
 		}
@@ -19,13 +19,22 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.PerformanceStats;
+import org.eclipse.core.runtime.Status;
 
 import org.eclipse.core.resources.IResource;
 
@@ -61,6 +70,7 @@ import org.eclipse.jdt.core.search.FieldDeclarationMatch;
 import org.eclipse.jdt.core.search.MethodDeclarationMatch;
 import org.eclipse.jdt.core.search.SearchMatch;
 
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
 import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
 import org.eclipse.jdt.internal.corext.SourceRangeFactory;
 import org.eclipse.jdt.internal.corext.dom.ASTNodes;
@@ -74,10 +84,50 @@ import org.eclipse.jdt.internal.corext.refactoring.util.TextChangeManager;
 import org.eclipse.jdt.internal.corext.util.Messages;
 import org.eclipse.jdt.internal.corext.util.SearchUtils;
 
-import org.eclipse.jdt.internal.ui.util.Progress;
-
 public class RenameAnalyzeUtil {
 
+	private static final String PERF_CREATE_WORKING_COPIES= "org.eclipse.jdt.core.manipulation/perf/rename/createWorkingCopies"; //$NON-NLS-1$
+
+	private static final String PERF_ANALYZE_CHANGES= "org.eclipse.jdt.core.manipulation/perf/rename/analyzeChanges"; //$NON-NLS-1$
+
+	private static final String PERF_ANALYZE_LOCAL_RENAMES= "org.eclipse.jdt.core.manipulation/perf/rename/analyzeLocalRenames"; //$NON-NLS-1$
+
+	/**
+	 * Performance event of the search for the references in the new working copies
+	 * of a rename refactoring.
+	 */
+	public static final String PERF_SEARCH_NEW_OCCURRENCES= "org.eclipse.jdt.core.manipulation/perf/rename/searchNewOccurrences"; //$NON-NLS-1$
+
+	/**
+	 * Collects the working copies created concurrently. Once discarded, working copies
+	 * which are still being created are not accepted anymore.
+	 */
+	private static final class CreatedWorkingCopies {
+
+		private final List<ICompilationUnit> fWorkingCopies= new ArrayList<>();
+
+		private boolean fDiscarded= false;
+
+		public synchronized boolean add(ICompilationUnit workingCopy) {
+			if (fDiscarded)
+				return false;
+			fWorkingCopies.add(workingCopy);
+			return true;
+		}
+
+		public void discard() {
+			final ICompilationUnit[] workingCopies;
+			synchronized (this) {
+				fDiscarded= true;
+				workingCopies= fWorkingCopies.toArray(new ICompilationUnit[fWorkingCopies.size()]);
+				fWorkingCopies.clear();
+			}
+			for (ICompilationUnit workingCopy : workingCopies) {
+				discardWorkingCopy(workingCopy);
+			}
+		}
+	}
+
 	private static class ProblemNodeFinder {
 
 		private ProblemNodeFinder() {
@@ -183,24 +233,120 @@ public class RenameAnalyzeUtil {
 		return null;
 	}
 
+	/**
+	 * Creates working copies of the given compilation units which contain the
+	 * preview content of their changes. The working copies are created and
+	 * reconciled concurrently; the result is in the order of the given units.
+	 * If the operation fails or is canceled, the working copies created so far
+	 * are discarded.
+	 * <p>
+	 * Only the field, method and module renames analyze new working copies.
+	 * Type and package renames check conflicts with a single search and the
+	 * problem markers of the affected units, so they are not parallelized.
+	 * </p>
+	 *
+	 * @param compilationUnitsToModify the compilation units
+	 * @param manager the change manager holding the changes of the units
+	 * @param owner the working copy owner of the new working copies
+	 * @param pm the progress monitor
+	 * @return the new working copies
+	 * @throws CoreException if a working copy could not be created
+	 */
 	public static ICompilationUnit[] createNewWorkingCopies(ICompilationUnit[] compilationUnitsToModify, TextChangeManager manager, WorkingCopyOwner owner, IProgressMonitor pm) throws CoreException {
+		final PerformanceStats stats= PerformanceStats.getStats(PERF_CREATE_WORKING_COPIES, RenameAnalyzeUtil.class);
+		stats.startRun();
 		pm.beginTask("", compilationUnitsToModify.length); //$NON-NLS-1$
-		ICompilationUnit[] newWorkingCopies= new ICompilationUnit[compilationUnitsToModify.length];
-		for (int i= 0; i < compilationUnitsToModify.length; i++) {
-			ICompilationUnit cu= compilationUnitsToModify[i];
-			newWorkingCopies[i]= createNewWorkingCopy(cu, manager, owner, Progress.subMonitor(pm, 1));
+		final int length= compilationUnitsToModify.length;
+		// the manager is not thread safe: look up the changes beforehand
+		final TextChange[] changes= new TextChange[length];
+		for (int i= 0; i < length; i++) {
+			changes[i]= manager.get(compilationUnitsToModify[i]);
+		}
+		final ICompilationUnit[] newWorkingCopies= new ICompilationUnit[length];
+		final CreatedWorkingCopies created= new CreatedWorkingCopies();
+		final List<Future<ICompilationUnit>> futures= new ArrayList<>(length);
+		final int threads= Math.max(1, Math.min(length, Runtime.getRuntime().availableProcessors()));
+		final ExecutorService executor= Executors.newFixedThreadPool(threads, runnable -> {
+			final Thread thread= new Thread(runnable, "Rename analysis"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		boolean success= false;
+		try {
+			for (int i= 0; i < length; i++) {
+				final ICompilationUnit cu= compilationUnitsToModify[i];
+				final TextChange change= changes[i];
+				futures.add(executor.submit(() -> {
+					if (pm.isCanceled())
+						return null;
+					ICompilationUnit newWc= createNewWorkingCopy(cu, change, owner, new NullProgressMonitor());
+					if (!created.add(newWc)) {
+						discardWorkingCopy(newWc);
+						throw new OperationCanceledException();
+					}
+					return newWc;
+				}));
+			}
+			for (int i= 0; i < length; i++) {
+				newWorkingCopies[i]= futures.get(i).get();
+				if (pm.isCanceled())
+					throw new OperationCanceledException();
+				pm.worked(1);
+			}
+			success= true;
+			return newWorkingCopies;
+		} catch (ExecutionException exception) {
+			final Throwable cause= exception.getCause();
+			if (cause instanceof CoreException)
+				throw (CoreException) cause;
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			throw new CoreException(new Status(IStatus.ERROR, JavaManipulationPlugin.getPluginId(), 0, cause.getLocalizedMessage(), cause));
+		} catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} finally {
+			if (success) {
+				executor.shutdown();
+			} else {
+				for (Future<ICompilationUnit> future : futures) {
+					future.cancel(false);
+				}
+				executor.shutdownNow();
+				created.discard();
+			}
+			pm.done();
+			stats.endRun();
+		}
+	}
+
+	private static void discardWorkingCopy(ICompilationUnit workingCopy) {
+		try {
+			workingCopy.discardWorkingCopy();
+		} catch (JavaModelException e) {
+			JavaManipulationPlugin.log(e);
 		}
-		pm.done();
-		return newWorkingCopies;
 	}
 
 	public static ICompilationUnit createNewWorkingCopy(ICompilationUnit cu, TextChangeManager manager,
 			WorkingCopyOwner owner, IProgressMonitor pm) throws CoreException {
+		return createNewWorkingCopy(cu, manager.get(cu), owner, pm);
+	}
+
+	private static ICompilationUnit createNewWorkingCopy(ICompilationUnit cu, TextChange change,
+			WorkingCopyOwner owner, IProgressMonitor pm) throws CoreException {
 		ICompilationUnit newWc= cu.getWorkingCopy(owner, null);
-		String previewContent= manager.get(cu).getPreviewContent(new NullProgressMonitor());
-		newWc.getBuffer().setContents(previewContent);
-		newWc.reconcile(ICompilationUnit.NO_AST, false, owner, pm);
-		return newWc;
+		boolean success= false;
+		try {
+			String previewContent= change.getPreviewContent(new NullProgressMonitor());
+			newWc.getBuffer().setContents(previewContent);
+			newWc.reconcile(ICompilationUnit.NO_AST, false, owner, pm);
+			success= true;
+			return newWc;
+		} finally {
+			if (!success)
+				discardWorkingCopy(newWc);
+		}
 	}
 
 	private static boolean existsInNewOccurrences(SearchMatch searchResult, SearchResultGroup[] newOccurrences, TextChangeManager manager) {
@@ -258,38 +404,44 @@ public class RenameAnalyzeUtil {
 	//Long term solution: only pass reference search results in.
 	public static RefactoringStatus analyzeRenameChanges2(TextChangeManager manager,
 			SearchResultGroup[] oldReferences, SearchResultGroup[] newReferences, String newElementName) {
-		RefactoringStatus result= new RefactoringStatus();
-
-		HashMap<ICompilationUnit, SearchMatch[]> cuToNewResults= new HashMap<>(newReferences.length);
-		for (SearchResultGroup newReference : newReferences) {
-			ICompilationUnit cu= newReference.getCompilationUnit();
-			if (cu != null)
-				cuToNewResults.put(cu.getPrimary(), newReference.getSearchResults());
-		}
-
-		for (SearchResultGroup oldGroup : oldReferences) {
-			SearchMatch[] oldMatches= oldGroup.getSearchResults();
-			ICompilationUnit cu= oldGroup.getCompilationUnit();
-			if (cu == null)
-				continue;
+		final PerformanceStats stats= PerformanceStats.getStats(PERF_ANALYZE_CHANGES, RenameAnalyzeUtil.class);
+		stats.startRun();
+		try {
+			RefactoringStatus result= new RefactoringStatus();
+
+			HashMap<ICompilationUnit, SearchMatch[]> cuToNewResults= new HashMap<>(newReferences.length);
+			for (SearchResultGroup newReference : newReferences) {
+				ICompilationUnit cu= newReference.getCompilationUnit();
+				if (cu != null)
+					cuToNewResults.put(cu.getPrimary(), newReference.getSearchResults());
+			}
 
-			SearchMatch[] newSearchMatches= cuToNewResults.remove(cu);
-			if (newSearchMatches == null) {
-				for (SearchMatch oldMatch : oldMatches) {
-					addShadowsError(cu, oldMatch, result);
+			for (SearchResultGroup oldGroup : oldReferences) {
+				SearchMatch[] oldMatches= oldGroup.getSearchResults();
+				ICompilationUnit cu= oldGroup.getCompilationUnit();
+				if (cu == null)
+					continue;
+
+				SearchMatch[] newSearchMatches= cuToNewResults.remove(cu);
+				if (newSearchMatches == null) {
+					for (SearchMatch oldMatch : oldMatches) {
+						addShadowsError(cu, oldMatch, result);
+					}
+				} else {
+					analyzeChanges(cu, manager.get(cu), oldMatches, newSearchMatches, newElementName, result);
 				}
-			} else {
-				analyzeChanges(cu, manager.get(cu), oldMatches, newSearchMatches, newElementName, result);
 			}
-		}
 
-		for (Entry<ICompilationUnit, SearchMatch[]> entry : cuToNewResults.entrySet()) {
-			ICompilationUnit cu= entry.getKey();
-			for (SearchMatch newMatch : entry.getValue()) {
-				addReferenceShadowedError(cu, newMatch, newElementName, result);
+			for (Entry<ICompilationUnit, SearchMatch[]> entry : cuToNewResults.entrySet()) {
+				ICompilationUnit cu= entry.getKey();
+				for (SearchMatch newMatch : entry.getValue()) {
+					addReferenceShadowedError(cu, newMatch, newElementName, result);
+				}
 			}
+			return result;
+		} finally {
+			stats.endRun();
 		}
-		return result;
 	}
 
 	private static void analyzeChanges(ICompilationUnit cu, TextChange change,
@@ -412,38 +564,44 @@ public class RenameAnalyzeUtil {
 
 	private static RefactoringStatus analyzeLocalRenames(LocalAnalyzePackage[] analyzePackages, TextChange cuChange, CompilationUnit oldCUNode, boolean isCompactConstructor, boolean recovery) throws CoreException {
 
-		RefactoringStatus result= new RefactoringStatus();
-		ICompilationUnit compilationUnit= (ICompilationUnit) oldCUNode.getJavaElement();
+		final PerformanceStats stats= PerformanceStats.getStats(PERF_ANALYZE_LOCAL_RENAMES, RenameAnalyzeUtil.class);
+		stats.startRun();
+		try {
+			RefactoringStatus result= new RefactoringStatus();
+			ICompilationUnit compilationUnit= (ICompilationUnit) oldCUNode.getJavaElement();
+
+			String newCuSource= cuChange.getPreviewContent(new NullProgressMonitor());
+			CompilationUnit newCUNode= new RefactoringASTParser(IASTSharedValues.SHARED_AST_LEVEL).parse(newCuSource, compilationUnit, true, recovery, null);
+
+			result.merge(analyzeCompileErrors(newCuSource, newCUNode, oldCUNode));
+			if (result.hasError())
+				return result;
+
+			for (LocalAnalyzePackage analyzePackage : analyzePackages) {
+				ASTNode enclosing;
+				IRegion newRegion;
+				if (!isCompactConstructor) {
+					enclosing= getEnclosingBlockOrMethodOrLambda(analyzePackage.fDeclarationEdit, cuChange, newCUNode);
+					newRegion= RefactoringAnalyzeUtil.getNewTextRange(analyzePackage.fDeclarationEdit, cuChange);
+				} else {
+					enclosing= RefactoringAnalyzeUtil.getRecordDeclarationCompactConstructor(analyzePackage.fDeclarationEdit.getParent(), cuChange, newCUNode);
+					newRegion= RefactoringAnalyzeUtil.getNewTextRange(analyzePackage.fDeclarationEdit.getParent(), cuChange);
+				}
 
-		String newCuSource= cuChange.getPreviewContent(new NullProgressMonitor());
-		CompilationUnit newCUNode= new RefactoringASTParser(IASTSharedValues.SHARED_AST_LEVEL).parse(newCuSource, compilationUnit, true, recovery, null);
+				// get new declaration
+				ASTNode newDeclaration= NodeFinder.perform(newCUNode, newRegion.getOffset(), newRegion.getLength());
+				Assert.isTrue(newDeclaration instanceof Name);
 
-		result.merge(analyzeCompileErrors(newCuSource, newCUNode, oldCUNode));
-		if (result.hasError())
-			return result;
+				VariableDeclaration declaration= getVariableDeclaration((Name) newDeclaration);
+				Assert.isNotNull(declaration);
 
-		for (LocalAnalyzePackage analyzePackage : analyzePackages) {
-			ASTNode enclosing;
-			IRegion newRegion;
-			if (!isCompactConstructor) {
-				enclosing= getEnclosingBlockOrMethodOrLambda(analyzePackage.fDeclarationEdit, cuChange, newCUNode);
-				newRegion= RefactoringAnalyzeUtil.getNewTextRange(analyzePackage.fDeclarationEdit, cuChange);
-			} else {
-				enclosing= RefactoringAnalyzeUtil.getRecordDeclarationCompactConstructor(analyzePackage.fDeclarationEdit.getParent(), cuChange, newCUNode);
-				newRegion= RefactoringAnalyzeUtil.getNewTextRange(analyzePackage.fDeclarationEdit.getParent(), cuChange);
+				SimpleName[] problemNodes= ProblemNodeFinder.getProblemNodes(enclosing, declaration, analyzePackage.fOccurenceEdits, cuChange);
+				result.merge(RefactoringAnalyzeUtil.reportProblemNodes(newCuSource, problemNodes));
 			}
-
-			// get new declaration
-			ASTNode newDeclaration= NodeFinder.perform(newCUNode, newRegion.getOffset(), newRegion.getLength());
-			Assert.isTrue(newDeclaration instanceof Name);
-
-			VariableDeclaration declaration= getVariableDeclaration((Name) newDeclaration);
-			Assert.isNotNull(declaration);
-
-			SimpleName[] problemNodes= ProblemNodeFinder.getProblemNodes(enclosing, declaration, analyzePackage.fOccurenceEdits, cuChange);
-			result.merge(RefactoringAnalyzeUtil.reportProblemNodes(newCuSource, problemNodes));
+			return result;
+		} finally {
+			stats.endRun();
 		}
-		return result;
 	}
 
 
@@ -32,6 +32,10 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IRegion;
 import org.eclipse.jdt.core.IType;
@@ -50,6 +54,7 @@ import org.eclipse.jdt.core.search.SearchRequestor;
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringScopeFactory;
 import org.eclipse.jdt.internal.corext.refactoring.base.ReferencesInBinaryContext;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
+import org.eclipse.jdt.internal.corext.util.LRUMap;
 import org.eclipse.jdt.internal.corext.util.MethodOverrideTester;
 import org.eclipse.jdt.internal.corext.util.SearchUtils;
 
@@ -57,6 +62,38 @@ import org.eclipse.jdt.internal.ui.util.Progress;
 
 public class RippleMethodFinder2 {
 
+	/**
+	 * Ripple methods computed without a working copy owner, keyed by method and search mode.
+	 * The cache is cleared as soon as the Java model reports a change which can affect
+	 * method declarations or type hierarchies. The listener is registered before the first
+	 * computation starts, so that changes during the computation are noticed too, and it is
+	 * removed again once the cache is empty and no computation is running.
+	 */
+	private static final Map<CacheKey, CacheEntry> fgCache= new LRUMap<>(100);
+	private static final IElementChangedListener fgCacheInvalidator= event -> {
+		if (isStructuralChange(event.getDelta()))
+			clearCache();
+	};
+	private static int fgCacheGeneration= 0;
+	private static int fgRunningComputations= 0;
+	private static boolean fgCacheInvalidatorRegistered= false;
+
+	private static final int MODE_EXCLUDE_BINARIES= 0;
+	private static final int MODE_INCLUDE_BINARIES= 1;
+	private static final int MODE_BINARY_REFERENCES= 2;
+
+	private static final int STRUCTURAL_CHANGE_FLAGS= IJavaElementDelta.F_MODIFIERS | IJavaElementDelta.F_SUPER_TYPES
+			| IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_PRIMARY_WORKING_COPY
+			| IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
+			| IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH
+			| IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED;
+
+	private record CacheKey(IMethod method, int mode) {
+	}
+
+	private record CacheEntry(IMethod[] methods, SearchMatch[] binaryMatches) {
+	}
+
 	private final IMethod fMethod;
 	private Set<IMethod> fDeclarations;
 	private ITypeHierarchy fHierarchy;
@@ -69,6 +106,7 @@ public class RippleMethodFinder2 {
 	private final boolean fExcludeBinaries;
 	private final ReferencesInBinaryContext fBinaryRefs;
 	private Map<IMethod, SearchMatch> fDeclarationToMatch;
+	private List<SearchMatch> fBinaryMatches;
 	private boolean fSearchOnlyInCompilationUnit = false;
 
 	private static class MultiMap<K, V> {
@@ -88,50 +126,45 @@ public class RippleMethodFinder2 {
 		}
 	}
 	private static class UnionFind {
-		HashMap<IType, IType> fElementToRepresentative= new HashMap<>();
+		private final Map<IType, Integer> fTypeToId= new HashMap<>();
+		private final List<IType> fIdToType= new ArrayList<>();
+		private int[] fParents= new int[16];
 
 		public void init(IType type) {
-			fElementToRepresentative.put(type, type);
+			int id= fIdToType.size();
+			if (fTypeToId.putIfAbsent(type, Integer.valueOf(id)) != null)
+				return;
+			fIdToType.add(type);
+			if (id == fParents.length)
+				fParents= Arrays.copyOf(fParents, 2 * id);
+			fParents[id]= id;
 		}
 
-		//path compression:
 		public IType find(IType element) {
-			IType root= element;
-			IType rep= fElementToRepresentative.get(root);
-			Set<IType> visited=new HashSet<>();
-			while (rep != null && visited.add(root)) {
-				root= rep;
-				rep= fElementToRepresentative.get(root);
-			}
-			if (rep == null)
+			Integer id= fTypeToId.get(element);
+			if (id == null)
 				return null;
+			return fIdToType.get(find(id.intValue()));
+		}
 
-			rep= fElementToRepresentative.get(element);
-			while (! rep.equals(root)) {
-				IType temp= element;
-				element= rep;
-				fElementToRepresentative.put(temp, root);
-				rep= fElementToRepresentative.get(element);
+		//path compression:
+		private int find(int id) {
+			int root= id;
+			while (fParents[root] != root)
+				root= fParents[root];
+			while (id != root) {
+				int next= fParents[id];
+				fParents[id]= root;
+				id= next;
 			}
 			return root;
 		}
 
-//		//straightforward:
-//		public IType find(IType element) {
-//			IType current= element;
-//			IType rep= (IType) fElementToRepresentative.get(current);
-//			while (rep != null && ! rep.equals(current)) {
-//				current= rep;
-//				rep= (IType) fElementToRepresentative.get(current);
-//			}
-//			if (rep == null)
-//				return null;
-//			else
-//				return current;
-//		}
-
 		public void union(IType rep1, IType rep2) {
-			fElementToRepresentative.put(rep1, rep2);
+			int root1= find(fTypeToId.get(rep1).intValue());
+			int root2= find(fTypeToId.get(rep2).intValue());
+			if (root1 != root2)
+				fParents[root1]= root2;
 		}
 	}
 
@@ -147,6 +180,7 @@ public class RippleMethodFinder2 {
 		fMethod= method;
 		fExcludeBinaries= true;
 		fDeclarationToMatch= new HashMap<>();
+		fBinaryMatches= new ArrayList<>();
 		fBinaryRefs= binaryRefs;
 	}
 
@@ -155,7 +189,23 @@ public class RippleMethodFinder2 {
 			if (! MethodChecks.isVirtual(method))
 				return new IMethod[]{ method };
 
-			return new RippleMethodFinder2(method, excludeBinaries, false).getAllRippleMethods(pm, owner);
+			if (owner != null)
+				return new RippleMethodFinder2(method, excludeBinaries, false).getAllRippleMethods(pm, owner);
+
+			CacheKey key= new CacheKey(method, excludeBinaries ? MODE_EXCLUDE_BINARIES : MODE_INCLUDE_BINARIES);
+			CacheEntry entry= getCacheEntry(key);
+			if (entry != null)
+				return entry.methods().clone();
+
+			int generation= beginComputation();
+			CacheEntry computed= null;
+			try {
+				IMethod[] result= new RippleMethodFinder2(method, excludeBinaries, false).getAllRippleMethods(pm, null);
+				computed= new CacheEntry(result.clone(), null);
+				return result;
+			} finally {
+				endComputation(key, computed, generation);
+			}
 		} finally{
 			pm.done();
 		}
@@ -179,12 +229,122 @@ public class RippleMethodFinder2 {
 			if (! MethodChecks.isVirtual(method))
 				return new IMethod[]{ method };
 
-			return new RippleMethodFinder2(method, binaryRefs).getAllRippleMethods(pm, owner);
+			if (owner != null)
+				return new RippleMethodFinder2(method, binaryRefs).getAllRippleMethods(pm, owner);
+
+			CacheKey key= new CacheKey(method, MODE_BINARY_REFERENCES);
+			CacheEntry entry= getCacheEntry(key);
+			if (entry != null) {
+				for (SearchMatch match : entry.binaryMatches())
+					binaryRefs.add(match);
+				return entry.methods().clone();
+			}
+
+			int generation= beginComputation();
+			CacheEntry computed= null;
+			try {
+				RippleMethodFinder2 finder= new RippleMethodFinder2(method, binaryRefs);
+				IMethod[] result= finder.getAllRippleMethods(pm, null);
+				List<SearchMatch> binaryMatches= finder.fBinaryMatches;
+				computed= new CacheEntry(result.clone(), binaryMatches.toArray(new SearchMatch[binaryMatches.size()]));
+				return result;
+			} finally {
+				endComputation(key, computed, generation);
+			}
 		} finally{
 			pm.done();
 		}
 	}
 
+	private static CacheEntry getCacheEntry(CacheKey key) {
+		synchronized (fgCache) {
+			return fgCache.get(key);
+		}
+	}
+
+	private static int beginComputation() {
+		synchronized (fgCache) {
+			if (!fgCacheInvalidatorRegistered) {
+				JavaCore.addElementChangedListener(fgCacheInvalidator, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+				fgCacheInvalidatorRegistered= true;
+			}
+			fgRunningComputations++;
+			return fgCacheGeneration;
+		}
+	}
+
+	/**
+	 * Ends a computation started with {@link #beginComputation()}.
+	 *
+	 * @param key the cache key
+	 * @param entry the computed entry or <code>null</code> if the computation failed
+	 * @param generation the cache generation at the start of the computation
+	 */
+	private static void endComputation(CacheKey key, CacheEntry entry, int generation) {
+		synchronized (fgCache) {
+			fgRunningComputations--;
+			// drop the entry if a change arrived while the ripple methods were computed
+			if (entry != null && generation == fgCacheGeneration)
+				fgCache.put(key, entry);
+			removeUnusedCacheInvalidator();
+		}
+	}
+
+	private static void clearCache() {
+		synchronized (fgCache) {
+			fgCacheGeneration++;
+			fgCache.clear();
+			removeUnusedCacheInvalidator();
+		}
+	}
+
+	private static void removeUnusedCacheInvalidator() {
+		if (fgCacheInvalidatorRegistered && fgCache.isEmpty() && fgRunningComputations == 0) {
+			JavaCore.removeElementChangedListener(fgCacheInvalidator);
+			fgCacheInvalidatorRegistered= false;
+		}
+	}
+
+	/**
+	 * Clears the cache of ripple methods and removes its Java model listener.
+	 * Called when the bundle is stopped.
+	 */
+	public static void disposeCache() {
+		synchronized (fgCache) {
+			fgCacheGeneration++;
+			fgCache.clear();
+			if (fgCacheInvalidatorRegistered) {
+				JavaCore.removeElementChangedListener(fgCacheInvalidator);
+				fgCacheInvalidatorRegistered= false;
+			}
+		}
+	}
+
+	/**
+	 * @return <code>true</code> if the cache currently listens to Java model changes
+	 */
+	public static boolean isCacheListening() {
+		synchronized (fgCache) {
+			return fgCacheInvalidatorRegistered;
+		}
+	}
+
+	private static boolean isStructuralChange(IJavaElementDelta delta) {
+		if (delta.getKind() != IJavaElementDelta.CHANGED)
+			return true;
+		int flags= delta.getFlags();
+		if ((flags & STRUCTURAL_CHANGE_FLAGS) != 0)
+			return true;
+		if (delta.getElement().getElementType() == IJavaElement.COMPILATION_UNIT
+				&& (flags & IJavaElementDelta.F_CONTENT) != 0 && (flags & IJavaElementDelta.F_FINE_GRAINED) == 0)
+			return true; // no details about the changed members
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (isStructuralChange(child))
+				return true;
+		}
+		return false;
+	}
+
 	private IMethod[] getAllRippleMethods(IProgressMonitor pm, WorkingCopyOwner owner) throws CoreException {
 		IMethod[] rippleMethods= findAllRippleMethods(pm, owner);
 		if (fDeclarationToMatch == null)
@@ -195,6 +355,7 @@ public class RippleMethodFinder2 {
 			Object match= fDeclarationToMatch.get(currentMethod);
 			if (match != null) {
 				fBinaryRefs.add((SearchMatch) match);
+				fBinaryMatches.add((SearchMatch) match);
 			} else {
 				filteredMethods.add(currentMethod);
 			}
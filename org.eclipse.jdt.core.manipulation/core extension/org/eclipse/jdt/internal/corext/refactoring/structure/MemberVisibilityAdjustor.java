@@ -14,10 +14,15 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.refactoring.structure;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -51,6 +56,7 @@ import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
 import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 import org.eclipse.jdt.core.search.IJavaSearchConstants;
 import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
 import org.eclipse.jdt.core.search.SearchMatch;
 import org.eclipse.jdt.core.search.SearchPattern;
 
@@ -63,6 +69,7 @@ import org.eclipse.jdt.internal.corext.refactoring.RefactoringSearchEngine2;
 import org.eclipse.jdt.internal.corext.refactoring.SearchResultGroup;
 import org.eclipse.jdt.internal.corext.refactoring.util.JavaStatusContext;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
+import org.eclipse.jdt.internal.corext.util.JdtFlags;
 import org.eclipse.jdt.internal.corext.util.LRUMap;
 import org.eclipse.jdt.internal.corext.util.Messages;
 import org.eclipse.jdt.internal.corext.util.SearchUtils;
@@ -429,9 +436,18 @@ public final class MemberVisibilityAdjustor {
 	/** The map of members to visibility adjustments */
 	private Map<IMember, IncomingMemberVisibilityAdjustment> fAdjustments= new LinkedHashMap<>(); // LinkedHashMap to preserve order of generated warnings
 
+	/** Is the incoming search scope the one computed from the referenced member? */
+	private boolean fDefaultScope= true;
+
 	/** Should incoming references be adjusted? */
 	private boolean fIncoming= true;
 
+	/** The compilation units possibly referencing the referenced member, or <code>null</code> to search the incoming scope */
+	private Set<ICompilationUnit> fIncomingUnits= null;
+
+	/** The compilation units possibly referencing members of the referenced type, or <code>null</code> to search for them */
+	private Set<ICompilationUnit> fMemberUnits= null;
+
 	/** Should outgoing references be adjusted? */
 	private boolean fOutgoing= true;
 
@@ -457,7 +473,10 @@ public final class MemberVisibilityAdjustor {
 	private RefactoringStatus fStatus= new RefactoringStatus();
 
 	/** The type hierarchy cache */
-	private final Map<IType, ITypeHierarchy> fTypeHierarchies= new LRUMap<>(10);
+	private Map<IType, ITypeHierarchy> fTypeHierarchies= new LRUMap<>(10);
+
+	/** Is the type hierarchy cache shared with other adjustors of the same refactoring? */
+	private boolean fSharedTypeHierarchies= false;
 
 	/** The visibility message severity */
 	private int fVisibilitySeverity= RefactoringStatus.WARNING;
@@ -500,58 +519,174 @@ public final class MemberVisibilityAdjustor {
 	/**
 	 * Check whether anyone accesses the members of the moved type from the
 	 * outside. Those may need to have their visibility adjusted.
-	 * @param member the member
+	 * <p>
+	 * All members are searched for at once first. Only the compilation units
+	 * containing references from outside the moved type are then searched for
+	 * the individual members.
+	 * </p>
+	 * @param type the moved type
 	 * @param monitor the progress monitor to use
 	 * @throws JavaModelException if an error occurs
 	 */
-	private void adjustMemberVisibility(final IMember member, final IProgressMonitor monitor) throws JavaModelException {
+	private void adjustMemberVisibility(final IType type, final IProgressMonitor monitor) throws JavaModelException {
+		final List<IMember> members= new ArrayList<>();
+		collectMembers(type, members);
+		if (members.isEmpty())
+			return;
+
+		final Set<ICompilationUnit> units= fMemberUnits != null ? fMemberUnits : findUnitsReferencingFromOutside(members, monitor);
+		if (units != null && units.isEmpty())
+			return;
+		final IJavaSearchScope scope= units != null ? SearchEngine.createJavaSearchScope(units.toArray(new ICompilationUnit[units.size()])) : null;
+
+		for (IMember member : members) {
+			IJavaSearchScope memberScope= scope;
+			if (units == null) {
+				// the references could not be limited to compilation units
+				memberScope= RefactoringScopeFactory.create(member);
+			} else if (JdtFlags.isPrivate(member)) {
+				// a private member can only be referenced from its own compilation unit
+				if (!units.contains(member.getCompilationUnit()))
+					continue;
+				memberScope= RefactoringScopeFactory.create(member);
+			}
+			for (SearchResultGroup reference : findReferences(member, memberScope, monitor)) {
+				for (SearchMatch searchResult : reference.getSearchResults()) {
+					final IJavaElement referenceToMember= (IJavaElement) searchResult.getElement();
+					if (fAdjustments.get(member) == null && referenceToMember instanceof IMember && !isInsideMovedMember(referenceToMember)) {
+						// check whether the member is still visible from the
+						// destination. As we are moving a type, the destination is
+						// a package or another type.
+						adjustIncomingVisibility(fReferencing, member, Progress.subMonitor(monitor, 1));
+					}
+				}
+			}
+		}
+	}
 
+	/**
+	 * Collects the members of the specified member which are not public, member types first.
+	 *
+	 * @param member the member
+	 * @param members the list to add the members to
+	 * @throws JavaModelException if an error occurs
+	 */
+	private void collectMembers(final IMember member, final List<IMember> members) throws JavaModelException {
 		if (member instanceof IType) {
 			// recursively check accessibility of member type's members
-			final IJavaElement[] typeMembers= member.getChildren();
-			for (IJavaElement typeMember : typeMembers) {
+			for (IJavaElement typeMember : member.getChildren()) {
 				if (! (typeMember instanceof IInitializer))
-					adjustMemberVisibility((IMember) typeMember, monitor);
+					collectMembers((IMember) typeMember, members);
 			}
 		}
+		if (!member.equals(fReferenced) && !Modifier.isPublic(member.getFlags()))
+			members.add(member);
+	}
 
-		if (member.equals(fReferenced) || Modifier.isPublic(member.getFlags()))
-			return;
+	/**
+	 * Finds the compilation units referencing one of the specified members from outside the moved member.
+	 *
+	 * @param members the members
+	 * @param monitor the progress monitor to use
+	 * @return the compilation units, or <code>null</code> if none of the members can be searched for
+	 * @throws JavaModelException if an error occurs during search
+	 */
+	private Set<ICompilationUnit> findUnitsReferencingFromOutside(final List<IMember> members, final IProgressMonitor monitor) throws JavaModelException {
+		return findReferencingUnits(members, RefactoringScopeFactory.create(members.toArray(new IMember[members.size()])), Collections.singletonList(fReferenced), fOwner, monitor);
+	}
 
-		for (SearchResultGroup reference : findReferences(member, monitor)) {
-			for (SearchMatch searchResult : reference.getSearchResults()) {
-				final IJavaElement referenceToMember= (IJavaElement) searchResult.getElement();
-				if (fAdjustments.get(member) == null && referenceToMember instanceof IMember && !isInsideMovedMember(referenceToMember)) {
-					// check whether the member is still visible from the
-					// destination. As we are moving a type, the destination is
-					// a package or another type.
-					adjustIncomingVisibility(fReferencing, member, Progress.subMonitor(monitor, 1));
+	/**
+	 * Finds the compilation units referencing one of the specified members from outside the moved members.
+	 * <p>
+	 * A reference only counts as inside if it is inside all of the moved members, since the search matches do not tell which
+	 * of the members they refer to. Compilation units containing inaccurate matches are always returned.
+	 * </p>
+	 *
+	 * @param members the members
+	 * @param scope the search scope
+	 * @param moved the moved members
+	 * @param owner the working copy owner, or <code>null</code> to use none
+	 * @param monitor the progress monitor to use
+	 * @return the compilation units, or <code>null</code> if none of the members can be searched for or if they are referenced
+	 *         from outside a compilation unit
+	 * @throws JavaModelException if an error occurs during search
+	 */
+	private static Set<ICompilationUnit> findReferencingUnits(final List<IMember> members, final IJavaSearchScope scope, final List<IMember> moved, final WorkingCopyOwner owner, final IProgressMonitor monitor) throws JavaModelException {
+		SearchPattern pattern= null;
+		for (IMember member : members) {
+			final SearchPattern memberPattern= SearchPattern.createPattern(member, IJavaSearchConstants.REFERENCES, SearchUtils.GENERICS_AGNOSTIC_MATCH_RULE);
+			if (memberPattern != null)
+				pattern= pattern == null ? memberPattern : SearchPattern.createOrPattern(pattern, memberPattern);
+		}
+		if (pattern == null)
+			return null;
+		final RefactoringSearchEngine2 engine= new RefactoringSearchEngine2(pattern);
+		engine.setOwner(owner);
+		engine.setFiltering(true, true);
+		engine.setScope(scope);
+		engine.searchPattern(Progress.subMonitor(monitor, 1));
+		final Set<ICompilationUnit> units= new HashSet<>();
+		for (SearchResultGroup group : (SearchResultGroup[]) engine.getResults()) {
+			for (SearchMatch match : group.getSearchResults()) {
+				final Object element= match.getElement();
+				if (element instanceof IMember && (match.getAccuracy() == SearchMatch.A_INACCURATE || !isInsideAll((IMember) element, moved))) {
+					final ICompilationUnit unit= ((IMember) element).getCompilationUnit();
+					if (unit == null)
+						return null;
+					units.add(unit);
+					break;
 				}
 			}
 		}
+		return units;
 	}
 
 	/**
-	 * Is the specified member inside the moved member?
+	 * Is the specified element inside all of the specified members?
 	 * @param element the element
+	 * @param members the members
+	 * @return <code>true</code> if it is inside all members, <code>false</code> otherwise
+	 */
+	private static boolean isInsideAll(final IJavaElement element, final List<IMember> members) {
+		for (IMember member : members) {
+			if (!isInside(element, member))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Is the specified element inside the specified member?
+	 * @param element the element
+	 * @param member the member
 	 * @return <code>true</code> if it is inside, <code>false</code> otherwise
 	 */
-	private boolean isInsideMovedMember(final IJavaElement element) {
+	private static boolean isInside(final IJavaElement element, final IMember member) {
 		IJavaElement current= element;
 		while ((current= current.getParent()) != null)
-			if (current.equals(fReferenced))
+			if (current.equals(member))
 				return true;
 		return false;
 	}
 
+	/**
+	 * Is the specified member inside the moved member?
+	 * @param element the element
+	 * @return <code>true</code> if it is inside, <code>false</code> otherwise
+	 */
+	private boolean isInsideMovedMember(final IJavaElement element) {
+		return isInside(element, fReferenced);
+	}
+
 	/**
 	 * Finds references to the specified member.
 	 * @param member the member
+	 * @param scope the search scope
 	 * @param monitor the progress monitor to use
 	 * @return the search result groups
 	 * @throws JavaModelException if an error occurs during search
 	 */
-	private SearchResultGroup[] findReferences(final IMember member, final IProgressMonitor monitor) throws JavaModelException {
+	private SearchResultGroup[] findReferences(final IMember member, final IJavaSearchScope scope, final IProgressMonitor monitor) throws JavaModelException {
 		SearchPattern pattern= SearchPattern.createPattern(member, IJavaSearchConstants.REFERENCES, SearchUtils.GENERICS_AGNOSTIC_MATCH_RULE);
 		if (pattern == null) {
 			return new SearchResultGroup[0];
@@ -559,7 +694,7 @@ public final class MemberVisibilityAdjustor {
 		final RefactoringSearchEngine2 engine= new RefactoringSearchEngine2(pattern);
 		engine.setOwner(fOwner);
 		engine.setFiltering(true, true);
-		engine.setScope(RefactoringScopeFactory.create(member));
+		engine.setScope(scope);
 		engine.searchPattern(Progress.subMonitor(monitor, 1));
 		return (SearchResultGroup[]) engine.getResults();
 	}
@@ -720,6 +855,8 @@ public final class MemberVisibilityAdjustor {
 			if (fIncoming) {
 				// check calls to the referenced (moved) element, adjust element
 				// visibility if necessary.
+				if (fIncomingUnits != null)
+					engine.setScope(SearchEngine.createJavaSearchScope(fIncomingUnits.toArray(new ICompilationUnit[fIncomingUnits.size()])));
 				engine.searchPattern(Progress.subMonitor(monitor, 1));
 				adjustIncomingVisibility((SearchResultGroup[]) engine.getResults(), Progress.subMonitor(monitor, 1));
 				engine.clearResults();
@@ -748,6 +885,66 @@ public final class MemberVisibilityAdjustor {
 		}
 	}
 
+	/**
+	 * Searches for the incoming references of all specified adjustors at once.
+	 * <p>
+	 * This method may be called before calling {@link MemberVisibilityAdjustor#adjustVisibility(IProgressMonitor)} on the adjustors of a
+	 * refactoring which moves several members. The referenced members of all adjustors are searched for with one combined pattern, and
+	 * so are the members of referenced types. Each adjustor then only searches the compilation units found this way for its own
+	 * members, instead of searching its whole incoming scope. The adjustments computed are the same.
+	 * </p>
+	 * <p>
+	 * The working copy owner and the incoming settings of the adjustors must have been set before. Adjustors with an explicitly set
+	 * scope, or with a working copy owner different from the first adjustor, search on their own.
+	 * </p>
+	 *
+	 * @param adjustors the adjustors
+	 * @param monitor the progress monitor to use
+	 * @throws JavaModelException if an error occurs during search
+	 */
+	public static void searchIncomingReferences(final MemberVisibilityAdjustor[] adjustors, final IProgressMonitor monitor) throws JavaModelException {
+		Assert.isNotNull(adjustors);
+		try {
+			monitor.beginTask("", 2); //$NON-NLS-1$
+			monitor.setTaskName(RefactoringCoreMessages.MemberVisibilityAdjustor_checking);
+			final List<MemberVisibilityAdjustor> batch= new ArrayList<>(adjustors.length);
+			for (MemberVisibilityAdjustor adjustor : adjustors) {
+				if (adjustor.fIncoming && adjustor.fDefaultScope && (batch.isEmpty() || batch.get(0).fOwner == adjustor.fOwner))
+					batch.add(adjustor);
+			}
+			if (batch.size() < 2)
+				return;
+			final WorkingCopyOwner owner= batch.get(0).fOwner;
+			final List<IMember> referenced= new ArrayList<>(batch.size());
+			final List<IMember> types= new ArrayList<>();
+			final List<IMember> members= new ArrayList<>();
+			for (MemberVisibilityAdjustor adjustor : batch) {
+				referenced.add(adjustor.fReferenced);
+				if (adjustor.fReferenced instanceof IType) {
+					types.add(adjustor.fReferenced);
+					adjustor.collectMembers(adjustor.fReferenced, members);
+				}
+			}
+			final IJavaSearchScope scope= RefactoringScopeFactory.createReferencedScope(referenced.toArray(new IJavaElement[referenced.size()]), IJavaSearchScope.REFERENCED_PROJECTS | IJavaSearchScope.SOURCES | IJavaSearchScope.APPLICATION_LIBRARIES);
+			final Set<ICompilationUnit> incomingUnits= findReferencingUnits(referenced, scope, referenced, owner, Progress.subMonitor(monitor, 1));
+			if (incomingUnits != null) {
+				for (MemberVisibilityAdjustor adjustor : batch)
+					adjustor.fIncomingUnits= incomingUnits;
+			}
+			if (!members.isEmpty()) {
+				final Set<ICompilationUnit> memberUnits= findReferencingUnits(members, RefactoringScopeFactory.createProjectsScope(members.toArray(new IMember[members.size()]), true), types, owner, Progress.subMonitor(monitor, 1));
+				if (memberUnits != null) {
+					for (MemberVisibilityAdjustor adjustor : batch) {
+						if (adjustor.fReferenced instanceof IType)
+							adjustor.fMemberUnits= memberUnits;
+					}
+				}
+			}
+		} finally {
+			monitor.done();
+		}
+	}
+
 	/**
 	 * Computes the visibility threshold for the referenced element.
 	 *
@@ -1065,7 +1262,8 @@ public final class MemberVisibilityAdjustor {
 				}
 			}
 		} finally {
-			fTypeHierarchies.clear();
+			if (!fSharedTypeHierarchies)
+				fTypeHierarchies.clear();
 			monitor.done();
 		}
 	}
@@ -1091,7 +1289,8 @@ public final class MemberVisibilityAdjustor {
 					throw new OperationCanceledException();
 			}
 		} finally {
-			fTypeHierarchies.clear();
+			if (!fSharedTypeHierarchies)
+				fTypeHierarchies.clear();
 			monitor.done();
 		}
 	}
@@ -1167,6 +1366,21 @@ public final class MemberVisibilityAdjustor {
 		fRewrites= rewrites;
 	}
 
+	/**
+	 * Sets the type hierarchy cache used by this adjustor.
+	 * <p>
+	 * This method must be called before calling {@link MemberVisibilityAdjustor#adjustVisibility(IProgressMonitor)}. The default is to use a small cache
+	 * which is cleared once the adjustments have been rewritten. A cache set by this method is never cleared by the adjustor, so it can be shared by
+	 * all adjustors of a refactoring.
+	 *
+	 * @param hierarchies the map of types to supertype hierarchies to use
+	 */
+	public void setTypeHierarchies(final Map<IType, ITypeHierarchy> hierarchies) {
+		Assert.isNotNull(hierarchies);
+		fTypeHierarchies= hierarchies;
+		fSharedTypeHierarchies= true;
+	}
+
 	/**
 	 * Sets the incoming search scope used by this adjustor.
 	 * <p>
@@ -1177,6 +1391,7 @@ public final class MemberVisibilityAdjustor {
 	public void setScope(final IJavaSearchScope scope) {
 		Assert.isNotNull(scope);
 		fScope= scope;
+		fDefaultScope= false;
 	}
 
 	/**
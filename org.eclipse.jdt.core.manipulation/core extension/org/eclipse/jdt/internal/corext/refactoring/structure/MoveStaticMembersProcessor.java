@@ -65,6 +65,7 @@ import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.ISourceRange;
 import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.ASTVisitor;
@@ -731,16 +732,25 @@ public final class MoveStaticMembersProcessor extends MoveProcessor implements I
 
 		try {
 			Map<IMember, IncomingMemberVisibilityAdjustment> adjustments= new HashMap<>();
+			Map<IType, ITypeHierarchy> hierarchies= new HashMap<>();
 			IProgressMonitor sub= Progress.subMonitorSupressed(monitor, 1);
 			sub.beginTask(RefactoringCoreMessages.MoveMembersRefactoring_creating, fMembersToMove.length);
 			Set<IMember> rewritten= new HashSet<>();
-			for (IMember member : fMembersToMove) {
-				final MemberVisibilityAdjustor adjustor= new MemberVisibilityAdjustor(fDestinationType, member);
+			final MemberVisibilityAdjustor[] adjustors= new MemberVisibilityAdjustor[fMembersToMove.length];
+			for (int index= 0; index < fMembersToMove.length; index++) {
+				final MemberVisibilityAdjustor adjustor= new MemberVisibilityAdjustor(fDestinationType, fMembersToMove[index]);
 				adjustor.setAdjustments(adjustments);
+				adjustor.setTypeHierarchies(hierarchies);
 				adjustor.setStatus(status);
 				adjustor.setVisibilitySeverity(RefactoringStatus.WARNING);
 				adjustor.setFailureSeverity(RefactoringStatus.WARNING);
 				adjustor.setRewrite(fSource.getASTRewrite(), fSource.getRoot());
+				adjustors[index]= adjustor;
+			}
+			MemberVisibilityAdjustor.searchIncomingReferences(adjustors, new NullProgressMonitor());
+			for (int index= 0; index < fMembersToMove.length; index++) {
+				final IMember member= fMembersToMove[index];
+				final MemberVisibilityAdjustor adjustor= adjustors[index];
 				adjustor.adjustVisibility(new NullProgressMonitor());
 
 				if (fDelegateUpdating && isDelegateCreationAvailable(member)) {
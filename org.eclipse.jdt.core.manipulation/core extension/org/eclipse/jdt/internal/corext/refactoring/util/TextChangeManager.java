@@ -113,6 +113,27 @@ public class TextChangeManager {
 		return fMap.keySet().toArray(new ICompilationUnit[fMap.size()]);
 	}
 
+	/**
+	 * Releases the copies of the text edits which the managed changes keep after
+	 * their preview has been computed. Rename refactorings need those copies only
+	 * while analyzing the renamed occurrences; for workspace wide renames the
+	 * copied edit trees would otherwise stay in memory until the refactoring has
+	 * been performed. Changes added afterwards keep their preview edits as
+	 * configured for this manager.
+	 * <p>
+	 * This only frees memory for managers created to keep executed text edits.
+	 * The changes of other managers, as used by the package rename, never keep
+	 * preview edits; they only hold their unit and their edit tree, which are
+	 * needed to perform the refactoring.
+	 * </p>
+	 */
+	public void releasePreviewEdits() {
+		for (TextChange change : fMap.values()) {
+			if (change.getKeepPreviewEdits())
+				change.setKeepPreviewEdits(false);
+		}
+	}
+
 	/**
 	 * Clears all associations between resources and text changes.
 	 */
@@ -0,0 +1,308 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * A bounded, thread-safe most-recently-used map. When the map tops the maximum size configured in
+ * the constructor, the least recently used entry is evicted.
+ * <p>
+ * Reads never lock: {@link #get(Object)} only bumps the access stamp of the entry, and the
+ * order dependent queries ({@link #getPosition(Object)}, {@link #keys()}, {@link #values()}) are
+ * answered from an immutable snapshot that is rebuilt at most once per modification. Writes are
+ * serialized. Eviction scans the entries, so the map is meant for small capacities as used by the
+ * histories and caches in JDT UI.
+ * </p>
+ * <p>
+ * <code>put</code>, <code>putIfAbsent</code> and <code>get</code> count as an access to the
+ * corresponding entry. No other methods generate entry accesses.
+ * </p>
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the values
+ */
+public class ConcurrentMRU<K, V> {
+
+	/**
+	 * Usage statistics of a {@link ConcurrentMRU}.
+	 *
+	 * @param size the current number of entries
+	 * @param hits number of {@link ConcurrentMRU#get(Object)} calls that found an entry
+	 * @param misses number of {@link ConcurrentMRU#get(Object)} calls that found no entry
+	 * @param evictions number of entries removed because the map was full
+	 */
+	public record Statistics(int size, long hits, long misses, long evictions) {
+	}
+
+	private static final class Entry<V> {
+		final V fValue;
+		volatile long fStamp;
+
+		Entry(V value, long stamp) {
+			fValue= value;
+			fStamp= stamp;
+		}
+	}
+
+	private record Snapshot<K, V>(long modCount, Map<K, Integer> positions, List<V> values) {
+	}
+
+	private final int fMaxSize;
+	private final ConcurrentHashMap<K, Entry<V>> fEntries;
+	private final Object fWriteLock= new Object();
+	private final AtomicLong fClock= new AtomicLong();
+	private final AtomicLong fModCount= new AtomicLong();
+	private volatile Snapshot<K, V> fSnapshot;
+
+	private final LongAdder fHits= new LongAdder();
+	private final LongAdder fMisses= new LongAdder();
+	private final LongAdder fEvictions= new LongAdder();
+
+	/**
+	 * Creates an empty map with the given maximum size.
+	 *
+	 * @param maxSize the maximum number of elements in the map
+	 */
+	public ConcurrentMRU(int maxSize) {
+		fMaxSize= maxSize;
+		fEntries= new ConcurrentHashMap<>(maxSize + 1);
+	}
+
+	/**
+	 * Returns the value for the given key and marks the entry as most recently used.
+	 *
+	 * @param key the key
+	 * @return the value or <code>null</code> if the key is not contained in the map
+	 */
+	public V get(K key) {
+		Entry<V> entry= fEntries.get(key);
+		if (entry == null) {
+			fMisses.increment();
+			return null;
+		}
+		fHits.increment();
+		touch(entry);
+		return entry.fValue;
+	}
+
+	/**
+	 * Returns the value for the given key without affecting the access order.
+	 *
+	 * @param key the key
+	 * @return the value or <code>null</code> if the key is not contained in the map
+	 */
+	public V peek(K key) {
+		Entry<V> entry= fEntries.get(key);
+		return entry != null ? entry.fValue : null;
+	}
+
+	public boolean containsKey(K key) {
+		return fEntries.containsKey(key);
+	}
+
+	public int size() {
+		return fEntries.size();
+	}
+
+	public boolean isEmpty() {
+		return fEntries.isEmpty();
+	}
+
+	/**
+	 * Adds or replaces the entry for the given key and marks it as most recently used.
+	 *
+	 * @param key the key
+	 * @param value the value
+	 * @return the previous value or <code>null</code>
+	 */
+	public V put(K key, V value) {
+		synchronized (fWriteLock) {
+			Entry<V> old= fEntries.put(key, new Entry<>(value, fClock.incrementAndGet()));
+			evictIfFull();
+			fModCount.incrementAndGet();
+			return old != null ? old.fValue : null;
+		}
+	}
+
+	/**
+	 * Adds the entry if the key is not contained yet. In both cases, the entry is marked as most
+	 * recently used.
+	 *
+	 * @param key the key
+	 * @param value the value to add
+	 * @return the existing value or <code>null</code> if <code>value</code> has been added
+	 */
+	public V putIfAbsent(K key, V value) {
+		synchronized (fWriteLock) {
+			Entry<V> existing= fEntries.get(key);
+			if (existing != null) {
+				touch(existing);
+				return existing.fValue;
+			}
+			fEntries.put(key, new Entry<>(value, fClock.incrementAndGet()));
+			evictIfFull();
+			fModCount.incrementAndGet();
+			return null;
+		}
+	}
+
+	public V remove(K key) {
+		synchronized (fWriteLock) {
+			Entry<V> old= fEntries.remove(key);
+			if (old == null)
+				return null;
+			fModCount.incrementAndGet();
+			return old.fValue;
+		}
+	}
+
+	/**
+	 * Removes all entries whose value matches the given filter.
+	 *
+	 * @param filter the filter
+	 * @return <code>true</code> if an entry has been removed
+	 */
+	public boolean removeValues(Predicate<? super V> filter) {
+		synchronized (fWriteLock) {
+			boolean removed= fEntries.values().removeIf(entry -> filter.test(entry.fValue));
+			if (removed)
+				fModCount.incrementAndGet();
+			return removed;
+		}
+	}
+
+	public void clear() {
+		synchronized (fWriteLock) {
+			fEntries.clear();
+			fModCount.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Position of the entry with the given key, or -1 if the key is not contained. The eldest entry
+	 * has position 0, the newest entry has position <code>size() - 1</code>.
+	 *
+	 * @param key the key
+	 * @return the position or -1
+	 */
+	public int getPosition(K key) {
+		Integer position= snapshot().positions().get(key);
+		return position != null ? position.intValue() : -1;
+	}
+
+	/**
+	 * Position of the entry with the given key, normalized to a value between zero and one where
+	 * zero means not contained and one means newest entry.
+	 *
+	 * @param key the key
+	 * @return value in [0.0, 1.0], the lower the older the entry
+	 */
+	public float getNormalizedPosition(K key) {
+		Snapshot<K, V> snapshot= snapshot();
+		Integer position= snapshot.positions().get(key);
+		if (position == null)
+			return 0.0f;
+		return (float) (position.intValue() + 1) / (float) snapshot.positions().size();
+	}
+
+	/**
+	 * @return an unmodifiable view of the keys, eldest first
+	 */
+	public Set<K> keys() {
+		return Collections.unmodifiableSet(snapshot().positions().keySet());
+	}
+
+	/**
+	 * @return an unmodifiable list of the values, eldest first
+	 */
+	public List<V> values() {
+		return snapshot().values();
+	}
+
+	public Statistics getStatistics() {
+		return new Statistics(fEntries.size(), fHits.sum(), fMisses.sum(), fEvictions.sum());
+	}
+
+	@Override
+	public String toString() {
+		return getStatistics().toString();
+	}
+
+	private void touch(Entry<V> entry) {
+		long now= fClock.get();
+		if (entry.fStamp != now) {
+			entry.fStamp= fClock.incrementAndGet();
+			fModCount.incrementAndGet();
+		}
+	}
+
+	private void evictIfFull() {
+		while (fEntries.size() > fMaxSize) {
+			K eldest= null;
+			long eldestStamp= Long.MAX_VALUE;
+			for (Map.Entry<K, Entry<V>> curr : fEntries.entrySet()) {
+				long stamp= curr.getValue().fStamp;
+				if (stamp < eldestStamp) {
+					eldestStamp= stamp;
+					eldest= curr.getKey();
+				}
+			}
+			if (eldest == null)
+				return;
+			fEntries.remove(eldest);
+			fEvictions.increment();
+		}
+	}
+
+	private Snapshot<K, V> snapshot() {
+		long modCount= fModCount.get();
+		Snapshot<K, V> snapshot= fSnapshot;
+		if (snapshot != null && snapshot.modCount() == modCount)
+			return snapshot;
+
+		// Concurrent readers may rebuild the same snapshot, which is cheaper than locking them out.
+		List<Map.Entry<K, Entry<V>>> entries= new ArrayList<>(fEntries.entrySet());
+		long[] stamps= new long[entries.size()];
+		for (int i= 0; i < stamps.length; i++) {
+			stamps[i]= entries.get(i).getValue().fStamp;
+		}
+		Integer[] order= new Integer[stamps.length];
+		for (int i= 0; i < order.length; i++) {
+			order[i]= Integer.valueOf(i);
+		}
+		Arrays.sort(order, (i1, i2) -> Long.compare(stamps[i1.intValue()], stamps[i2.intValue()]));
+
+		Map<K, Integer> positions= new LinkedHashMap<>(order.length * 2);
+		List<V> values= new ArrayList<>(order.length);
+		for (Integer index : order) {
+			Map.Entry<K, Entry<V>> entry= entries.get(index.intValue());
+			positions.put(entry.getKey(), Integer.valueOf(values.size()));
+			values.add(entry.getValue().fValue);
+		}
+		snapshot= new Snapshot<>(modCount, Collections.unmodifiableMap(positions), Collections.unmodifiableList(values));
+		fSnapshot= snapshot;
+		return snapshot;
+	}
+}
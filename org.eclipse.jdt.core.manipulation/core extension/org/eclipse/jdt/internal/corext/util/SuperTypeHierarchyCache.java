@@ -14,8 +14,6 @@
 package org.eclipse.jdt.internal.corext.util;
 
 import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.Map;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 
@@ -76,7 +74,7 @@ public class SuperTypeHierarchyCache {
 	private static final int CACHE_SIZE= 8;
 
 	private static ArrayList<HierarchyCacheEntry> fgHierarchyCache= new ArrayList<>(CACHE_SIZE);
-	private static Map<IType, MethodOverrideTester> fgMethodOverrideTesterCache= new LRUMap<>(CACHE_SIZE);
+	private static final ConcurrentMRU<IType, MethodOverrideTester> fgMethodOverrideTesterCache= new ConcurrentMRU<>(CACHE_SIZE);
 
 	private static int fgCacheHits= 0;
 	private static int fgCacheMisses= 0;
@@ -97,32 +95,20 @@ public class SuperTypeHierarchyCache {
 	}
 
 	public static MethodOverrideTester getMethodOverrideTester(IType type) throws JavaModelException {
-		MethodOverrideTester test= null;
-		synchronized (fgMethodOverrideTesterCache) {
-			test= fgMethodOverrideTesterCache.get(type);
-		}
+		MethodOverrideTester test= fgMethodOverrideTesterCache.get(type);
 		if (test == null) {
-			ITypeHierarchy hierarchy= getTypeHierarchy(type); // don't nest the locks
-			synchronized (fgMethodOverrideTesterCache) {
-				test= fgMethodOverrideTesterCache.get(type); // test again after waiting a long time for 'getTypeHierarchy'
-				if (test == null) {
-					test= new MethodOverrideTester(type, hierarchy);
-					fgMethodOverrideTesterCache.put(type, test);
-				}
+			ITypeHierarchy hierarchy= getTypeHierarchy(type);
+			test= new MethodOverrideTester(type, hierarchy);
+			MethodOverrideTester existing= fgMethodOverrideTesterCache.putIfAbsent(type, test); // another thread may have been faster computing the hierarchy
+			if (existing != null) {
+				test= existing;
 			}
 		}
 		return test;
 	}
 
 	private static void removeMethodOverrideTester(ITypeHierarchy hierarchy) {
-		synchronized (fgMethodOverrideTesterCache) {
-			for (Iterator<MethodOverrideTester> iter= fgMethodOverrideTesterCache.values().iterator(); iter.hasNext();) {
-				MethodOverrideTester curr= iter.next();
-				if (curr.getTypeHierarchy().equals(hierarchy)) {
-					iter.remove();
-				}
-			}
-		}
+		fgMethodOverrideTesterCache.removeValues(tester -> tester.getTypeHierarchy().equals(hierarchy));
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,35 +13,71 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.refactoring.binary;
 
+import java.lang.ref.SoftReference;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.filesystem.IFileStore;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
 
 import org.eclipse.jdt.core.IClassFile;
 import org.eclipse.jdt.core.IOrdinaryClassFile;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.Signature;
 
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringCoreMessages;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
+import org.eclipse.jdt.internal.corext.util.LRUMap;
 
 import org.eclipse.jdt.internal.ui.util.Progress;
 
 /**
  * Operation, which run, creates structurally equivalent stub types for a list
  * of binary package fragments.
+ * <p>
+ * The stubs of all package fragments are generated in parallel before any of
+ * them is written. Generated stubs are cached by the contents of the class
+ * files they depend on, so that unchanged classes are not stubbed again when a
+ * new version of a library is imported. The cached stubs are softly
+ * referenced, so that they do not outlive a shortage of memory.
+ * </p>
  *
  * @since 3.2
  */
 public class StubCreationOperation extends AbstractCodeCreationOperation {
 
+	/** The maximum number of cached stubs */
+	private static final int STUB_CACHE_SIZE= 5000;
+
+	/** The cache of softly referenced stubs, keyed by the digest of the class files a stub depends on (guarded by itself) */
+	private static final Map<String, SoftReference<String>> fgStubCache= new LRUMap<>(STUB_CACHE_SIZE);
+
 	/** Should stubs for private member be generated as well? */
 	protected final boolean fStubInvisible;
 
+	/** The stubs generated in advance, or <code>null</code> if not running */
+	private Map<IClassFile, String> fStubs= null;
+
 	/**
 	 * Creates a new stub creation operation.
 	 *
@@ -75,6 +111,165 @@ public class StubCreationOperation extends AbstractCodeCreationOperation {
 		return RefactoringCoreMessages.StubCreationOperation_creating_type_stubs;
 	}
 
+	@Override
+	public void run(IProgressMonitor monitor) throws CoreException {
+		if (monitor == null)
+			monitor= new NullProgressMonitor();
+		monitor.beginTask(getOperationLabel(), 2);
+		try {
+			fStubs= createStubs(Progress.subMonitor(monitor, 1));
+			super.run(Progress.subMonitor(monitor, 1));
+		} finally {
+			fStubs= null;
+			monitor.done();
+		}
+	}
+
+	/**
+	 * Generates the stubs of all package fragments in parallel, one package fragment per task.
+	 *
+	 * @param monitor
+	 *            the progress monitor to use
+	 * @return the map of class files to stubs
+	 * @throws CoreException
+	 *             if an error occurs
+	 */
+	private Map<IClassFile, String> createStubs(final IProgressMonitor monitor) throws CoreException {
+		final Map<IClassFile, String> stubs= new ConcurrentHashMap<>();
+		final int threads= Math.max(1, Math.min(fPackages.size(), Runtime.getRuntime().availableProcessors()));
+		final ExecutorService executor= Executors.newFixedThreadPool(threads, runnable -> {
+			final Thread thread= new Thread(runnable, "Stub creation"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			monitor.beginTask(getOperationLabel(), fPackages.size());
+			final List<Future<?>> futures= new ArrayList<>(fPackages.size());
+			for (IPackageFragment fragment : fPackages) {
+				futures.add(executor.submit(() -> {
+					for (IClassFile file : fragment.getClassFiles()) {
+						if (monitor.isCanceled())
+							return null;
+						final String stub= createStub(file);
+						if (stub != null)
+							stubs.put(file, stub);
+					}
+					return null;
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+				if (monitor.isCanceled())
+					throw new OperationCanceledException();
+				monitor.worked(1);
+			}
+		} catch (ExecutionException exception) {
+			final Throwable cause= exception.getCause();
+			if (cause instanceof CoreException)
+				throw (CoreException) cause;
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			throw new CoreException(new Status(IStatus.ERROR, JavaManipulationPlugin.getPluginId(), 0, cause.getLocalizedMessage(), cause));
+		} catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} finally {
+			executor.shutdownNow();
+			monitor.done();
+		}
+		return stubs;
+	}
+
+	/**
+	 * Returns the stub of the specified class file, using the stub cache.
+	 *
+	 * @param file
+	 *            the class file
+	 * @return the stub, or <code>null</code> if the class file does not
+	 *         contain a top level type
+	 * @throws JavaModelException
+	 *             if an error occurs
+	 */
+	private String createStub(final IClassFile file) throws JavaModelException {
+		if (!(file instanceof IOrdinaryClassFile))
+			return null;
+		final IType type= ((IOrdinaryClassFile) file).getType();
+		if (type.isAnonymous() || type.isLocal() || type.isMember())
+			return null;
+		final String key= computeCacheKey(type);
+		if (key != null) {
+			synchronized (fgStubCache) {
+				final SoftReference<String> reference= fgStubCache.get(key);
+				final String stub= reference != null ? reference.get() : null;
+				if (stub != null)
+					return stub;
+			}
+		}
+		final String stub= new StubCreator(fStubInvisible).createStub(type, null);
+		if (key != null) {
+			synchronized (fgStubCache) {
+				fgStubCache.put(key, new SoftReference<>(stub));
+			}
+		}
+		return stub;
+	}
+
+	/**
+	 * Computes the cache key of the stub of the specified type. Besides its own
+	 * class file, a stub depends on the class files of its member types and on
+	 * the constructors of their superclasses. A superclass which cannot be found
+	 * is recorded by name, so that the stub is generated again once the
+	 * superclass is on the classpath.
+	 *
+	 * @param type
+	 *            the top level type
+	 * @return the cache key, or <code>null</code> if the stub cannot be cached
+	 * @throws JavaModelException
+	 *             if an error occurs
+	 */
+	private String computeCacheKey(final IType type) throws JavaModelException {
+		try {
+			final MessageDigest digest= MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			digest.update((byte) (fStubInvisible ? 1 : 0));
+			if (!updateDigest(digest, type))
+				return null;
+			return Base64.getEncoder().encodeToString(digest.digest());
+		} catch (NoSuchAlgorithmException exception) {
+			return null;
+		}
+	}
+
+	private static boolean updateDigest(final MessageDigest digest, final IType type) throws JavaModelException {
+		if (!updateDigest(digest, type.getClassFile()))
+			return false;
+		String superSignature= type.getSuperclassTypeSignature();
+		if (superSignature != null) {
+			// resolve the superclass the same way as StubCreator#appendMethodBody(IMethod)
+			superSignature= Signature.getTypeErasure(superSignature);
+			final IType superclass= type.getJavaProject().findType(Signature.getSignatureQualifier(superSignature), Signature.getSignatureSimpleName(superSignature));
+			if (superclass == null) {
+				digest.update((byte) 0);
+				digest.update(superSignature.getBytes(StandardCharsets.UTF_8));
+			} else if (!superclass.isBinary() || !updateDigest(digest, superclass.getClassFile()))
+				return false;
+		}
+		for (IType member : type.getTypes()) {
+			if (!updateDigest(digest, member))
+				return false;
+		}
+		return true;
+	}
+
+	private static boolean updateDigest(final MessageDigest digest, final IClassFile file) throws JavaModelException {
+		if (file == null)
+			return false;
+		final byte[] bytes= file.getBytes();
+		if (bytes == null)
+			return false;
+		digest.update(bytes);
+		return true;
+	}
+
 	/**
 	 * Runs the stub generation on the specified class file.
 	 *
@@ -96,7 +291,9 @@ public class StubCreationOperation extends AbstractCodeCreationOperation {
 				final IType type= ((IOrdinaryClassFile) file).getType();
 				if (type.isAnonymous() || type.isLocal() || type.isMember())
 					return;
-				String source= new StubCreator(fStubInvisible).createStub(type, subProgressMonitor);
+				String source= fStubs != null ? fStubs.get(file) : null;
+				if (source == null)
+					source= new StubCreator(fStubInvisible).createStub(type, subProgressMonitor);
 				createCompilationUnit(parent, type.getElementName() + JavaModelUtil.DEFAULT_CU_SUFFIX, source, monitor);
 			}
 		} finally {
@@ -21,6 +21,7 @@ import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.PerformanceStats;
 
 import org.eclipse.core.resources.IFile;
 
@@ -578,6 +579,9 @@ public class RenameFieldProcessor extends JavaRenameProcessor implements IRefere
 			if (result.hasFatalError())
 				return result;
 
+			if (!fIsComposite)
+				fChangeManager.releasePreviewEdits();
+
 			return result;
 		} finally{
 			pm.done();
@@ -1090,7 +1094,14 @@ public class RenameFieldProcessor extends JavaRenameProcessor implements IRefere
 			newWorkingCopies= RenameAnalyzeUtil.createNewWorkingCopies(compilationUnitsToModify.toArray(new ICompilationUnit[compilationUnitsToModify.size()]),
 					fChangeManager, newWCOwner, Progress.subMonitor(pm, 1));
 
-			SearchResultGroup[] newReferences= getNewReferences(Progress.subMonitor(pm, 1), result, newWCOwner, newWorkingCopies);
+			final PerformanceStats searchStats= PerformanceStats.getStats(RenameAnalyzeUtil.PERF_SEARCH_NEW_OCCURRENCES, this);
+			searchStats.startRun();
+			SearchResultGroup[] newReferences;
+			try {
+				newReferences= getNewReferences(Progress.subMonitor(pm, 1), result, newWCOwner, newWorkingCopies);
+			} finally {
+				searchStats.endRun();
+			}
 			result.merge(RenameAnalyzeUtil.analyzeRenameChanges2(fChangeManager, oldReferences, newReferences, getNewElementName()));
 			return result;
 		} finally{
@@ -24,6 +24,7 @@ import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.PerformanceStats;
 
 import org.eclipse.core.resources.IFile;
 
@@ -420,6 +421,9 @@ public abstract class RenameMethodProcessor extends JavaRenameProcessor implemen
 			else
 				pm.worked(1);
 
+			if (!fIsComposite)
+				fChangeManager.releasePreviewEdits();
+
 			return result;
 		} finally{
 			pm.done();
@@ -574,7 +578,14 @@ public abstract class RenameMethodProcessor extends JavaRenameProcessor implemen
 			}
 
 //			SearchResultGroup[] newOccurrences= findNewOccurrences(newMethods, newDeclarationWCs, Progress.subMonitor(pm, 3));
-			SearchResultGroup[] newOccurrences= batchFindNewOccurrences(wcNewMethods, wcOldMethods, newDeclarationWCs, Progress.subMonitor(pm, 3), result);
+			final PerformanceStats searchStats= PerformanceStats.getStats(RenameAnalyzeUtil.PERF_SEARCH_NEW_OCCURRENCES, this);
+			searchStats.startRun();
+			SearchResultGroup[] newOccurrences;
+			try {
+				newOccurrences= batchFindNewOccurrences(wcNewMethods, wcOldMethods, newDeclarationWCs, Progress.subMonitor(pm, 3), result);
+			} finally {
+				searchStats.endRun();
+			}
 
 			result.merge(RenameAnalyzeUtil.analyzeRenameChanges2(fChangeManager, fOccurrences, newOccurrences, getNewElementName()));
 			return result;
@@ -21,6 +21,7 @@ import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.PerformanceStats;
 
 import org.eclipse.core.resources.IFile;
 
@@ -247,6 +248,7 @@ public class RenameModuleProcessor extends JavaRenameProcessor implements IRefer
 			if (result.hasFatalError())
 				return result;
 
+			fChangeManager.releasePreviewEdits();
 			return result;
 		} finally{
 			pm.done();
@@ -285,7 +287,14 @@ public class RenameModuleProcessor extends JavaRenameProcessor implements IRefer
 			compilationUnitsToModify.addAll(Arrays.asList(fChangeManager.getAllCompilationUnits()));
 			newWorkingCopies= RenameAnalyzeUtil.createNewWorkingCopies(compilationUnitsToModify.toArray(new ICompilationUnit[compilationUnitsToModify.size()]),
 					fChangeManager, newWCOwner, Progress.subMonitor(pm, 1));
-			SearchResultGroup[] newReferences= getNewReferences(Progress.subMonitor(pm, 1), result, newWCOwner, newWorkingCopies);
+			final PerformanceStats searchStats= PerformanceStats.getStats(RenameAnalyzeUtil.PERF_SEARCH_NEW_OCCURRENCES, this);
+			searchStats.startRun();
+			SearchResultGroup[] newReferences;
+			try {
+				newReferences= getNewReferences(Progress.subMonitor(pm, 1), result, newWCOwner, newWorkingCopies);
+			} finally {
+				searchStats.endRun();
+			}
 			result.merge(RenameAnalyzeUtil.analyzeRenameChanges2(fChangeManager, oldReferences, newReferences, getNewElementName()));
 			return result;
 		} finally{
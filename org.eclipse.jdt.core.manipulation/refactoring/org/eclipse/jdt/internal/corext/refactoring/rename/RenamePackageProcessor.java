@@ -123,7 +123,6 @@ public class RenamePackageProcessor extends JavaRenameProcessor implements
 	private IPackageFragment fPackage;
 
 	private TextChangeManager fChangeManager;
-	private ImportsManager fImportsManager;
 	private QualifiedNameSearchResult fQualifiedNameSearchResult;
 
 	private boolean fUpdateReferences;
@@ -423,21 +422,22 @@ public class RenamePackageProcessor extends JavaRenameProcessor implements
 				return result;
 
 			fChangeManager= new TextChangeManager();
-			fImportsManager= new ImportsManager();
+			// the import changes are only needed until they have been rewritten into the text changes
+			ImportsManager importsManager= new ImportsManager();
 
 			IProgressMonitor subPm= Progress.subMonitor(pm, 16);
 			if (fRenameSubpackages) {
 				IPackageFragment[] allSubpackages= JavaElementUtil.getPackageAndSubpackages(fPackage);
 				subPm.beginTask("", allSubpackages.length); //$NON-NLS-1$
 				for (IPackageFragment pack : allSubpackages) {
-					new PackageRenamer(pack, this, fChangeManager, fImportsManager).doRename(Progress.subMonitor(subPm, 1), result);
+					new PackageRenamer(pack, this, fChangeManager, importsManager).doRename(Progress.subMonitor(subPm, 1), result);
 				}
 				subPm.done();
 			} else {
-				new PackageRenamer(fPackage, this, fChangeManager, fImportsManager).doRename(subPm, result);
+				new PackageRenamer(fPackage, this, fChangeManager, importsManager).doRename(subPm, result);
 			}
 
-			fImportsManager.rewriteImports(fChangeManager, Progress.subMonitor(pm, 3));
+			importsManager.rewriteImports(fChangeManager, Progress.subMonitor(pm, 3));
 
 			if (fUpdateTextualMatches) {
 				pm.subTask(RefactoringCoreMessages.RenamePackageRefactoring_searching_text);
@@ -601,7 +601,6 @@ public class RenamePackageProcessor extends JavaRenameProcessor implements
 			return result;
 		} finally {
 			fChangeManager= null;
-			fImportsManager= null;
 			monitor.done();
 		}
 	}
@@ -566,6 +566,7 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 			}
 
 			createChanges(Progress.subMonitor(pm, createChangeTicks));
+			fChangeManager.releasePreviewEdits();
 
 			if (fUpdateQualifiedNames)
 				computeQualifiedNameMatches(Progress.subMonitor(pm, qualifiedNamesTicks));
@@ -1616,6 +1616,7 @@ public class PullUpRefactoringProcessor extends HierarchyProcessor {
 			final ICompilationUnit[] units= getAffectedCompilationUnits(subMonitor.newChild(1));
 
 			final Map<IMember, IncomingMemberVisibilityAdjustment> adjustments= new HashMap<>();
+			final Map<IType, ITypeHierarchy> hierarchies= new HashMap<>();
 			MemberVisibilityAdjustor adjustor= null;
 			final SubMonitor sub= subMonitor.newChild(1);
 			try {
@@ -1654,11 +1655,10 @@ public class PullUpRefactoringProcessor extends HierarchyProcessor {
 						fMembersToMove= JavaElementUtil.sortByOffset(fMembersToMove);
 						Map<IMethod, String> newArgumentMap= getNewArgumentMap(fMembersToMove, root);
 
-						subsub.beginTask(RefactoringCoreMessages.PullUpRefactoring_checking, fMembersToMove.length);
-						IMember member= null;
-						for (int offset= fMembersToMove.length - 1; offset >= 0; offset--) {
-							member= fMembersToMove[offset];
-							adjustor= new MemberVisibilityAdjustor(destination, member);
+						subsub.beginTask(RefactoringCoreMessages.PullUpRefactoring_checking, fMembersToMove.length + 1);
+						final MemberVisibilityAdjustor[] adjustors= new MemberVisibilityAdjustor[fMembersToMove.length];
+						for (int offset= 0; offset < fMembersToMove.length; offset++) {
+							adjustor= new MemberVisibilityAdjustor(destination, fMembersToMove[offset]);
 							adjustor.setRewrite(sourceRewriter.getASTRewrite(), root);
 
 							// TW: set to error if bug 78387 is fixed
@@ -1668,6 +1668,14 @@ public class PullUpRefactoringProcessor extends HierarchyProcessor {
 							adjustor.setRewrites(fCompilationUnitRewrites);
 							adjustor.setStatus(status);
 							adjustor.setAdjustments(adjustments);
+							adjustor.setTypeHierarchies(hierarchies);
+							adjustors[offset]= adjustor;
+						}
+						MemberVisibilityAdjustor.searchIncomingReferences(adjustors, subsub.newChild(1));
+						IMember member= null;
+						for (int offset= fMembersToMove.length - 1; offset >= 0; offset--) {
+							member= fMembersToMove[offset];
+							adjustor= adjustors[offset];
 							adjustor.adjustVisibility(subsub.newChild(1));
 							adjustments.remove(member);
 							if (member instanceof IField) {
@@ -1763,6 +1771,7 @@ public class PullUpRefactoringProcessor extends HierarchyProcessor {
 							adjustor.setOwner(fOwner);
 							adjustor.setStatus(status);
 							adjustor.setAdjustments(adjustments);
+							adjustor.setTypeHierarchies(hierarchies);
 							if (destination.isInterface() && !JdtFlags.isPublic(method)) {
 								adjustments.put(method, new MemberVisibilityAdjustor.OutgoingMemberVisibilityAdjustment(method, Modifier.ModifierKeyword.PUBLIC_KEYWORD, RefactoringStatus.createWarningStatus(Messages.format(RefactoringCoreMessages.MemberVisibilityAdjustor_change_visibility_method_warning, new String[] { MemberVisibilityAdjustor.getLabel(method), RefactoringCoreMessages.MemberVisibilityAdjustor_change_visibility_public}), JavaStatusContext.create(method))));
 							} else if (needsVisibilityAdjustment(method, false, subsub.newChild(1), status)) {
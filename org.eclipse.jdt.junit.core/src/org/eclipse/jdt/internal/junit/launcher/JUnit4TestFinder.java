@@ -110,6 +110,12 @@ public class JUnit4TestFinder implements ITestFinder {
 		}
 	}
 
+	/**
+	 * Checks the annotated candidates in parallel. The check is cheap, so decisions are not
+	 * remembered.
+	 */
+	private static final TestTypeFilter fgTestTypes= new TestTypeFilter(type -> !Flags.isAbstract(type.getFlags()) && CoreTestSearchEngine.isAccessibleClass(type));
+
 	@Override
 	public void findTestsInContainer(IJavaElement element, Set<IType> result, IProgressMonitor pm) throws CoreException {
 		if (element == null || result == null) {
@@ -123,7 +129,7 @@ public class JUnit4TestFinder implements ITestFinder {
 			}
 		}
 
-		SubMonitor subMon= SubMonitor.convert(pm, JUnitMessages.JUnit4TestFinder_searching_description, 4);
+		SubMonitor subMon= SubMonitor.convert(pm, JUnitMessages.JUnit4TestFinder_searching_description, 5);
 		try {
 
 			IRegion region= CoreTestSearchEngine.getRegion(element);
@@ -153,11 +159,13 @@ public class JUnit4TestFinder implements ITestFinder {
 			new SearchEngine().search(annotationsPattern, searchParticipants, scope, requestor, subMon.newChild(2));
 
 			// find all classes in the region
+			List<IType> candidatesInRegion= new ArrayList<>(candidates.size());
 			for (IType curr : candidates) {
-				if (!Flags.isAbstract(curr.getFlags()) && CoreTestSearchEngine.isAccessibleClass(curr) && region.contains(curr)) {
-					result.add(curr);
+				if (region.contains(curr)) {
+					candidatesInRegion.add(curr);
 				}
 			}
+			result.addAll(fgTestTypes.filter(candidatesInRegion, hierarchy, subMon.newChild(1)));
 
 			// add all classes implementing JUnit 3.8's Test interface in the region
 			IType testInterface= element.getJavaProject().findType(JUnitCorePlugin.TEST_INTERFACE_NAME);
@@ -13,7 +13,9 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.junit.launcher;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.core.runtime.CoreException;
@@ -196,6 +198,12 @@ public class JUnit5TestFinder implements ITestFinder {
 		}
 	}
 
+	/**
+	 * Shared by all finders, so that the decisions of the annotation hierarchy walk survive between
+	 * launches.
+	 */
+	private static final TestTypeFilter fgTestTypes= new TestTypeFilter(type -> internalIsTest(type, null), 10_000);
+
 	@Override
 	public void findTestsInContainer(IJavaElement element, Set<IType> result, IProgressMonitor pm) throws CoreException {
 		if (element == null || result == null) {
@@ -217,11 +225,15 @@ public class JUnit5TestFinder implements ITestFinder {
 		IType[] allClasses= hierarchy.getAllClasses();
 
 		// search for all types with references to RunWith and Test and all subclasses
+		List<IType> candidates= new ArrayList<>(allClasses.length);
 		for (IType type : allClasses) {
-			if (region.contains(type) && internalIsTest(type, pm)) {
-				addTypeAndSubtypes(type, result, hierarchy);
+			if (region.contains(type)) {
+				candidates.add(type);
 			}
 		}
+		for (IType type : fgTestTypes.filter(candidates, hierarchy, subMonitor.split(2))) {
+			addTypeAndSubtypes(type, result, hierarchy);
+		}
 
 		// add all classes implementing JUnit 3.8's Test interface in the region
 		IType testInterface= element.getJavaProject().findType(JUnitCorePlugin.TEST_INTERFACE_NAME);
@@ -247,7 +259,7 @@ public class JUnit5TestFinder implements ITestFinder {
 		return internalIsTest(type, null);
 	}
 
-	private boolean internalIsTest(IType type, IProgressMonitor monitor) throws JavaModelException {
+	private static boolean internalIsTest(IType type, IProgressMonitor monitor) throws JavaModelException {
 		if (CoreTestSearchEngine.isAccessibleClass(type, TestKindRegistry.JUNIT5_TEST_KIND_ID)) {
 			if (CoreTestSearchEngine.hasSuiteMethod(type)) { // since JUnit 4.3.1
 				return true;
@@ -286,7 +298,7 @@ public class JUnit5TestFinder implements ITestFinder {
 	}
 
 
-	private boolean isTest(ITypeBinding binding) {
+	private static boolean isTest(ITypeBinding binding) {
 		if (Modifier.isAbstract(binding.getModifiers()))
 			return false;
 
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.launcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.eclipse.jdt.core.IType;
+
+import org.eclipse.jdt.internal.junit.model.TestClassDurations;
+
+/**
+ * Distributes the test classes of a sharded launch over the runtime VMs. Classes are assigned
+ * longest first to the shard with the smallest total duration so far, using the durations of
+ * earlier runs. Classes without a recorded duration count with the average of the known ones.
+ */
+public class TestShardPartitioner {
+
+	private TestShardPartitioner() {
+	}
+
+	/**
+	 * @param types the test classes to distribute
+	 * @param shardCount the requested number of shards
+	 * @param durations the recorded durations
+	 * @return the shards; never more than <code>types.length</code> and none of them empty
+	 */
+	public static IType[][] partition(IType[] types, int shardCount, TestClassDurations durations) {
+		int count= Math.min(shardCount, types.length);
+		if (count <= 1) {
+			return new IType[][] { types };
+		}
+
+		long[] typeDurations= new long[types.length];
+		long knownTotal= 0;
+		int knownCount= 0;
+		for (int i= 0; i < types.length; i++) {
+			typeDurations[i]= durations.getDuration(types[i].getFullyQualifiedName());
+			if (typeDurations[i] >= 0) {
+				knownTotal+= typeDurations[i];
+				knownCount++;
+			}
+		}
+		long unknownDuration= knownCount > 0 ? Math.max(1, knownTotal / knownCount) : 1;
+		for (int i= 0; i < types.length; i++) {
+			if (typeDurations[i] < 0) {
+				typeDurations[i]= unknownDuration;
+			}
+		}
+
+		Integer[] order= new Integer[types.length];
+		Arrays.setAll(order, i -> Integer.valueOf(i));
+		Arrays.sort(order, Comparator.<Integer> comparingLong(i -> -typeDurations[i.intValue()])
+				.thenComparing(i -> types[i.intValue()].getFullyQualifiedName()));
+
+		List<List<IType>> shards= new ArrayList<>(count);
+		long[] loads= new long[count];
+		for (int i= 0; i < count; i++) {
+			shards.add(new ArrayList<>());
+		}
+		for (Integer index : order) {
+			int lightest= 0;
+			for (int i= 1; i < count; i++) {
+				if (loads[i] < loads[lightest]) {
+					lightest= i;
+				}
+			}
+			shards.get(lightest).add(types[index.intValue()]);
+			loads[lightest]+= typeDurations[index.intValue()];
+		}
+
+		IType[][] result= new IType[count][];
+		for (int i= 0; i < count; i++) {
+			List<IType> shard= shards.get(i);
+			result[i]= shard.toArray(new IType[shard.size()]);
+		}
+		return result;
+	}
+}
@@ -0,0 +1,252 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.launcher;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.SubMonitor;
+
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+import org.eclipse.jdt.core.JavaModelException;
+
+/**
+ * Filters the classes found by a container search down to the test classes.
+ * <p>
+ * The types are checked in parallel, one task per package fragment. If the filter remembers
+ * decisions, which only pays off for an expensive {@link TypeTest}, types found to be tests are
+ * remembered between searches and reused as long as the modification stamps of the type, of all
+ * its supertypes in the search hierarchy and the resolved classpath of its project are
+ * unchanged. The least recently used entries are dropped once the cache is full. Types that are not tests are always checked again: they may become tests through
+ * changes the stamps do not cover, for example when a composed annotation starts to use a test
+ * annotation. Types with unsaved changes are always checked again.
+ * </p>
+ */
+class TestTypeFilter {
+
+	/**
+	 * Decides whether a single type is a test. Called concurrently from several threads.
+	 */
+	interface TypeTest {
+		boolean isTest(IType type) throws CoreException;
+	}
+
+	private final TypeTest fTest;
+	/**
+	 * Maps the handle identifiers of types found to be tests to the stamps they were checked with,
+	 * or <code>null</code> if decisions are not remembered.
+	 */
+	private final Map<String, Long> fTestTypes;
+
+	/**
+	 * Creates a filter which checks every type again on each search.
+	 *
+	 * @param test the test deciding whether a type is a test
+	 */
+	TestTypeFilter(TypeTest test) {
+		fTest= test;
+		fTestTypes= null;
+	}
+
+	/**
+	 * Creates a filter which remembers the types found to be tests.
+	 *
+	 * @param test the test deciding whether a type is a test
+	 * @param maxTestTypes the maximal number of remembered test types
+	 */
+	TestTypeFilter(TypeTest test, int maxTestTypes) {
+		fTest= test;
+		fTestTypes= Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID= 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+				return size() > maxTestTypes;
+			}
+		});
+	}
+
+	/**
+	 * Returns the types that are tests.
+	 *
+	 * @param types the types to check
+	 * @param hierarchy a hierarchy containing the supertypes of all types
+	 * @param monitor the progress monitor, may be <code>null</code>
+	 * @return the test types, in the order of <code>types</code> within each package fragment
+	 * @throws CoreException if checking a type fails
+	 * @throws OperationCanceledException if the monitor is canceled
+	 */
+	List<IType> filter(Collection<IType> types, ITypeHierarchy hierarchy, IProgressMonitor monitor) throws CoreException {
+		Map<IPackageFragment, List<IType>> byFragment= new LinkedHashMap<>();
+		for (IType type : types) {
+			byFragment.computeIfAbsent(type.getPackageFragment(), f -> new ArrayList<>()).add(type);
+		}
+		SubMonitor subMonitor= SubMonitor.convert(monitor, byFragment.size());
+		Map<Object, Long> stamps= new ConcurrentHashMap<>();
+		List<IType> result= new ArrayList<>();
+		int threads= Math.min(Runtime.getRuntime().availableProcessors(), byFragment.size());
+		if (threads <= 1) {
+			for (List<IType> group : byFragment.values()) {
+				result.addAll(filterGroup(group, hierarchy, stamps, subMonitor));
+				subMonitor.worked(1);
+			}
+			return result;
+		}
+
+		ExecutorService executor= Executors.newFixedThreadPool(threads, r -> {
+			Thread thread= new Thread(r, "JUnit test discovery"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			List<Future<List<IType>>> futures= new ArrayList<>(byFragment.size());
+			for (List<IType> group : byFragment.values()) {
+				futures.add(executor.submit(() -> filterGroup(group, hierarchy, stamps, subMonitor)));
+			}
+			for (Future<List<IType>> future : futures) {
+				result.addAll(getResult(future));
+				subMonitor.worked(1);
+			}
+			return result;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static List<IType> getResult(Future<List<IType>> future) throws CoreException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} catch (ExecutionException e) {
+			Throwable cause= e.getCause();
+			if (cause instanceof CoreException) {
+				throw (CoreException) cause;
+			}
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	private List<IType> filterGroup(List<IType> types, ITypeHierarchy hierarchy, Map<Object, Long> stamps, IProgressMonitor monitor) throws CoreException {
+		List<IType> tests= new ArrayList<>();
+		for (IType type : types) {
+			if (monitor.isCanceled()) {
+				throw new OperationCanceledException();
+			}
+			if (isTest(type, hierarchy, stamps)) {
+				tests.add(type);
+			}
+		}
+		return tests;
+	}
+
+	private boolean isTest(IType type, ITypeHierarchy hierarchy, Map<Object, Long> stamps) throws CoreException {
+		if (fTestTypes == null) {
+			return fTest.isTest(type);
+		}
+		String key= type.getHandleIdentifier();
+		long stamp= getStamp(type, hierarchy, stamps);
+		if (stamp != IResource.NULL_STAMP) {
+			Long testStamp= fTestTypes.get(key);
+			if (testStamp != null && testStamp.longValue() == stamp) {
+				return true;
+			}
+		}
+		boolean isTest= fTest.isTest(type);
+		if (isTest && stamp != IResource.NULL_STAMP) {
+			fTestTypes.put(key, Long.valueOf(stamp));
+		} else {
+			fTestTypes.remove(key);
+		}
+		return isTest;
+	}
+
+	private static long getStamp(IType type, ITypeHierarchy hierarchy, Map<Object, Long> stamps) throws JavaModelException {
+		long stamp= getTypeStamp(type, stamps);
+		if (stamp == IResource.NULL_STAMP) {
+			return stamp;
+		}
+		stamp= 31 * stamp + getClasspathStamp(type.getJavaProject(), stamps);
+		for (IType supertype : hierarchy.getAllSupertypes(type)) {
+			long supertypeStamp= getTypeStamp(supertype, stamps);
+			if (supertypeStamp == IResource.NULL_STAMP) {
+				return supertypeStamp;
+			}
+			stamp= 31 * stamp + supertypeStamp;
+		}
+		return stamp;
+	}
+
+	/*
+	 * The stamps of external archives and of project classpaths are computed once per search;
+	 * the map is keyed by archive path and by project.
+	 */
+	private static long getClasspathStamp(IJavaProject project, Map<Object, Long> stamps) throws JavaModelException {
+		Long stamp= stamps.get(project);
+		if (stamp == null) {
+			stamp= Long.valueOf(Arrays.hashCode(project.getResolvedClasspath(true)));
+			stamps.put(project, stamp);
+		}
+		return stamp.longValue();
+	}
+
+	private static long getTypeStamp(IType type, Map<Object, Long> stamps) throws JavaModelException {
+		ICompilationUnit cu= type.getCompilationUnit();
+		if (cu != null) {
+			if (cu.hasUnsavedChanges()) {
+				return IResource.NULL_STAMP;
+			}
+			IResource resource= cu.getResource();
+			return resource != null ? resource.getModificationStamp() : IResource.NULL_STAMP;
+		}
+		IResource resource= type.getClassFile().getResource();
+		if (resource != null) {
+			return resource.getModificationStamp();
+		}
+		// class file in an external archive or folder
+		IPackageFragmentRoot root= (IPackageFragmentRoot) type.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+		IPath path= root.getPath();
+		return stamps.computeIfAbsent(path, p -> {
+			long lastModified= new File(path.toOSString()).lastModified();
+			return lastModified != 0 ? lastModified : IResource.NULL_STAMP;
+		});
+	}
+}
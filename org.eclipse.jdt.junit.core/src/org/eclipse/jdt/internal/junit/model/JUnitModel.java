@@ -126,16 +126,29 @@ public final class JUnitModel {
 			if (portStr == null)
 				return;
 			try {
-				final int port= Integer.parseInt(portStr);
+				int[] ports;
+				String shardPortsStr= launch.getAttribute(JUnitLaunchConfigurationConstants.ATTR_SHARD_PORTS);
+				if (shardPortsStr != null) {
+					String[] shardPorts= shardPortsStr.split(","); //$NON-NLS-1$
+					ports= new int[shardPorts.length];
+					for (int i= 0; i < shardPorts.length; i++) {
+						ports[i]= Integer.parseInt(shardPorts[i]);
+					}
+				} else {
+					ports= new int[] { Integer.parseInt(portStr) };
+				}
 				fTrackedLaunches.remove(launch);
-				connectTestRunner(launch, javaProject, port);
+				connectTestRunner(launch, javaProject, ports);
 			} catch (NumberFormatException e) {
 				return;
 			}
 		}
 
-		private void connectTestRunner(ILaunch launch, IJavaProject javaProject, int port) {
-			TestRunSession testRunSession= new TestRunSession(launch, javaProject, port);
+		private void connectTestRunner(ILaunch launch, IJavaProject javaProject, int[] ports) {
+			TestRunSession testRunSession= new TestRunSession(launch, javaProject, ports);
+			if (TestClassDurations.runsWholeClasses(launch.getLaunchConfiguration())) {
+				testRunSession.addTestSessionListener(TestClassDurations.getDefault().createRecorder(testRunSession));
+			}
 			addTestRunSession(testRunSession);
 
 			for (TestRunListener listener : JUnitCorePlugin.getDefault().getNewTestRunListeners()) {
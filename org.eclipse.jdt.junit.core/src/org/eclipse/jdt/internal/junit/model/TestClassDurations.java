@@ -0,0 +1,316 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.model;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.debug.core.ILaunchConfiguration;
+
+import org.eclipse.jdt.junit.model.ITestElement;
+
+import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
+import org.eclipse.jdt.internal.junit.launcher.JUnitLaunchConfigurationConstants;
+
+/**
+ * Remembers how long the test classes took in the most recent runs. Sharded launches use the
+ * durations to balance the test classes across the runtime VMs.
+ * <p>
+ * Durations are kept per top-level class; tests of nested classes count for their top-level
+ * class. Only classes whose tests all ran to the end are recorded, and only for launches that
+ * run whole classes. The durations are stored in the state location of the plug-in by a
+ * background job.
+ * </p>
+ */
+public class TestClassDurations {
+
+	private static final String FILE_NAME= "testClassDurations.properties"; //$NON-NLS-1$
+
+	/**
+	 * Maximal number of remembered classes. The least recently updated classes are dropped first.
+	 */
+	private static final int MAX_ENTRIES= 20_000;
+
+	/**
+	 * Delay before the durations are written, so that consecutive runs are saved together.
+	 */
+	private static final long SAVE_DELAY= 1000;
+
+	private static TestClassDurations fgDefault;
+
+	/**
+	 * The duration of a test class and the time it was recorded, both in milliseconds.
+	 */
+	private record Duration(long duration, long timestamp) {
+	}
+
+	private final File fFile;
+
+	/**
+	 * Map from top-level class name to duration, or <code>null</code> if not loaded yet.
+	 */
+	private Map<String, Duration> fDurations;
+
+	private final Job fSaveJob;
+
+	/**
+	 * @param file the file that stores the durations
+	 */
+	public TestClassDurations(File file) {
+		fFile= file;
+		fSaveJob= new Job(ModelMessages.TestClassDurations_save_job) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				save();
+				return Status.OK_STATUS;
+			}
+		};
+		fSaveJob.setSystem(true);
+	}
+
+	public static synchronized TestClassDurations getDefault() {
+		if (fgDefault == null) {
+			fgDefault= new TestClassDurations(JUnitCorePlugin.getDefault().getStateLocation().append(FILE_NAME).toFile());
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * @param className the fully qualified name of a test class, nested classes separated by '$'
+	 * @return the duration of the class in the last run that executed it, in milliseconds, or
+	 *         <code>-1</code> if unknown
+	 */
+	public synchronized long getDuration(String className) {
+		Duration duration= getDurations().get(getTopLevelName(className));
+		return duration != null ? duration.duration() : -1;
+	}
+
+	/**
+	 * Sets the duration of a test class and schedules saving the durations.
+	 *
+	 * @param className the fully qualified name of a top-level test class
+	 * @param duration the duration in milliseconds
+	 */
+	public void setDuration(String className, long duration) {
+		setDurations(Map.of(className, Long.valueOf(duration)));
+	}
+
+	/**
+	 * Records the durations of the test classes that were completely executed in the given
+	 * session.
+	 *
+	 * @param session a finished test run session
+	 */
+	public void record(TestRunSession session) {
+		Map<String, Long> durations= new HashMap<>();
+		Set<String> incomplete= new HashSet<>();
+		collectDurations(session.getTestRoot(), durations, incomplete);
+		durations.keySet().removeAll(incomplete);
+		setDurations(durations);
+	}
+
+	private synchronized void setDurations(Map<String, Long> durations) {
+		if (durations.isEmpty()) {
+			return;
+		}
+		Map<String, Duration> all= getDurations();
+		long now= System.currentTimeMillis();
+		for (Entry<String, Long> entry : durations.entrySet()) {
+			all.put(entry.getKey(), new Duration(entry.getValue().longValue(), now));
+		}
+		if (all.size() > MAX_ENTRIES) {
+			List<Entry<String, Duration>> entries= new ArrayList<>(all.entrySet());
+			entries.sort(Comparator.comparingLong(e -> e.getValue().timestamp()));
+			for (Entry<String, Duration> entry : entries.subList(0, all.size() - MAX_ENTRIES)) {
+				all.remove(entry.getKey());
+			}
+		}
+		fSaveJob.schedule(SAVE_DELAY);
+	}
+
+	/**
+	 * Waits until pending changes have been written.
+	 *
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public void flush() throws InterruptedException {
+		if (fSaveJob.getState() == Job.SLEEPING) {
+			fSaveJob.wakeUp();
+		}
+		fSaveJob.join();
+	}
+
+	/**
+	 * Tells whether runs of the given launch configuration execute whole test classes. Runs of
+	 * single methods, of failed tests or of tagged tests only do not give the duration of a
+	 * class.
+	 *
+	 * @param configuration the launch configuration, or <code>null</code>
+	 * @return <code>true</code> if the durations of runs of the configuration should be recorded
+	 */
+	public static boolean runsWholeClasses(ILaunchConfiguration configuration) {
+		if (configuration == null) {
+			return false;
+		}
+		try {
+			return configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_TEST_NAME, "").isEmpty() //$NON-NLS-1$
+					&& configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_FAILURES_NAMES, "").isEmpty() //$NON-NLS-1$
+					&& configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_TEST_UNIQUE_ID, "").isEmpty() //$NON-NLS-1$
+					&& !configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_TEST_HAS_INCLUDE_TAGS, false)
+					&& !configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_TEST_HAS_EXCLUDE_TAGS, false);
+		} catch (CoreException e) {
+			JUnitCorePlugin.log(e);
+			return false;
+		}
+	}
+
+	/**
+	 * @param session the session to observe
+	 * @return a listener that records the durations when the session ends
+	 */
+	public ITestSessionListener createRecorder(TestRunSession session) {
+		return new ITestSessionListener() {
+			@Override
+			public void sessionEnded(long elapsedTime) {
+				record(session);
+			}
+
+			@Override
+			public void sessionStarted() {
+			}
+
+			@Override
+			public void sessionStopped(long elapsedTime) {
+			}
+
+			@Override
+			public void sessionTerminated() {
+			}
+
+			@Override
+			public void testAdded(TestElement testElement) {
+			}
+
+			@Override
+			public void runningBegins() {
+			}
+
+			@Override
+			public void testStarted(TestCaseElement testCaseElement) {
+			}
+
+			@Override
+			public void testEnded(TestCaseElement testCaseElement) {
+			}
+
+			@Override
+			public void testFailed(TestElement testElement, TestElement.Status status, String trace, String expected, String actual) {
+			}
+
+			@Override
+			public void testReran(TestCaseElement testCaseElement, TestElement.Status status, String trace, String expectedResult, String actualResult) {
+			}
+
+			@Override
+			public boolean acceptsSwapToDisk() {
+				return true;
+			}
+		};
+	}
+
+	private static void collectDurations(ITestElement element, Map<String, Long> durations, Set<String> incomplete) {
+		if (element instanceof TestSuiteElement) {
+			for (ITestElement child : ((TestSuiteElement) element).getChildren()) {
+				collectDurations(child, durations, incomplete);
+			}
+		} else if (element instanceof TestCaseElement) {
+			TestCaseElement testCase= (TestCaseElement) element;
+			String className= getTopLevelName(TestElement.extractRawClassName(testCase.getTestName()));
+			double seconds= testCase.getElapsedTimeInSeconds();
+			if (Double.isNaN(seconds) || testCase.getStatus().isNotRun()) {
+				incomplete.add(className);
+			} else {
+				durations.merge(className, Long.valueOf(Math.round(seconds * 1000)), Long::sum);
+			}
+		}
+	}
+
+	private static String getTopLevelName(String className) {
+		int index= className.indexOf('$');
+		return index < 0 ? className : className.substring(0, index);
+	}
+
+	private Map<String, Duration> getDurations() {
+		if (fDurations == null) {
+			fDurations= new HashMap<>();
+			if (fFile.isFile()) {
+				Properties properties= new Properties();
+				try (InputStream in= new FileInputStream(fFile)) {
+					properties.load(in);
+				} catch (IOException e) {
+					JUnitCorePlugin.log(e);
+				}
+				for (String className : properties.stringPropertyNames()) {
+					// format: duration","timestamp
+					String value= properties.getProperty(className);
+					int comma= value.indexOf(',');
+					try {
+						if (comma < 0) {
+							fDurations.put(className, new Duration(Long.parseLong(value), 0));
+						} else {
+							fDurations.put(className, new Duration(Long.parseLong(value.substring(0, comma)), Long.parseLong(value.substring(comma + 1))));
+						}
+					} catch (NumberFormatException e) {
+						// skip corrupt entry
+					}
+				}
+			}
+		}
+		return fDurations;
+	}
+
+	private void save() {
+		Properties properties= new Properties();
+		synchronized (this) {
+			for (Entry<String, Duration> entry : fDurations.entrySet()) {
+				Duration duration= entry.getValue();
+				properties.setProperty(entry.getKey(), Long.toString(duration.duration()) + ',' + Long.toString(duration.timestamp()));
+			}
+		}
+		try (OutputStream out= new FileOutputStream(fFile)) {
+			properties.store(out, null);
+		} catch (IOException e) {
+			JUnitCorePlugin.log(e);
+		}
+	}
+}
@@ -67,9 +67,27 @@ public class TestRunSession implements ITestRunSession {
 	private final ITestKind fTestRunnerKind;
 
 	/**
-	 * Test runner client or <code>null</code>.
+	 * Test runner clients, one per runtime VM, or <code>null</code>. A sharded test run has more
+	 * than one runtime VM; their events are merged into this session.
 	 */
-	private RemoteTestRunnerClient fTestRunnerClient;
+	private RemoteTestRunnerClient[] fTestRunnerClients;
+
+	/**
+	 * Serializes the events of the runtime VMs of a sharded test run. This is not the session's
+	 * monitor, since session listeners may synchronously wait for the UI thread.
+	 */
+	private final Object fShardEventLock= new Object();
+	/**
+	 * Number of runtime VMs that have started the test run.
+	 */
+	private int fStartedShards;
+	/**
+	 * Number of runtime VMs of a sharded test run that have not finished the test run.
+	 */
+	private int fRunningShards;
+	private long fShardsElapsedTime;
+	private boolean fShardsStopped;
+	private boolean fShardsTerminated;
 
 	private final ListenerList<ITestSessionListener> fSessionListeners;
 
@@ -88,13 +106,6 @@ public class TestRunSession implements ITestRunSession {
 	 */
 	private HashMap<String, TestElement> fIdToTest;
 
-	/**
-	 * The TestSuites for which additional children are expected.
-	 */
-	private List<IncompleteTestSuite> fIncompleteTestSuites;
-
-	private List<IncompleteTestSuite> fFactoryTestSuites;
-
 	/**
 	 * Suite for unrooted test case elements, or <code>null</code>.
 	 */
@@ -102,6 +113,11 @@ public class TestRunSession implements ITestRunSession {
 
 	private static final String EMPTY_STRING= ""; //$NON-NLS-1$
 
+	/**
+	 * Separates the shard number from the runtime's test id in the ids of sharded test runs.
+	 */
+	private static final char SHARD_ID_SEPARATOR= ':';
+
 	/**
 	 * Tags included in this test run.
 	 */
@@ -169,14 +185,26 @@ public class TestRunSession implements ITestRunSession {
 		fTestRoot= new TestRoot(this);
 		fIdToTest= new HashMap<>();
 
-		fTestRunnerClient= null;
+		fTestRunnerClients= null;
 
 		fSessionListeners= new ListenerList<>();
 	}
 
 
 	public TestRunSession(ILaunch launch, IJavaProject project, int port) {
+		this(launch, project, new int[] { port });
+	}
+
+	/**
+	 * Creates a test run session that listens to one or more runtime VMs.
+	 *
+	 * @param launch the launch
+	 * @param project the Java project
+	 * @param ports the ports of the runtime VMs; more than one for a sharded test run
+	 */
+	public TestRunSession(ILaunch launch, IJavaProject project, int[] ports) {
 		Assert.isNotNull(launch);
+		Assert.isLegal(ports.length > 0);
 
 		fLaunch= launch;
 		fProject= project;
@@ -193,26 +221,32 @@ public class TestRunSession implements ITestRunSession {
 		fTestRoot= new TestRoot(this);
 		fIdToTest= new HashMap<>();
 
-		fTestRunnerClient= new RemoteTestRunnerClient();
-		fTestRunnerClient.startListening(new ITestRunListener2[] { new TestSessionNotifier() }, port);
+		fRunningShards= ports.length;
+		fTestRunnerClients= new RemoteTestRunnerClient[ports.length];
+		for (int i= 0; i < ports.length; i++) {
+			fTestRunnerClients[i]= new RemoteTestRunnerClient();
+			ITestRunListener2 notifier;
+			if (ports.length == 1) {
+				notifier= new TestSessionNotifier(EMPTY_STRING);
+			} else {
+				notifier= new SerializingNotifier(new TestSessionNotifier(Integer.toString(i + 1) + SHARD_ID_SEPARATOR));
+			}
+			fTestRunnerClients[i].startListening(new ITestRunListener2[] { notifier }, ports[i]);
+		}
 
 		final ILaunchManager launchManager= DebugPlugin.getDefault().getLaunchManager();
 		launchManager.addLaunchListener(new ILaunchesListener2() {
 			@Override
 			public void launchesTerminated(ILaunch[] launches) {
 				if (Arrays.asList(launches).contains(fLaunch)) {
-					if (fTestRunnerClient != null) {
-						fTestRunnerClient.stopWaiting();
-					}
+					stopWaiting();
 					launchManager.removeLaunchListener(this);
 				}
 			}
 			@Override
 			public void launchesRemoved(ILaunch[] launches) {
 				if (Arrays.asList(launches).contains(fLaunch)) {
-					if (fTestRunnerClient != null) {
-						fTestRunnerClient.stopWaiting();
-					}
+					stopWaiting();
 					launchManager.removeLaunchListener(this);
 				}
 			}
@@ -228,6 +262,15 @@ public class TestRunSession implements ITestRunSession {
 		addTestSessionListener(new TestRunListenerAdapter(this));
 	}
 
+	private void stopWaiting() {
+		RemoteTestRunnerClient[] clients= fTestRunnerClients;
+		if (clients != null) {
+			for (RemoteTestRunnerClient client : clients) {
+				client.stopWaiting();
+			}
+		}
+	}
+
 	void reset() {
 		fStartedCount= 0;
 		fFailureCount= 0;
@@ -373,10 +416,8 @@ public class TestRunSession implements ITestRunSession {
 			JUnitModel.exportTestRunSession(this, swapFile);
 			fTestResult= fTestRoot.getTestResult(true);
 			fTestRoot= null;
-			fTestRunnerClient= null;
+			fTestRunnerClients= null;
 			fIdToTest= new HashMap<>();
-			fIncompleteTestSuites= null;
-			fFactoryTestSuites= null;
 			fUnrootedSuite= null;
 
 		} catch (IllegalStateException | CoreException e) {
@@ -419,17 +460,20 @@ public class TestRunSession implements ITestRunSession {
 	public void stopTestRun() {
 		if (isRunning() || ! isKeptAlive())
 			fIsStopped= true;
-		if (fTestRunnerClient != null)
-			fTestRunnerClient.stopTest();
+		RemoteTestRunnerClient[] clients= fTestRunnerClients;
+		if (clients != null) {
+			for (RemoteTestRunnerClient client : clients) {
+				client.stopTest();
+			}
+		}
 	}
 
 	/**
 	 * @return <code>true</code> iff the runtime VM of this test session is still alive
 	 */
 	public boolean isKeptAlive() {
-		if (fTestRunnerClient != null
-				&& fLaunch != null
-				&& fTestRunnerClient.isRunning()
+		if (fLaunch != null
+				&& isClientRunning()
 				&& ILaunchManager.DEBUG_MODE.equals(fLaunch.getLaunchMode())) {
 			ILaunchConfiguration config= fLaunch.getLaunchConfiguration();
 			try {
@@ -444,6 +488,18 @@ public class TestRunSession implements ITestRunSession {
 		}
 	}
 
+	private boolean isClientRunning() {
+		RemoteTestRunnerClient[] clients= fTestRunnerClients;
+		if (clients != null) {
+			for (RemoteTestRunnerClient client : clients) {
+				if (client.isRunning()) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * @return <code>true</code> iff this session has been started, but not ended nor stopped nor terminated
 	 */
@@ -467,7 +523,15 @@ public class TestRunSession implements ITestRunSession {
 			} else if (status == Status.FAILURE) {
 				fFailureCount--;
 			}
-			fTestRunnerClient.rerunTest(testId, className, testName);
+			RemoteTestRunnerClient[] clients= fTestRunnerClients;
+			if (clients.length == 1) {
+				clients[0].rerunTest(testId, className, testName);
+			} else {
+				// strip the shard number added by the TestSessionNotifier
+				int separator= testId.indexOf(SHARD_ID_SEPARATOR);
+				int shard= Integer.parseInt(testId.substring(0, separator)) - 1;
+				clients[shard].rerunTest(testId.substring(separator + 1), className, testName);
+			}
 			return true;
 		}
 		return false;
@@ -477,10 +541,18 @@ public class TestRunSession implements ITestRunSession {
 		return fIdToTest.get(id);
 	}
 
-	private TestElement addTreeEntry(String treeEntry) {
+	/**
+	 * Adds a test element for a tree entry sent by a runtime VM.
+	 *
+	 * @param treeEntry the tree entry
+	 * @param notifier the notifier of the runtime VM
+	 * @return the added test element, or <code>null</code> if the entry has been merged into an
+	 *         existing element of another shard
+	 */
+	private TestElement addTreeEntry(String treeEntry, TestSessionNotifier notifier) {
 		// format: testId","testName","isSuite","testcount","isDynamicTest","parentId","displayName","parameterTypes","uniqueId
 		int index0= treeEntry.indexOf(',');
-		String id= treeEntry.substring(0, index0);
+		String id= notifier.toSessionId(treeEntry.substring(0, index0));
 
 		StringBuffer testNameBuffer= new StringBuffer(100);
 		int index1= scanTestName(treeEntry, index0 + 1, testNameBuffer);
@@ -516,6 +588,8 @@ public class TestRunSession implements ITestRunSession {
 			parentId= treeEntry.substring(index4 + 1, index5);
 			if ("-1".equals(parentId)) { //$NON-NLS-1$
 				parentId= null;
+			} else {
+				parentId= notifier.toSessionId(parentId);
 			}
 
 			int index6= scanTestName(treeEntry, index5 + 1, displayNameBuffer);
@@ -542,28 +616,52 @@ public class TestRunSession implements ITestRunSession {
 
 		if (isDynamicTest) {
 			if (parentId != null) {
-				for (IncompleteTestSuite suite : fFactoryTestSuites) {
+				for (IncompleteTestSuite suite : notifier.fFactoryTestSuites) {
 					if (parentId.equals(suite.fTestSuiteElement.getId())) {
-						return createTestElement(suite.fTestSuiteElement, id, testName, isSuite, testCount, isDynamicTest, displayName, parameterTypes, uniqueId);
+						return createTestElement(suite.fTestSuiteElement, id, testName, isSuite, testCount, isDynamicTest, displayName, parameterTypes, uniqueId, notifier);
 					}
 				}
 			}
-			return createTestElement(getUnrootedSuite(), id, testName, isSuite, testCount, isDynamicTest, displayName, parameterTypes, uniqueId); // should not reach here
+			return createTestElement(getUnrootedSuite(), id, testName, isSuite, testCount, isDynamicTest, displayName, parameterTypes, uniqueId, notifier); // should not reach here
 		} else {
-			if (fIncompleteTestSuites.isEmpty()) {
-				return createTestElement(fTestRoot, id, testName, isSuite, testCount, isDynamicTest, displayName, parameterTypes, uniqueId);
+			List<IncompleteTestSuite> incompleteTestSuites= notifier.fIncompleteTestSuites;
+			if (incompleteTestSuites.isEmpty()) {
+				TestSuiteElement sharedRoot= findSharedRoot(isSuite, uniqueId);
+				if (sharedRoot != null) {
+					// the same engine or suite runs in another shard: add the children to its element
+					fIdToTest.put(id, sharedRoot);
+					notifier.registerSuite(sharedRoot, testCount);
+					return null;
+				}
+				return createTestElement(fTestRoot, id, testName, isSuite, testCount, isDynamicTest, displayName, parameterTypes, uniqueId, notifier);
 			} else {
-				int suiteIndex= fIncompleteTestSuites.size() - 1;
-				IncompleteTestSuite openSuite= fIncompleteTestSuites.get(suiteIndex);
+				int suiteIndex= incompleteTestSuites.size() - 1;
+				IncompleteTestSuite openSuite= incompleteTestSuites.get(suiteIndex);
 				openSuite.fOutstandingChildren--;
 				if (openSuite.fOutstandingChildren <= 0)
-					fIncompleteTestSuites.remove(suiteIndex);
-				return createTestElement(openSuite.fTestSuiteElement, id, testName, isSuite, testCount, isDynamicTest, displayName, parameterTypes, uniqueId);
+					incompleteTestSuites.remove(suiteIndex);
+				return createTestElement(openSuite.fTestSuiteElement, id, testName, isSuite, testCount, isDynamicTest, displayName, parameterTypes, uniqueId, notifier);
 			}
 		}
 	}
 
+	private TestSuiteElement findSharedRoot(boolean isSuite, String uniqueId) {
+		if (!isSuite || uniqueId == null || fTestRunnerClients == null || fTestRunnerClients.length == 1) {
+			return null;
+		}
+		for (ITestElement child : fTestRoot.getChildren()) {
+			if (child instanceof TestSuiteElement suite && uniqueId.equals(suite.getUniqueId())) {
+				return suite;
+			}
+		}
+		return null;
+	}
+
 	public TestElement createTestElement(TestSuiteElement parent, String id, String testName, boolean isSuite, int testCount, boolean isDynamicTest, String displayName, String[] parameterTypes, String uniqueId) {
+		return createTestElement(parent, id, testName, isSuite, testCount, isDynamicTest, displayName, parameterTypes, uniqueId, null);
+	}
+
+	private TestElement createTestElement(TestSuiteElement parent, String id, String testName, boolean isSuite, int testCount, boolean isDynamicTest, String displayName, String[] parameterTypes, String uniqueId, TestSessionNotifier notifier) {
 		TestElement testElement;
 		if (parameterTypes != null && parameterTypes.length > 1) {
 			parameterTypes= Arrays.stream(parameterTypes).map(String::trim).toArray(String[]::new);
@@ -571,10 +669,8 @@ public class TestRunSession implements ITestRunSession {
 		if (isSuite) {
 			TestSuiteElement testSuiteElement= new TestSuiteElement(parent, id, testName, testCount, displayName, parameterTypes, uniqueId);
 			testElement= testSuiteElement;
-			if (testCount > 0) {
-				fIncompleteTestSuites.add(new IncompleteTestSuite(testSuiteElement, testCount));
-			} else if (fFactoryTestSuites != null) {
-				fFactoryTestSuites.add(new IncompleteTestSuite(testSuiteElement, testCount));
+			if (notifier != null) {
+				notifier.registerSuite(testSuiteElement, testCount);
 			}
 		} else {
 			testElement= new TestCaseElement(parent, id, testName, displayName, isDynamicTest, parameterTypes, uniqueId);
@@ -625,11 +721,50 @@ public class TestRunSession implements ITestRunSession {
 	 */
 	private class TestSessionNotifier implements ITestRunListener2 {
 
+		/**
+		 * Prefix that makes the runtime's test ids unique within the session, or the empty string.
+		 */
+		private final String fIdPrefix;
+
+		/**
+		 * The TestSuites for which additional children are expected.
+		 */
+		private List<IncompleteTestSuite> fIncompleteTestSuites;
+
+		private List<IncompleteTestSuite> fFactoryTestSuites;
+
+		/**
+		 * Whether this runtime VM has finished the test run.
+		 */
+		private boolean fFinished;
+
+		TestSessionNotifier(String idPrefix) {
+			fIdPrefix= idPrefix;
+		}
+
+		String toSessionId(String testId) {
+			return fIdPrefix.isEmpty() ? testId : fIdPrefix + testId;
+		}
+
+		void registerSuite(TestSuiteElement testSuiteElement, int testCount) {
+			if (testCount > 0) {
+				fIncompleteTestSuites.add(new IncompleteTestSuite(testSuiteElement, testCount));
+			} else {
+				fFactoryTestSuites.add(new IncompleteTestSuite(testSuiteElement, testCount));
+			}
+		}
+
 		@Override
 		public void testRunStarted(int testCount) {
 			fIncompleteTestSuites= new ArrayList<>();
 			fFactoryTestSuites= new ArrayList<>();
 
+			if (fStartedShards++ > 0 && !fIdPrefix.isEmpty()) {
+				// another shard of a sharded test run
+				fTotalCount+= testCount;
+				return;
+			}
+
 			fStartedCount= 0;
 			fIgnoredCount= 0;
 			fFailureCount= 0;
@@ -647,36 +782,68 @@ public class TestRunSession implements ITestRunSession {
 
 		@Override
 		public void testRunEnded(long elapsedTime) {
-			fIsRunning= false;
-
-			for (ITestSessionListener listener : fSessionListeners) {
-				listener.sessionEnded(elapsedTime);
-			}
+			shardFinished(elapsedTime, false, false);
 		}
 
 		@Override
 		public void testRunStopped(long elapsedTime) {
-			fIsRunning= false;
-			fIsStopped= true;
-
-			for (ITestSessionListener listener : fSessionListeners) {
-				listener.sessionStopped(elapsedTime);
-			}
+			shardFinished(elapsedTime, true, false);
 		}
 
 		@Override
 		public void testRunTerminated() {
-			fIsRunning= false;
-			fIsStopped= true;
+			shardFinished(0, true, true);
+		}
 
-			for (ITestSessionListener listener : fSessionListeners) {
-				listener.sessionTerminated();
+		/**
+		 * Notifies the session listeners once the last runtime VM of a sharded test run has finished.
+		 *
+		 * @param elapsedTime the elapsed time of this runtime VM
+		 * @param stopped whether the test run has been stopped
+		 * @param terminated whether the runtime VM has been terminated
+		 */
+		private void shardFinished(long elapsedTime, boolean stopped, boolean terminated) {
+			if (fIdPrefix.isEmpty()) {
+				sessionFinished(elapsedTime, stopped, terminated);
+				return;
+			}
+			fShardsElapsedTime= Math.max(fShardsElapsedTime, elapsedTime);
+			fShardsStopped|= stopped;
+			fShardsTerminated|= terminated;
+			if (!fFinished) {
+				fFinished= true;
+				fRunningShards--;
+			}
+			if (fRunningShards == 0) {
+				sessionFinished(fShardsElapsedTime, fShardsStopped, fShardsTerminated);
+			}
+		}
+
+		private void sessionFinished(long elapsedTime, boolean stopped, boolean terminated) {
+			fIsRunning= false;
+			if (terminated) {
+				fIsStopped= true;
+				for (ITestSessionListener listener : fSessionListeners) {
+					listener.sessionTerminated();
+				}
+			} else if (stopped) {
+				fIsStopped= true;
+				for (ITestSessionListener listener : fSessionListeners) {
+					listener.sessionStopped(elapsedTime);
+				}
+			} else {
+				for (ITestSessionListener listener : fSessionListeners) {
+					listener.sessionEnded(elapsedTime);
+				}
 			}
 		}
 
 		@Override
 		public void testTreeEntry(String description) {
-			TestElement testElement= addTreeEntry(description);
+			TestElement testElement= addTreeEntry(description, this);
+			if (testElement == null) {
+				return;
+			}
 
 			for (ITestSessionListener listener : fSessionListeners) {
 				listener.testAdded(testElement);
@@ -685,7 +852,7 @@ public class TestRunSession implements ITestRunSession {
 
 		private TestElement createUnrootedTestElement(String testId, String testName) {
 			TestSuiteElement unrootedSuite= getUnrootedSuite();
-			TestElement testElement= createTestElement(unrootedSuite, testId, testName, false, 1, false, testName, null, null);
+			TestElement testElement= createTestElement(unrootedSuite, testId, testName, false, 1, false, testName, null, null, this);
 
 			for (ITestSessionListener listener : fSessionListeners) {
 				listener.testAdded(testElement);
@@ -696,6 +863,7 @@ public class TestRunSession implements ITestRunSession {
 
 		@Override
 		public void testStarted(String testId, String testName) {
+			testId= toSessionId(testId);
 			if (fStartedCount == 0) {
 				for (ITestSessionListener listener : fSessionListeners) {
 					listener.runningBegins();
@@ -724,6 +892,7 @@ public class TestRunSession implements ITestRunSession {
 
 		@Override
 		public void testEnded(String testId, String testName) {
+			testId= toSessionId(testId);
 			boolean isIgnored= testName.startsWith(MessageIds.IGNORED_TEST_PREFIX);
 
 			TestElement testElement= getTestElement(testId);
@@ -756,6 +925,7 @@ public class TestRunSession implements ITestRunSession {
 
 		@Override
 		public void testFailed(int statusCode, String testId, String testName, String trace, String expected, String actual) {
+			testId= toSessionId(testId);
 			TestElement testElement= getTestElement(testId);
 			if (testElement == null) {
 				testElement= createUnrootedTestElement(testId, testName);
@@ -779,6 +949,7 @@ public class TestRunSession implements ITestRunSession {
 
 		@Override
 		public void testReran(String testId, String className, String testName, int statusCode, String trace, String expectedResult, String actualResult) {
+			testId= toSessionId(testId);
 			TestElement testElement= getTestElement(testId);
 			if (testElement == null) {
 				testElement= createUnrootedTestElement(testId, testName);
@@ -802,6 +973,81 @@ public class TestRunSession implements ITestRunSession {
 		}
 	}
 
+	/**
+	 * Forwards the events of one runtime VM of a sharded test run while holding the session's
+	 * event lock, so that the events of all runtime VMs are processed one at a time.
+	 */
+	private class SerializingNotifier implements ITestRunListener2 {
+		private final ITestRunListener2 fNotifier;
+
+		SerializingNotifier(ITestRunListener2 notifier) {
+			fNotifier= notifier;
+		}
+
+		@Override
+		public void testRunStarted(int testCount) {
+			synchronized (fShardEventLock) {
+				fNotifier.testRunStarted(testCount);
+			}
+		}
+
+		@Override
+		public void testRunEnded(long elapsedTime) {
+			synchronized (fShardEventLock) {
+				fNotifier.testRunEnded(elapsedTime);
+			}
+		}
+
+		@Override
+		public void testRunStopped(long elapsedTime) {
+			synchronized (fShardEventLock) {
+				fNotifier.testRunStopped(elapsedTime);
+			}
+		}
+
+		@Override
+		public void testStarted(String testId, String testName) {
+			synchronized (fShardEventLock) {
+				fNotifier.testStarted(testId, testName);
+			}
+		}
+
+		@Override
+		public void testEnded(String testId, String testName) {
+			synchronized (fShardEventLock) {
+				fNotifier.testEnded(testId, testName);
+			}
+		}
+
+		@Override
+		public void testRunTerminated() {
+			synchronized (fShardEventLock) {
+				fNotifier.testRunTerminated();
+			}
+		}
+
+		@Override
+		public void testTreeEntry(String description) {
+			synchronized (fShardEventLock) {
+				fNotifier.testTreeEntry(description);
+			}
+		}
+
+		@Override
+		public void testFailed(int status, String testId, String testName, String trace, String expected, String actual) {
+			synchronized (fShardEventLock) {
+				fNotifier.testFailed(status, testId, testName, trace, expected, actual);
+			}
+		}
+
+		@Override
+		public void testReran(String testId, String testClass, String testName, int status, String trace, String expected, String actual) {
+			synchronized (fShardEventLock) {
+				fNotifier.testReran(testId, testClass, testName, status, trace, expected, actual);
+			}
+		}
+	}
+
 	private static class IncompleteTestSuite {
 		public TestSuiteElement fTestSuiteElement;
 		public int fOutstandingChildren;
@@ -71,6 +71,8 @@ import org.eclipse.jdt.internal.junit.launcher.ITestKind;
 import org.eclipse.jdt.internal.junit.launcher.JUnitLaunchConfigurationConstants;
 import org.eclipse.jdt.internal.junit.launcher.JUnitRuntimeClasspathEntry;
 import org.eclipse.jdt.internal.junit.launcher.TestKindRegistry;
+import org.eclipse.jdt.internal.junit.launcher.TestShardPartitioner;
+import org.eclipse.jdt.internal.junit.model.TestClassDurations;
 import org.eclipse.jdt.internal.junit.util.CoreTestSearchEngine;
 import org.eclipse.jdt.internal.junit.util.IJUnitStatusConstants;
 
@@ -96,6 +98,11 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 	private boolean fKeepAlive= false;
 	private int fPort;
 	private IJavaElement[] fTestElements;
+	/**
+	 * The test classes of each shard of a sharded launch, or <code>null</code>.
+	 */
+	private IType[][] fShards;
+	private int[] fShardPorts;
 
 	private static final String DEFAULT= "<default>"; //$NON-NLS-1$
 
@@ -123,7 +130,7 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 	}
 
 	private VMRunnerConfiguration getVMRunnerConfiguration(ILaunchConfiguration configuration, ILaunch launch, String mode, IProgressMonitor monitor) throws CoreException {
-		SubMonitor subMon= SubMonitor.convert(monitor, JUnitMessages.JUnitLaunchConfigurationDelegate_verifying_attriburtes_description, 4);
+		SubMonitor subMon= SubMonitor.convert(monitor, JUnitMessages.JUnitLaunchConfigurationDelegate_verifying_attriburtes_description, 5);
 		// check for cancellation
 		if (subMon.isCanceled()) {
 			return null;
@@ -150,7 +157,6 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 
 			fKeepAlive= ILaunchManager.DEBUG_MODE.equals(mode) && configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_KEEPRUNNING, false);
 			fPort= evaluatePort();
-			launch.setAttribute(JUnitLaunchConfigurationConstants.ATTR_PORT, String.valueOf(fPort));
 
 			ITestKind testKind= getTestRunnerKind(configuration);
 			IJavaProject javaProject= getJavaProject(configuration);
@@ -164,6 +170,9 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 					fTestElements= evaluateTests(configuration, subMon.newChild(1));
 				}
 			}
+			computeShards(configuration, launch, subMon.newChild(1));
+			// the test run session connects as soon as the port is set, so the shard ports must be known by then
+			launch.setAttribute(JUnitLaunchConfigurationConstants.ATTR_PORT, String.valueOf(fPort));
 
 			String mainTypeName= verifyMainTypeName(configuration);
 
@@ -179,11 +188,7 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 
 			ArrayList<String> vmArguments= new ArrayList<>();
 			ArrayList<String> programArguments= new ArrayList<>();
-			collectExecutionArguments(configuration, vmArguments, programArguments);
-			vmArguments.addAll(Arrays.asList(DebugPlugin.parseArguments(getVMArguments(configuration, mode))));
-			if (JavaRuntime.isModularProject(javaProject)) {
-				vmArguments.add("--add-modules=ALL-MODULE-PATH"); //$NON-NLS-1$
-			}
+			collectAllArguments(configuration, mode, javaProject, vmArguments, programArguments);
 
 			// VM-specific attributes
 			Map<String, Object> vmAttributesMap= getVMSpecificAttributesMap(configuration);
@@ -285,16 +290,115 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 			// Launch the configuration - 1 unit of work
 			runner.run(runConfig, launch, monitor);
 
+			// Launch the remaining shards of a sharded run, their events are merged into the same test run session
+			if (fShards != null) {
+				for (int i= 1; i < fShards.length && !monitor.isCanceled(); i++) {
+					runner.run(getShardRunConfiguration(configuration, mode, runConfig, i), launch, monitor);
+				}
+			}
+
 			// check for cancellation
 			if (monitor.isCanceled()) {
 				return;
 			}
 		} finally {
 			fTestElements= null;
+			fShards= null;
+			fShardPorts= null;
 			monitor.done();
 		}
 	}
 
+	private void collectAllArguments(ILaunchConfiguration configuration, String mode, IJavaProject javaProject, List<String> vmArguments, List<String> programArguments) throws CoreException {
+		collectExecutionArguments(configuration, vmArguments, programArguments);
+		vmArguments.addAll(Arrays.asList(DebugPlugin.parseArguments(getVMArguments(configuration, mode))));
+		if (JavaRuntime.isModularProject(javaProject)) {
+			vmArguments.add("--add-modules=ALL-MODULE-PATH"); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Splits the test classes into shards if the configuration asks for a sharded run. On return,
+	 * the test elements and the port describe the first shard.
+	 */
+	private void computeShards(ILaunchConfiguration configuration, ILaunch launch, IProgressMonitor monitor) throws CoreException {
+		fShards= null;
+		fShardPorts= null;
+		int shardCount= configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_SHARD_COUNT, 1);
+		if (shardCount < 2) {
+			return;
+		}
+		IJavaElement[] testElements= fTestElements;
+		if (testElements.length == 1 && !(testElements[0] instanceof IMember)) {
+			// a test container that the runtime would otherwise search itself
+			testElements= evaluateTests(configuration, monitor);
+		}
+		IType[] types= new IType[testElements.length];
+		for (int i= 0; i < testElements.length; i++) {
+			if (!(testElements[i] instanceof IType)) {
+				return; // single test methods are not sharded
+			}
+			types[i]= (IType) testElements[i];
+		}
+		IType[][] shards= TestShardPartitioner.partition(types, shardCount, TestClassDurations.getDefault());
+		if (shards.length < 2) {
+			return;
+		}
+
+		int[] ports= new int[shards.length];
+		ports[0]= fPort;
+		StringBuilder portsAttribute= new StringBuilder().append(fPort);
+		for (int i= 1; i < ports.length; i++) {
+			int port;
+			do {
+				port= evaluatePort();
+			} while (contains(ports, i, port));
+			ports[i]= port;
+			portsAttribute.append(',').append(port);
+		}
+		launch.setAttribute(JUnitLaunchConfigurationConstants.ATTR_SHARD_PORTS, portsAttribute.toString());
+
+		fShards= shards;
+		fShardPorts= ports;
+		fTestElements= shards[0];
+	}
+
+	private static boolean contains(int[] values, int length, int value) {
+		for (int i= 0; i < length; i++) {
+			if (values[i] == value) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private VMRunnerConfiguration getShardRunConfiguration(ILaunchConfiguration configuration, String mode, VMRunnerConfiguration firstShard, int shard) throws CoreException {
+		if (JUnitLaunchConfigurationConstants.MODE_RUN_QUIETLY_MODE.equals(mode)) {
+			mode= ILaunchManager.RUN_MODE;
+		}
+		fTestElements= fShards[shard];
+		fPort= fShardPorts[shard];
+
+		ArrayList<String> vmArguments= new ArrayList<>();
+		ArrayList<String> programArguments= new ArrayList<>();
+		collectAllArguments(configuration, mode, getJavaProject(configuration), vmArguments, programArguments);
+
+		VMRunnerConfiguration runConfig= new VMRunnerConfiguration(firstShard.getClassToLaunch(), firstShard.getClassPath());
+		runConfig.setVMArguments(vmArguments.toArray(new String[vmArguments.size()]));
+		runConfig.setProgramArguments(programArguments.toArray(new String[programArguments.size()]));
+		runConfig.setEnvironment(firstShard.getEnvironment());
+		runConfig.setWorkingDirectory(firstShard.getWorkingDirectory());
+		runConfig.setVMSpecificAttributesMap(firstShard.getVMSpecificAttributesMap());
+		runConfig.setPreviewEnabled(firstShard.isPreviewEnabled());
+		if (!JavaRuntime.isModularConfiguration(configuration)) {
+			runConfig.setBootClassPath(firstShard.getBootClassPath());
+		} else {
+			runConfig.setModulepath(firstShard.getModulepath());
+			runConfig.setOverrideDependencies(firstShard.getOverrideDependencies());
+		}
+		return runConfig;
+	}
+
 	private int evaluatePort() throws CoreException {
 		int port= SocketUtil.findFreePort();
 		if (port == -1) {
@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.text.tests.performance.EditorTestHelper;
+
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.Position;
+import org.eclipse.jface.text.source.Annotation;
+import org.eclipse.jface.text.source.projection.ProjectionAnnotationModel;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+
+import org.eclipse.jdt.ui.JavaUI;
+import org.eclipse.jdt.ui.tests.core.rules.Java1d8ProjectTestSetup;
+
+import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
+
+/**
+ * Tests that the folding structure updated for an edit inside a member matches the folding
+ * structure computed from scratch.
+ */
+public class FoldingStructureUpdateTest {
+	@Rule
+	public Java1d8ProjectTestSetup f18p= new Java1d8ProjectTestSetup();
+
+	private static final String SOURCE= """
+		package test1;
+		/**
+		 * Type comment.
+		 */
+		public class E {
+			/**
+			 * Comment of m1.
+			 */
+			void m1() {
+				int a= 1;
+			}
+
+			/**
+			 * Comment of m2.
+			 */
+			void m2() {
+				int b= 2;
+			}
+
+			class Inner {
+				void m3() {
+					int c= 3;
+				}
+			}
+		}
+		""";
+
+	private IJavaProject fJProject1;
+	private ICompilationUnit fCompilationUnit;
+	private boolean fWasFoldingEnabled;
+	private JavaEditor fEditor;
+
+	@Before
+	public void setUp() throws Exception {
+		fWasFoldingEnabled= EditorTestHelper.enableFolding(true);
+		fJProject1= f18p.getProject();
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		IPackageFragment pack= sourceFolder.createPackageFragment("test1", false, null);
+		fCompilationUnit= pack.createCompilationUnit("E.java", SOURCE, true, null);
+		fEditor= openEditor();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		EditorTestHelper.closeAllEditors();
+		EditorTestHelper.enableFolding(fWasFoldingEnabled);
+		JavaProjectHelper.clear(fJProject1, f18p.getDefaultClasspath());
+	}
+
+	private JavaEditor openEditor() throws Exception {
+		JavaEditor editor= (JavaEditor) JavaUI.openInEditor(fCompilationUnit);
+		assertNotNull(editor);
+		waitForReconciler(editor);
+		return editor;
+	}
+
+	private static void waitForReconciler(JavaEditor editor) {
+		assertTrue(EditorTestHelper.joinReconciler(EditorTestHelper.getSourceViewer(editor), 100, 10000, 100));
+		EditorTestHelper.runEventQueue(editor, 100);
+	}
+
+	private List<Position> getFoldingPositions() {
+		ProjectionAnnotationModel model= fEditor.getAdapter(ProjectionAnnotationModel.class);
+		assertNotNull(model);
+		List<Position> positions= new ArrayList<>();
+		for (Iterator<Annotation> iter= model.getAnnotationIterator(); iter.hasNext();) {
+			Position position= model.getPosition(iter.next());
+			if (position != null)
+				positions.add(new Position(position.getOffset(), position.getLength()));
+		}
+		positions.sort(Comparator.comparingInt(Position::getOffset).thenComparingInt(Position::getLength));
+		return positions;
+	}
+
+	private void assertUpdateMatchesFullComputation(String search, String replacement) throws Exception {
+		IDocument document= EditorTestHelper.getDocument(fEditor);
+		int offset= document.get().indexOf(search);
+		assertTrue(offset != -1);
+		document.replace(offset, search.length(), replacement);
+		waitForReconciler(fEditor);
+		List<Position> updated= getFoldingPositions();
+		assertFalse(updated.isEmpty());
+
+		fEditor.doSave(null);
+		EditorTestHelper.closeEditor(fEditor);
+		fEditor= openEditor();
+		assertEquals(getFoldingPositions(), updated);
+	}
+
+	@Test
+	public void editInsideMethodBody() throws Exception {
+		assertUpdateMatchesFullComputation("int a= 1;", "int a= 1;\n\t\tint d= 4;\n\t\tint e= 5;");
+	}
+
+	@Test
+	public void editInsideNestedTypeMember() throws Exception {
+		assertUpdateMatchesFullComputation("int c= 3;", "int c= 3;\n\t\t\tint f= 6;");
+	}
+
+	@Test
+	public void addMethod() throws Exception {
+		assertUpdateMatchesFullComputation("\tvoid m2() {", "\tvoid added() {\n\t\tint g= 7;\n\t}\n\n\tvoid m2() {");
+	}
+
+	@Test
+	public void removeMethod() throws Exception {
+		assertUpdateMatchesFullComputation("\t/**\n\t * Comment of m2.\n\t */\n\tvoid m2() {\n\t\tint b= 2;\n\t}\n", "");
+	}
+
+	@Test
+	public void editMemberComment() throws Exception {
+		assertUpdateMatchesFullComputation("Comment of m1.", "Comment of m1.\n\t * Second line.");
+	}
+}
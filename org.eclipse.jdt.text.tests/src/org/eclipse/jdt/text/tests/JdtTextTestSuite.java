@@ -21,6 +21,7 @@ import org.eclipse.jdt.text.tests.codemining.CodeMiningTriggerTest;
 import org.eclipse.jdt.text.tests.codemining.ParameterNamesCodeMiningTest;
 import org.eclipse.jdt.text.tests.contentassist.ContentAssistTestSuite;
 import org.eclipse.jdt.text.tests.spelling.SpellCheckEngineTestCase;
+import org.eclipse.jdt.text.tests.spelling.SpellingPartitionCacheTest;
 import org.eclipse.jdt.text.tests.templates.TemplatesTestSuite;
 
 
@@ -51,6 +52,7 @@ import org.eclipse.jdt.text.tests.templates.TemplatesTestSuite;
 	MarkOccurrenceTest1d8.class,
 	BracketInserterTest.class,
 	SpellCheckEngineTestCase.class,
+	SpellingPartitionCacheTest.class,
 	SemanticHighlightingTest.class,
 	AutoboxingSemanticHighlightingTest.class,
 	NewForLoopJavaContextTest.class,
@@ -63,6 +65,7 @@ import org.eclipse.jdt.text.tests.templates.TemplatesTestSuite;
 	ContentAssistTestSuite.class,
 	IndentActionTest.class,
 	IndentActionTest15.class,
+	FoldingStructureUpdateTest.class,
 	TemplatesTestSuite.class,
 	JavaElementPrefixPatternMatcherTest.class,
 	CodeMiningTriggerTest.class,
@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.performance;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.PerformanceMeter;
+
+import org.eclipse.core.runtime.Path;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jface.action.IAction;
+
+import org.eclipse.jface.text.DocumentEvent;
+import org.eclipse.jface.text.DocumentRewriteSessionEvent;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
+import org.eclipse.jface.text.IDocumentListener;
+import org.eclipse.jface.text.IDocumentRewriteSessionListener;
+
+import org.eclipse.ui.texteditor.AbstractTextEditor;
+
+
+/**
+ * Measures the time to correct the indentation of a large, generated compilation unit in which
+ * every line starts at the first column. All lines are indented in a detached copy of the
+ * document, so the editor document must only be changed inside a single rewrite session.
+ */
+public class IndentActionPerformanceTest extends TextPerformanceTestCase {
+
+	private static final Class<IndentActionPerformanceTest> THIS= IndentActionPerformanceTest.class;
+
+	private static final String FILE= "/" + PerformanceTestSetup.PROJECT + "/Eclipse SWT Custom Widgets/common/org/eclipse/swt/custom/GeneratedIndentation.java";
+
+	private static final int METHODS= 1000;
+
+	private static final int WARM_UP_RUNS= 2;
+
+	private static final int MEASURED_RUNS= 3;
+
+	private AbstractTextEditor fEditor;
+
+	private int fSessions;
+
+	private int fChangesOutsideSession;
+
+	private int fChangesInsideSession;
+
+	private boolean fInSession;
+
+	public static Test suite() {
+		return new PerformanceTestSetup(new TestSuite(THIS));
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		IFile file= ResourcesPlugin.getWorkspace().getRoot().getFile(new Path(FILE));
+		if (file.exists())
+			ResourceTestHelper.delete(FILE);
+		ResourceTestHelper.write(FILE, generate());
+		fEditor= (AbstractTextEditor) EditorTestHelper.openInEditor(ResourceTestHelper.findFile(FILE), true);
+		EditorTestHelper.joinBackgroundActivities(fEditor);
+		setWarmUpRuns(WARM_UP_RUNS);
+		setMeasuredRuns(MEASURED_RUNS);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		super.tearDown();
+		EditorTestHelper.closeAllEditors();
+		ResourceTestHelper.delete(FILE);
+	}
+
+	private static String generate() {
+		StringBuilder buf= new StringBuilder();
+		buf.append("package org.eclipse.swt.custom;\n");
+		buf.append("class GeneratedIndentation {\n");
+		for (int i= 0; i < METHODS; i++) {
+			buf.append("int field").append(i).append(";\n");
+			buf.append("/**\n");
+			buf.append("* Method ").append(i).append(".\n");
+			buf.append("*/\n");
+			buf.append("void method").append(i).append("(int i) {\n");
+			buf.append("if (i > 0) {\n");
+			buf.append("for (int j= 0; j < i; j++) {\n");
+			buf.append("i--; // count down\n");
+			buf.append("}\n");
+			buf.append("} else {\n");
+			buf.append("switch (i) {\n");
+			buf.append("case 0:\n");
+			buf.append("return;\n");
+			buf.append("default:\n");
+			buf.append("i++;\n");
+			buf.append("}\n");
+			buf.append("}\n");
+			buf.append("String s= \"text\" +\n");
+			buf.append("\"continued\";\n");
+			buf.append("}\n");
+		}
+		buf.append("}\n");
+		return buf.toString();
+	}
+
+	/**
+	 * Measures the time to correct the indentation of all lines.
+	 */
+	public void test() throws Exception {
+		IDocument document= EditorTestHelper.getDocument(fEditor);
+		IDocumentRewriteSessionListener sessionListener= event -> {
+			fInSession= event.getChangeType() == DocumentRewriteSessionEvent.SESSION_START;
+			if (fInSession)
+				fSessions++;
+		};
+		IDocumentListener documentListener= new IDocumentListener() {
+			@Override
+			public void documentAboutToBeChanged(DocumentEvent event) {
+				// not interested
+			}
+
+			@Override
+			public void documentChanged(DocumentEvent event) {
+				if (fInSession)
+					fChangesInsideSession++;
+				else
+					fChangesOutsideSession++;
+			}
+		};
+		((IDocumentExtension4) document).addDocumentRewriteSessionListener(sessionListener);
+		document.addDocumentListener(documentListener);
+		try {
+			measure(getNullPerformanceMeter(), getWarmUpRuns());
+			PerformanceMeter performanceMeter= createPerformanceMeterForSummary("Java Editor: correct indentation", Dimension.ELAPSED_PROCESS);
+			measure(performanceMeter, getMeasuredRuns());
+		} finally {
+			document.removeDocumentListener(documentListener);
+			((IDocumentExtension4) document).removeDocumentRewriteSessionListener(sessionListener);
+		}
+		commitAllMeasurements();
+		assertAllPerformance();
+	}
+
+	private void measure(PerformanceMeter performanceMeter, int runs) {
+		IAction indent= fEditor.getAction("Indent");
+		IDocument document= EditorTestHelper.getDocument(fEditor);
+		for (int i= 0; i < runs; i++) {
+			fEditor.selectAndReveal(0, document.getLength());
+			fSessions= 0;
+			fChangesInsideSession= 0;
+			fChangesOutsideSession= 0;
+
+			performanceMeter.start();
+			runAction(indent);
+			performanceMeter.stop();
+
+			assertEquals("rewrite sessions", 1, fSessions);
+			assertTrue("no line was indented", fChangesInsideSession > 0);
+			assertEquals("changes outside of the rewrite session", 0, fChangesOutsideSession);
+
+			EditorTestHelper.revertEditor(fEditor, true);
+			EditorTestHelper.joinBackgroundActivities(fEditor);
+		}
+	}
+
+	private void runAction(IAction action) {
+		action.run();
+		EditorTestHelper.runEventQueue();
+	}
+}
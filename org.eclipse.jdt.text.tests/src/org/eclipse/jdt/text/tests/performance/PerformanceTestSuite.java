@@ -43,6 +43,7 @@ public class PerformanceTestSuite extends TestSuite {
 		addTest(SaveTextEditorTest.suite());
 		addTest(SaveJavaEditorTest.suite());
 		addTest(JavaFormatterTest.suite());
+		addTest(IndentActionPerformanceTest.suite());
 		addTest(JavaExpandSelectionTest.suite());
 		addTest(ConvertLineDelimitersProjectTest.suite());
 		addTest(JavaFormatterProjectTest.suite());
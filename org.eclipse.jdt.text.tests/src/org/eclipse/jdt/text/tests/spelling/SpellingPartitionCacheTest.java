@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.spelling;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.Platform;
+
+import org.eclipse.jface.preference.IPreferenceStore;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+
+import org.eclipse.ui.texteditor.spelling.ISpellingProblemCollector;
+import org.eclipse.ui.texteditor.spelling.SpellingContext;
+import org.eclipse.ui.texteditor.spelling.SpellingProblem;
+import org.eclipse.ui.texteditor.spelling.SpellingService;
+
+import org.eclipse.ui.editors.text.EditorsUI;
+
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.ui.PreferenceConstants;
+import org.eclipse.jdt.ui.text.IJavaPartitions;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.text.spelling.SpellingPartitionCache;
+
+/**
+ * Checks that a spelling pass that reuses the events of unchanged partitions reports the same
+ * problems as a pass that checks every partition.
+ */
+public class SpellingPartitionCacheTest {
+
+	private static final String SOURCE= """
+		package p;
+		/**
+		 * Thiss class iss a tesst of XYZQ.
+		 */
+		public class A {
+			// a commment with a mistaake
+			int f;
+			/* correct words only */
+			String s= "a strng literal";
+		}
+		""";
+
+	private static final class Collector implements ISpellingProblemCollector, SpellingPartitionCache.IProvider {
+		private final SpellingPartitionCache fCache;
+		final List<String> fProblems= new ArrayList<>();
+
+		Collector(SpellingPartitionCache cache) {
+			fCache= cache;
+		}
+
+		@Override
+		public SpellingPartitionCache getPartitionCache() {
+			return fCache;
+		}
+
+		@Override
+		public void accept(SpellingProblem problem) {
+			fProblems.add(problem.getOffset() + ":" + problem.getLength());
+		}
+
+		@Override
+		public void beginCollecting() {
+		}
+
+		@Override
+		public void endCollecting() {
+		}
+	}
+
+	private IDocument fDocument;
+
+	private SpellingPartitionCache fCache;
+
+	@Before
+	public void setUp() {
+		EditorsUI.getPreferenceStore().putValue(SpellingService.PREFERENCE_SPELLING_ENABLED, IPreferenceStore.TRUE);
+		PreferenceConstants.getPreferenceStore().setValue(PreferenceConstants.SPELLING_LOCALE, "en_US");
+		PreferenceConstants.getPreferenceStore().setValue(PreferenceConstants.SPELLING_PROBLEMS_THRESHOLD, Integer.MAX_VALUE);
+
+		fDocument= new Document(SOURCE);
+		JavaPlugin.getDefault().getJavaTextTools().setupJavaDocumentPartitioner(fDocument, IJavaPartitions.JAVA_PARTITIONING);
+		fCache= new SpellingPartitionCache();
+	}
+
+	@After
+	public void tearDown() {
+		EditorsUI.getPreferenceStore().setToDefault(SpellingService.PREFERENCE_SPELLING_ENABLED);
+		PreferenceConstants.getPreferenceStore().setToDefault(PreferenceConstants.SPELLING_LOCALE);
+		PreferenceConstants.getPreferenceStore().setToDefault(PreferenceConstants.SPELLING_PROBLEMS_THRESHOLD);
+	}
+
+	@Test
+	public void firstPass() throws Exception {
+		List<String> problems= checkWithCache();
+		assertFalse(problems.isEmpty());
+		assertEquals(checkWithoutCache(), problems);
+	}
+
+	@Test
+	public void unchangedDocument() throws Exception {
+		checkWithCache();
+		assertEquals(checkWithoutCache(), checkWithCache());
+	}
+
+	@Test
+	public void partitionsMoved() throws Exception {
+		checkWithCache();
+		fDocument.replace(SOURCE.indexOf("public class"), 0, "import java.util.List;\n");
+		assertEquals(checkWithoutCache(), checkWithCache());
+	}
+
+	@Test
+	public void partitionChanged() throws Exception {
+		checkWithCache();
+		int offset= SOURCE.indexOf("correct words");
+		fDocument.replace(offset, "correct".length(), "incorect");
+		assertEquals(checkWithoutCache(), checkWithCache());
+	}
+
+	@Test
+	public void misspellingFixed() throws Exception {
+		checkWithCache();
+		int offset= SOURCE.indexOf("mistaake");
+		fDocument.replace(offset, "mistaake".length(), "mistake");
+		List<String> problems= checkWithCache();
+		assertEquals(checkWithoutCache(), problems);
+	}
+
+	@Test
+	public void partitionRemovedAndRestored() throws Exception {
+		checkWithCache();
+		int offset= SOURCE.indexOf("\t// a commment");
+		String line= "\t// a commment with a mistaake\n";
+		fDocument.replace(offset, line.length(), "");
+		assertEquals(checkWithoutCache(), checkWithCache());
+		fDocument.replace(offset, 0, line);
+		assertEquals(checkWithoutCache(), checkWithCache());
+	}
+
+	@Test
+	public void preferencesChanged() throws Exception {
+		int count= checkWithCache().size();
+		PreferenceConstants.getPreferenceStore().setValue(PreferenceConstants.SPELLING_IGNORE_UPPER, false);
+		try {
+			List<String> problems= checkWithCache();
+			assertEquals(count + 1, problems.size());
+			assertEquals(checkWithoutCache(), problems);
+		} finally {
+			PreferenceConstants.getPreferenceStore().setToDefault(PreferenceConstants.SPELLING_IGNORE_UPPER);
+		}
+	}
+
+	private List<String> checkWithCache() {
+		return check(fCache);
+	}
+
+	private List<String> checkWithoutCache() {
+		return check(new SpellingPartitionCache());
+	}
+
+	private List<String> check(SpellingPartitionCache cache) {
+		SpellingContext context= new SpellingContext();
+		context.setContentType(Platform.getContentTypeManager().getContentType(JavaCore.JAVA_SOURCE_CONTENT_TYPE));
+		Collector collector= new Collector(cache);
+		EditorsUI.getSpellingService().check(fDocument, context, collector, null);
+		return collector.fProblems;
+	}
+}
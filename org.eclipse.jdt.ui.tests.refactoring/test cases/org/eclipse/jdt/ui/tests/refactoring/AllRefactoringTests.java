@@ -61,6 +61,7 @@ import org.junit.runners.Suite;
 	PushDownTests.class,
 	MoveMembersTests.class,
 	MoveMembersTests1d8.class,
+	MemberVisibilityAdjustorTests.class,
 	ExtractInterfaceTests.class,
 	ExtractInterfaceTests1d8.class,
 	ExtractSupertypeTests.class,
@@ -99,6 +100,7 @@ import org.junit.runners.Suite;
 	//--fields
 	RenamePrivateFieldTests.class,
 	RenameNonPrivateFieldTests.class,
+	RenameManyCompilationUnitsTests.class,
 	RenameRecordElementsTests.class,
 
 	//--initializers
@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.junit.Test;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+import org.eclipse.jdt.core.dom.Modifier.ModifierKeyword;
+
+import org.eclipse.jdt.internal.corext.refactoring.structure.MemberVisibilityAdjustor;
+import org.eclipse.jdt.internal.corext.refactoring.structure.MemberVisibilityAdjustor.IncomingMemberVisibilityAdjustment;
+
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringTestSetup;
+
+/**
+ * Tests that searching the incoming references of several adjustors at once
+ * computes the same visibility adjustments as searching them one by one.
+ */
+public class MemberVisibilityAdjustorTests extends GenericRefactoringTest {
+
+	public MemberVisibilityAdjustorTests() {
+		rts= new RefactoringTestSetup();
+	}
+
+	private static Map<IMember, ModifierKeyword> adjust(IMember[] members, IType destination, boolean batched) throws Exception {
+		Map<IMember, IncomingMemberVisibilityAdjustment> adjustments= new LinkedHashMap<>();
+		Map<IType, ITypeHierarchy> hierarchies= new HashMap<>();
+		MemberVisibilityAdjustor[] adjustors= new MemberVisibilityAdjustor[members.length];
+		for (int i= 0; i < members.length; i++) {
+			adjustors[i]= new MemberVisibilityAdjustor(destination, members[i]);
+			adjustors[i].setAdjustments(adjustments);
+			adjustors[i].setTypeHierarchies(hierarchies);
+			adjustors[i].setStatus(new RefactoringStatus());
+		}
+		if (batched)
+			MemberVisibilityAdjustor.searchIncomingReferences(adjustors, new NullProgressMonitor());
+		for (MemberVisibilityAdjustor adjustor : adjustors)
+			adjustor.adjustVisibility(new NullProgressMonitor());
+
+		Map<IMember, ModifierKeyword> keywords= new HashMap<>();
+		for (Entry<IMember, IncomingMemberVisibilityAdjustment> entry : adjustments.entrySet())
+			keywords.put(entry.getKey(), entry.getValue().getKeyword());
+		return keywords;
+	}
+
+	@Test
+	public void testBatchedSearchAdjustsLikeSingleSearches() throws Exception {
+		ICompilationUnit cuA= createCU(getPackageP(), "A.java", """
+			package p;
+
+			public class A {
+				static class Inner {
+					int fUsed;
+					private int fUnused;
+					void used() {}
+					int fromOther() {
+						return new Other().fUsedByInner + fUnused;
+					}
+					static class Nested {
+						int fNestedUsed;
+					}
+				}
+				static class Other {
+					int fUsedByInner;
+					void usedFromC() {}
+				}
+				static int fField;
+				static void method() {
+					new Inner().used();
+				}
+				static void caller() {
+					new Inner().fUsed= new Inner.Nested().fNestedUsed + fField;
+				}
+			}
+			""");
+		createCU(getPackageP(), "C.java", """
+			package p;
+
+			class C {
+				void m() {
+					A.method();
+					new A.Other().usedFromC();
+				}
+			}
+			""");
+		IPackageFragment packageR= getRoot().createPackageFragment("r", true, null);
+		ICompilationUnit cuB= createCU(packageR, "B.java", """
+			package r;
+
+			public class B {
+			}
+			""");
+
+		IType typeA= getType(cuA, "A");
+		IMember[] members= { typeA.getType("Inner"), typeA.getType("Other"), typeA.getField("fField"), typeA.getMethod("method", new String[0]) };
+		IType destination= getType(cuB, "B");
+
+		Map<IMember, ModifierKeyword> single= adjust(members, destination, false);
+		Map<IMember, ModifierKeyword> batched= adjust(members, destination, true);
+
+		assertEquals(single, batched);
+		assertEquals(ModifierKeyword.PUBLIC_KEYWORD, single.get(typeA.getField("fField")));
+		assertTrue(single.containsKey(typeA.getType("Inner").getField("fUsed")));
+		assertTrue(single.containsKey(typeA.getType("Inner").getType("Nested").getField("fNestedUsed")));
+		assertTrue(single.containsKey(typeA.getType("Other").getMethod("usedFromC", new String[0])));
+		assertFalse(single.containsKey(typeA.getType("Inner").getField("fUnused")));
+	}
+
+	@Test
+	public void testBatchedSearchWithoutOutsideReferences() throws Exception {
+		ICompilationUnit cuA= createCU(getPackageP(), "A.java", """
+			package p;
+
+			public class A {
+				private static class Inner {
+					private int fUsed;
+					int get() {
+						return fUsed + fField;
+					}
+				}
+				private static int fField;
+			}
+			""");
+		ICompilationUnit cuB= createCU(getPackageP(), "B.java", """
+			package p;
+
+			public class B {
+			}
+			""");
+
+		IType typeA= getType(cuA, "A");
+		IMember[] members= { typeA.getType("Inner"), typeA.getField("fField") };
+		IType destination= getType(cuB, "B");
+
+		Map<IMember, ModifierKeyword> single= adjust(members, destination, false);
+		Map<IMember, ModifierKeyword> batched= adjust(members, destination, true);
+
+		assertEquals(single, batched);
+		assertFalse(batched.containsKey(typeA.getType("Inner").getField("fUsed")));
+	}
+}
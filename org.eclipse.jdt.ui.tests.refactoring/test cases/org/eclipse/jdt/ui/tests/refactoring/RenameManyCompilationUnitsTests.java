@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import org.eclipse.jface.text.IDocument;
+
+import org.eclipse.ui.IEditorPart;
+
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.refactoring.IJavaRefactorings;
+import org.eclipse.jdt.core.refactoring.descriptors.RenameJavaElementDescriptor;
+
+import org.eclipse.jdt.internal.core.refactoring.descriptors.RefactoringSignatureDescriptorFactory;
+
+import org.eclipse.jdt.ui.JavaUI;
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringTestSetup;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * Renames members referenced from many compilation units, one of which is open in an editor with
+ * unsaved changes. The working copies of the rename analysis are created concurrently, so the
+ * preview contents of the changes, including the one of the open editor, are computed on
+ * several threads.
+ */
+public class RenameManyCompilationUnitsTests extends GenericRefactoringTest {
+
+	private static final int REFERENCING_UNITS= 40;
+
+	private static final int OPEN_UNIT= REFERENCING_UNITS / 2;
+
+	public RenameManyCompilationUnitsTests() {
+		rts= new RefactoringTestSetup();
+	}
+
+	@Override
+	public void genericafter() throws Exception {
+		JavaPlugin.getActivePage().closeAllEditors(false);
+		super.genericafter();
+	}
+
+	private ICompilationUnit[] createUnits() throws Exception {
+		getPackageP().createCompilationUnit("A.java", """
+				package p;
+				public class A {
+					public int f;
+					public int m() {
+						return f;
+					}
+				}
+				""", true, null);
+		ICompilationUnit[] units= new ICompilationUnit[REFERENCING_UNITS];
+		for (int i= 0; i < REFERENCING_UNITS; i++) {
+			units[i]= getPackageP().createCompilationUnit("R" + i + ".java", getContents(i, "f", "m", false), true, null);
+		}
+		return units;
+	}
+
+	private static String getContents(int i, String field, String method, boolean edited) {
+		String extra= edited ? "\tint edited(A a) {\n\t\treturn a." + field + " - a." + method + "();\n\t}\n" : "";
+		return "package p;\npublic class R" + i + " {\n\tint get(A a) {\n\t\treturn a." + field + " + a." + method + "();\n\t}\n" + extra + "}\n";
+	}
+
+	private IDocument openAndEdit(ICompilationUnit unit) throws Exception {
+		IEditorPart editor= JavaUI.openInEditor(unit);
+		IDocument document= JavaUI.getDocumentProvider().getDocument(editor.getEditorInput());
+		document.set(getContents(OPEN_UNIT, "f", "m", true));
+		assertTrue(editor.isDirty());
+		return document;
+	}
+
+	private void rename(String id, IJavaElement element, String newName) throws Exception {
+		RenameJavaElementDescriptor descriptor= RefactoringSignatureDescriptorFactory.createRenameJavaElementDescriptor(id);
+		descriptor.setJavaElement(element);
+		descriptor.setNewName(newName);
+		descriptor.setUpdateReferences(true);
+		RefactoringStatus result= performRefactoring(descriptor);
+		assertNull("was supposed to pass", result);
+	}
+
+	@Test
+	public void renameField() throws Exception {
+		ICompilationUnit[] units= createUnits();
+		IDocument document= openAndEdit(units[OPEN_UNIT]);
+
+		rename(IJavaRefactorings.RENAME_FIELD, getPackageP().getCompilationUnit("A.java").getType("A").getField("f"), "g");
+
+		for (int i= 0; i < REFERENCING_UNITS; i++) {
+			if (i != OPEN_UNIT) {
+				assertEqualLines("R" + i, getContents(i, "g", "m", false), units[i].getSource());
+			}
+		}
+		assertEqualLines(getContents(OPEN_UNIT, "g", "m", true), document.get());
+	}
+
+	@Test
+	public void renameMethod() throws Exception {
+		ICompilationUnit[] units= createUnits();
+		IDocument document= openAndEdit(units[OPEN_UNIT]);
+
+		rename(IJavaRefactorings.RENAME_METHOD, getPackageP().getCompilationUnit("A.java").getType("A").getMethod("m", new String[0]), "n");
+
+		for (int i= 0; i < REFERENCING_UNITS; i++) {
+			if (i != OPEN_UNIT) {
+				assertEqualLines("R" + i, getContents(i, "f", "n", false), units[i].getSource());
+			}
+		}
+		assertEqualLines(getContents(OPEN_UNIT, "f", "n", true), document.get());
+		assertEquals(1, JavaPlugin.getActivePage().getDirtyEditors().length);
+	}
+}
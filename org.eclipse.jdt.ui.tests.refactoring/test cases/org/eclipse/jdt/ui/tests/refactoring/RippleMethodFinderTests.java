@@ -14,6 +14,7 @@
 package org.eclipse.jdt.ui.tests.refactoring;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
@@ -30,6 +31,7 @@ import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.JavaModelException;
 
 import org.eclipse.jdt.internal.corext.refactoring.rename.RippleMethodFinder2;
 
@@ -139,4 +141,101 @@ public class RippleMethodFinderTests extends AbstractJunit4CUTestCase {
 		perform();
 	}
 
+	@Test
+	public void testNewOverridingMethod() throws Exception {
+		IPackageFragment pack= rts.getPackageP();
+		ICompilationUnit cuA= createCU(pack, "A.java", """
+			package p;
+			class A {
+				void m() {}
+			}
+			""");
+		IMethod target= cuA.getType("A").getMethod("m", new String[0]);
+		IMethod[] rippleMethods= RippleMethodFinder2.getRelatedMethods(target, new NullProgressMonitor(), null);
+		assertEquals(1, rippleMethods.length);
+
+		ICompilationUnit cuB= createCU(pack, "B.java", """
+			package p;
+			class B extends A {
+				void m() {}
+			}
+			""");
+		rippleMethods= RippleMethodFinder2.getRelatedMethods(target, new NullProgressMonitor(), null);
+		List<IMethod> expected= new ArrayList<>(List.of(target, cuB.getType("B").getMethod("m", new String[0])));
+		for (IMethod method : rippleMethods) {
+			assertTrue("method not found: " + method, expected.remove(method));
+		}
+		assertEquals("found wrong ripple methods: " + expected, 0, expected.size());
+	}
+
+	@Test
+	public void testOverridingMethodAddedDuringComputation() throws Exception {
+		IPackageFragment pack= rts.getPackageP();
+		ICompilationUnit cuA= createCU(pack, "A.java", """
+			package p;
+			class A {
+				void k() {}
+			}
+			""");
+		IMethod target= cuA.getType("A").getMethod("k", new String[0]);
+		ICompilationUnit cuB= pack.getCompilationUnit("B.java");
+
+		// adds the overriding method once the declarations have been searched
+		NullProgressMonitor monitor= new NullProgressMonitor() {
+			private double fWorked= 0;
+
+			@Override
+			public void internalWorked(double work) {
+				fWorked+= work;
+			}
+
+			@Override
+			public boolean isCanceled() {
+				if (fWorked > 0 && !cuB.exists()) {
+					try {
+						pack.createCompilationUnit("B.java", """
+							package p;
+							class B extends A {
+								void k() {}
+							}
+							""", true, null).save(null, true);
+					} catch (JavaModelException e) {
+						throw new AssertionError(e);
+					}
+				}
+				return false;
+			}
+		};
+		RippleMethodFinder2.getRelatedMethods(target, monitor, null);
+		assertTrue(cuB.exists());
+
+		IMethod[] rippleMethods= RippleMethodFinder2.getRelatedMethods(target, new NullProgressMonitor(), null);
+		List<IMethod> expected= new ArrayList<>(List.of(target, cuB.getType("B").getMethod("k", new String[0])));
+		for (IMethod method : rippleMethods) {
+			assertTrue("method not found: " + method, expected.remove(method));
+		}
+		assertEquals("found wrong ripple methods: " + expected, 0, expected.size());
+	}
+
+	@Test
+	public void testListenerRemovedWhenCacheCleared() throws Exception {
+		IPackageFragment pack= rts.getPackageP();
+		ICompilationUnit cuA= createCU(pack, "A.java", """
+			package p;
+			class A {
+				void n() {}
+			}
+			""");
+		IMethod target= cuA.getType("A").getMethod("n", new String[0]);
+		RippleMethodFinder2.getRelatedMethods(target, new NullProgressMonitor(), null);
+		assertTrue(RippleMethodFinder2.isCacheListening());
+
+		createCU(pack, "B.java", """
+			package p;
+			class B extends A {
+			}
+			""");
+		assertFalse(RippleMethodFinder2.isCacheListening());
+	}
+
 }
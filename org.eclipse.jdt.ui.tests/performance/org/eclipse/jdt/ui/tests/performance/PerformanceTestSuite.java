@@ -17,11 +17,13 @@ package org.eclipse.jdt.ui.tests.performance;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
+import org.eclipse.jdt.ui.tests.performance.junit.JUnitProtocolThroughputTest;
 import org.eclipse.jdt.ui.tests.performance.views.TypeHierarchyPerfTest;
 
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
-	TypeHierarchyPerfTest.class
+	TypeHierarchyPerfTest.class,
+	JUnitProtocolThroughputTest.class
 })
 public class PerformanceTestSuite {
 }
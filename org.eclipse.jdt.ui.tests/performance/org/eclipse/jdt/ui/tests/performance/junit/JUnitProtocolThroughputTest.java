@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance.junit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import org.eclipse.test.performance.Dimension;
+
+import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
+import org.eclipse.jdt.ui.tests.performance.junit.ProtocolThroughputBenchmark.Result;
+
+/**
+ * Replays synthetic test plans over the JUnit remote test runner protocol and reports the
+ * elapsed time through the performance meter, tagged as a summary per scenario. The events per
+ * second and latency percentiles, which the meter has no dimensions for, are logged per scenario.
+ * The numbers are meant to be compared before and after changes to the protocol or to the
+ * <code>TestRunSession</code> model.
+ */
+public class JUnitProtocolThroughputTest extends JdtPerformanceTestCaseCommon {
+
+	private static final long SEED= 4711;
+
+	private static final int RUNS= 3;
+
+	@BeforeClass
+	public static void warmUp() throws Exception {
+		new ProtocolThroughputBenchmark(true).run(SyntheticTestPlan.generate("warm-up", 5_000, 3, 0.1, 50, SEED)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void wideTree() throws Exception {
+		measure("JUnit protocol - wide tree", SyntheticTestPlan.generate("wide", 100_000, 3, 0, 0, SEED), true); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void wideTreeWithoutFlushing() throws Exception {
+		measure("JUnit protocol - wide tree without flushing", SyntheticTestPlan.generate("wide-unflushed", 100_000, 3, 0, 0, SEED), false); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void deepTree() throws Exception {
+		measure("JUnit protocol - deep tree", SyntheticTestPlan.generate("deep", 100_000, 16, 0, 0, SEED), true); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void failuresWithLargeTraces() throws Exception {
+		measure("JUnit protocol - failures with large traces", SyntheticTestPlan.generate("failures", 20_000, 4, 0.25, 400, SEED), true); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private void measure(String scenario, SyntheticTestPlan plan, boolean flushPerTest) throws Exception {
+		tagAsSummary(scenario, Dimension.ELAPSED_PROCESS);
+		double[] eventsPerSecond= new double[RUNS];
+		long[] p99= new long[RUNS];
+		for (int i= 0; i < RUNS; i++) {
+			ProtocolThroughputBenchmark benchmark= new ProtocolThroughputBenchmark(flushPerTest);
+			startMeasuring();
+			Result result= benchmark.run(plan);
+			stopMeasuring();
+			assertEquals(plan.getLeafCount(), result.getStartedCount());
+			assertEquals(plan.getFailureCount(), result.getFailureCount());
+			assertTrue(result.getEventsPerSecond() > 0);
+			assertTrue(result.getLatencyMicros(50) <= result.getLatencyMicros(100));
+			eventsPerSecond[i]= result.getEventsPerSecond();
+			p99[i]= result.getLatencyMicros(99);
+			System.out.println(scenario + " run " + (i + 1) + ": " + result); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		Arrays.sort(eventsPerSecond);
+		Arrays.sort(p99);
+		System.out.println(String.format("%s: median %.0f events/s, median p99=%d us, worst p99=%d us", //$NON-NLS-1$
+				scenario, eventsPerSecond[RUNS / 2], p99[RUNS / 2], p99[RUNS - 1]));
+		commitMeasurements();
+		assertPerformanceInRelativeBand(Dimension.ELAPSED_PROCESS, -100, +10);
+	}
+}
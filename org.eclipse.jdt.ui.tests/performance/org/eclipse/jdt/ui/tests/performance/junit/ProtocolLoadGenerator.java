@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance.junit;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.ConnectException;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.eclipse.jdt.internal.junit.runner.MessageIds;
+import org.eclipse.jdt.internal.junit.runner.MessageSender;
+import org.eclipse.jdt.internal.junit.runner.RemoteTestRunner;
+
+import org.eclipse.jdt.ui.tests.performance.junit.SyntheticTestPlan.Node;
+
+/**
+ * Replays a {@link SyntheticTestPlan} to a <code>RemoteTestRunnerClient</code> the way
+ * {@link RemoteTestRunner} and its execution listeners do: the same socket setup, message
+ * format, escaping and flushing, but without loading or executing any tests. This isolates the
+ * cost of the protocol and of the client-side model from the cost of the tests themselves.
+ * <p>
+ * The time at which every <code>TEST_START</code> message is handed to the socket is recorded
+ * so that a client can compute the end-to-end latency of each event.
+ * </p>
+ */
+public class ProtocolLoadGenerator implements MessageSender {
+
+	private static final int CONNECT_ATTEMPTS= 100;
+
+	private final SyntheticTestPlan fPlan;
+	private final boolean fFlushPerTest;
+	private final AtomicLongArray fStartSent;
+
+	private PrintWriter fWriter;
+	private long fEventCount;
+	private long fCharCount;
+
+	/**
+	 * @param plan the plan to replay
+	 * @param flushPerTest <code>true</code> to flush after every test start and end like
+	 *            {@link RemoteTestRunner} does, <code>false</code> to flush only after failures
+	 *            and at the end of the run
+	 */
+	public ProtocolLoadGenerator(SyntheticTestPlan plan, boolean flushPerTest) {
+		fPlan= plan;
+		fFlushPerTest= flushPerTest;
+		fStartSent= new AtomicLongArray(plan.getNodes().length);
+	}
+
+	/**
+	 * Connects to the client listening on the given port and sends the complete plan.
+	 *
+	 * @param port the port of the <code>RemoteTestRunnerClient</code>
+	 * @throws IOException if the connection fails
+	 * @throws InterruptedException if interrupted while waiting for the client to listen
+	 */
+	public void run(int port) throws IOException, InterruptedException {
+		try (Socket socket= connect(port)) {
+			fWriter= new PrintWriter(new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8)), false);
+			long start= System.nanoTime();
+			sendMessage(MessageIds.TEST_RUN_START + fPlan.getLeafCount() + " " + "v2"); //$NON-NLS-1$ //$NON-NLS-2$
+			for (Node root : fPlan.getRoots()) {
+				sendTree(root);
+			}
+			for (Node node : fPlan.getNodes()) {
+				if (!node.isSuite())
+					sendTest(node);
+			}
+			sendMessage(MessageIds.TEST_RUN_END + (System.nanoTime() - start) / 1_000_000L);
+			flush();
+			fWriter.close();
+		}
+	}
+
+	private static Socket connect(int port) throws IOException, InterruptedException {
+		ConnectException failure= null;
+		for (int i= 0; i < CONNECT_ATTEMPTS; i++) {
+			try {
+				return new Socket("localhost", port); //$NON-NLS-1$
+			} catch (ConnectException e) {
+				failure= e; // client thread has not opened the server socket yet
+				Thread.sleep(50);
+			}
+		}
+		throw failure;
+	}
+
+	private void sendTree(Node node) {
+		String id= node.getId();
+		String name= RemoteTestRunner.escapeText(node.getName());
+		int testCount= node.isSuite() ? node.getChildren().size() : 1;
+		String parentId= node.fParent == null ? "-1" : node.fParent.getId(); //$NON-NLS-1$
+		sendMessage(MessageIds.TEST_TREE + id + ',' + name + ',' + node.isSuite() + ',' + testCount + ',' + false + ',' + parentId
+				+ ',' + name + ',' + "" + ',' + RemoteTestRunner.escapeText("[synthetic:" + id + ']')); //$NON-NLS-1$ //$NON-NLS-2$
+		if (node.isSuite()) {
+			for (Node child : node.getChildren()) {
+				sendTree(child);
+			}
+		}
+	}
+
+	private void sendTest(Node test) {
+		String idAndName= test.getId() + ',' + RemoteTestRunner.escapeText(test.getName());
+		fStartSent.set(test.getIndex(), System.nanoTime());
+		sendMessage(MessageIds.TEST_START + idAndName);
+		if (fFlushPerTest)
+			flush();
+
+		String status= test.getFailureStatus();
+		if (status != null) {
+			sendMessage(status + idAndName);
+			if (test.hasComparison()) {
+				sendMessage(MessageIds.EXPECTED_START);
+				sendMessage("expected " + test.getName()); //$NON-NLS-1$
+				sendMessage(MessageIds.EXPECTED_END);
+				sendMessage(MessageIds.ACTUAL_START);
+				sendMessage("actual " + test.getName()); //$NON-NLS-1$
+				sendMessage(MessageIds.ACTUAL_END);
+			}
+			sendMessage(MessageIds.TRACE_START);
+			sendMessage(fPlan.getTrace());
+			sendMessage(MessageIds.TRACE_END);
+			flush();
+		}
+
+		sendMessage(MessageIds.TEST_END + idAndName);
+		if (fFlushPerTest)
+			flush();
+	}
+
+	@Override
+	public void sendMessage(String msg) {
+		fWriter.println(msg);
+		fEventCount++;
+		fCharCount+= msg.length() + 1;
+	}
+
+	@Override
+	public void flush() {
+		fWriter.flush();
+	}
+
+	/**
+	 * @param node a test case of the plan
+	 * @return the {@link System#nanoTime()} at which the start of the test was sent, or
+	 *         <code>0</code> if it has not been sent yet
+	 */
+	public long getStartSentTime(Node node) {
+		return fStartSent.get(node.getIndex());
+	}
+
+	/**
+	 * @return the number of protocol messages sent; multi-line payloads such as stack traces count
+	 *         as one message
+	 */
+	public long getEventCount() {
+		return fEventCount;
+	}
+
+	/**
+	 * @return the number of characters sent, including line delimiters
+	 */
+	public long getCharCount() {
+		return fCharCount;
+	}
+}
@@ -0,0 +1,324 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance.junit;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.ILaunch;
+import org.eclipse.debug.core.ILaunchManager;
+import org.eclipse.debug.core.Launch;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.launching.SocketUtil;
+
+import org.eclipse.jdt.internal.junit.model.ITestSessionListener;
+import org.eclipse.jdt.internal.junit.model.TestCaseElement;
+import org.eclipse.jdt.internal.junit.model.TestElement;
+import org.eclipse.jdt.internal.junit.model.TestElement.Status;
+import org.eclipse.jdt.internal.junit.model.TestRunSession;
+
+import org.eclipse.jdt.ui.tests.performance.junit.SyntheticTestPlan.Node;
+
+/**
+ * Measures the runner&rarr;<code>RemoteTestRunnerClient</code>&rarr;{@link TestRunSession}
+ * pipeline. A {@link ProtocolLoadGenerator} replays a {@link SyntheticTestPlan} over a real
+ * socket into a headless test run session, which builds the same model the JUnit view shows.
+ * <p>
+ * The result reports events per second from the first message sent until the session has
+ * ended, the latency from sending a test start until the session listeners see it, the peak
+ * heap used while the run is in progress, and the heap retained by the finished session.
+ * Heap numbers are taken from the whole VM and are only meaningful if nothing else runs
+ * concurrently.
+ * </p>
+ */
+public class ProtocolThroughputBenchmark {
+
+	private static final long TIMEOUT_MINUTES= 10;
+	private static final long HEAP_SAMPLE_INTERVAL_MILLIS= 5;
+
+	/**
+	 * The measurements of one replayed plan.
+	 */
+	public static final class Result {
+		private final SyntheticTestPlan fPlan;
+		private final long fEvents;
+		private final long fChars;
+		private final long fElapsedNanos;
+		private final long[] fSortedLatencies;
+		private final long fPeakHeap;
+		private final long fRetainedHeap;
+		private final int fStartedCount;
+		private final int fFailureCount;
+		private final int fErrorCount;
+
+		Result(SyntheticTestPlan plan, long events, long chars, long elapsedNanos, long[] latencies, long peakHeap, long retainedHeap, TestRunSession session) {
+			fPlan= plan;
+			fEvents= events;
+			fChars= chars;
+			fElapsedNanos= elapsedNanos;
+			fSortedLatencies= latencies;
+			Arrays.sort(fSortedLatencies);
+			fPeakHeap= peakHeap;
+			fRetainedHeap= retainedHeap;
+			fStartedCount= session.getStartedCount();
+			fFailureCount= session.getFailureCount();
+			fErrorCount= session.getErrorCount();
+		}
+
+		public SyntheticTestPlan getPlan() {
+			return fPlan;
+		}
+
+		public double getEventsPerSecond() {
+			return fEvents * 1e9 / fElapsedNanos;
+		}
+
+		public double getMegabytesPerSecond() {
+			return fChars * 1e9 / fElapsedNanos / (1024 * 1024);
+		}
+
+		public long getElapsedMillis() {
+			return fElapsedNanos / 1_000_000L;
+		}
+
+		/**
+		 * @param percentile a value between 0 and 100
+		 * @return the end-to-end latency of test start events at the given percentile, in
+		 *         microseconds
+		 */
+		public long getLatencyMicros(double percentile) {
+			if (fSortedLatencies.length == 0)
+				return 0;
+			int index= (int) Math.ceil(percentile / 100 * fSortedLatencies.length) - 1;
+			return fSortedLatencies[Math.max(0, Math.min(index, fSortedLatencies.length - 1))] / 1000;
+		}
+
+		public long getPeakHeapBytes() {
+			return fPeakHeap;
+		}
+
+		public long getRetainedHeapBytes() {
+			return fRetainedHeap;
+		}
+
+		public int getStartedCount() {
+			return fStartedCount;
+		}
+
+		/**
+		 * @return the number of failures and errors recorded by the session
+		 */
+		public int getFailureCount() {
+			return fFailureCount + fErrorCount;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%s: %d events in %d ms = %.0f events/s (%.1f MB/s), latency p50=%d us p99=%d us max=%d us, heap peak=%d KB retained=%d KB", //$NON-NLS-1$
+					fPlan, fEvents, getElapsedMillis(), getEventsPerSecond(), getMegabytesPerSecond(),
+					getLatencyMicros(50), getLatencyMicros(99), getLatencyMicros(100), fPeakHeap / 1024, fRetainedHeap / 1024);
+		}
+	}
+
+	private static final class HeapSampler extends Thread {
+		private final MemoryMXBean fMemory;
+		private volatile boolean fStopped;
+		private volatile long fPeak;
+
+		HeapSampler(MemoryMXBean memory) {
+			super("Protocol benchmark heap sampler"); //$NON-NLS-1$
+			setDaemon(true);
+			fMemory= memory;
+		}
+
+		@Override
+		public void run() {
+			while (!fStopped) {
+				fPeak= Math.max(fPeak, fMemory.getHeapMemoryUsage().getUsed());
+				try {
+					Thread.sleep(HEAP_SAMPLE_INTERVAL_MILLIS);
+				} catch (InterruptedException e) {
+					return;
+				}
+			}
+		}
+
+		long stopSampling() throws InterruptedException {
+			fStopped= true;
+			join();
+			return Math.max(fPeak, fMemory.getHeapMemoryUsage().getUsed());
+		}
+	}
+
+	/**
+	 * Records the latency of every test start and waits for the end of the session. All callbacks
+	 * arrive on the single thread of the <code>RemoteTestRunnerClient</code>.
+	 */
+	private static final class SessionObserver implements ITestSessionListener {
+		private final SyntheticTestPlan fPlan;
+		private final ProtocolLoadGenerator fGenerator;
+		private final CountDownLatch fDone= new CountDownLatch(1);
+		final long[] fLatencies;
+		int fLatencyCount;
+		volatile long fEndTime;
+		volatile boolean fTerminated;
+
+		SessionObserver(SyntheticTestPlan plan, ProtocolLoadGenerator generator) {
+			fPlan= plan;
+			fGenerator= generator;
+			fLatencies= new long[plan.getLeafCount()];
+		}
+
+		@Override
+		public void testStarted(TestCaseElement testCaseElement) {
+			long now= System.nanoTime();
+			Node node= fPlan.getNode(testCaseElement.getId());
+			if (fLatencyCount < fLatencies.length)
+				fLatencies[fLatencyCount++]= now - fGenerator.getStartSentTime(node);
+		}
+
+		@Override
+		public void sessionEnded(long elapsedTime) {
+			finish(false);
+		}
+
+		@Override
+		public void sessionStopped(long elapsedTime) {
+			finish(true);
+		}
+
+		@Override
+		public void sessionTerminated() {
+			finish(true);
+		}
+
+		private void finish(boolean terminated) {
+			fEndTime= System.nanoTime();
+			fTerminated= terminated;
+			fDone.countDown();
+		}
+
+		boolean await() throws InterruptedException {
+			return fDone.await(TIMEOUT_MINUTES, TimeUnit.MINUTES);
+		}
+
+		@Override
+		public void sessionStarted() {
+		}
+
+		@Override
+		public void testAdded(TestElement testElement) {
+		}
+
+		@Override
+		public void runningBegins() {
+		}
+
+		@Override
+		public void testEnded(TestCaseElement testCaseElement) {
+		}
+
+		@Override
+		public void testFailed(TestElement testElement, Status status, String trace, String expected, String actual) {
+		}
+
+		@Override
+		public void testReran(TestCaseElement testCaseElement, Status status, String trace, String expectedResult, String actualResult) {
+		}
+
+		@Override
+		public boolean acceptsSwapToDisk() {
+			return false;
+		}
+	}
+
+	private final boolean fFlushPerTest;
+
+	/**
+	 * @param flushPerTest whether the generator flushes after every test start and end, see
+	 *            {@link ProtocolLoadGenerator#ProtocolLoadGenerator(SyntheticTestPlan, boolean)}
+	 */
+	public ProtocolThroughputBenchmark(boolean flushPerTest) {
+		fFlushPerTest= flushPerTest;
+	}
+
+	/**
+	 * Replays the plan into a new headless test run session.
+	 *
+	 * @param plan the plan to replay
+	 * @return the measurements
+	 * @throws Exception if the replay fails or does not finish in time
+	 */
+	public Result run(SyntheticTestPlan plan) throws Exception {
+		MemoryMXBean memory= ManagementFactory.getMemoryMXBean();
+		memory.gc();
+		long baseline= memory.getHeapMemoryUsage().getUsed();
+
+		IJavaProject project= JavaCore.create(ResourcesPlugin.getWorkspace().getRoot().getProject("ProtocolThroughput")); //$NON-NLS-1$
+		ILaunchManager launchManager= DebugPlugin.getDefault().getLaunchManager();
+		ILaunch launch= new Launch(null, ILaunchManager.RUN_MODE, null);
+		launchManager.addLaunch(launch);
+		try {
+			int port= SocketUtil.findFreePort();
+			ProtocolLoadGenerator generator= new ProtocolLoadGenerator(plan, fFlushPerTest);
+			HeapSampler sampler= new HeapSampler(memory);
+			TestRunSession session= new TestRunSession(launch, project, port);
+			SessionObserver observer= new SessionObserver(plan, generator);
+			session.addTestSessionListener(observer);
+
+			Exception[] generatorFailure= new Exception[1];
+			Thread generatorThread= new Thread(() -> {
+				try {
+					generator.run(port);
+				} catch (Exception e) {
+					generatorFailure[0]= e;
+				}
+			}, "Protocol load generator"); //$NON-NLS-1$
+
+			sampler.start();
+			long start= System.nanoTime();
+			generatorThread.start();
+			boolean finished= observer.await();
+			generatorThread.join();
+			long peak= sampler.stopSampling();
+
+			if (generatorFailure[0] != null)
+				throw generatorFailure[0];
+			if (!finished)
+				throw new IllegalStateException("Test run session did not end within " + TIMEOUT_MINUTES + " minutes"); //$NON-NLS-1$ //$NON-NLS-2$
+			if (observer.fTerminated)
+				throw new IllegalStateException("Test run session was terminated"); //$NON-NLS-1$
+
+			memory.gc();
+			long retained= memory.getHeapMemoryUsage().getUsed() - baseline;
+			Result result= new Result(plan, generator.getEventCount(), generator.getCharCount(), observer.fEndTime - start,
+					Arrays.copyOf(observer.fLatencies, observer.fLatencyCount), peak - baseline, retained, session);
+			Reference.reachabilityFence(session);
+			return result;
+		} finally {
+			// lets the session unregister its launch listener
+			launchManager.removeLaunch(launch);
+		}
+	}
+}
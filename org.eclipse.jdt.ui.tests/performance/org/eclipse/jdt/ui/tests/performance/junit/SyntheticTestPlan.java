@@ -0,0 +1,220 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance.junit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.jdt.internal.junit.runner.MessageIds;
+
+/**
+ * A generated test plan that is replayed over the JUnit remote test runner protocol by
+ * {@link ProtocolLoadGenerator}.
+ * <p>
+ * The plan is a tree of suites with a configurable depth and number of leaves. A fraction of the
+ * leaves fail, either with an assertion error carrying an expected/actual comparison or with an
+ * error; every failure sends a stack trace of the configured depth. Plans are built from a seed
+ * and are therefore reproducible.
+ * </p>
+ */
+public final class SyntheticTestPlan {
+
+	/**
+	 * A suite or test case in the plan. Nodes are numbered in pre-order, which is also the order
+	 * in which their tree entries are sent.
+	 */
+	public static final class Node {
+		final int fIndex;
+		final Node fParent;
+		final String fName;
+		final List<Node> fChildren;
+		final String fFailureStatus;
+		final boolean fHasComparison;
+
+		Node(int index, Node parent, String name, boolean isSuite, String failureStatus, boolean hasComparison) {
+			fIndex= index;
+			fParent= parent;
+			fName= name;
+			fChildren= isSuite ? new ArrayList<>() : null;
+			fFailureStatus= failureStatus;
+			fHasComparison= hasComparison;
+		}
+
+		public int getIndex() {
+			return fIndex;
+		}
+
+		public String getId() {
+			return Integer.toString(fIndex + 1);
+		}
+
+		public String getName() {
+			return fName;
+		}
+
+		public boolean isSuite() {
+			return fChildren != null;
+		}
+
+		public List<Node> getChildren() {
+			return fChildren;
+		}
+
+		/**
+		 * @return the failure message id ({@link MessageIds#TEST_FAILED} or
+		 *         {@link MessageIds#TEST_ERROR}), or <code>null</code> if the test passes
+		 */
+		public String getFailureStatus() {
+			return fFailureStatus;
+		}
+
+		public boolean hasComparison() {
+			return fHasComparison;
+		}
+	}
+
+	private final String fName;
+	private final List<Node> fRoots;
+	private final Node[] fNodes;
+	private final int fLeafCount;
+	private final int fFailureCount;
+	private final String fTrace;
+
+	private SyntheticTestPlan(String name, List<Node> roots, List<Node> nodes, int leafCount, int failureCount, String trace) {
+		fName= name;
+		fRoots= roots;
+		fNodes= nodes.toArray(new Node[nodes.size()]);
+		fLeafCount= leafCount;
+		fFailureCount= failureCount;
+		fTrace= trace;
+	}
+
+	/**
+	 * Generates a plan.
+	 *
+	 * @param name the name of the plan, used in reports
+	 * @param leaves the number of test cases
+	 * @param depth the number of suite levels above the test cases, at least 1
+	 * @param failureRate the fraction of test cases that fail, between 0 and 1
+	 * @param traceDepth the number of stack frames sent for every failure
+	 * @param seed the seed for the failure distribution
+	 * @return the plan
+	 */
+	public static SyntheticTestPlan generate(String name, int leaves, int depth, double failureRate, int traceDepth, long seed) {
+		if (leaves < 1 || depth < 1 || failureRate < 0 || failureRate > 1 || traceDepth < 0)
+			throw new IllegalArgumentException();
+
+		int fanOut= Math.max(2, (int) Math.ceil(Math.pow(leaves, 1.0 / (depth + 1))));
+		Builder builder= new Builder(failureRate, new Random(seed));
+		List<Node> roots= new ArrayList<>();
+		builder.addChildren(null, roots, "org.example.synthetic", leaves, depth, fanOut); //$NON-NLS-1$
+		return new SyntheticTestPlan(name, roots, builder.fNodes, leaves, builder.fFailures, createTrace(traceDepth));
+	}
+
+	private static final class Builder {
+		private final double fFailureRate;
+		private final Random fRandom;
+		final List<Node> fNodes= new ArrayList<>();
+		int fFailures;
+
+		Builder(double failureRate, Random random) {
+			fFailureRate= failureRate;
+			fRandom= random;
+		}
+
+		/*
+		 * Spreads 'leaves' test cases over at most 'fanOut' subtrees of the given depth. The last
+		 * level takes whatever is left, so the requested leaf count is always met exactly.
+		 */
+		void addChildren(Node parent, List<Node> siblings, String prefix, int leaves, int depth, int fanOut) {
+			if (depth == 0) {
+				for (int i= 0; i < leaves; i++) {
+					String status= null;
+					boolean comparison= false;
+					if (fRandom.nextDouble() < fFailureRate) {
+						comparison= fRandom.nextBoolean();
+						status= comparison ? MessageIds.TEST_FAILED : MessageIds.TEST_ERROR;
+						fFailures++;
+					}
+					Node leaf= new Node(fNodes.size(), parent, "test" + i + '(' + prefix + ')', false, status, comparison); //$NON-NLS-1$
+					fNodes.add(leaf);
+					siblings.add(leaf);
+				}
+				return;
+			}
+			int subtrees= Math.min(fanOut, leaves);
+			int perSubtree= leaves / subtrees;
+			int remainder= leaves % subtrees;
+			for (int i= 0; i < subtrees; i++) {
+				String name= depth == 1 ? prefix + ".Test" + i : prefix + ".p" + i; //$NON-NLS-1$ //$NON-NLS-2$
+				Node suite= new Node(fNodes.size(), parent, name, true, null, false);
+				fNodes.add(suite);
+				siblings.add(suite);
+				addChildren(suite, suite.fChildren, name, perSubtree + (i < remainder ? 1 : 0), depth - 1, fanOut);
+			}
+		}
+	}
+
+	private static String createTrace(int traceDepth) {
+		StringBuilder buf= new StringBuilder(64 + traceDepth * 80);
+		buf.append("java.lang.AssertionError: synthetic failure"); //$NON-NLS-1$
+		for (int i= 0; i < traceDepth; i++) {
+			if (i > 0 && i % 100 == 0)
+				buf.append("\nCaused by: java.lang.IllegalStateException: nested failure ").append(i / 100); //$NON-NLS-1$
+			buf.append("\n\tat org.example.synthetic.deep.Frame").append(i % 50).append(".call").append(i) //$NON-NLS-1$ //$NON-NLS-2$
+					.append("(Frame").append(i % 50).append(".java:").append(10 + i).append(')'); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return buf.toString();
+	}
+
+	public String getName() {
+		return fName;
+	}
+
+	public List<Node> getRoots() {
+		return fRoots;
+	}
+
+	/**
+	 * @return all nodes in pre-order; the position of a node is its {@link Node#getIndex() index}
+	 */
+	public Node[] getNodes() {
+		return fNodes;
+	}
+
+	public Node getNode(String id) {
+		return fNodes[Integer.parseInt(id) - 1];
+	}
+
+	public int getLeafCount() {
+		return fLeafCount;
+	}
+
+	public int getFailureCount() {
+		return fFailureCount;
+	}
+
+	/**
+	 * @return the stack trace sent with every failure
+	 */
+	public String getTrace() {
+		return fTrace;
+	}
+
+	@Override
+	public String toString() {
+		return fName + " (" + fLeafCount + " tests, " + (fNodes.length - fLeafCount) + " suites, " + fFailureCount + " failures)"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	}
+}
@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.compare;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import org.eclipse.swt.graphics.Image;
+
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.jface.text.Position;
+
+import org.eclipse.compare.IEncodedStreamContentAccessor;
+import org.eclipse.compare.ITypedElement;
+import org.eclipse.compare.structuremergeviewer.DocumentRangeNode;
+import org.eclipse.compare.structuremergeviewer.IStructureComparator;
+
+public class JavaStructureCreatorTest {
+
+	private static class Input implements ITypedElement, IEncodedStreamContentAccessor {
+
+		private final String fContents;
+
+		Input(String contents) {
+			fContents= contents;
+		}
+
+		@Override
+		public InputStream getContents() {
+			return new ByteArrayInputStream(fContents.getBytes(StandardCharsets.UTF_8));
+		}
+
+		@Override
+		public String getCharset() {
+			return StandardCharsets.UTF_8.name();
+		}
+
+		@Override
+		public String getName() {
+			return "A.java";
+		}
+
+		@Override
+		public Image getImage() {
+			return null;
+		}
+
+		@Override
+		public String getType() {
+			return "java";
+		}
+	}
+
+	private static final String A= """
+			package p;
+			import java.util.List;
+			public class A {
+				int f;
+				static { }
+				void foo(List<String> l) { }
+				class Inner {
+					void bar() { }
+				}
+			}
+			""";
+
+	private static final String B= """
+			package p;
+			public class A {
+				int f;
+				void foo() { }
+				void baz(int i) { }
+			}
+			""";
+
+	private static final String C= """
+			package p;
+			enum E { X, Y; void m() { } }
+			""";
+
+	@Test
+	public void prefetchedStructures() throws Exception {
+		Input[] inputs= { new Input(A), new Input(B), new Input(C), new Input(A) };
+
+		JavaStructureCreator creator= new JavaStructureCreator();
+		creator.prefetchStructures(new Object[] { inputs[0], null, inputs[1], inputs[2], inputs[3] });
+		Job.getJobManager().join(creator, null);
+		assertEquals(3, creator.getCachedStructureCount());
+
+		for (Input input : inputs) {
+			assertEquals(describe(new JavaStructureCreator().getStructure(input)), describe(creator.getStructure(input)));
+		}
+		assertEquals(3, creator.getCachedStructureCount());
+	}
+
+	@Test
+	public void structuresAreSharedBetweenCreators() throws Exception {
+		JavaStructureCreator creator= new JavaStructureCreator();
+		assertNotNull(creator.getStructure(new Input(A)));
+		assertEquals(1, creator.getCachedStructureCount());
+
+		// re-opening a compare editor on the same contents does not parse them again
+		JavaStructureCreator reopened= new JavaStructureCreator();
+		assertEquals(0, reopened.getCachedStructureCount());
+		assertEquals(describe(creator.getStructure(new Input(A))), describe(reopened.getStructure(new Input(A))));
+		assertEquals(0, reopened.getParsedStructureCount());
+		assertEquals(1, reopened.getCachedStructureCount());
+	}
+
+	@Test
+	public void concurrentStructures() throws Exception {
+		String expected= describe(new JavaStructureCreator().getStructure(new Input(A)));
+
+		JavaStructureCreator creator= new JavaStructureCreator();
+		creator.prefetchStructures(new Object[] { new Input(A) });
+		ExecutorService executor= Executors.newFixedThreadPool(4);
+		try {
+			List<Future<String>> results= new ArrayList<>();
+			for (int i= 0; i < 8; i++) {
+				Callable<String> task= () -> describe(creator.getStructure(new Input(A)));
+				results.add(executor.submit(task));
+			}
+			for (Future<String> result : results) {
+				assertEquals(expected, result.get());
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		Job.getJobManager().join(creator, null);
+		assertEquals(1, creator.getCachedStructureCount());
+	}
+
+	@Test
+	public void canceledPrefetch() throws Exception {
+		String expected= describe(new JavaStructureCreator().getStructure(new Input(B)));
+
+		JavaStructureCreator creator= new JavaStructureCreator();
+		creator.prefetchStructures(new Object[] { new Input(A), new Input(B), new Input(C) });
+		creator.cancelPrefetch();
+		Job.getJobManager().join(creator, null);
+
+		assertEquals(expected, describe(creator.getStructure(new Input(B))));
+	}
+
+	private static String describe(IStructureComparator structure) {
+		StringBuilder buf= new StringBuilder();
+		describe(structure, 0, buf);
+		return buf.toString();
+	}
+
+	private static void describe(Object node, int indent, StringBuilder buf) {
+		DocumentRangeNode rangeNode= (DocumentRangeNode) node;
+		Position range= rangeNode.getRange();
+		buf.append("\t".repeat(indent)).append(rangeNode.getId()).append(' ')
+				.append(range.getOffset()).append(',').append(range.getLength()).append('\n');
+		for (Object child : rangeNode.getChildren()) {
+			describe(child, indent + 1, buf);
+		}
+	}
+}
@@ -186,6 +186,7 @@ public class AbstractTestRunListenerTest {
 		if (testKindID != null) {
 			configuration.setAttribute(JUnitLaunchConfigurationConstants.ATTR_TEST_RUNNER_KIND, testKindID);
 		}
+		configureLaunch(configuration);
 		try {
 			configuration.launch(ILaunchManager.RUN_MODE, null);
 			new DisplayHelper() {
@@ -202,6 +203,16 @@ public class AbstractTestRunListenerTest {
 		assertTrue("Launch has not terminated", fLaunchHasTerminated);
 	}
 
+	/**
+	 * Hook to set additional attributes of the launch configuration before it is launched.
+	 *
+	 * @param configuration the launch configuration
+	 * @throws CoreException if setting an attribute fails
+	 */
+	protected void configureLaunch(ILaunchConfigurationWorkingCopy configuration) throws CoreException {
+		// no additional attributes by default
+	}
+
 	protected String[] launchJUnit(IJavaElement aTest, final TestRunLog log) throws CoreException {
 		return launchJUnit(aTest, null, log);
 	}
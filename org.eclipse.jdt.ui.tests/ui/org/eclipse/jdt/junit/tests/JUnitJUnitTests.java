@@ -42,6 +42,9 @@ JUnit3TestFinderTest.class,
 JUnitTestFinderTest.class,
 JUnit4TestFinderTest16.class,
 JUnit5TestFinderJupiterTest.class,
+TestTypeCacheTest.class,
+TestShardingTest.class,
+TestShardedLaunchTest.class,
 
 TestSorting.class
 //LegacyTestRunListenerTest.class
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.junit.JUnitCore;
+import org.eclipse.jdt.junit.TestRunListener;
+import org.eclipse.jdt.junit.model.ITestElement.ProgressState;
+import org.eclipse.jdt.junit.model.ITestElement.Result;
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
+
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.internal.junit.launcher.JUnitLaunchConfigurationConstants;
+import org.eclipse.jdt.internal.junit.launcher.TestKindRegistry;
+
+/**
+ * Launches a sharded test run through the launch configuration delegate and checks that the
+ * test run session receives the tests of all shards.
+ */
+public class TestShardedLaunchTest extends AbstractTestRunListenerTest {
+
+	@Override
+	@Before
+	public void setUp() throws Exception {
+		fProject= JavaProjectHelper.createJavaProject("TestRunListenerTest", "bin");
+		JavaProjectHelper.addToClasspath(fProject, JavaCore.newContainerEntry(JUnitCore.JUNIT4_CONTAINER_PATH));
+		JavaProjectHelper.addRTJar15(fProject);
+	}
+
+	@Override
+	protected void configureLaunch(ILaunchConfigurationWorkingCopy configuration) throws CoreException {
+		configuration.setAttribute(JUnitLaunchConfigurationConstants.ATTR_SHARD_COUNT, 2);
+	}
+
+	@Test
+	public void testAllShardsReported() throws Exception {
+		IType aTest= createType("""
+			package pack;
+			import org.junit.Test;
+			public class ATest {
+			    @Test public void testA() { }
+			}""", "pack", "ATest.java");
+		IPackageFragment pack= aTest.getPackageFragment();
+		pack.createCompilationUnit("BTest.java", """
+			package pack;
+			import org.junit.Test;
+			public class BTest {
+			    @Test public void testB() { }
+			}""", true, null);
+
+		TestRunLog log= new TestRunLog();
+		TestRunListener testRunListener= new TestRunListeners.SequenceTest(log);
+		JUnitCore.addTestRunListener(testRunListener);
+		String[] actual;
+		try {
+			actual= launchJUnit(pack, TestKindRegistry.JUNIT4_TEST_KIND_ID, log);
+		} finally {
+			JUnitCore.removeTestRunListener(testRunListener);
+		}
+
+		// the shards run concurrently, so their tests may finish in any order
+		List<String> finished= new ArrayList<>();
+		for (String message : actual) {
+			if (message.startsWith("testCaseFinished-")) {
+				finished.add(message);
+			}
+		}
+		assertEquals(Set.of(
+				"testCaseFinished-" + TestRunListeners.testCaseAsString("testA", "pack.ATest", ProgressState.COMPLETED, Result.OK, null, 0),
+				"testCaseFinished-" + TestRunListeners.testCaseAsString("testB", "pack.BTest", ProgressState.COMPLETED, Result.OK, null, 0)),
+				Set.copyOf(finished));
+		assertEquals(2, finished.size());
+		String last= actual[actual.length - 1];
+		assertTrue(last, last.startsWith("sessionFinished-"));
+	}
+}
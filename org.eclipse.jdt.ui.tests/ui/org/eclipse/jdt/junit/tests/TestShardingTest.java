@@ -0,0 +1,368 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.ConnectException;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.ILaunch;
+import org.eclipse.debug.core.ILaunchManager;
+import org.eclipse.debug.core.Launch;
+
+import org.eclipse.jdt.junit.model.ITestElement;
+
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.launching.SocketUtil;
+
+import org.eclipse.jdt.internal.junit.launcher.TestShardPartitioner;
+import org.eclipse.jdt.internal.junit.model.ITestSessionListener;
+import org.eclipse.jdt.internal.junit.model.TestCaseElement;
+import org.eclipse.jdt.internal.junit.model.TestClassDurations;
+import org.eclipse.jdt.internal.junit.model.TestElement;
+import org.eclipse.jdt.internal.junit.model.TestElement.Status;
+import org.eclipse.jdt.internal.junit.model.TestRunSession;
+import org.eclipse.jdt.internal.junit.model.TestSuiteElement;
+import org.eclipse.jdt.internal.junit.runner.MessageIds;
+import org.eclipse.jdt.internal.junit.runner.RemoteTestRunner;
+
+/**
+ * Tests the distribution of test classes over shards and the merging of the events of the
+ * runtime VMs of a sharded test run into one session. The runtime VMs are replaced by threads
+ * that send protocol messages.
+ */
+public class TestShardingTest {
+
+	private static final String ENGINE_ID= "[engine:junit-jupiter]";
+
+	@Rule
+	public TemporaryFolder fTempFolder= new TemporaryFolder();
+
+	private TestClassDurations fDurations;
+
+	private ILaunch fLaunch;
+
+	@Before
+	public void setUp() throws Exception {
+		fDurations= new TestClassDurations(new File(fTempFolder.getRoot(), "durations.properties"));
+		fLaunch= new Launch(null, ILaunchManager.RUN_MODE, null);
+		DebugPlugin.getDefault().getLaunchManager().addLaunch(fLaunch);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		DebugPlugin.getDefault().getLaunchManager().removeLaunch(fLaunch);
+	}
+
+	@Test
+	public void testPartitionLongestFirst() throws Exception {
+		IType[] types= createTypes("A", "B", "C", "D", "E");
+		fDurations.setDuration("p.A", 100);
+		fDurations.setDuration("p.B", 60);
+		fDurations.setDuration("p.C", 50);
+		fDurations.setDuration("p.D", 40);
+		// E is unknown and counts with the average of 62
+
+		IType[][] shards= TestShardPartitioner.partition(types, 2, fDurations);
+		assertEquals(2, shards.length);
+		assertArrayEquals(new IType[] { types[0], types[2] }, shards[0]);
+		assertArrayEquals(new IType[] { types[4], types[1], types[3] }, shards[1]);
+	}
+
+	@Test
+	public void testPartitionWithoutDurations() throws Exception {
+		IType[] types= createTypes("A", "B", "C", "D");
+
+		IType[][] shards= TestShardPartitioner.partition(types, 2, fDurations);
+		assertArrayEquals(new IType[] { types[0], types[2] }, shards[0]);
+		assertArrayEquals(new IType[] { types[1], types[3] }, shards[1]);
+	}
+
+	@Test
+	public void testPartitionNotMoreShardsThanTypes() throws Exception {
+		IType[] types= createTypes("A", "B");
+
+		IType[][] shards= TestShardPartitioner.partition(types, 5, fDurations);
+		assertEquals(2, shards.length);
+		assertEquals(1, shards[0].length);
+		assertEquals(1, shards[1].length);
+
+		assertArrayEquals(new IType[][] { types }, TestShardPartitioner.partition(types, 1, fDurations));
+	}
+
+	@Test
+	public void testDurationsAreStored() throws Exception {
+		fDurations.setDuration("p.A", 100);
+		fDurations.flush();
+
+		TestClassDurations loaded= new TestClassDurations(new File(fTempFolder.getRoot(), "durations.properties"));
+		assertEquals(100, loaded.getDuration("p.A"));
+		assertEquals(100, loaded.getDuration("p.A$Nested"));
+		assertEquals(-1, loaded.getDuration("p.B"));
+	}
+
+	@Test
+	public void testShardedRunMergesEngineRoots() throws Exception {
+		TestRunSession session= runShards(
+				shard("p.ATest", 1, 1),
+				shard("p.BTest", 1, 1));
+
+		ITestElement[] roots= session.getTestRoot().getChildren();
+		assertEquals(1, roots.length);
+		TestSuiteElement engine= (TestSuiteElement) roots[0];
+		assertEquals(ENGINE_ID, engine.getUniqueId());
+		// the shards run concurrently, so the classes may come in any order
+		Set<String> classNames= new HashSet<>();
+		for (ITestElement element : engine.getChildren()) {
+			classNames.add(((TestElement) element).getTestName());
+		}
+		assertEquals(Set.of("p.ATest", "p.BTest"), classNames);
+		assertEquals(2, session.getStartedCount());
+	}
+
+	@Test
+	public void testShardedRunPrefixesTestIds() throws Exception {
+		TestRunSession session= runShards(
+				shard("p.ATest", 1, 1),
+				shard("p.BTest", 1, 1));
+
+		// each runtime VM numbers its tests from 1; the session prefixes the shard number
+		assertNull(session.getTestElement("3"));
+		TestElement first= session.getTestElement("1:3");
+		TestElement second= session.getTestElement("2:3");
+		assertEquals("test0(p.ATest)", first.getTestName());
+		assertEquals("test0(p.BTest)", second.getTestName());
+	}
+
+	@Test
+	public void testShardedRunSerializesEvents() throws Exception {
+		int testCount= 2000;
+		TestRunSession session= runShards(
+				shard("p.ATest", testCount, testCount),
+				shard("p.BTest", testCount, testCount),
+				shard("p.CTest", testCount, testCount));
+
+		assertEquals(3 * testCount, session.getStartedCount());
+		assertEquals(3 * testCount, session.getTotalCount());
+		for (int shard= 1; shard <= 3; shard++) {
+			for (int i= 0; i < testCount; i++) {
+				TestElement test= session.getTestElement(shard + ":" + (i + 3));
+				assertNotNull(test);
+				assertEquals(Status.OK, test.getStatus());
+			}
+		}
+	}
+
+	@Test
+	public void testRecordsOnlyCompleteClasses() throws Exception {
+		TestRunSession session= runShards(
+				shard("p.ATest", 2, 2),
+				shard("p.BTest", 2, 1));
+
+		fDurations.record(session);
+		assertTrue(fDurations.getDuration("p.ATest") >= 0);
+		assertEquals(-1, fDurations.getDuration("p.BTest"));
+	}
+
+	private static IType[] createTypes(String... names) {
+		IJavaProject project= JavaCore.create(ResourcesPlugin.getWorkspace().getRoot().getProject("P"));
+		IPackageFragment pack= project.getPackageFragmentRoot(project.getProject().getFolder("src")).getPackageFragment("p");
+		IType[] types= new IType[names.length];
+		for (int i= 0; i < names.length; i++) {
+			types[i]= pack.getCompilationUnit(names[i] + ".java").getType(names[i]);
+		}
+		return types;
+	}
+
+	/**
+	 * Creates the messages of a runtime VM that runs one JUnit 5 test class.
+	 *
+	 * @param className the name of the test class
+	 * @param testCount the number of tests in the class
+	 * @param runCount the number of tests that are run
+	 * @return the protocol messages
+	 */
+	private static List<String> shard(String className, int testCount, int runCount) {
+		List<String> messages= new ArrayList<>();
+		messages.add(MessageIds.TEST_RUN_START + testCount + " v2");
+		messages.add(MessageIds.TEST_TREE + "1,JUnit Jupiter,true,1,false,-1,JUnit Jupiter,," + escape(ENGINE_ID));
+		String classId= ENGINE_ID + "/[class:" + className + "]";
+		messages.add(MessageIds.TEST_TREE + "2," + className + ",true," + testCount + ",false,1," + className + ",," + escape(classId));
+		for (int i= 0; i < testCount; i++) {
+			String name= "test" + i + "(" + className + ")";
+			messages.add(MessageIds.TEST_TREE + (i + 3) + "," + escape(name) + ",false,1,false,2," + escape(name) + ",,"
+					+ escape(classId + "/[method:test" + i + "()]"));
+		}
+		for (int i= 0; i < runCount; i++) {
+			String idAndName= (i + 3) + "," + escape("test" + i + "(" + className + ")");
+			messages.add(MessageIds.TEST_START + idAndName);
+			messages.add(MessageIds.TEST_END + idAndName);
+		}
+		messages.add(MessageIds.TEST_RUN_END + "1");
+		return messages;
+	}
+
+	private static String escape(String text) {
+		return RemoteTestRunner.escapeText(text);
+	}
+
+	/**
+	 * Sends the messages of all shards concurrently and waits for the end of the session.
+	 *
+	 * @param shards the messages of each runtime VM
+	 * @return the ended session
+	 * @throws Exception if sending fails or the session does not end in time
+	 */
+	@SafeVarargs
+	private TestRunSession runShards(List<String>... shards) throws Exception {
+		int[] ports= new int[shards.length];
+		for (int i= 0; i < shards.length; i++) {
+			ports[i]= SocketUtil.findFreePort();
+		}
+		IJavaProject project= JavaCore.create(ResourcesPlugin.getWorkspace().getRoot().getProject("P"));
+		TestRunSession session= new TestRunSession(fLaunch, project, ports);
+		CountDownLatch ended= new CountDownLatch(1);
+		session.addTestSessionListener(new EndListener(ended));
+
+		Exception[] failure= new Exception[1];
+		Thread[] threads= new Thread[shards.length];
+		for (int i= 0; i < shards.length; i++) {
+			List<String> messages= shards[i];
+			int port= ports[i];
+			threads[i]= new Thread(() -> {
+				try {
+					send(port, messages);
+				} catch (IOException | InterruptedException e) {
+					failure[0]= e;
+				}
+			}, "Shard " + (i + 1));
+			threads[i].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		if (failure[0] != null) {
+			throw failure[0];
+		}
+		assertTrue("Session has not ended", ended.await(30, TimeUnit.SECONDS));
+		return session;
+	}
+
+	private static void send(int port, List<String> messages) throws IOException, InterruptedException {
+		try (Socket socket= connect(port);
+				PrintWriter writer= new PrintWriter(new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8)))) {
+			for (String message : messages) {
+				writer.println(message);
+			}
+			writer.flush();
+		}
+	}
+
+	private static Socket connect(int port) throws IOException, InterruptedException {
+		ConnectException failure= null;
+		for (int i= 0; i < 100; i++) {
+			try {
+				return new Socket("localhost", port);
+			} catch (ConnectException e) {
+				failure= e; // the client has not opened the server socket yet
+				Thread.sleep(50);
+			}
+		}
+		throw failure;
+	}
+
+	private static class EndListener implements ITestSessionListener {
+		private final CountDownLatch fEnded;
+
+		EndListener(CountDownLatch ended) {
+			fEnded= ended;
+		}
+
+		@Override
+		public void sessionEnded(long elapsedTime) {
+			fEnded.countDown();
+		}
+
+		@Override
+		public void sessionStarted() {
+		}
+
+		@Override
+		public void sessionStopped(long elapsedTime) {
+		}
+
+		@Override
+		public void sessionTerminated() {
+		}
+
+		@Override
+		public void testAdded(TestElement testElement) {
+		}
+
+		@Override
+		public void runningBegins() {
+		}
+
+		@Override
+		public void testStarted(TestCaseElement testCaseElement) {
+		}
+
+		@Override
+		public void testEnded(TestCaseElement testCaseElement) {
+		}
+
+		@Override
+		public void testFailed(TestElement testElement, Status status, String trace, String expected, String actual) {
+		}
+
+		@Override
+		public void testReran(TestCaseElement testCaseElement, Status status, String trace, String expectedResult, String actualResult) {
+		}
+
+		@Override
+		public boolean acceptsSwapToDisk() {
+			return false;
+		}
+	}
+}
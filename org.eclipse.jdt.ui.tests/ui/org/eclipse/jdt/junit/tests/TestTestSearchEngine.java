@@ -215,6 +215,20 @@ public class TestTestSearchEngine {
 		assertEqualTypes("Test case not found", List.of(test1.getType("Test1")), result);
 	}
 
+	@Test
+	public void testChangedTypeIsCheckedAgain() throws Exception {
+		IPackageFragment p= fRoot.createPackageFragment("p", true, null);
+		String contents= "package p; import org.junit.Test; public class ATest { @Test public void test() { } }";
+		ICompilationUnit test= p.createCompilationUnit("ATest.java", contents, true, null);
+
+		assertEqualTypes("Test case not found", List.of(test.getType("ATest")), findTests(p));
+		// second search is answered from the remembered decisions
+		assertEqualTypes("Test case not found", List.of(test.getType("ATest")), findTests(p));
+
+		p.createCompilationUnit("ATest.java", contents.replace("public class", "public abstract class"), true, null);
+		assertEqualTypes("Abstract class found", List.of(), findTests(p));
+	}
+
 	private List<IType> findTests(IJavaElement element) throws InvocationTargetException, InterruptedException {
 		ITestKind testKind= TestKindRegistry.getContainerTestKind(fProject);
 		return new ArrayList<>(TestSearchEngine.findTests(new BusyIndicatorRunnableContext(), element, testKind));
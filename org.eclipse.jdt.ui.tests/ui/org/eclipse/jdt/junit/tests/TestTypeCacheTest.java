@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.junit.JUnitCore;
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.internal.junit.launcher.JUnit5TestFinder;
+
+/**
+ * Checks that the test type cache shared by the test finders does not keep decisions that
+ * are invalidated by a classpath change or by a change to a composed test annotation.
+ */
+public class TestTypeCacheTest {
+
+	private static final String COMPOSED_ANNOTATION= """
+		package p;
+		public @interface MyTest {
+		}
+		""";
+
+	private static final String META_ANNOTATED_COMPOSED_ANNOTATION= """
+		package p;
+		import java.lang.annotation.*;
+		@Retention(RetentionPolicy.RUNTIME)
+		@Target(ElementType.METHOD)
+		@org.junit.jupiter.api.Test
+		public @interface MyTest {
+		}
+		""";
+
+	private static final String JUPITER_TEST= """
+		package p;
+		public class ATest {
+			@org.junit.jupiter.api.Test
+			public void test() {
+			}
+		}
+		""";
+
+	private IJavaProject fProject;
+
+	private IPackageFragment fPackage;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= JavaProjectHelper.createJavaProject("TestProject", "bin");
+		JavaProjectHelper.addRTJar(fProject);
+		JavaProjectHelper.set18CompilerOptions(fProject);
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fProject, "src");
+		fPackage= root.createPackageFragment("p", true, null);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.delete(fProject);
+	}
+
+	@Test
+	public void testComposedAnnotationBecomesTestAnnotation() throws Exception {
+		addJUnit5Container();
+		fPackage.createCompilationUnit("MyTest.java", COMPOSED_ANNOTATION, true, null);
+		fPackage.createCompilationUnit("ATest.java", """
+			package p;
+			public class ATest {
+				@MyTest
+				public void test() {
+				}
+			}
+			""", true, null);
+		assertThat(findTests()).isEmpty();
+		assertThat(findTests()).isEmpty();
+
+		fPackage.createCompilationUnit("MyTest.java", META_ANNOTATED_COMPOSED_ANNOTATION, true, null);
+		assertThat(findTests()).containsExactly(fPackage.getCompilationUnit("ATest.java").getType("ATest"));
+	}
+
+	@Test
+	public void testJUnitAddedToClasspath() throws Exception {
+		fPackage.createCompilationUnit("ATest.java", JUPITER_TEST, true, null);
+		assertThat(findTests()).isEmpty();
+
+		addJUnit5Container();
+		assertThat(findTests()).containsExactly(fPackage.getCompilationUnit("ATest.java").getType("ATest"));
+	}
+
+	@Test
+	public void testJUnitRemovedFromClasspath() throws Exception {
+		addJUnit5Container();
+		fPackage.createCompilationUnit("ATest.java", JUPITER_TEST, true, null);
+		assertThat(findTests()).containsExactly(fPackage.getCompilationUnit("ATest.java").getType("ATest"));
+		assertThat(findTests()).containsExactly(fPackage.getCompilationUnit("ATest.java").getType("ATest"));
+
+		JavaProjectHelper.removeFromClasspath(fProject, JUnitCore.JUNIT5_CONTAINER_PATH);
+		assertThat(findTests()).isEmpty();
+	}
+
+	private void addJUnit5Container() throws Exception {
+		JavaProjectHelper.addToClasspath(fProject, JavaCore.newContainerEntry(JUnitCore.JUNIT5_CONTAINER_PATH));
+	}
+
+	private Set<IType> findTests() throws Exception {
+		Set<IType> result= new HashSet<>();
+		new JUnit5TestFinder().findTestsInContainer(fPackage, result, null);
+		return result;
+	}
+}
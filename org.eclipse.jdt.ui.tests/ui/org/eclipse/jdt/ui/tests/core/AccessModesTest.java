@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.function.BiConsumer;
+
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.corext.refactoring.code.flow.AccessModes;
+import org.eclipse.jdt.internal.corext.refactoring.code.flow.FlowInfo;
+
+/**
+ * Compares the bit set merges of {@link AccessModes} with the table based merges that
+ * {@link FlowInfo} used on one access mode per local, for every pair of modes.
+ */
+public class AccessModesTest {
+
+	private static final int UNUSED= FlowInfo.UNUSED;
+	private static final int READ= FlowInfo.READ;
+	private static final int READ_POTENTIAL= FlowInfo.READ_POTENTIAL;
+	private static final int WRITE= FlowInfo.WRITE;
+	private static final int WRITE_POTENTIAL= FlowInfo.WRITE_POTENTIAL;
+	private static final int UNKNOWN= FlowInfo.UNKNOWN;
+
+	private static final int[] MODES= { UNUSED, READ, READ_POTENTIAL, WRITE, WRITE_POTENTIAL, UNKNOWN };
+
+	private static final int[][] ACCESS_MODE_CONDITIONAL_TABLE= {
+	/*	  					  UNUSED		   READ			    READ_POTENTIAL   WRTIE			  WRITE_POTENTIAL  UNKNOWN */
+	/* UNUSED */			{ UNUSED,		   READ_POTENTIAL,  READ_POTENTIAL,  WRITE_POTENTIAL, WRITE_POTENTIAL, UNKNOWN },
+	/* READ */				{ READ_POTENTIAL,  READ,			READ_POTENTIAL,  UNKNOWN,		  UNKNOWN,         UNKNOWN },
+	/* READ_POTENTIAL */	{ READ_POTENTIAL,  READ_POTENTIAL,  READ_POTENTIAL,  UNKNOWN,		  UNKNOWN,         UNKNOWN },
+	/* WRITE */				{ WRITE_POTENTIAL, UNKNOWN,			UNKNOWN,		 WRITE,			  WRITE_POTENTIAL, UNKNOWN },
+	/* WRITE_POTENTIAL */   { WRITE_POTENTIAL, UNKNOWN,			UNKNOWN,		 WRITE_POTENTIAL, WRITE_POTENTIAL, UNKNOWN },
+	/* UNKNOWN */ 			{ UNKNOWN, 		   UNKNOWN,			UNKNOWN,		 UNKNOWN, 		  UNKNOWN,		   UNKNOWN }
+	};
+
+	private static final int[] ACCESS_MODE_OPEN_BRANCH_TABLE= {
+	/*	UNUSED	READ			READ_POTENTIAL  WRTIE				WRITE_POTENTIAL  UNKNOWN */
+		UNUSED,	READ_POTENTIAL,	READ_POTENTIAL,	WRITE_POTENTIAL,	WRITE_POTENTIAL, UNKNOWN
+	};
+
+	private static int getIndex(int accessMode) {
+		for (int i= 0; i < MODES.length; i++) {
+			if (MODES[i] == accessMode)
+				return i;
+		}
+		throw new IllegalArgumentException(String.valueOf(accessMode));
+	}
+
+	private static int mergeConditional(int mode, int other) {
+		return ACCESS_MODE_CONDITIONAL_TABLE[getIndex(mode)][getIndex(other)];
+	}
+
+	private static int mergeArguments(int accessMode, int otherMode) {
+		if (accessMode == UNUSED || (accessMode == WRITE_POTENTIAL && (otherMode == READ || otherMode == READ_POTENTIAL)))
+			return otherMode;
+		if (accessMode == WRITE_POTENTIAL && otherMode == WRITE)
+			return WRITE;
+		return accessMode;
+	}
+
+	private static int mergeReturnValues(int accessMode, int otherMode) {
+		if (accessMode == WRITE)
+			return accessMode;
+		if (accessMode == WRITE_POTENTIAL)
+			return otherMode == WRITE ? WRITE : accessMode;
+		return otherMode != UNUSED ? otherMode : accessMode;
+	}
+
+	private interface PairMerge {
+		int merge(int mode, int other);
+	}
+
+	/*
+	 * Assigns every pair of modes to the locals, repeated so that the locals span several words
+	 * and end inside a partially used word, then compares the merge of each local.
+	 */
+	private static void assertPairs(int length, BiConsumer<AccessModes, AccessModes> merge, PairMerge expected) {
+		int pairs= MODES.length * MODES.length;
+		AccessModes modes= new AccessModes(length);
+		AccessModes others= new AccessModes(length);
+		for (int i= 0; i < length; i++) {
+			modes.set(i, MODES[(i % pairs) / MODES.length]);
+			others.set(i, MODES[i % MODES.length]);
+		}
+		merge.accept(modes, others);
+		for (int i= 0; i < length; i++) {
+			int mode= MODES[(i % pairs) / MODES.length];
+			int other= MODES[i % MODES.length];
+			assertEquals("local " + i + ": " + mode + " and " + other, expected.merge(mode, other), modes.get(i));
+			assertEquals(other, others.get(i));
+		}
+	}
+
+	private static void assertAllLengths(BiConsumer<AccessModes, AccessModes> merge, PairMerge expected) {
+		for (int length : new int[] { 1, 36, 63, 64, 65, 130 }) {
+			assertPairs(length, merge, expected);
+		}
+	}
+
+	@Test
+	public void conditional() {
+		assertAllLengths(AccessModes::mergeConditional, AccessModesTest::mergeConditional);
+	}
+
+	@Test
+	public void conditionalWithUnused() {
+		assertAllLengths((modes, others) -> modes.mergeConditional(null), (mode, other) -> mergeConditional(mode, UNUSED));
+	}
+
+	@Test
+	public void openBranch() {
+		assertAllLengths((modes, others) -> modes.openBranch(), (mode, other) -> ACCESS_MODE_OPEN_BRANCH_TABLE[getIndex(mode)]);
+	}
+
+	@Test
+	public void arguments() {
+		assertAllLengths(AccessModes::mergeArguments, AccessModesTest::mergeArguments);
+	}
+
+	@Test
+	public void returnValues() {
+		assertAllLengths(AccessModes::mergeReturnValues, AccessModesTest::mergeReturnValues);
+	}
+
+	@Test
+	public void setAndGet() {
+		AccessModes modes= new AccessModes(130);
+		for (int i= 0; i < modes.length(); i++) {
+			assertEquals(UNUSED, modes.get(i));
+		}
+		for (int mode : MODES) {
+			modes.set(129, mode);
+			modes.set(64, mode);
+			assertEquals(mode, modes.get(129));
+			assertEquals(mode, modes.get(64));
+			assertEquals(UNUSED, modes.get(63));
+			assertEquals(UNUSED, modes.get(128));
+		}
+	}
+}
@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.IBinding;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+
+import org.eclipse.jdt.internal.core.manipulation.search.IOccurrencesFinder;
+import org.eclipse.jdt.internal.core.manipulation.search.IOccurrencesFinder.OccurrenceLocation;
+import org.eclipse.jdt.internal.core.manipulation.search.OccurrencesFinder;
+import org.eclipse.jdt.internal.corext.dom.BindingOccurrenceIndex;
+import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
+import org.eclipse.jdt.internal.corext.dom.LinkedNodeFinder;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+public class BindingOccurrenceIndexTest {
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fJProject1;
+	private ICompilationUnit fCompilationUnit;
+	private String fContents;
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject1= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+		JavaProjectHelper.addRTJar18(fJProject1);
+
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+
+		IPackageFragment pack0= sourceFolder.createPackageFragment("", false, null);
+		fContents= """
+			public class E {
+			    int count;
+			    E next;
+			    int foo(int count) {
+			        this.count= count;
+			        next.count++;
+			        return count + this.count;
+			    }
+			    class F extends E {
+			        @Override
+			        int foo(int i) {
+			            return super.foo(i) + new E().foo(i);
+			        }
+			    }
+			}
+			""";
+		fCompilationUnit= pack0.createCompilationUnit("E.java", fContents, false, null);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.delete(fJProject1);
+	}
+
+	@Test
+	public void fieldOccurrences() throws Exception {
+		CompilationUnit astRoot= createAST(fCompilationUnit);
+
+		OccurrencesFinder finder= new OccurrencesFinder();
+		assertNull(finder.initialize(astRoot, fContents.indexOf("count;"), 5));
+		OccurrenceLocation[] occurrences= finder.getOccurrences();
+
+		int[] expectedOffsets= {
+				fContents.indexOf("count;"),
+				fContents.indexOf("count= count"),
+				fContents.indexOf("count++"),
+				fContents.lastIndexOf("count;") };
+		int[] expectedFlags= {
+				IOccurrencesFinder.F_WRITE_OCCURRENCE,
+				IOccurrencesFinder.F_WRITE_OCCURRENCE,
+				IOccurrencesFinder.F_WRITE_OCCURRENCE,
+				IOccurrencesFinder.F_READ_OCCURRENCE };
+		assertEquals(expectedOffsets.length, occurrences.length);
+		for (int i= 0; i < occurrences.length; i++) {
+			assertEquals(expectedOffsets[i], occurrences[i].getOffset());
+			assertEquals(expectedFlags[i], occurrences[i].getFlags());
+		}
+	}
+
+	@Test
+	public void linkedNamesMatchFullWalk() throws Exception {
+		CompilationUnit astRoot= createAST(fCompilationUnit);
+		TypeDeclaration type= (TypeDeclaration) astRoot.types().get(0);
+
+		List<SimpleName> names= new ArrayList<>();
+		astRoot.accept(new ASTVisitor() {
+			@Override
+			public boolean visit(SimpleName node) {
+				names.add(node);
+				return true;
+			}
+		});
+
+		for (SimpleName name : names) {
+			IBinding binding= name.resolveBinding();
+			if (binding != null) {
+				// a type declaration root is not indexed
+				assertArrayEquals(name.getIdentifier(), LinkedNodeFinder.findByBinding(type, binding), LinkedNodeFinder.findByBinding(astRoot, binding));
+			}
+		}
+	}
+
+	@Test
+	public void indexIsSharedUntilModified() throws Exception {
+		CompilationUnit astRoot= createAST(fCompilationUnit);
+
+		BindingOccurrenceIndex index= BindingOccurrenceIndex.get(astRoot);
+		assertSame(index, BindingOccurrenceIndex.get(astRoot));
+
+		TypeDeclaration type= (TypeDeclaration) astRoot.types().get(0);
+		type.setName(astRoot.getAST().newSimpleName("G"));
+		assertNotSame(index, BindingOccurrenceIndex.get(astRoot));
+	}
+
+	private CompilationUnit createAST(ICompilationUnit compilationUnit) {
+		ASTParser parser= ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
+		parser.setSource(compilationUnit);
+		parser.setResolveBindings(true);
+		return (CompilationUnit) parser.createAST(null);
+	}
+}
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.corext.util.ConcurrentMRU;
+
+public class ConcurrentMRUTest {
+
+	@Test
+	public void eviction() throws Exception {
+		ConcurrentMRU<String, String> mru= new ConcurrentMRU<>(3);
+		mru.put("a", "A");
+		mru.put("b", "B");
+		mru.put("c", "C");
+		assertEquals("A", mru.get("a"));
+		mru.put("d", "D");
+
+		assertNull(mru.get("b"));
+		assertEquals(-1, mru.getPosition("b"));
+		assertEquals(0, mru.getPosition("c"));
+		assertEquals(1, mru.getPosition("a"));
+		assertEquals(2, mru.getPosition("d"));
+		assertArrayEquals(new String[] {"C", "A", "D"}, mru.values().toArray(new String[0]));
+
+		ConcurrentMRU.Statistics statistics= mru.getStatistics();
+		assertEquals(3, statistics.size());
+		assertEquals(1, statistics.hits());
+		assertEquals(1, statistics.misses());
+		assertEquals(1, statistics.evictions());
+	}
+
+	@Test
+	public void concurrentReadsAndWrites() throws Exception {
+		ConcurrentMRU<Integer, Integer> mru= new ConcurrentMRU<>(10);
+		ExecutorService executor= Executors.newFixedThreadPool(4);
+		try {
+			List<Future<?>> futures= new ArrayList<>();
+			for (int t= 0; t < 4; t++) {
+				int offset= t * 1000;
+				futures.add(executor.submit(() -> {
+					for (int i= 0; i < 1000; i++) {
+						mru.put(Integer.valueOf(offset + i), Integer.valueOf(i));
+						List<Integer> values= mru.values();
+						assertTrue(values.size() <= 10);
+						mru.getPosition(Integer.valueOf(offset + i / 2));
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		assertEquals(10, mru.size());
+		assertEquals(10, mru.keys().size());
+	}
+}
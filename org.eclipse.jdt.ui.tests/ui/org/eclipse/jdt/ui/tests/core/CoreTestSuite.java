@@ -19,13 +19,16 @@ import org.junit.runners.Suite;
 import org.eclipse.jdt.ui.tests.core.source.SourceActionTests;
 
 import org.eclipse.jdt.internal.ui.compare.JavaIgnoreWhitespaceContributorTest;
+import org.eclipse.jdt.internal.ui.compare.JavaStructureCreatorTest;
 import org.eclipse.jdt.internal.ui.compare.JavaTokenComparatorTest;
 
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
+AccessModesTest.class,
 AddImportTest.class,
 SourceActionTests.class,
 ASTNodesInsertTest.class,
+BindingOccurrenceIndexTest.class,
 BindingsHierarchyTest.class,
 BindingsNameTest.class,
 CallHierarchyTest.class,
@@ -48,19 +51,26 @@ MethodOverrideTest1d8.class,
 NameProposerTest.class,
 OverrideTest.class,
 PartialASTTest.class,
+ProblemMarkerManagerTest.class,
 ScopeAnalyzerTest.class,
+StubCreationOperationTest.class,
 TemplateStoreTest.class,
 TypeHierarchyTest.class,
+TypeHierarchyLifeCycleTest.class,
 TypeHierarchyViewPartTest.class,
 TypeRulesTest.class,
 TypeInfoTest.class,
+TypeNameIndexTest.class,
 StringsTest.class,
 IndentManipulationTest.class,
 SelectionHistoryTest.class,
+OpenTypeHistoryTest.class,
+ConcurrentMRUTest.class,
 ASTProviderTest.class,
 JDTFlagsTest18.class,
 JavaTokenComparatorTest.class,
 JavaIgnoreWhitespaceContributorTest.class,
+JavaStructureCreatorTest.class,
 })
 public class CoreTestSuite {
 }
\ No newline at end of file
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+import org.eclipse.jdt.internal.corext.util.OpenTypeHistory;
+import org.eclipse.jdt.internal.corext.util.OpenTypeHistory.CheckStatistics;
+
+/**
+ * Tests that a change of a single container only re-validates the history entries of that
+ * container.
+ */
+public class OpenTypeHistoryTest {
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fProject;
+	private IPackageFragmentRoot fRoot1;
+	private IPackageFragment fPackageQ;
+	private ICompilationUnit fUnitA;
+	private TypeNameMatch[] fMatches;
+	private OpenTypeHistory fHistory;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+		assertNotNull("jre is null", JavaProjectHelper.addRTJar(fProject));
+		fRoot1= JavaProjectHelper.addSourceContainer(fProject, "src1");
+		IPackageFragmentRoot root2= JavaProjectHelper.addSourceContainer(fProject, "src2");
+		IPackageFragment packageP= fRoot1.createPackageFragment("p", true, null);
+		fUnitA= packageP.createCompilationUnit("A.java", "package p;\npublic class A {\n}\nclass B {\n}\n", false, null);
+		fPackageQ= root2.createPackageFragment("q", true, null);
+		ICompilationUnit unitC= fPackageQ.createCompilationUnit("C.java", "package q;\npublic class C {\n}\n", false, null);
+
+		IType[] types= { fUnitA.getType("A"), fUnitA.getType("B"), unitC.getType("C") };
+		fMatches= new TypeNameMatch[types.length];
+		fHistory= OpenTypeHistory.getInstance();
+		for (int i= 0; i < types.length; i++) {
+			fMatches[i]= SearchEngine.createTypeNameMatch(types[i], types[i].getFlags());
+			fHistory.accessed(fMatches[i]);
+		}
+		// consume the checks scheduled by the setup
+		joinUpdate();
+		fHistory.checkConsistency(new NullProgressMonitor());
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		for (TypeNameMatch match : fHistory.getTypeInfos()) {
+			if (match.getType().getJavaProject().equals(fProject)) {
+				fHistory.remove(match);
+			}
+		}
+		JavaProjectHelper.delete(fProject);
+	}
+
+	private void joinUpdate() throws Exception {
+		Job.getJobManager().join(OpenTypeHistory.JOB_FAMILY, null);
+	}
+
+	private CheckStatistics check(IJavaElement scope) throws Exception {
+		fHistory.markAsInconsistent(List.of(scope));
+		joinUpdate();
+		fHistory.checkConsistency(new NullProgressMonitor());
+		assertFalse(fHistory.needConsistencyCheck());
+		return fHistory.getLastCheckStatistics();
+	}
+
+	private TypeNameMatch find(String fullyQualifiedName) {
+		for (TypeNameMatch match : fHistory.getTypeInfos()) {
+			if (match.getFullyQualifiedName().equals(fullyQualifiedName))
+				return match;
+		}
+		return null;
+	}
+
+	@Test
+	public void checkSourceFolder() throws Exception {
+		assertEquals(new CheckStatistics(2, 1), check(fRoot1));
+	}
+
+	@Test
+	public void checkPackage() throws Exception {
+		assertEquals(new CheckStatistics(1, 1), check(fPackageQ));
+	}
+
+	@Test
+	public void checkCompilationUnit() throws Exception {
+		assertEquals(new CheckStatistics(2, 1), check(fUnitA));
+	}
+
+	@Test
+	public void checkProject() throws Exception {
+		assertEquals(new CheckStatistics(3, 2), check(fProject));
+	}
+
+	@Test
+	public void revalidateChangedContainer() throws Exception {
+		IType typeA= fUnitA.getType("A");
+		fHistory.replace(fMatches[0], SearchEngine.createTypeNameMatch(typeA, 0));
+
+		// the container did not change since the entry was recorded, so it is trusted
+		check(fUnitA);
+		assertEquals(0, find("p.A").getModifiers());
+
+		IResource file= fUnitA.getResource();
+		file.setLocalTimeStamp(file.getLocalTimeStamp() + 10_000);
+		check(fUnitA);
+		assertEquals(Flags.AccPublic, find("p.A").getModifiers());
+		assertEquals(0, find("p.B").getModifiers());
+	}
+
+	@Test
+	public void searchIndicesResetOnClasspathChange() throws Exception {
+		fHistory.waitForSearchIndices(new NullProgressMonitor());
+		assertTrue(fHistory.areSearchIndicesReady());
+
+		JavaProjectHelper.addSourceContainer(fProject, "src3");
+		assertFalse(fHistory.areSearchIndicesReady());
+
+		joinUpdate();
+		assertTrue(fHistory.areSearchIndicesReady());
+	}
+
+	@Test
+	public void searchIndicesResetOnInvalidation() throws Exception {
+		fHistory.waitForSearchIndices(new NullProgressMonitor());
+		fHistory.invalidateSearchIndices();
+		assertFalse(fHistory.areSearchIndicesReady());
+
+		fHistory.waitForSearchIndices(new NullProgressMonitor());
+		assertTrue(fHistory.areSearchIndicesReady());
+	}
+}
@@ -0,0 +1,204 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.jdt.testplugin.util.DisplayHelper;
+
+import org.eclipse.swt.widgets.Display;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+import org.eclipse.jdt.internal.ui.viewsupport.IProblemChangedListener;
+import org.eclipse.jdt.internal.ui.viewsupport.ProblemMarkerManager;
+
+public class ProblemMarkerManagerTest {
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private static final String CONTENTS= """
+			package p;
+			public class A {
+				void m1() {
+				}
+				void m2() {
+				}
+			}
+			""";
+
+	private IJavaProject fProject;
+	private ICompilationUnit fCU;
+	private ProblemMarkerManager fManager;
+
+	private IResource[] fChangedResources;
+	private IJavaElement[] fChangedElements;
+
+	private final IProblemChangedListener fListener= new IProblemChangedListener() {
+		@Override
+		public void problemsChanged(IResource[] changedResources, boolean isMarkerChange) {
+			// not used
+		}
+
+		@Override
+		public void problemsChanged(IResource[] changedResources, IJavaElement[] changedElements, boolean isMarkerChange) {
+			if (isMarkerChange) {
+				fChangedResources= changedResources;
+				fChangedElements= changedElements;
+			}
+		}
+	};
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+		assertNotNull("jre is null", JavaProjectHelper.addRTJar(fProject));
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fProject, "src");
+		IPackageFragment pack= root.createPackageFragment("p", true, null);
+		fCU= pack.createCompilationUnit("A.java", CONTENTS, false, null);
+		fCU.open(null);
+
+		fManager= new ProblemMarkerManager();
+		fManager.addListener(fListener);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fManager.removeListener(fListener);
+		if (fCU.isWorkingCopy()) {
+			fCU.discardWorkingCopy();
+		}
+		JavaProjectHelper.delete(fProject);
+	}
+
+	private void addProblem(String atText) throws Exception {
+		int offset= CONTENTS.indexOf(atText);
+		IFile file= (IFile) fCU.getResource();
+		fChangedResources= null;
+		ResourcesPlugin.getWorkspace().run(monitor -> {
+			IMarker marker= file.createMarker(IMarker.PROBLEM);
+			marker.setAttributes(new String[] { IMarker.SEVERITY, IMarker.CHAR_START, IMarker.CHAR_END },
+					new Object[] { Integer.valueOf(IMarker.SEVERITY_ERROR), Integer.valueOf(offset), Integer.valueOf(offset + atText.length()) });
+		}, null);
+		waitForChange();
+	}
+
+	private void removeProblems() throws Exception {
+		fChangedResources= null;
+		fCU.getResource().deleteMarkers(IMarker.PROBLEM, false, IResource.DEPTH_ZERO);
+		waitForChange();
+	}
+
+	private void waitForChange() {
+		assertTrue("no problem change reported", new DisplayHelper() {
+			@Override
+			protected boolean condition() {
+				return fChangedResources != null;
+			}
+		}.waitForCondition(Display.getCurrent(), 10_000));
+	}
+
+	@Test
+	public void changedMembers() throws Exception {
+		addProblem("m2");
+
+		assertTrue(Arrays.asList(fChangedResources).contains(fCU.getResource()));
+		IType type= fCU.getType("A");
+		assertEquals(Set.of(type, type.getMethod("m2", new String[0])), new HashSet<>(Arrays.asList(fChangedElements)));
+	}
+
+	@Test
+	public void removedMembers() throws Exception {
+		addProblem("m2");
+		removeProblems();
+
+		IType type= fCU.getType("A");
+		assertEquals(Set.of(type, type.getMethod("m2", new String[0])), new HashSet<>(Arrays.asList(fChangedElements)));
+	}
+
+	@Test
+	public void contentChangedInEarlierDelta() throws Exception {
+		addProblem("m2");
+
+		// the file changes in one delta, e.g. by a checkout, and the builder removes the markers in a later one
+		IFile file= (IFile) fCU.getResource();
+		String contents= """
+				package p;
+				public class A {
+					void m1() {
+					}
+					void m0() {
+					}
+					void m2() {
+					}
+				}
+				""";
+		file.setContents(new ByteArrayInputStream(contents.getBytes(file.getCharset())), IResource.NONE, null);
+		fCU.open(null);
+		removeProblems();
+
+		// the old offset of the marker points to m0 now, so the whole resource changed
+		assertTrue(Arrays.asList(fChangedResources).contains(fCU.getResource()));
+		assertArrayEquals(new IJavaElement[0], fChangedElements);
+	}
+
+	@Test
+	public void unsavedWorkingCopy() throws Exception {
+		fCU.becomeWorkingCopy(null);
+		fCU.getBuffer().setContents("package p;\npublic class A {\n\tvoid m0() {\n\t}\n" + CONTENTS.substring(CONTENTS.indexOf("\tvoid m1")));
+		fCU.reconcile(ICompilationUnit.NO_AST, false, null, null);
+
+		addProblem("m2");
+
+		// the offsets of the saved file do not fit the working copy, so the whole resource changed
+		assertTrue(Arrays.asList(fChangedResources).contains(fCU.getResource()));
+		assertArrayEquals(new IJavaElement[0], fChangedElements);
+	}
+
+	@Test
+	public void savedWorkingCopy() throws Exception {
+		fCU.becomeWorkingCopy(null);
+
+		addProblem("m1");
+
+		IType type= fCU.getType("A");
+		assertEquals(Set.of(type, type.getMethod("m1", new String[0])), new HashSet<>(Arrays.asList(fChangedElements)));
+	}
+}
@@ -190,4 +190,20 @@ public class SelectionHistoryTest {
 		Arrays.sort(strings, comparator);
 		assertEquals(strings, expected);
 	}
+
+	@Test
+	public void organizeImportHistory06() throws Exception {
+		History<String, String> history= new TestHistory();
+		Comparator<String> comparator= new TestHistoryComparator(history);
+
+		String[] strings= {"a", "b", "c", "d"};
+		history.accessed("b");
+		history.accessed("d");
+		history.accessed("c");
+		history.remove("d");
+		String[] expected= {"c", "b", "a", "d"};
+
+		Arrays.sort(strings, comparator);
+		assertEquals(strings, expected);
+	}
 }
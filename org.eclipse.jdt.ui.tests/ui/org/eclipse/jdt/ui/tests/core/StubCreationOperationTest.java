@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+import org.eclipse.jdt.ui.tests.quickfix.JarUtil;
+
+import org.eclipse.jdt.internal.corext.refactoring.binary.StubCreationOperation;
+
+public class StubCreationOperationTest {
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fProject;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+		assertNotNull("jre is null", JavaProjectHelper.addRTJar(fProject));
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.delete(fProject);
+	}
+
+	private String createJar(String name, String[] pathsAndContents, String... classpath) throws Exception {
+		String location= fProject.getProject().getLocation().append(name).toOSString();
+		JarUtil.createJar(pathsAndContents, null, location, classpath, "1.8", null, null);
+		fProject.getProject().refreshLocal(IResource.DEPTH_INFINITE, null);
+		return location;
+	}
+
+	private IPackageFragmentRoot addLibrary(String name) throws Exception {
+		return JavaProjectHelper.addLibrary(fProject, fProject.getProject().getFile(name).getFullPath());
+	}
+
+	private String createStub(IPackageFragmentRoot root, String packageName, String typeName) throws Exception {
+		File output= Files.createTempDirectory("stubs").toFile();
+		try {
+			new StubCreationOperation(output.toURI(), List.of(root.getPackageFragment(packageName))).run(new NullProgressMonitor());
+			File stub= new File(output, packageName.replace('.', '/') + '/' + typeName + ".java");
+			assertTrue("stub not created: " + stub, stub.isFile());
+			return Files.readString(stub.toPath());
+		} finally {
+			JarUtil.delete(output);
+		}
+	}
+
+	@Test
+	public void stubsOfPackage() throws Exception {
+		createJar("lib.jar", new String[] {
+				"p/A.java", """
+					package p;
+					public class A {
+						public int m(String s) { return 0; }
+						public static class Inner {
+						}
+					}
+					""",
+				"p/B.java", """
+					package p;
+					public interface B {
+						void n();
+					}
+					""" });
+		IPackageFragmentRoot root= addLibrary("lib.jar");
+
+		String stub= createStub(root, "p", "A");
+		assertTrue(stub, stub.contains("class A"));
+		assertTrue(stub, stub.contains("m("));
+		assertTrue(stub, stub.contains("class Inner"));
+		assertTrue(createStub(root, "p", "B").contains("interface B"));
+
+		// a cached stub is the same as a generated one
+		assertEquals(stub, createStub(root, "p", "A"));
+	}
+
+	@Test
+	public void stubAfterSuperclassBecomesAvailable() throws Exception {
+		String base= createJar("base.jar", new String[] {
+				"q/Base.java", """
+					package q;
+					public class Base {
+						public Base(int i) {}
+					}
+					""" });
+		createJar("sub.jar", new String[] {
+				"p/Sub.java", """
+					package p;
+					public class Sub extends q.Base {
+						public Sub() { super(1); }
+					}
+					""" }, base);
+		IPackageFragmentRoot root= addLibrary("sub.jar");
+
+		// the superclass is missing, so there is no constructor to call
+		assertFalse(createStub(root, "p", "Sub").contains("super("));
+
+		addLibrary("base.jar");
+		// the stub must not be taken from the cache
+		assertTrue(createStub(root, "p", "Sub").contains("super("));
+	}
+}
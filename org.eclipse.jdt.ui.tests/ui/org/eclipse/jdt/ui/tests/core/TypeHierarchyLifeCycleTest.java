@@ -0,0 +1,222 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.jface.operation.IRunnableContext;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+import org.eclipse.jdt.internal.ui.typehierarchy.ITypeHierarchyLifeCycleListener;
+import org.eclipse.jdt.internal.ui.typehierarchy.TypeHierarchyLifeCycle;
+
+/**
+ * Tests which element changes make the {@link TypeHierarchyLifeCycle} request a rebuild of the
+ * hierarchy and which ones only update the labels of the changed types.
+ */
+public class TypeHierarchyLifeCycleTest {
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private static final IRunnableContext CONTEXT= (fork, cancelable, runnable) -> runnable.run(new NullProgressMonitor());
+
+	private IJavaProject fProject;
+	private IPackageFragment fPackage;
+	private IType fTypeA;
+	private TypeHierarchyLifeCycle fLifeCycle;
+	private final List<IType[]> fEvents= new ArrayList<>();
+	private final List<ICompilationUnit> fWorkingCopies= new ArrayList<>();
+
+	private final ITypeHierarchyLifeCycleListener fListener= (provider, changedTypes) -> fEvents.add(changedTypes);
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+		assertNotNull("jre is null", JavaProjectHelper.addRTJar(fProject));
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fProject, "src");
+		fPackage= root.createPackageFragment("p", true, null);
+		fTypeA= fPackage.createCompilationUnit("A.java", "package p;\npublic class A {\n}\n", false, null).getType("A");
+		fPackage.createCompilationUnit("B.java", "package p;\npublic class B extends A {\n\tvoid m() {\n\t}\n}\n", false, null);
+		fPackage.createCompilationUnit("C.java", "package p;\npublic class C {\n}\n", false, null);
+
+		fLifeCycle= new TypeHierarchyLifeCycle(false);
+		fLifeCycle.addChangedListener(fListener);
+		fLifeCycle.ensureRefreshedTypeHierarchy(fTypeA, CONTEXT);
+		assertTrue(fLifeCycle.getHierarchy().contains(fPackage.getCompilationUnit("B.java").getType("B")));
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		for (ICompilationUnit wc : fWorkingCopies) {
+			wc.discardWorkingCopy();
+		}
+		fLifeCycle.freeHierarchy();
+		JavaProjectHelper.delete(fProject);
+	}
+
+	private void reconcile(String name, String contents) throws Exception {
+		ICompilationUnit wc= fPackage.getCompilationUnit(name);
+		if (!wc.isWorkingCopy()) {
+			wc.becomeWorkingCopy(null);
+			fWorkingCopies.add(wc);
+		}
+		fEvents.clear();
+		wc.getBuffer().setContents(contents);
+		wc.reconcile(ICompilationUnit.NO_AST, false, null, null);
+	}
+
+	private boolean isRebuildRequested() {
+		for (IType[] event : fEvents) {
+			if (event == null)
+				return true;
+		}
+		return false;
+	}
+
+	private List<String> getChangedTypes() {
+		List<String> result= new ArrayList<>();
+		for (IType[] event : fEvents) {
+			if (event != null) {
+				Arrays.stream(event).forEach(type -> result.add(type.getElementName()));
+			}
+		}
+		return result;
+	}
+
+	@Test
+	public void methodBodyChange() throws Exception {
+		reconcile("B.java", "package p;\npublic class B extends A {\n\tvoid m() {\n\t\tm();\n\t}\n}\n");
+		assertFalse(isRebuildRequested());
+		assertEquals(List.of("B"), getChangedTypes());
+
+		reconcile("B.java", "package p;\npublic class B extends A {\n\tvoid m() {\n\t}\n\tint f;\n}\n");
+		assertFalse(isRebuildRequested());
+		assertEquals(List.of("B"), getChangedTypes());
+	}
+
+	@Test
+	public void unrelatedTypeChange() throws Exception {
+		reconcile("C.java", "package p;\npublic class C extends Object implements Runnable {\n\tpublic void run() {\n\t}\n}\n");
+		assertFalse(isRebuildRequested());
+		assertEquals(List.of(), getChangedTypes());
+	}
+
+	@Test
+	public void superclassChange() throws Exception {
+		reconcile("B.java", "package p;\npublic class B extends C {\n\tvoid m() {\n\t}\n}\n");
+		assertTrue(isRebuildRequested());
+	}
+
+	@Test
+	public void sameSuperclassWrittenDifferently() throws Exception {
+		reconcile("B.java", "package p;\npublic class B extends p.A {\n\tvoid m() {\n\t}\n}\n");
+		assertFalse(isRebuildRequested());
+	}
+
+	@Test
+	public void importChange() throws Exception {
+		((IPackageFragmentRoot) fPackage.getParent()).createPackageFragment("r", true, null)
+				.createCompilationUnit("A.java", "package r;\npublic class A {\n}\n", false, null);
+		reconcile("B.java", "package p;\nimport r.A;\npublic class B extends A {\n\tvoid m() {\n\t}\n}\n");
+		assertTrue(isRebuildRequested());
+	}
+
+	@Test
+	public void unrelatedImportChange() throws Exception {
+		reconcile("B.java", "package p;\nimport java.util.List;\npublic class B extends A {\n\tvoid m() {\n\t}\n}\n");
+		assertFalse(isRebuildRequested());
+	}
+
+	@Test
+	public void shownModifierChange() throws Exception {
+		reconcile("B.java", "package p;\npublic abstract class B extends A {\n\tvoid m() {\n\t}\n}\n");
+		assertTrue(isRebuildRequested());
+	}
+
+	@Test
+	public void addedSubtype() throws Exception {
+		reconcile("C.java", "package p;\npublic class C {\n\tclass D extends A {\n\t}\n}\n");
+		assertTrue(isRebuildRequested());
+	}
+
+	@Test
+	public void addedAnonymousSubtype() throws Exception {
+		reconcile("C.java", "package p;\npublic class C {\n\tObject o= new A() {\n\t};\n}\n");
+		assertTrue(isRebuildRequested());
+	}
+
+	@Test
+	public void addedUnrelatedType() throws Exception {
+		reconcile("C.java", "package p;\npublic class C {\n\tclass D {\n\t}\n}\n");
+		assertFalse(isRebuildRequested());
+	}
+
+	@Test
+	public void removedSubtype() throws Exception {
+		reconcile("B.java", "package p;\n");
+		assertTrue(isRebuildRequested());
+	}
+
+	@Test
+	public void savedChange() throws Exception {
+		fEvents.clear();
+		fPackage.getCompilationUnit("B.java").getBuffer().setContents("package p;\npublic class B extends A {\n}\n");
+		fPackage.getCompilationUnit("B.java").save(null, true);
+		assertFalse(isRebuildRequested());
+
+		fPackage.getCompilationUnit("B.java").getBuffer().setContents("package p;\npublic class B {\n}\n");
+		fPackage.getCompilationUnit("B.java").save(null, true);
+		assertTrue(isRebuildRequested());
+	}
+
+	@Test
+	public void classpathChange() throws Exception {
+		fEvents.clear();
+		JavaProjectHelper.addSourceContainer(fProject, "src2");
+		assertTrue(isRebuildRequested());
+	}
+
+	@Test
+	public void withoutListeners() throws Exception {
+		fLifeCycle.removeChangedListener(fListener);
+		reconcile("B.java", "package p;\npublic class B extends C {\n\tvoid m() {\n\t}\n}\n");
+		assertEquals(0, fEvents.size());
+
+		fLifeCycle.ensureRefreshedTypeHierarchy(fTypeA, CONTEXT);
+		assertFalse(fLifeCycle.getHierarchy().contains(fPackage.getCompilationUnit("B.java").getType("B")));
+	}
+}
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+import org.eclipse.jdt.core.search.TypeNameMatchRequestor;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+import org.eclipse.jdt.ui.tests.quickfix.JarUtil;
+
+import org.eclipse.jdt.internal.ui.dialogs.TypeNameIndex;
+
+public class TypeNameIndexTest {
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fProject;
+	private IPackageFragment fPackage;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+		assertNotNull("jre is null", JavaProjectHelper.addRTJar(fProject));
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fProject, "src");
+		fPackage= root.createPackageFragment("p", true, null);
+		createType("Zqxabc");
+		createType("ZQXdef");
+		createType("Zqy");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.delete(fProject);
+	}
+
+	private ICompilationUnit createType(String name) throws Exception {
+		return fPackage.createCompilationUnit(name + ".java", "package p;\npublic class " + name + " {\n}\n", false, null);
+	}
+
+	private static List<String> search(String pattern, int matchKind) throws Exception {
+		TypeNameIndex index= TypeNameIndex.getInstance();
+		index.waitUntilReady(new NullProgressMonitor());
+		return searchNow(pattern, matchKind);
+	}
+
+	private static List<String> searchNow(String pattern, int matchKind) {
+		List<String> result= new ArrayList<>();
+		TypeNameMatchRequestor requestor= new TypeNameMatchRequestor() {
+			@Override
+			public void acceptTypeNameMatch(TypeNameMatch match) {
+				if (match.getSimpleTypeName().toLowerCase().startsWith("zq"))
+					result.add(match.getSimpleTypeName());
+			}
+		};
+		assertTrue(TypeNameIndex.getInstance().search(pattern, matchKind, requestor, new NullProgressMonitor()));
+		Collections.sort(result);
+		return result;
+	}
+
+	@Test
+	public void prefixRanges() throws Exception {
+		assertEquals(List.of("ZQXdef", "Zqxabc"), search("zqx", SearchPattern.R_PREFIX_MATCH));
+		assertEquals(List.of("ZQXdef", "Zqxabc"), search("ZqX", SearchPattern.R_PREFIX_MATCH));
+		assertEquals(List.of("Zqy"), search("Zqy", SearchPattern.R_EXACT_MATCH));
+		assertEquals(List.of(), search("Zqz", SearchPattern.R_PREFIX_MATCH));
+
+		// the requestor filters, the index only restricts to the literal prefix
+		assertEquals(List.of("ZQXdef", "Zqxabc"), search("Zqx*f", SearchPattern.R_PATTERN_MATCH));
+		assertEquals(List.of("ZQXdef", "Zqxabc", "Zqy"), search("Zq?", SearchPattern.R_PATTERN_MATCH));
+		assertEquals(List.of("ZQXdef", "Zqxabc", "Zqy"), search("ZQ", SearchPattern.R_CAMELCASE_MATCH));
+	}
+
+	@Test
+	public void staleSourceFolder() throws Exception {
+		assertEquals(List.of("ZQXdef", "Zqxabc", "Zqy"), search("zq", SearchPattern.R_PREFIX_MATCH));
+
+		ICompilationUnit cu= createType("Zqxnew");
+		// the query does not wait for the changed folder, it answers at least the previous types
+		assertTrue(searchNow("zq", SearchPattern.R_PREFIX_MATCH).containsAll(List.of("ZQXdef", "Zqxabc", "Zqy")));
+		assertEquals(List.of("ZQXdef", "Zqxabc", "Zqxnew"), search("zqx", SearchPattern.R_PREFIX_MATCH));
+
+		cu.delete(true, null);
+		assertEquals(List.of("ZQXdef", "Zqxabc", "Zqy"), search("zq", SearchPattern.R_PREFIX_MATCH));
+	}
+
+	@Test
+	public void classpathChange() throws Exception {
+		assertEquals(List.of(), search("zqj", SearchPattern.R_PREFIX_MATCH));
+
+		String location= fProject.getProject().getLocation().append("lib.jar").toOSString();
+		JarUtil.createJar(new String[] { "q/Zqjar.java", "package q;\npublic class Zqjar {\n}\n" }, null, location, null, "1.8", null, null);
+		fProject.getProject().refreshLocal(IResource.DEPTH_INFINITE, null);
+		IPackageFragmentRoot jar= JavaProjectHelper.addLibrary(fProject, fProject.getProject().getFile("lib.jar").getFullPath());
+		assertEquals(List.of("Zqjar"), search("zqj", SearchPattern.R_PREFIX_MATCH));
+
+		JavaProjectHelper.removeFromClasspath(fProject, jar.getPath());
+		assertEquals(List.of(), search("zqj", SearchPattern.R_PREFIX_MATCH));
+	}
+}
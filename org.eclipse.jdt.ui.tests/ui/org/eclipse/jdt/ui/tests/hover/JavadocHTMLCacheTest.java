@@ -0,0 +1,202 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.hover;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.core.runtime.IPath;
+
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.manipulation.internal.javadoc.JavadocHTMLCache;
+import org.eclipse.jdt.core.manipulation.internal.javadoc.JavadocHTMLCache.Key;
+
+import org.eclipse.jdt.ui.tests.quickfix.JarUtil;
+
+public class JavadocHTMLCacheTest {
+
+	@Rule
+	public TemporaryFolder fTempFolder= new TemporaryFolder();
+
+	private IJavaProject fProject;
+
+	private IPackageFragmentRoot fBaseJar;
+
+	private IPackageFragmentRoot fSubJar;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= JavaProjectHelper.createJavaProject("JavadocHTMLCacheTest", "bin");
+		IPackageFragmentRoot rtJar= JavaProjectHelper.addRTJar(fProject);
+		String rtPath= rtJar.getPath().toOSString();
+		fBaseJar= addJar("base.jar", new String[] {
+				"p/Base.java",
+				"""
+				package p;
+				public class Base {
+					/** Base doc. */
+					public void m() {
+					}
+				}
+				""" }, rtPath);
+		fSubJar= addJar("sub.jar", new String[] {
+				"q/Sub.java",
+				"""
+				package q;
+				public class Sub extends p.Base {
+					public void m() {
+					}
+					/** Own doc. */
+					public void n() {
+					}
+				}
+				""" }, rtPath, getLocation(fBaseJar).toOSString());
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.delete(fProject);
+	}
+
+	private IPackageFragmentRoot addJar(String name, String[] pathsAndContents, String... classpath) throws Exception {
+		String location= fProject.getProject().getLocation().append(name).toOSString();
+		JarUtil.createJar(pathsAndContents, null, location, classpath, "1.8", null, null);
+		fProject.getProject().refreshLocal(IResource.DEPTH_INFINITE, null);
+		return JavaProjectHelper.addLibrary(fProject, fProject.getProject().getFile(name).getFullPath());
+	}
+
+	private static IPath getLocation(IPackageFragmentRoot root) {
+		return root.getResource().getLocation();
+	}
+
+	private static void touch(IPackageFragmentRoot root) {
+		File file= getLocation(root).toFile();
+		assertTrue(file.setLastModified(file.lastModified() + 10_000));
+	}
+
+	private IMethod getSubMethod(String name) {
+		IType sub= fSubJar.getPackageFragment("q").getOrdinaryClassFile("Sub.class").getType();
+		return sub.getMethod(name, new String[0]);
+	}
+
+	@Test
+	public void keyOfSourceMemberIsNull() throws Exception {
+		IPackageFragmentRoot src= JavaProjectHelper.addSourceContainer(fProject, "src");
+		ICompilationUnit cu= src.createPackageFragment("r", true, null).createCompilationUnit("A.java", """
+				package r;
+				public class A {
+					public void m() {
+					}
+				}
+				""", true, null);
+		JavadocHTMLCache cache= new JavadocHTMLCache(null);
+		assertNull(cache.createKey(cu.getType("A"), true));
+		assertNull(cache.createKey(cu.getType("A").getMethod("m", new String[0]), true));
+	}
+
+	@Test
+	public void keyCoversLookupAndLibrary() throws Exception {
+		JavadocHTMLCache cache= new JavadocHTMLCache(null);
+		IMethod n= getSubMethod("n");
+		Key key= cache.createKey(n, true);
+		assertNotNull(key);
+		assertEquals(key, cache.createKey(n, true));
+		assertNotEquals(key, cache.createKey(n, false));
+
+		touch(fSubJar);
+		assertNotEquals(key, cache.createKey(n, true));
+	}
+
+	@Test
+	public void keyCoversLibraryOfOverriddenMethod() throws Exception {
+		JavadocHTMLCache cache= new JavadocHTMLCache(null);
+		IMethod m= getSubMethod("m");
+		IMethod n= getSubMethod("n");
+		Key mKey= cache.createKey(m, true);
+		Key nKey= cache.createKey(n, true);
+		assertNotNull(mKey);
+		assertNotNull(nKey);
+
+		// Sub.m inherits the Javadoc of Base.m from the other library
+		touch(fBaseJar);
+		assertNotEquals(mKey, cache.createKey(m, true));
+		assertEquals(nKey, cache.createKey(n, true));
+	}
+
+	@Test
+	public void leastRecentlyUsedEntriesAreEvicted() throws Exception {
+		JavadocHTMLCache cache= new JavadocHTMLCache(null);
+		String html= "x".repeat(450_000);
+		Key first= new Key("library", "member0");
+		cache.put(first, html);
+		for (int i= 1; i < 10; i++) {
+			assertEquals(html, cache.get(first)); // keeps the first entry recently used
+			cache.put(new Key("library", "member" + i), html);
+		}
+		assertTrue(cache.isInMemory(first));
+		assertFalse(cache.isInMemory(new Key("library", "member1")));
+		assertNull(cache.get(new Key("library", "member1")));
+		assertTrue(cache.isInMemory(new Key("library", "member9")));
+	}
+
+	@Test
+	public void diskCache() throws Exception {
+		File directory= fTempFolder.newFolder("javadocCache");
+		Key key= new Key("library", "member");
+		new JavadocHTMLCache(directory).put(key, "<p>Doc</p>");
+
+		JavadocHTMLCache cache= new JavadocHTMLCache(directory);
+		assertFalse(cache.isInMemory(key));
+		assertEquals("<p>Doc</p>", cache.get(key));
+		assertTrue(cache.isInMemory(key));
+		assertNull(cache.get(new Key("other library", "member")));
+		assertNull(cache.get(new Key("library", "other member")));
+
+		cache.clear();
+		assertNull(cache.get(key));
+		assertNull(new JavadocHTMLCache(directory).get(key));
+	}
+
+	@Test
+	public void evictedEntriesAreReadFromDisk() throws Exception {
+		JavadocHTMLCache cache= new JavadocHTMLCache(fTempFolder.newFolder("javadocCache"));
+		String html= "x".repeat(450_000);
+		for (int i= 0; i < 10; i++) {
+			cache.put(new Key("library", "member" + i), html);
+		}
+		Key first= new Key("library", "member0");
+		assertFalse(cache.isInMemory(first));
+		assertEquals(html, cache.get(first));
+	}
+}
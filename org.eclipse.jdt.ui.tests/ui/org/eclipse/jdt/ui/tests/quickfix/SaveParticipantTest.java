@@ -1211,6 +1211,222 @@ public class SaveParticipantTest extends CleanUpTestCase {
 		assertEquals(expected1, cu1.getBuffer().getContents());
 	}
 
+	@Test
+	public void testChangedRegionsOnly01() throws Exception {
+		// Given
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String fileOnDisk= """
+			package test1;
+			public class E1 {
+			    public boolean foo(String s) {
+			        return s.equals("a");
+			    }
+			    public boolean bar(String s) {
+			        return s.equals("b");
+			    }
+			}
+			""";
+		ICompilationUnit cu1= pack1.createCompilationUnit("E1.java", fileOnDisk, false, null);
+
+		String fileOnEditor= """
+			package test1;
+			public class E1 {
+			    public boolean foo(String s) {
+			        String t= s;
+			        return t.equals("a");
+			    }
+			    public boolean bar(String s) {
+			        return s.equals("b");
+			    }
+			}
+			""";
+
+		String expected1= """
+			package test1;
+			public class E1 {
+			    public boolean foo(String s) {
+			        String t= s;
+			        return "a".equals(t);
+			    }
+			    public boolean bar(String s) {
+			        return s.equals("b");
+			    }
+			}
+			""";
+
+		enable(CleanUpConstants.INVERT_EQUALS);
+		enable(CleanUpConstants.CLEANUP_ON_SAVE_CHANGED_REGIONS_ONLY);
+
+		// When
+		editCUInEditor(cu1, fileOnEditor);
+
+		// Then
+		assertEquals(expected1, cu1.getBuffer().getContents());
+	}
+
+	@Test
+	public void testChangedRegionsOnlyCodeStyle() throws Exception {
+		// Given
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String fileOnDisk= """
+			package test1;
+			public class E1 {
+			    private int value;
+			    public int foo() {
+			        return value;
+			    }
+			    public int bar() {
+			        return value;
+			    }
+			}
+			""";
+		ICompilationUnit cu1= pack1.createCompilationUnit("E1.java", fileOnDisk, false, null);
+
+		String fileOnEditor= """
+			package test1;
+			public class E1 {
+			    private int value;
+			    public int foo() {
+			        return value + 1;
+			    }
+			    public int bar() {
+			        return value;
+			    }
+			}
+			""";
+
+		String expected1= """
+			package test1;
+			public class E1 {
+			    private int value;
+			    public int foo() {
+			        return this.value + 1;
+			    }
+			    public int bar() {
+			        return value;
+			    }
+			}
+			""";
+
+		enable(CleanUpConstants.MEMBER_ACCESSES_NON_STATIC_FIELD_USE_THIS);
+		enable(CleanUpConstants.MEMBER_ACCESSES_NON_STATIC_FIELD_USE_THIS_ALWAYS);
+		enable(CleanUpConstants.CLEANUP_ON_SAVE_CHANGED_REGIONS_ONLY);
+
+		// When
+		editCUInEditor(cu1, fileOnEditor);
+
+		// Then
+		assertEquals(expected1, cu1.getBuffer().getContents());
+	}
+
+	@Test
+	public void testChangedRegionsOnlyUnusedCode() throws Exception {
+		// Given
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String fileOnDisk= """
+			package test1;
+			import java.util.List;
+			public class E1 {
+			    public void foo() {
+			        int i= 1;
+			    }
+			    public void bar() {
+			        int j= 2;
+			    }
+			}
+			""";
+		ICompilationUnit cu1= pack1.createCompilationUnit("E1.java", fileOnDisk, false, null);
+
+		String fileOnEditor= """
+			package test1;
+			import java.util.List;
+			public class E1 {
+			    public void foo() {
+			        int i= 1;
+			        int k= 3;
+			    }
+			    public void bar() {
+			        int j= 2;
+			    }
+			}
+			""";
+
+		// the unused import does not belong to a member and is always removed
+		String expected1= """
+			package test1;
+			public class E1 {
+			    public void foo() {
+			    }
+			    public void bar() {
+			        int j= 2;
+			    }
+			}
+			""";
+
+		enable(CleanUpConstants.REMOVE_UNUSED_CODE_LOCAL_VARIABLES);
+		enable(CleanUpConstants.REMOVE_UNUSED_CODE_IMPORTS);
+		enable(CleanUpConstants.CLEANUP_ON_SAVE_CHANGED_REGIONS_ONLY);
+
+		// When
+		editCUInEditor(cu1, fileOnEditor);
+
+		// Then
+		assertEquals(expected1, cu1.getBuffer().getContents());
+	}
+
+	@Test
+	public void testChangedRegionsOnlyMissingAnnotations() throws Exception {
+		// Given
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String fileOnDisk= """
+			package test1;
+			public class E1 {
+			    public String toString() {
+			        return "E1";
+			    }
+			    public int hashCode() {
+			        return 1;
+			    }
+			}
+			""";
+		ICompilationUnit cu1= pack1.createCompilationUnit("E1.java", fileOnDisk, false, null);
+
+		String fileOnEditor= """
+			package test1;
+			public class E1 {
+			    public String toString() {
+			        return "E1 " + hashCode();
+			    }
+			    public int hashCode() {
+			        return 1;
+			    }
+			}
+			""";
+
+		String expected1= """
+			package test1;
+			public class E1 {
+			    @Override
+			    public String toString() {
+			        return "E1 " + hashCode();
+			    }
+			    public int hashCode() {
+			        return 1;
+			    }
+			}
+			""";
+
+		enable(CleanUpConstants.ADD_MISSING_ANNOTATIONS);
+		enable(CleanUpConstants.ADD_MISSING_ANNOTATIONS_OVERRIDE);
+		enable(CleanUpConstants.CLEANUP_ON_SAVE_CHANGED_REGIONS_ONLY);
+
+		// When
+		editCUInEditor(cu1, fileOnEditor);
+
+		// Then
+		assertEquals(expected1, cu1.getBuffer().getContents());
+	}
+
 	@Test
 	public void testIssue313_2() throws Exception {
 		// Given
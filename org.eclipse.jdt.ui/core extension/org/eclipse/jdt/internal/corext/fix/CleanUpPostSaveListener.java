@@ -104,6 +104,7 @@ import org.eclipse.jdt.ui.cleanup.ICleanUp;
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.actions.ActionUtil;
 import org.eclipse.jdt.internal.ui.dialogs.OptionalMessageDialog;
+import org.eclipse.jdt.internal.ui.fix.IChangedRegionsCleanUp;
 import org.eclipse.jdt.internal.ui.fix.IMultiLineCleanUp.MultiLineCleanUpContext;
 import org.eclipse.jdt.internal.ui.fix.MapCleanUpOptions;
 import org.eclipse.jdt.internal.ui.javaeditor.saveparticipant.IPostSaveListener;
@@ -312,7 +313,7 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
 	@Override
 	public boolean needsChangedRegions(ICompilationUnit unit) throws CoreException {
 		ICleanUp[] cleanUps= getCleanUps(unit.getJavaProject().getProject());
-		return requiresChangedRegions(cleanUps);
+		return requiresChangedRegions(cleanUps) || isRestrictedToChangedRegions(cleanUps);
 	}
 
 	@Override
@@ -378,7 +379,7 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
     				if (changedRegions == null) {
     					context= new CleanUpContext(unit, ast);
     				} else {
-    					context= new MultiLineCleanUpContext(unit, ast, changedRegions);
+    					context= new MultiLineCleanUpContext(unit, ast, changedRegions, isRestrictedToChangedRegions(cleanUps));
     				}
 
     				ArrayList<ICleanUp> undoneCleanUps= new ArrayList<>();
@@ -402,7 +403,7 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
     					PerformChangeOperation performChangeOperation= new PerformChangeOperation(change);
     					performChangeOperation.setSchedulingRule(unit.getSchedulingRule());
 
-    					if (changedRegions != null && changedRegions.length > 0 && requiresChangedRegions(cleanUps)) {
+    					if (changedRegions != null && changedRegions.length > 0 && (requiresChangedRegions(cleanUps) || isRestrictedToChangedRegions(cleanUps))) {
 							changedRegions= performWithChangedRegionUpdate(performChangeOperation, changedRegions, unit, Progress.subMonitor(monitor, 5));
 						} else {
 							performChangeOperation.run(Progress.subMonitor(monitor, 5));
@@ -569,6 +570,14 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
 	    return false;
     }
 
+	private boolean isRestrictedToChangedRegions(ICleanUp[] cleanUps) {
+		for (ICleanUp cleanUp : cleanUps) {
+			if (cleanUp instanceof IChangedRegionsCleanUp && ((IChangedRegionsCleanUp) cleanUp).isRestrictedToChangedRegions())
+				return true;
+		}
+		return false;
+	}
+
 	private boolean requiresChangedRegions(ICleanUp[] cleanUps) {
 		for (ICleanUp cleanUp : cleanUps) {
 			CleanUpRequirements requirements= cleanUp.getRequirements();
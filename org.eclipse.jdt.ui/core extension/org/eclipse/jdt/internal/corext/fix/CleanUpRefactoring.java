@@ -87,7 +87,9 @@ import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
 
 import org.eclipse.jdt.internal.ui.IJavaStatusConstants;
 import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.fix.IChangedRegionsCleanUp;
 import org.eclipse.jdt.internal.ui.fix.IMultiFix.MultiFixContext;
+import org.eclipse.jdt.internal.ui.fix.IMultiLineCleanUp.MultiLineCleanUpContext;
 import org.eclipse.jdt.internal.ui.fix.MapCleanUpOptions;
 import org.eclipse.jdt.internal.ui.refactoring.IScheduledRefactoring;
 import org.eclipse.jdt.ui.text.java.IProblemLocation;
@@ -766,11 +768,11 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 			ICleanUpFix fix;
 			if (slowCleanUps != null) {
 				long timeBefore= System.currentTimeMillis();
-				fix= cleanUp.createFix(context);
+				fix= createFix(cleanUp, context);
 				if (System.currentTimeMillis() - timeBefore > SLOW_CLEAN_UP_THRESHOLD)
 					slowCleanUps.add(cleanUp);
 			} else {
-				fix= cleanUp.createFix(context);
+				fix= createFix(cleanUp, context);
 			}
 			if (fix != null) {
 				CompilationUnitChange current= fix.createChange(null);
@@ -804,6 +806,20 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		return solution;
 	}
 
+	private static ICleanUpFix createFix(ICleanUp cleanUp, CleanUpContext context) throws CoreException {
+		if (context.getAST() != null
+				&& context instanceof MultiLineCleanUpContext multiLineContext && multiLineContext.isRestrictedToRegions()
+				&& cleanUp instanceof IChangedRegionsCleanUp regionsCleanUp && regionsCleanUp.isRestrictedToChangedRegions()) {
+			ChangedRegionScope previous= ChangedRegionScope.enter(context.getAST(), multiLineContext.getRegions());
+			try {
+				return cleanUp.createFix(context);
+			} finally {
+				ChangedRegionScope.leave(previous);
+			}
+		}
+		return cleanUp.createFix(context);
+	}
+
 	private static void copyChangeGroups(CompilationUnitChange target, CompilationUnitChange source) {
 		for (TextEditBasedChangeGroup changeGroup : source.getChangeGroups()) {
 			TextEditGroup textEditGroup= changeGroup.getTextEditGroup();
@@ -13,36 +13,31 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.util;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
-import java.util.Hashtable;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
-import java.util.Map;
 import java.util.Set;
 
 import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.FactoryConfigurationError;
 import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactoryConfigurationError;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
 
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 import org.xml.sax.helpers.DefaultHandler;
 
+import org.w3c.dom.Attr;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
@@ -63,7 +58,13 @@ import org.eclipse.jdt.internal.ui.util.XmlProcessorFactoryJdtUi;
  * MAX_HISTORY_SIZE. If the list exceeds this size the eldest element is removed
  * from the list. An element can be added/renewed with a call to <code>accessed(Object)</code>.
  *
- * The history can be stored to/loaded from an xml file.
+ * The history is backed by a {@link ConcurrentMRU}, so queries do not lock and
+ * positions are looked up in constant time.
+ *
+ * The history is stored to a compact binary file. Histories written as xml file
+ * by earlier versions are still read if no binary file exists, and the xml file is
+ * deleted once the binary file is written, so that earlier versions do not read
+ * stale entries.
  *
  * @param <K> key type
  * @param <V> value type
@@ -74,61 +75,54 @@ public abstract class History<K, V> {
 	private static final String DEFAULT_INFO_NODE_NAME= "infoNode"; //$NON-NLS-1$
 	private static final int MAX_HISTORY_SIZE= 60;
 
+	private static final int BINARY_MAGIC= 0x4A484953; // 'JHIS'
+	private static final int BINARY_VERSION= 1;
+	private static final String XML_EXTENSION= ".xml"; //$NON-NLS-1$
+	private static final String BINARY_EXTENSION= ".dat"; //$NON-NLS-1$
+
 	private static JavaUIException createException(Throwable t, String message) {
 		return new JavaUIException(JavaUIStatus.createError(IStatus.ERROR, message, t));
 	}
 
-	private final Map<K, V> fHistory;
-	private final Hashtable<K, Integer> fPositions;
+	private final ConcurrentMRU<K, V> fHistory;
 	private final String fFileName;
 	private final String fRootNodeName;
 	private final String fInfoNodeName;
 
 	public History(String fileName, String rootNodeName, String infoNodeName) {
-		fHistory= new LinkedHashMap<>(80, 0.75f, true) {
-			private static final long serialVersionUID= 1L;
-			@Override
-			protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
-				return size() > MAX_HISTORY_SIZE;
-			}
-		};
+		fHistory= new ConcurrentMRU<>(MAX_HISTORY_SIZE);
 		fFileName= fileName;
 		fRootNodeName= rootNodeName;
 		fInfoNodeName= infoNodeName;
-		fPositions= new Hashtable<>(MAX_HISTORY_SIZE);
 	}
 
 	public History(String fileName) {
 		this(fileName, DEFAULT_ROOT_NODE_NAME, DEFAULT_INFO_NODE_NAME);
 	}
 
-	public synchronized void accessed(V object) {
+	public void accessed(V object) {
 		fHistory.put(getKey(object), object);
-		rebuildPositions();
 	}
 
-	public synchronized boolean contains(V object) {
+	public boolean contains(V object) {
 		return fHistory.containsKey(getKey(object));
 	}
 
-	public synchronized boolean containsKey(K key) {
+	public boolean containsKey(K key) {
 		return fHistory.containsKey(key);
 	}
 
-	public synchronized boolean isEmpty() {
+	public boolean isEmpty() {
 		return fHistory.isEmpty();
 	}
 
-	public synchronized Object remove(V object) {
-		Object removed= fHistory.remove(getKey(object));
-		rebuildPositions();
-		return removed;
+	public Object remove(V object) {
+		return fHistory.remove(getKey(object));
 	}
 
-	public synchronized Object removeKey(Object key) {
-		Object removed= fHistory.remove(key);
-		rebuildPositions();
-		return removed;
+	@SuppressWarnings("unchecked")
+	public Object removeKey(Object key) {
+		return fHistory.remove((K) key);
 	}
 
 	/**
@@ -140,14 +134,8 @@ public abstract class History<K, V> {
 	 * @param key The key of the object to inspect
 	 * @return value in [0.0, 1.0] the lower the older the element
 	 */
-	public synchronized float getNormalizedPosition(K key) {
-		if (!containsKey(key))
-			return 0.0f;
-
-		int pos= fPositions.get(key).intValue() + 1;
-
-		//containsKey(key) implies fHistory.size()>0
-		return (float)pos / (float)fHistory.size();
+	public float getNormalizedPosition(K key) {
+		return fHistory.getNormalizedPosition(key);
 	}
 
 	/**
@@ -158,16 +146,30 @@ public abstract class History<K, V> {
 	 * @param key The key of the object to inspect
 	 * @return value between 0 and MAX_HISTORY_SIZE - 1, or -1
 	 */
-	public synchronized int getPosition(K key) {
-		if (!containsKey(key))
-			return -1;
+	public int getPosition(K key) {
+		return fHistory.getPosition(key);
+	}
 
-		return fPositions.get(key);
+	/**
+	 * @return size, hit and eviction counts of this history
+	 */
+	public ConcurrentMRU.Statistics getStatistics() {
+		return fHistory.getStatistics();
 	}
 
 	public synchronized void load() {
-		IPath stateLocation= JavaPlugin.getDefault().getStateLocation().append(fFileName);
-		File file= stateLocation.toFile();
+		IPath stateLocation= JavaPlugin.getDefault().getStateLocation();
+		File binaryFile= stateLocation.append(getBinaryFileName()).toFile();
+		if (binaryFile.exists()) {
+			try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(binaryFile)))) {
+				if (loadBinary(in))
+					return;
+			} catch (IOException | CoreException e) {
+				JavaPlugin.log(e);
+			}
+			fHistory.clear();
+		}
+		File file= stateLocation.append(fFileName).toFile();
 		if (file.exists()) {
 			try (InputStreamReader reader= new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8)) {
 				load(new InputSource(reader));
@@ -178,21 +180,31 @@ public abstract class History<K, V> {
 	}
 
 	public synchronized void save() {
-		IPath stateLocation= JavaPlugin.getDefault().getStateLocation().append(fFileName);
-		File file= stateLocation.toFile();
-		try (OutputStream out= new FileOutputStream(file)) {
-			save(out);
-		} catch (IOException | CoreException | TransformerFactoryConfigurationError e) {
+		IPath stateLocation= JavaPlugin.getDefault().getStateLocation();
+		File file= stateLocation.append(getBinaryFileName()).toFile();
+		try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+			saveBinary(out);
+		} catch (IOException | CoreException | FactoryConfigurationError e) {
 			// The XML library can be misconficgured (e.g. via
 			// -Djava.endorsed.dirs=C:\notExisting\xerces-2_7_1)
 			JavaPlugin.log(e);
+			return;
 		}
+		File xmlFile= stateLocation.append(fFileName).toFile();
+		if (!xmlFile.equals(file) && xmlFile.exists() && !xmlFile.delete())
+			JavaPlugin.logErrorMessage("Could not delete " + xmlFile); //$NON-NLS-1$
 	}
 
+	/**
+	 * @return an unmodifiable snapshot of the keys, eldest first
+	 */
 	protected Set<K> getKeys() {
-		return fHistory.keySet();
+		return fHistory.keys();
 	}
 
+	/**
+	 * @return an unmodifiable snapshot of the values, eldest first
+	 */
 	protected Collection<V> getValues() {
 		return fHistory.values();
 	}
@@ -221,12 +233,65 @@ public abstract class History<K, V> {
 	 */
 	protected abstract K getKey(V object);
 
-	private void rebuildPositions() {
-		fPositions.clear();
-		int pos=0;
-		for (V element : fHistory.values()) {
-			fPositions.put(getKey(element), pos);
-			pos++;
+	private String getBinaryFileName() {
+		if (fFileName.endsWith(XML_EXTENSION))
+			return fFileName.substring(0, fFileName.length() - XML_EXTENSION.length()) + BINARY_EXTENSION;
+		return fFileName + BINARY_EXTENSION;
+	}
+
+	/*
+	 * The binary format stores the attributes that setAttributes(..) writes for each element:
+	 * magic, version, root node name, entry count, and per entry the attribute count followed
+	 * by the attribute name/value pairs.
+	 */
+	private boolean loadBinary(DataInputStream in) throws IOException, CoreException {
+		if (in.readInt() != BINARY_MAGIC || in.readByte() != BINARY_VERSION)
+			return false;
+		if (!in.readUTF().equalsIgnoreCase(fRootNodeName))
+			return false;
+
+		Document document= newDocument();
+		int count= in.readInt();
+		for (int i= 0; i < count; i++) {
+			Element element= document.createElement(fInfoNodeName);
+			int attributes= in.readUnsignedShort();
+			for (int k= 0; k < attributes; k++) {
+				String name= in.readUTF();
+				element.setAttribute(name, in.readUTF());
+			}
+			V object= createFromElement(element);
+			if (object != null) {
+				fHistory.put(getKey(object), object);
+			}
+		}
+		return true;
+	}
+
+	private void saveBinary(DataOutputStream out) throws IOException, CoreException {
+		Document document= newDocument();
+		Collection<V> values= getValues();
+		out.writeInt(BINARY_MAGIC);
+		out.writeByte(BINARY_VERSION);
+		out.writeUTF(fRootNodeName);
+		out.writeInt(values.size());
+		for (V object : values) {
+			Element element= document.createElement(fInfoNodeName);
+			setAttributes(object, element);
+			NamedNodeMap attributes= element.getAttributes();
+			out.writeShort(attributes.getLength());
+			for (int k= 0; k < attributes.getLength(); k++) {
+				Attr attribute= (Attr) attributes.item(k);
+				out.writeUTF(attribute.getName());
+				out.writeUTF(attribute.getValue());
+			}
+		}
+	}
+
+	private Document newDocument() throws CoreException {
+		try {
+			return XmlProcessorFactoryJdtUi.createDocumentBuilderFactoryWithErrorOnDOCTYPE().newDocumentBuilder().newDocument();
+		} catch (ParserConfigurationException e) {
+			throw createException(e, Messages.format(CorextMessages.History_error_serialize, BasicElementLabels.getResourceName(getBinaryFileName())));
 		}
 	}
 
@@ -258,37 +323,6 @@ public abstract class History<K, V> {
 				}
 			}
 		}
-		rebuildPositions();
-	}
-
-	private void save(OutputStream stream) throws CoreException {
-		try {
-			DocumentBuilderFactory factory= XmlProcessorFactoryJdtUi.createDocumentBuilderFactoryWithErrorOnDOCTYPE();
-			DocumentBuilder builder= factory.newDocumentBuilder();
-			Document document= builder.newDocument();
-
-			Element rootElement = document.createElement(fRootNodeName);
-			document.appendChild(rootElement);
-
-			Iterator<V> values= getValues().iterator();
-			while (values.hasNext()) {
-				Object object= values.next();
-				Element element= document.createElement(fInfoNodeName);
-				setAttributes(object, element);
-				rootElement.appendChild(element);
-			}
-
-			Transformer transformer= XmlProcessorFactoryJdtUi.createTransformerFactoryWithErrorOnDOCTYPE().newTransformer();
-			transformer.setOutputProperty(OutputKeys.METHOD, "xml"); //$NON-NLS-1$
-			transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8"); //$NON-NLS-1$
-			transformer.setOutputProperty(OutputKeys.INDENT, "yes"); //$NON-NLS-1$
-			DOMSource source = new DOMSource(document);
-			StreamResult result = new StreamResult(stream);
-
-			transformer.transform(source, result);
-		} catch (TransformerException | ParserConfigurationException e) {
-			throw createException(e, Messages.format(CorextMessages.History_error_serialize, BasicElementLabels.getResourceName(fFileName)));
-		}
 	}
 
 }
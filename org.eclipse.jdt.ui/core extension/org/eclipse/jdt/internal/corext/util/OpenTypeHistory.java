@@ -18,8 +18,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.w3c.dom.Element;
 
@@ -49,8 +54,11 @@ import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
 import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchPattern;
 import org.eclipse.jdt.core.search.TypeNameMatch;
+import org.eclipse.jdt.core.search.TypeNameRequestor;
 
 import org.eclipse.jdt.internal.corext.CorextMessages;
 
@@ -62,20 +70,21 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 	private static class TypeHistoryDeltaListener implements IElementChangedListener {
 		@Override
 		public void elementChanged(ElementChangedEvent event) {
-			if (processDelta(event.getDelta())) {
-				OpenTypeHistory.getInstance().markAsInconsistent();
+			List<IJavaElement> affected= new ArrayList<>();
+			processDelta(event.getDelta(), affected);
+			if (!affected.isEmpty()) {
+				OpenTypeHistory.getInstance().markAsInconsistent(affected);
 			}
 		}
 
 		/**
-		 * Computes whether the history needs a consistency check or not.
+		 * Collects the elements whose history entries need a consistency check.
 		 *
 		 * @param delta the Java element delta
-		 *
-		 * @return <code>true</code> if consistency must be checked
-		 *  <code>false</code> otherwise.
+		 * @param affected the list to add the elements to. If an element is added,
+		 *  all types contained in it have to be checked.
 		 */
-		private boolean processDelta(IJavaElementDelta delta) {
+		private void processDelta(IJavaElementDelta delta, List<IJavaElement> affected) {
 			IJavaElement elem= delta.getElement();
 
 			boolean isChanged= delta.getKind() == IJavaElementDelta.CHANGED;
@@ -83,46 +92,65 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 
 			switch (elem.getElementType()) {
 				case IJavaElement.JAVA_PROJECT:
+					if (delta.getKind() == IJavaElementDelta.ADDED || (isChanged && (delta.getFlags() & (IJavaElementDelta.F_OPENED
+							| IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED)) != 0)) {
+						OpenTypeHistory.getInstance().invalidateSearchIndices();
+					}
 					if (isRemoved || (isChanged &&
 							(delta.getFlags() & IJavaElementDelta.F_CLOSED) != 0)) {
-						return true;
+						affected.add(elem);
+						return;
 					}
-					return processChildrenDelta(delta);
+					processChildrenDelta(delta, affected);
+					return;
 				case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+					if (delta.getKind() == IJavaElementDelta.ADDED || (isChanged && (delta.getFlags() & (IJavaElementDelta.F_ADDED_TO_CLASSPATH
+							| IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED)) != 0)) {
+						OpenTypeHistory.getInstance().invalidateSearchIndices();
+					}
 					if (isRemoved || (isChanged && (
 							(delta.getFlags() & IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED) != 0 ||
 							(delta.getFlags() & IJavaElementDelta.F_REMOVED_FROM_CLASSPATH) != 0))) {
-						return true;
+						affected.add(elem);
+						return;
 					}
-					return processChildrenDelta(delta);
+					processChildrenDelta(delta, affected);
+					return;
 				case IJavaElement.TYPE:
 					if (isChanged && (delta.getFlags() & IJavaElementDelta.F_MODIFIERS) != 0) {
-						return true;
+						affected.add(elem);
+						return;
 					}
 					if (isRemoved) {
-						return true;
+						affected.add(elem);
+						return;
 					}
-					return processChildrenDelta(delta);
+					processChildrenDelta(delta, affected);
+					return;
 				case IJavaElement.JAVA_MODEL:
 				case IJavaElement.PACKAGE_FRAGMENT:
 				case IJavaElement.CLASS_FILE:
 					if (isRemoved) {
-						return true;
+						affected.add(elem);
+						return;
 					}
-					return processChildrenDelta(delta);
+					processChildrenDelta(delta, affected);
+					return;
 				case IJavaElement.COMPILATION_UNIT:
 					// Not the primary compilation unit. Ignore it
 					if (!JavaModelUtil.isPrimary((ICompilationUnit) elem)) {
-						return false;
+						return;
 					}
 
 					if (isRemoved || (isChanged && isUnknownStructuralChange(delta.getFlags()))) {
-						return true;
+						affected.add(elem);
+						return;
 					}
-					return processChildrenDelta(delta);
+					processChildrenDelta(delta, affected);
+					return;
 				default:
 					// fields, methods, imports ect
-					return false;
+					return;
 			}
 		}
 
@@ -138,13 +166,10 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		}
 		*/
 
-		private boolean processChildrenDelta(IJavaElementDelta delta) {
+		private void processChildrenDelta(IJavaElementDelta delta, List<IJavaElement> affected) {
 			for (IJavaElementDelta child : delta.getAffectedChildren()) {
-				if (processDelta(child)) {
-					return true;
-				}
+				processDelta(child, affected);
 			}
-			return false;
 		}
 	}
 
@@ -161,17 +186,73 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		}
 		@Override
 		public boolean belongsTo(Object family) {
-			return FAMILY.equals(family);
+			return FAMILY.equals(family) || JOB_FAMILY.equals(family);
 		}
 	}
 
+	/**
+	 * Waits until the search indices are ready, so that the first search of the
+	 * open type dialog does not have to.
+	 */
+	private static class WarmUpJob extends Job {
+		public static final String FAMILY= WarmUpJob.class.getName();
+		public WarmUpJob() {
+			super(CorextMessages.TypeInfoHistory_consistency_check);
+			setSystem(true);
+		}
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			try {
+				OpenTypeHistory.getInstance().waitForSearchIndices(monitor);
+			} catch (OperationCanceledException e) {
+				return Status.CANCEL_STATUS;
+			} catch (JavaModelException e) {
+				return e.getStatus();
+			}
+			return Status.OK_STATUS;
+		}
+		@Override
+		public boolean belongsTo(Object family) {
+			return FAMILY.equals(family) || JOB_FAMILY.equals(family);
+		}
+	}
+
+	/**
+	 * Statistics of the last consistency check.
+	 *
+	 * @param checkedTypes the number of entries that were checked
+	 * @param fetchedTimestamps the number of container time stamps that were fetched for them
+	 */
+	public record CheckStatistics(int checkedTypes, int fetchedTimestamps) {
+	}
+
+	/**
+	 * Family of the consistency check and of the job that waits for the search indices.
+	 */
+	public static final String JOB_FAMILY= OpenTypeHistory.class.getName();
+
+	/**
+	 * Delay in milliseconds of the update job. Coalesces the checks of the deltas
+	 * that arrive in short succession, e.g. during a build.
+	 */
+	private static final long UPDATE_DELAY= 500;
+
 	// Needs to be volatile since accesses aren't synchronized.
 	private volatile boolean fNeedsConsistencyCheck;
+	// Whether all entries must be checked, not only the ones in fPendingScopes
+	private volatile boolean fNeedsFullCheck;
+	// Elements whose types must be checked. Filled by the delta listener without locking the history
+	private final Queue<IJavaElement> fPendingScopes;
+	private volatile boolean fSearchIndicesReady;
+	// Incremented whenever the indices have to be waited for again, e.g. after a classpath change
+	private final AtomicInteger fSearchIndicesGeneration;
+	private volatile CheckStatistics fLastCheckStatistics;
 	// Map of cached time stamps
 	private Map<TypeNameMatch, Long> fTimestampMapping;
 
 	private final IElementChangedListener fDeltaListener;
 	private final UpdateJob fUpdateJob;
+	private final WarmUpJob fWarmUpJob;
 
 	private static final String FILENAME= "OpenTypeHistory.xml"; //$NON-NLS-1$
 	private static final String NODE_ROOT= "typeInfoHistroy"; //$NON-NLS-1$
@@ -197,7 +278,11 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 	private OpenTypeHistory() {
 		super(FILENAME, NODE_ROOT, NODE_TYPE_INFO);
 		fTimestampMapping= new HashMap<>();
+		fPendingScopes= new ConcurrentLinkedQueue<>();
+		fSearchIndicesGeneration= new AtomicInteger();
+		fLastCheckStatistics= new CheckStatistics(0, 0);
 		fNeedsConsistencyCheck= true;
+		fNeedsFullCheck= true;
 		load();
 		fDeltaListener= new TypeHistoryDeltaListener();
 		JavaCore.addElementChangedListener(fDeltaListener);
@@ -207,20 +292,100 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		// https://bugs.eclipse.org/bugs/show_bug.cgi?id=128399 and
 		// https://bugs.eclipse.org/bugs/show_bug.cgi?id=135278
 		// for details.
-		fUpdateJob.setPriority(Job.SHORT);
+		fUpdateJob.setPriority(Job.DECORATE);
+
+		fWarmUpJob= new WarmUpJob();
+		fWarmUpJob.setPriority(Job.DECORATE);
+		fWarmUpJob.schedule();
 	}
 
+	/**
+	 * Marks all entries of the history as possibly inconsistent.
+	 */
 	public void markAsInconsistent() {
+		fNeedsFullCheck= true;
+		fNeedsConsistencyCheck= true;
+		scheduleUpdate();
+	}
+
+	/**
+	 * Marks the entries of the types contained in the given elements as possibly inconsistent.
+	 *
+	 * @param elements the changed elements
+	 */
+	public void markAsInconsistent(Collection<IJavaElement> elements) {
+		fPendingScopes.addAll(elements);
 		fNeedsConsistencyCheck= true;
+		scheduleUpdate();
+	}
+
+	private void scheduleUpdate() {
 		// cancel the old job. If no job is running this is a NOOP.
 		fUpdateJob.cancel();
-		fUpdateJob.schedule();
+		fUpdateJob.schedule(UPDATE_DELAY);
 	}
 
 	public boolean needConsistencyCheck() {
 		return fNeedsConsistencyCheck;
 	}
 
+	/**
+	 * @return whether the search indices have been found ready
+	 * @see #waitForSearchIndices(IProgressMonitor)
+	 */
+	public boolean areSearchIndicesReady() {
+		return fSearchIndicesReady;
+	}
+
+	/**
+	 * Marks the search indices as not ready, e.g. because the classpath of a project changed
+	 * and the new containers still have to be indexed. The indices are waited for again in
+	 * the background.
+	 */
+	public void invalidateSearchIndices() {
+		fSearchIndicesGeneration.incrementAndGet();
+		fSearchIndicesReady= false;
+		fWarmUpJob.cancel();
+		fWarmUpJob.schedule(UPDATE_DELAY);
+	}
+
+	/**
+	 * Waits until the search indices are ready. Returns at once once the indices have been
+	 * found ready, which is usually done by a background job after startup.
+	 *
+	 * @param monitor the progress monitor
+	 * @throws JavaModelException if the search fails
+	 * @throws OperationCanceledException if the monitor got canceled
+	 */
+	public void waitForSearchIndices(IProgressMonitor monitor) throws JavaModelException, OperationCanceledException {
+		if (fSearchIndicesReady)
+			return;
+		int generation= fSearchIndicesGeneration.get();
+		new SearchEngine().searchAllTypeNames(
+				null,
+				0,
+				// make sure we search a concrete name. This is faster according to Kent
+				"_______________".toCharArray(), //$NON-NLS-1$
+				SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE,
+				IJavaSearchConstants.ENUM,
+				SearchEngine.createWorkspaceScope(),
+				new TypeNameRequestor() { /* dummy */},
+				IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH,
+				monitor);
+		// the indices may have been invalidated again while waiting
+		if (fSearchIndicesGeneration.get() == generation)
+			fSearchIndicesReady= true;
+	}
+
+	/**
+	 * Returns the statistics of the last consistency check. For testing only.
+	 *
+	 * @return the statistics of the last check
+	 */
+	public CheckStatistics getLastCheckStatistics() {
+		return fLastCheckStatistics;
+	}
+
 	public void checkConsistency(IProgressMonitor monitor) throws OperationCanceledException {
 		if (!fNeedsConsistencyCheck)
 			return;
@@ -237,11 +402,6 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		internalCheckConsistency(monitor);
 	}
 
-	@Override
-	public synchronized boolean contains(TypeNameMatch type) {
-		return super.contains(type);
-	}
-
 	@Override
 	public synchronized void accessed(TypeNameMatch info) {
 		// Fetching the timestamp might not be cheap (remote file system
@@ -265,7 +425,11 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		super.accessed(newMatch);
 	}
 
-	public synchronized TypeNameMatch[] getTypeInfos() {
+	/*
+	 * The reads below work on a snapshot of the history and do not lock it, so that the
+	 * open type dialog does not wait for a running consistency check.
+	 */
+	public TypeNameMatch[] getTypeInfos() {
 		Collection<TypeNameMatch> values= getValues();
 		int size= values.size();
 		TypeNameMatch[] result= new TypeNameMatch[size];
@@ -277,7 +441,7 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		return result;
 	}
 
-	public synchronized TypeNameMatch[] getFilteredTypeInfos(TypeInfoFilter filter) {
+	public TypeNameMatch[] getFilteredTypeInfos(TypeInfoFilter filter) {
 		List<TypeNameMatch> result= new ArrayList<>();
 		for (TypeNameMatch type : getValues()) {
 			if ((filter == null || filter.matchesHistoryElement(type)) && !TypeFilter.isFiltered(type.getFullyQualifiedName()))
@@ -297,11 +461,15 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		// Setting fNeedsConsistencyCheck is necessary here since
 		// markAsInconsistent isn't synchronized.
 		fNeedsConsistencyCheck= true;
-		List<TypeNameMatch> typesToCheck= new ArrayList<>(getKeys());
+		List<TypeNameMatch> typesToCheck= getTypesToCheck();
+		// container time stamps of this check, shared by the types of the same container
+		Map<Object, Long> containerTimestamps= new HashMap<>();
 		monitor.beginTask(CorextMessages.TypeInfoHistory_consistency_check, typesToCheck.size());
 		monitor.setTaskName(CorextMessages.TypeInfoHistory_consistency_check);
 		for (TypeNameMatch type : typesToCheck) {
-			long currentTimestamp= getContainerTimestamp(type);
+			if (!containsKey(type))
+				continue; // replaced by a previous check
+			long currentTimestamp= getContainerTimestamp(type, containerTimestamps);
 			Long lastTested= fTimestampMapping.get(type);
 			if (lastTested != null && currentTimestamp != IResource.NULL_STAMP && currentTimestamp == lastTested.longValue() && !isContainerDirty(type))
 				continue;
@@ -321,12 +489,55 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 			} catch (JavaModelException e) {
 				remove(type);
 			}
-			if (monitor.isCanceled())
+			if (monitor.isCanceled()) {
+				// check all again, the remaining scopes are lost
+				fNeedsFullCheck= true;
 				throw new OperationCanceledException();
+			}
 			monitor.worked(1);
 		}
 		monitor.done();
-		fNeedsConsistencyCheck= false;
+		fLastCheckStatistics= new CheckStatistics(typesToCheck.size(), containerTimestamps.size());
+		fNeedsConsistencyCheck= fNeedsFullCheck || !fPendingScopes.isEmpty();
+	}
+
+	/**
+	 * Returns the entries that must be checked and consumes the pending scopes.
+	 *
+	 * @return the entries to check
+	 */
+	private List<TypeNameMatch> getTypesToCheck() {
+		boolean fullCheck= fNeedsFullCheck;
+		fNeedsFullCheck= false;
+		Set<IJavaElement> scopes= new HashSet<>();
+		IJavaElement scope;
+		while ((scope= fPendingScopes.poll()) != null) {
+			if (scope.getElementType() == IJavaElement.JAVA_MODEL)
+				fullCheck= true;
+			scopes.add(scope);
+		}
+		if (fullCheck)
+			return new ArrayList<>(getKeys());
+
+		List<TypeNameMatch> result= new ArrayList<>();
+		for (TypeNameMatch type : getKeys()) {
+			IJavaElement element= type.getType();
+			while (element != null) {
+				if (scopes.contains(element)) {
+					result.add(type);
+					break;
+				}
+				element= element.getParent();
+			}
+		}
+		return result;
+	}
+
+	private long getContainerTimestamp(TypeNameMatch match, Map<Object, Long> containerTimestamps) {
+		IResource resource= match.getType().getResource();
+		// the file of a source type, the path of an external archive otherwise
+		Object container= resource != null ? resource : match.getPackageFragmentRoot().getPath();
+		return containerTimestamps.computeIfAbsent(container, c -> getContainerTimestamp(match)).longValue();
 	}
 
 	private long getContainerTimestamp(TypeNameMatch match) {
@@ -378,6 +589,7 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 
 	private void doShutdown() {
 		JavaCore.removeElementChangedListener(fDeltaListener);
+		fWarmUpJob.cancel();
 		save();
 	}
 
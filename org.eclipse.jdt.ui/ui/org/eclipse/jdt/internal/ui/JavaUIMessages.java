@@ -239,6 +239,7 @@ public final class JavaUIMessages extends NLS {
 	public static String FilteredTypesSelectionDialog_error_type_doesnot_exist;
 	public static String FilteredTypesSelectionDialog_library_name_format;
 	public static String FilteredTypesSelectionDialog_searchJob_taskName;
+	public static String FilteredTypesSelectionDialog_indexJob_name;
 	public static String FilteredTypeSelectionDialog_titleFormat;
 
 	public static String InitializeAfterLoadJob_starter_job_name;
@@ -29,11 +29,17 @@ import org.eclipse.jdt.internal.core.manipulation.util.Strings;
 import org.eclipse.jdt.internal.corext.util.CodeFormatterUtil;
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
+import org.eclipse.jdt.internal.ui.text.FastJavaPartitionScanner;
+import org.eclipse.jdt.internal.ui.text.FastJavaPartitioner;
 import org.eclipse.jdt.internal.ui.text.JavaHeuristicScanner;
 import org.eclipse.jdt.internal.ui.text.JavaIndenter;
 import org.eclipse.jdt.ui.text.IJavaPartitions;
 import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.DocumentRewriteSession;
+import org.eclipse.jface.text.DocumentRewriteSessionType;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
 import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.IRewriteTarget;
 import org.eclipse.jface.text.ITextSelection;
@@ -41,6 +47,7 @@ import org.eclipse.jface.text.ITypedRegion;
 import org.eclipse.jface.text.Position;
 import org.eclipse.jface.text.TextSelection;
 import org.eclipse.jface.text.TextUtilities;
+import org.eclipse.jface.text.rules.FastPartitioner;
 import org.eclipse.jface.text.source.ISourceViewer;
 import org.eclipse.jface.viewers.ISelection;
 import org.eclipse.jface.viewers.ISelectionProvider;
@@ -60,7 +67,8 @@ import org.eclipse.ui.texteditor.TextEditorAction;
  * Indents a line or range of lines in a Java document to its correct position. No complete
  * AST must be present, the indentation is computed using heuristics. The algorithm used is fast for
  * single lines, but does not store any information and therefore not so efficient for large line
- * ranges.
+ * ranges. Line ranges are therefore indented in a detached copy of the document and the resulting
+ * edits are applied to the document at once.
  *
  * @see org.eclipse.jdt.internal.ui.text.JavaHeuristicScanner
  * @see org.eclipse.jdt.internal.ui.text.JavaIndenter
@@ -102,6 +110,32 @@ public class IndentAction extends TextEditorAction {
 
 	}
 
+	/**
+	 * The formatter options consulted for every line, looked up once per indent operation.
+	 *
+	 * @param tabSize the tab size
+	 * @param indentEmptyLines whether empty lines are indented
+	 * @param dontIndentMultiLineCommentOnFirstColumn whether block comments on the first column keep their position
+	 * @param dontIndentSingleLineCommentOnFirstColumn whether line comments on the first column keep their position
+	 */
+	private record IndentOptions(int tabSize, boolean indentEmptyLines, boolean dontIndentMultiLineCommentOnFirstColumn, boolean dontIndentSingleLineCommentOnFirstColumn) {
+
+		static IndentOptions of(IJavaProject project) {
+			return new IndentOptions(getTabSize(project), indentEmptyLines(project), isDontIndentMultiLineCommentOnFirstColumn(project), isDontIndentSingleLineCommentOnFirstColumn(project));
+		}
+	}
+
+	/** The partition types of the detached document used to indent line ranges */
+	private static final String[] PARTITION_TYPES= new String[] {
+			IJavaPartitions.JAVA_DOC,
+			IJavaPartitions.JAVA_MULTI_LINE_COMMENT,
+			IJavaPartitions.JAVA_SINGLE_LINE_COMMENT,
+			IJavaPartitions.JAVA_STRING,
+			IJavaPartitions.JAVA_CHARACTER,
+			IJavaPartitions.JAVA_MULTI_LINE_STRING,
+			IDocument.DEFAULT_CONTENT_TYPE
+	};
+
 	/** The caret offset after an indent operation. */
 	private int fCaretOffset;
 
@@ -166,13 +200,19 @@ public class IndentAction extends TextEditorAction {
 					target.beginCompoundChange();
 
 				try {
-					JavaHeuristicScanner scanner= new JavaHeuristicScanner(document);
-					JavaIndenter indenter= new JavaIndenter(document, scanner, getJavaProject());
 					final boolean multiLine= nLines > 1;
 					boolean hasChanged= false;
-					TextBlockInfo textBlockInfo= new TextBlockInfo(-1, -1);
-					for (int i= 0; i < nLines; i++) {
-						hasChanged |= indentLine(document, firstLine + i, offset, indenter, scanner, multiLine, textBlockInfo);
+					if (multiLine && !fIsTabAction) {
+						// the caret is not tracked, so all lines can be indented in one go
+						hasChanged= indentLines(document, firstLine, nLines, getJavaProject());
+					} else {
+						JavaHeuristicScanner scanner= new JavaHeuristicScanner(document);
+						JavaIndenter indenter= new JavaIndenter(document, scanner, getJavaProject());
+						IndentOptions options= IndentOptions.of(getJavaProject());
+						TextBlockInfo textBlockInfo= new TextBlockInfo(-1, -1);
+						for (int i= 0; i < nLines; i++) {
+							hasChanged |= indentLine(document, firstLine + i, offset, indenter, scanner, multiLine, textBlockInfo, options);
+						}
 					}
 
 					// update caret position: move to new position when indenting just one line
@@ -279,21 +319,41 @@ public class IndentAction extends TextEditorAction {
 		int offset= 0;
 		int length= document.getLength();
 
-		JavaHeuristicScanner scanner= new JavaHeuristicScanner(document);
-		JavaIndenter indenter= new JavaIndenter(document, scanner, project);
-
-		ArrayList<ReplaceEdit> edits= new ArrayList<>();
-
 		int firstLine= document.getLineOfOffset(offset);
 		// check for marginal (zero-length) lines
 		int minusOne= length == 0 ? 0 : 1;
 		int numberOfLines= document.getLineOfOffset(offset + length - minusOne) - firstLine + 1;
 
+		return indent(document, firstLine, numberOfLines, project);
+	}
+
+	/**
+	 * Indents the given range of lines and returns a text edit describing the changes applied to
+	 * the document, relative to the document before the changes. Returns <code>null</code> if no
+	 * changes have been applied.
+	 * <p>
+	 * WARNING: This method does change the content of the given document.
+	 * </p>
+	 *
+	 * @param document the document to indent, must have a java partitioning installed
+	 * @param firstLine the first line to indent
+	 * @param numberOfLines the number of lines to indent
+	 * @param project the project to retrieve the indentation settings from, <b>null</b> for workspace settings
+	 * @return a text edit describing the changes or <code>null</code> if no changes required
+	 * @throws BadLocationException if the document got modified concurrently
+	 */
+	private static TextEdit indent(IDocument document, int firstLine, int numberOfLines, IJavaProject project) throws BadLocationException {
+		JavaHeuristicScanner scanner= new JavaHeuristicScanner(document);
+		JavaIndenter indenter= new JavaIndenter(document, scanner, project);
+		IndentOptions options= IndentOptions.of(project);
+
+		ArrayList<ReplaceEdit> edits= new ArrayList<>();
+
 		TextBlockInfo textBlockInfo= new TextBlockInfo(-1, -1);
 
 		int shift= 0;
 		for (int i= 0; i < numberOfLines; i++) {
-			ReplaceData data= computeReplaceData(document, firstLine + i, indenter, scanner, numberOfLines > 1, false, textBlockInfo, project);
+			ReplaceData data= computeReplaceData(document, firstLine + i, indenter, scanner, numberOfLines > 1, false, textBlockInfo, project, options);
 
 			int replaceLength= data.end - data.offset;
 			String currentIndent= document.get(data.offset, replaceLength);
@@ -321,6 +381,40 @@ public class IndentAction extends TextEditorAction {
 		return result;
 	}
 
+	/**
+	 * Indents a range of lines. The indentation is computed in a detached copy of the document,
+	 * so that the intermediate changes the indenter depends on don't notify the listeners of
+	 * <code>document</code>. The resulting edits are applied to <code>document</code> at once.
+	 *
+	 * @param document the document
+	 * @param firstLine the first line to indent
+	 * @param numberOfLines the number of lines to indent
+	 * @param project the project to retrieve the indentation settings from, <b>null</b> for workspace settings
+	 * @return <code>true</code> if <code>document</code> was modified, <code>false</code> otherwise
+	 * @throws BadLocationException if the document got changed concurrently
+	 */
+	private static boolean indentLines(IDocument document, int firstLine, int numberOfLines, IJavaProject project) throws BadLocationException {
+		Document copy= new Document(document.get());
+		FastPartitioner partitioner= new FastJavaPartitioner(new FastJavaPartitionScanner(project), PARTITION_TYPES);
+		partitioner.connect(copy);
+		copy.setDocumentPartitioner(IJavaPartitions.JAVA_PARTITIONING, partitioner);
+
+		TextEdit edit= indent(copy, firstLine, numberOfLines, project);
+		if (edit == null)
+			return false;
+
+		DocumentRewriteSession session= null;
+		if (document instanceof IDocumentExtension4)
+			session= ((IDocumentExtension4) document).startRewriteSession(DocumentRewriteSessionType.SEQUENTIAL);
+		try {
+			edit.apply(document, TextEdit.NONE);
+		} finally {
+			if (session != null)
+				((IDocumentExtension4) document).stopRewriteSession(session);
+		}
+		return true;
+	}
+
 	/**
 	 * Indents a single line using the java heuristic scanner. Javadoc and multiline comments are
 	 * indented as specified by the <code>JavaDocAutoIndentStrategy</code>.
@@ -333,10 +427,11 @@ public class IndentAction extends TextEditorAction {
 	 * @param isTabAction <code>true</code> if this action has been invoked by TAB
 	 * @param textBlockInfo info about current text block being indented if applicable
 	 * @param project the project to retrieve the indentation settings from, <b>null</b> for workspace settings
+	 * @param options the formatter options of <code>project</code>
 	 * @return <code>true</code> if <code>document</code> was modified, <code>false</code> otherwise
 	 * @throws BadLocationException if the document got changed concurrently
 	 */
-	private static ReplaceData computeReplaceData(IDocument document, int line, JavaIndenter indenter, JavaHeuristicScanner scanner, boolean multiLine, boolean isTabAction, TextBlockInfo textBlockInfo, IJavaProject project) throws BadLocationException {
+	private static ReplaceData computeReplaceData(IDocument document, int line, JavaIndenter indenter, JavaHeuristicScanner scanner, boolean multiLine, boolean isTabAction, TextBlockInfo textBlockInfo, IJavaProject project, IndentOptions options) throws BadLocationException {
 		IRegion currentLine= document.getLineInformation(line);
 		int offset= currentLine.getOffset();
 		int wsStart= offset; // where we start searching for non-WS; after the "//" in single line comments
@@ -347,7 +442,7 @@ public class IndentAction extends TextEditorAction {
 			ITypedRegion startingPartition= TextUtilities.getPartition(document, IJavaPartitions.JAVA_PARTITIONING, offset, false);
 			String startingType= startingPartition.getType();
 			boolean isCommentStart= startingPartition.getOffset() == offset;
-			if (isDontIndentMultiLineCommentOnFirstColumn(project) && isCommentStart && IJavaPartitions.JAVA_MULTI_LINE_COMMENT.equals(startingType)) {
+			if (options.dontIndentMultiLineCommentOnFirstColumn() && isCommentStart && IJavaPartitions.JAVA_MULTI_LINE_COMMENT.equals(startingType)) {
 				indent= ""; //$NON-NLS-1$
 			} else if (IJavaPartitions.JAVA_DOC.equals(type) || IJavaPartitions.JAVA_MULTI_LINE_COMMENT.equals(type)) {
 				indent= computeJavadocIndent(document, line, scanner, startingPartition);
@@ -355,7 +450,7 @@ public class IndentAction extends TextEditorAction {
 				// line comment starting at position 0
 				if (multiLine) {
 					//Do what the formatter does
-					if (isDontIndentSingleLineCommentOnFirstColumn(project))
+					if (options.dontIndentSingleLineCommentOnFirstColumn())
 						indent= ""; //$NON-NLS-1$
 				} else {
 					//indent inside -> add/remove indent such that user can start typing at correct position
@@ -366,7 +461,7 @@ public class IndentAction extends TextEditorAction {
 					if (computed == null)
 						computed= new StringBuffer(0);
 
-					removeIndentations(slashes, getTabSize(project), computed);
+					removeIndentations(slashes, options.tabSize(), computed);
 					indent= document.get(offset, wsStart - offset) + computed;
 				}
 			} else if (IJavaPartitions.JAVA_MULTI_LINE_STRING.equals(type)) {
@@ -407,7 +502,7 @@ public class IndentAction extends TextEditorAction {
 		if (end == JavaHeuristicScanner.NOT_FOUND) {
 			// an empty line
 			end= offset + lineLength;
-			if (multiLine && !indentEmptyLines(project))
+			if (multiLine && !options.indentEmptyLines())
 				indent= ""; //$NON-NLS-1$
 		}
 
@@ -529,13 +624,14 @@ public class IndentAction extends TextEditorAction {
 	 * @param scanner the heuristic scanner
 	 * @param multiLine <code>true</code> if more than one line is being indented
 	 * @param textBlockInfo info about latest Text Block being indented
+	 * @param options the formatter options of the project
 	 * @return <code>true</code> if <code>document</code> was modified, <code>false</code> otherwise
 	 * @throws BadLocationException if the document got changed concurrently
 	 */
-	private boolean indentLine(IDocument document, int line, int caret, JavaIndenter indenter, JavaHeuristicScanner scanner, boolean multiLine, TextBlockInfo textBlockInfo) throws BadLocationException {
+	private boolean indentLine(IDocument document, int line, int caret, JavaIndenter indenter, JavaHeuristicScanner scanner, boolean multiLine, TextBlockInfo textBlockInfo, IndentOptions options) throws BadLocationException {
 		IJavaProject project= getJavaProject();
 
-		ReplaceData data= computeReplaceData(document, line, indenter, scanner, multiLine, fIsTabAction, textBlockInfo, project);
+		ReplaceData data= computeReplaceData(document, line, indenter, scanner, multiLine, fIsTabAction, textBlockInfo, project, options);
 
 		String indent= data.indent;
 		int end= data.end;
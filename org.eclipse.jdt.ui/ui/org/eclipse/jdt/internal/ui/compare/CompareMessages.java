@@ -29,6 +29,7 @@ public final class CompareMessages extends NLS {
 	public static String JavaReplaceWithEditionActionImpl_0;
 	public static String PropertiesFileMergeViewer_title;
 	public static String JavaStructureViewer_title;
+	public static String JavaStructureCreator_prefetch_job;
 	public static String JavaNode_compilationUnit;
 	public static String JavaNode_importDeclarations;
 	public static String JavaNode_initializer;
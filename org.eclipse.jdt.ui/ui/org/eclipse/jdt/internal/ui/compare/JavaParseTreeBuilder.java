@@ -40,15 +40,15 @@ import org.eclipse.jdt.internal.corext.dom.ASTFlattener;
 class JavaParseTreeBuilder extends ASTVisitor {
 
     private char[] fBuffer;
-    private Stack<JavaNode> fStack= new Stack<>();
-    private JavaNode fImportContainer;
+    private Stack<JavaStructureShape> fStack= new Stack<>();
+    private JavaStructureShape fImportContainer;
     private boolean fShowCU;
 
     /*
      * Parsing is performed on the given buffer and the resulting tree (if any)
      * hangs below the given root.
      */
-    JavaParseTreeBuilder(JavaNode root, char[] buffer, boolean showCU) {
+    JavaParseTreeBuilder(JavaStructureShape root, char[] buffer, boolean showCU) {
         fBuffer= buffer;
         fShowCU= showCU;
         fStack.clear();
@@ -57,7 +57,7 @@ class JavaParseTreeBuilder extends ASTVisitor {
 
     @Override
 	public boolean visit(PackageDeclaration node) {
-        new JavaNode(getCurrentContainer(), JavaNode.PACKAGE, null, node.getStartPosition(), node.getLength());
+        new JavaStructureShape(getCurrentContainer(), JavaNode.PACKAGE, null, node.getStartPosition(), node.getLength());
         return false;
     }
 
@@ -147,12 +147,12 @@ class JavaParseTreeBuilder extends ASTVisitor {
         int l= node.getLength();
         int declarationEnd= s + l;
         if (fImportContainer == null)
-            fImportContainer= new JavaNode(getCurrentContainer(), JavaNode.IMPORT_CONTAINER, null, s, l);
+            fImportContainer= new JavaStructureShape(getCurrentContainer(), JavaNode.IMPORT_CONTAINER, null, s, l);
         String nm= node.getName().toString();
         if (node.isOnDemand())
             nm+= ".*"; //$NON-NLS-1$
-        new JavaNode(fImportContainer, JavaNode.IMPORT, nm, s, l);
-        fImportContainer.setLength(declarationEnd - fImportContainer.getRange().getOffset() + 1);
+        new JavaStructureShape(fImportContainer, JavaNode.IMPORT, nm, s, l);
+        fImportContainer.setLength(declarationEnd - fImportContainer.getStart() + 1);
         fImportContainer.setAppendPosition(declarationEnd + 2); // FIXME
         return false;
     }
@@ -184,7 +184,7 @@ class JavaParseTreeBuilder extends ASTVisitor {
     // private stuff
 
     /**
-     * Adds a new JavaNode with the given type and name to the current
+     * Adds a new JavaStructureShape with the given type and name to the current
      * container.
      */
     private void push(int type, String name, int declarationStart, int length) {
@@ -197,7 +197,7 @@ class JavaParseTreeBuilder extends ASTVisitor {
             length++;
         }
 
-        JavaNode node= new JavaNode(getCurrentContainer(), type, name, declarationStart, length);
+        JavaStructureShape node= new JavaStructureShape(getCurrentContainer(), type, name, declarationStart, length);
         if (type == JavaNode.CU)
             node.setAppendPosition(declarationStart + length + 1);
         else
@@ -214,7 +214,7 @@ class JavaParseTreeBuilder extends ASTVisitor {
         fStack.pop();
     }
 
-    private JavaNode getCurrentContainer() {
+    private JavaStructureShape getCurrentContainer() {
         return fStack.peek();
     }
 
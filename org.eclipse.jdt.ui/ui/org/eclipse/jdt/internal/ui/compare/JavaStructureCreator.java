@@ -25,6 +25,9 @@ import org.eclipse.swt.widgets.Shell;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobGroup;
 
 import org.eclipse.core.resources.IResource;
 
@@ -58,19 +61,22 @@ import org.eclipse.jdt.core.ToolFactory;
 import org.eclipse.jdt.core.compiler.IScanner;
 import org.eclipse.jdt.core.compiler.ITerminalSymbols;
 import org.eclipse.jdt.core.compiler.InvalidInputException;
-import org.eclipse.jdt.core.dom.ASTParser;
-import org.eclipse.jdt.core.dom.CompilationUnit;
 
 
 import org.eclipse.jdt.ui.text.IJavaPartitions;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
-import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
 
 
 public class JavaStructureCreator extends StructureCreator {
 
-	private Map<String, String> fDefaultCompilerOptions;
+	private volatile Map<String, String> fDefaultCompilerOptions;
+
+	/**
+	 * The shapes used by this creator, so they live as long as the viewer that uses it. Recently
+	 * built shapes are also shared with other creators.
+	 */
+	private final JavaStructureShape.Cache fShapeCache= new JavaStructureShape.Cache();
 
 	/**
 	 * A root node for the structure. It is similar to {@link StructureRootNode} but needed
@@ -246,10 +252,87 @@ public class JavaStructureCreator extends StructureCreator {
 		return createStructureComparator(element, null, document, sharedDocumentAdapter, monitor);
 	}
 
-	private IStructureComparator createStructureComparator(final Object input, char[] buffer, IDocument doc, ISharedDocumentAdapter adapter, IProgressMonitor monitor) {
-		String contents;
-		Map<String, String> compilerOptions= null;
+	/**
+	 * Starts building the structures of the given inputs in background jobs, so that the
+	 * following requests for the structures of inputs with the same contents are answered
+	 * without parsing. The contents are read in the jobs, too. A request for a structure that is
+	 * being built by a job waits for the job's result instead of parsing again.
+	 * <p>
+	 * The jobs run in parallel, up to the number of available processors, and belong to the
+	 * family of this creator.
+	 * </p>
+	 *
+	 * @param inputs the inputs, <code>null</code> elements and inputs without contents are ignored
+	 * @see #cancelPrefetch()
+	 */
+	public void prefetchStructures(Object[] inputs) {
+		JobGroup group= null;
+		for (Object input : inputs) {
+			if (input == null)
+				continue;
+			if (group == null)
+				group= new JobGroup(CompareMessages.JavaStructureCreator_prefetch_job, Runtime.getRuntime().availableProcessors(), 0);
+			Job job= new Job(CompareMessages.JavaStructureCreator_prefetch_job) {
+				@Override
+				protected IStatus run(IProgressMonitor monitor) {
+					char[] buffer= readContents(input);
+					if (buffer != null && !monitor.isCanceled())
+						fShapeCache.create(buffer, getCompilerOptions(input), monitor);
+					return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
+				}
 
+				@Override
+				public boolean belongsTo(Object family) {
+					return family == JavaStructureCreator.this;
+				}
+			};
+			job.setSystem(true);
+			job.setPriority(Job.SHORT);
+			job.setJobGroup(group);
+			job.schedule();
+		}
+	}
+
+	/**
+	 * Cancels the jobs started by {@link #prefetchStructures(Object[])}.
+	 */
+	public void cancelPrefetch() {
+		Job.getJobManager().cancel(this);
+	}
+
+	/**
+	 * @return the number of structures that this creator remembers, for testing
+	 */
+	public int getCachedStructureCount() {
+		return fShapeCache.size();
+	}
+
+	/**
+	 * @return the number of structures that this creator parsed itself, for testing
+	 */
+	public int getParsedStructureCount() {
+		return fShapeCache.getParseCount();
+	}
+
+	private static char[] readContents(Object input) {
+		if (input == null)
+			return null;
+		IDocument doc= CompareUI.getDocument(input);
+		if (doc != null)
+			return doc.get().toCharArray();
+		if (input instanceof IStreamContentAccessor) {
+			try {
+				String contents= JavaCompareUtilities.readString((IStreamContentAccessor) input);
+				if (contents != null)
+					return contents.toCharArray();
+			} catch (CoreException ex) {
+				// getStructure reports the error
+			}
+		}
+		return null;
+	}
+
+	private Map<String, String> getCompilerOptions(Object input) {
 		if (input instanceof IResourceProvider) {
 			IResource resource= ((IResourceProvider) input).getResource();
 			if (resource != null) {
@@ -257,12 +340,16 @@ public class JavaStructureCreator extends StructureCreator {
 				if (element != null) {
 					IJavaProject javaProject= element.getJavaProject();
 					if (javaProject != null)
-						compilerOptions= javaProject.getOptions(true);
+						return javaProject.getOptions(true);
 				}
 			}
 		}
-		if (compilerOptions == null)
-			compilerOptions= fDefaultCompilerOptions;
+		return fDefaultCompilerOptions;
+	}
+
+	private IStructureComparator createStructureComparator(final Object input, char[] buffer, IDocument doc, ISharedDocumentAdapter adapter, IProgressMonitor monitor) {
+		String contents;
+		Map<String, String> compilerOptions= getCompilerOptions(input);
 
 		if (doc != null) {
 			boolean isEditable= false;
@@ -279,13 +366,7 @@ public class JavaStructureCreator extends StructureCreator {
 				contents.getChars(0, n, buffer, 0);
 			}
 
-			ASTParser parser= ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
-			if (compilerOptions != null)
-				parser.setCompilerOptions(compilerOptions);
-			parser.setSource(buffer);
-			parser.setFocalPosition(0);
-			CompilationUnit cu= (CompilationUnit) parser.createAST(monitor);
-			cu.accept(new JavaParseTreeBuilder(root, buffer, true));
+			fShapeCache.create(buffer, compilerOptions, monitor).createNodes(root);
 
 			return root;
 		}
@@ -13,7 +13,9 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.compare;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.ResourceBundle;
 import java.util.Set;
@@ -42,6 +44,7 @@ import org.eclipse.compare.structuremergeviewer.DiffNode;
 import org.eclipse.compare.structuremergeviewer.Differencer;
 import org.eclipse.compare.structuremergeviewer.ICompareInput;
 import org.eclipse.compare.structuremergeviewer.IDiffContainer;
+import org.eclipse.compare.structuremergeviewer.IDiffElement;
 import org.eclipse.compare.structuremergeviewer.StructureDiffViewer;
 
 import org.eclipse.jdt.core.ElementChangedEvent;
@@ -99,9 +102,16 @@ class JavaStructureDiffViewer extends StructureDiffViewer implements IElementCha
 
 	private static final String SMART= "SMART"; //$NON-NLS-1$
 
+	/**
+	 * The maximum number of other inputs of a multi-file compare that are prefetched along
+	 * with the shown input.
+	 */
+	private static final int MAX_PREFETCHED_SIBLINGS= 32;
+
 	private ActionContributionItem fSmartActionItem;
 	private JavaStructureCreator fStructureCreator;
 	private boolean fThreeWay;
+	private IDiffContainer fPrefetchedContainer;
 
 	public JavaStructureDiffViewer(Composite parent, CompareConfiguration configuration) {
 		super(parent, configuration);
@@ -163,11 +173,44 @@ class JavaStructureDiffViewer extends StructureDiffViewer implements IElementCha
 				compilerOptions= getCompilerOptions(input.getRight());
 			if (compilerOptions != null)
 				fStructureCreator.setDefaultCompilerOptions(compilerOptions);
+			prefetchStructures(input);
 		}
 
 		super.compareInputChanged(input);
 	}
 
+	/**
+	 * Starts building the structures of the given input and of the other Java inputs of the same
+	 * multi-file compare in the background. The structure diff that the super class computes
+	 * picks up the structures that are ready or being built.
+	 *
+	 * @param input the shown input
+	 */
+	private void prefetchStructures(ICompareInput input) {
+		List<Object> inputs= new ArrayList<>();
+		addSides(input, inputs);
+		IDiffContainer parent= input instanceof IDiffElement ? ((IDiffElement) input).getParent() : null;
+		if (parent != null && parent != fPrefetchedContainer) {
+			fPrefetchedContainer= parent;
+			int siblings= 0;
+			for (IDiffElement child : parent.getChildren()) {
+				if (siblings == MAX_PREFETCHED_SIBLINGS)
+					break;
+				if (child != input && child instanceof ICompareInput && "java".equalsIgnoreCase(child.getType())) { //$NON-NLS-1$
+					addSides((ICompareInput) child, inputs);
+					siblings++;
+				}
+			}
+		}
+		fStructureCreator.prefetchStructures(inputs.toArray());
+	}
+
+	private static void addSides(ICompareInput input, List<Object> inputs) {
+		inputs.add(input.getAncestor());
+		inputs.add(input.getLeft());
+		inputs.add(input.getRight());
+	}
+
 	private Map<String, String> getCompilerOptions(ITypedElement input) {
 		IJavaElement element= findJavaElement(input);
 		if (element != null) {
@@ -185,6 +228,8 @@ class JavaStructureDiffViewer extends StructureDiffViewer implements IElementCha
 	@Override
 	protected void handleDispose(DisposeEvent event) {
 		JavaCore.removeElementChangedListener(this);
+		fStructureCreator.cancelPrefetch();
+		fPrefetchedContainer= null;
 		super.handleDispose(event);
 	}
 
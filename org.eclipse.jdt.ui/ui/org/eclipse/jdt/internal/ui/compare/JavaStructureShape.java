@@ -0,0 +1,287 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.compare;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
+
+/**
+ * The structure of a compilation unit as built by {@link JavaParseTreeBuilder}, independent of
+ * any document. Creating a shape does not touch a document, so shapes can be built in any thread
+ * and are converted to {@link JavaNode}s by {@link #createNodes(JavaNode)} afterwards.
+ * <p>
+ * Shapes are shared between all structures of equal contents that are built through the same
+ * {@link Cache}, which remembers the recently built shapes by a digest of the contents. A
+ * smaller set of recently built shapes is shared between all caches.
+ * </p>
+ */
+class JavaStructureShape {
+
+	private record Key(String digest, String source, String compliance, String preview) {
+	}
+
+	/**
+	 * The recently built shapes of one structure creator, layered on the shapes shared by all
+	 * creators. A shape that is being built in one thread is not built again by another thread
+	 * that asks for the same contents; that thread waits for the result instead.
+	 */
+	static final class Cache {
+
+		private static final int MAX_CACHE_SIZE= 200;
+
+		private static final int MAX_SHARED_CACHE_SIZE= 50;
+
+		/**
+		 * The recently built shapes of all creators, so that re-opening a compare editor on the
+		 * same contents does not parse them again. Guarded by itself.
+		 */
+		private static final Map<Key, JavaStructureShape> fgSharedShapes= new LinkedHashMap<>(64, 0.75f, true) {
+			private static final long serialVersionUID= 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, JavaStructureShape> eldest) {
+				return size() > MAX_SHARED_CACHE_SIZE;
+			}
+		};
+
+		private final Map<Key, JavaStructureShape> fShapes= new LinkedHashMap<>(64, 0.75f, true) {
+			private static final long serialVersionUID= 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, JavaStructureShape> eldest) {
+				return size() > MAX_CACHE_SIZE;
+			}
+		};
+
+		private final Map<Key, CompletableFuture<JavaStructureShape>> fPending= new HashMap<>();
+
+		private final AtomicInteger fParseCount= new AtomicInteger();
+
+		/**
+		 * Returns the shape of the given contents. Bindings are not resolved, so this
+		 * method can be called from any thread.
+		 *
+		 * @param buffer the contents of the compilation unit
+		 * @param compilerOptions the compiler options or <code>null</code>
+		 * @param monitor the progress monitor or <code>null</code>
+		 * @return the shape of the contents
+		 */
+		JavaStructureShape create(char[] buffer, Map<String, String> compilerOptions, IProgressMonitor monitor) {
+			Key key= createKey(buffer, compilerOptions);
+			if (key == null)
+				return parseCounted(buffer, compilerOptions, monitor);
+
+			CompletableFuture<JavaStructureShape> pending;
+			boolean building= false;
+			synchronized (this) {
+				JavaStructureShape shape= fShapes.get(key);
+				if (shape != null)
+					return shape;
+				synchronized (fgSharedShapes) {
+					shape= fgSharedShapes.get(key);
+				}
+				if (shape != null) {
+					fShapes.put(key, shape);
+					return shape;
+				}
+				pending= fPending.get(key);
+				if (pending == null) {
+					pending= new CompletableFuture<>();
+					fPending.put(key, pending);
+					building= true;
+				}
+			}
+
+			if (!building) {
+				JavaStructureShape shape= await(pending, monitor);
+				// the other thread was canceled, build the shape here
+				return shape != null ? shape : parseCounted(buffer, compilerOptions, monitor);
+			}
+
+			JavaStructureShape shape= null;
+			try {
+				shape= parseCounted(buffer, compilerOptions, monitor);
+				if (monitor != null && monitor.isCanceled())
+					shape= null;
+				return shape;
+			} finally {
+				synchronized (this) {
+					fPending.remove(key);
+					if (shape != null)
+						fShapes.put(key, shape);
+				}
+				if (shape != null) {
+					synchronized (fgSharedShapes) {
+						fgSharedShapes.put(key, shape);
+					}
+				}
+				pending.complete(shape);
+			}
+		}
+
+		synchronized int size() {
+			return fShapes.size();
+		}
+
+		int getParseCount() {
+			return fParseCount.get();
+		}
+
+		private JavaStructureShape parseCounted(char[] buffer, Map<String, String> compilerOptions, IProgressMonitor monitor) {
+			fParseCount.incrementAndGet();
+			return parse(buffer, compilerOptions, monitor);
+		}
+
+		private static JavaStructureShape await(CompletableFuture<JavaStructureShape> pending, IProgressMonitor monitor) {
+			while (monitor == null || !monitor.isCanceled()) {
+				try {
+					return pending.get(100, TimeUnit.MILLISECONDS);
+				} catch (TimeoutException e) {
+					// check for cancellation
+				} catch (ExecutionException e) {
+					return null;
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return null;
+				}
+			}
+			return null;
+		}
+	}
+
+	private final int fType;
+	private final String fName;
+	private final int fStart;
+	private int fLength;
+	private int fAppendPosition= -1;
+	private final List<JavaStructureShape> fChildren= new ArrayList<>();
+
+	private int fInitializerCount= 1;
+
+	/**
+	 * Creates the root of a shape.
+	 */
+	JavaStructureShape() {
+		this(JavaNode.CU, null, 0, 0);
+	}
+
+	private JavaStructureShape(int type, String name, int start, int length) {
+		fType= type;
+		fName= name;
+		fStart= start;
+		fLength= length;
+	}
+
+	/**
+	 * Creates a shape under the given parent.
+	 *
+	 * @param parent the parent shape
+	 * @param type the Java elements type, one of the type constants of {@link JavaNode}
+	 * @param name the name of the Java element
+	 * @param start the starting position of the Java element
+	 * @param length the number of characters of the Java element
+	 */
+	JavaStructureShape(JavaStructureShape parent, int type, String name, int start, int length) {
+		this(type, name, start, length);
+		parent.fChildren.add(this);
+	}
+
+	String getInitializerCount() {
+		return Integer.toString(fInitializerCount++);
+	}
+
+	int getStart() {
+		return fStart;
+	}
+
+	void setLength(int length) {
+		fLength= length;
+	}
+
+	void setAppendPosition(int position) {
+		fAppendPosition= position;
+	}
+
+	/**
+	 * Creates the nodes of this shape's children below the given node.
+	 *
+	 * @param parent the node that corresponds to this shape
+	 */
+	void createNodes(JavaNode parent) {
+		for (JavaStructureShape child : fChildren) {
+			JavaNode node= new JavaNode(parent, child.fType, child.fName, child.fStart, child.fLength);
+			if (child.fAppendPosition >= 0)
+				node.setAppendPosition(child.fAppendPosition);
+			child.createNodes(node);
+		}
+	}
+
+	private static JavaStructureShape parse(char[] buffer, Map<String, String> compilerOptions, IProgressMonitor monitor) {
+		ASTParser parser= ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
+		if (compilerOptions != null)
+			parser.setCompilerOptions(compilerOptions);
+		parser.setSource(buffer);
+		parser.setFocalPosition(0);
+		CompilationUnit cu= (CompilationUnit) parser.createAST(monitor);
+		JavaStructureShape shape= new JavaStructureShape();
+		cu.accept(new JavaParseTreeBuilder(shape, buffer, true));
+		return shape;
+	}
+
+	private static Key createKey(char[] buffer, Map<String, String> compilerOptions) {
+		MessageDigest digest;
+		try {
+			digest= MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			return null;
+		}
+		byte[] bytes= new byte[8192];
+		for (int offset= 0; offset < buffer.length; offset+= bytes.length / 2) {
+			int end= Math.min(buffer.length, offset + bytes.length / 2);
+			int n= 0;
+			for (int i= offset; i < end; i++) {
+				char c= buffer[i];
+				bytes[n++]= (byte) (c >> 8);
+				bytes[n++]= (byte) c;
+			}
+			digest.update(bytes, 0, n);
+		}
+		String hash= HexFormat.of().formatHex(digest.digest());
+		if (compilerOptions == null)
+			return new Key(hash, null, null, null);
+		return new Key(hash,
+				compilerOptions.get(JavaCore.COMPILER_SOURCE),
+				compilerOptions.get(JavaCore.COMPILER_COMPLIANCE),
+				compilerOptions.get(JavaCore.COMPILER_PB_ENABLE_PREVIEW_FEATURES));
+	}
+}
@@ -86,7 +86,6 @@ import org.eclipse.jdt.core.search.SearchEngine;
 import org.eclipse.jdt.core.search.SearchPattern;
 import org.eclipse.jdt.core.search.TypeNameMatch;
 import org.eclipse.jdt.core.search.TypeNameMatchRequestor;
-import org.eclipse.jdt.core.search.TypeNameRequestor;
 
 import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
 import org.eclipse.jdt.internal.corext.util.CollectionsUtil;
@@ -470,9 +469,14 @@ public class FilteredTypesSelectionDialog extends FilteredItemsSelectionDialog i
 	protected void fillContentProvider(AbstractContentProvider provider, ItemsFilter itemsFilter, IProgressMonitor progressMonitor) throws CoreException {
 		TypeItemsFilter typeSearchFilter= (TypeItemsFilter) itemsFilter;
 		TypeSearchRequestor requestor= new TypeSearchRequestor(provider, typeSearchFilter);
+		progressMonitor.setTaskName(JavaUIMessages.FilteredTypesSelectionDialog_searchJob_taskName);
+
+		// the index reports candidates only, the filter checks name, package, kind and scope
+		if (TypeNameIndex.getInstance().search(typeSearchFilter.getNamePattern(), typeSearchFilter.getMatchRule(), requestor, progressMonitor))
+			return;
+
 		SearchEngine engine= new SearchEngine((WorkingCopyOwner) null);
 		String packPattern= typeSearchFilter.getPackagePattern();
-		progressMonitor.setTaskName(JavaUIMessages.FilteredTypesSelectionDialog_searchJob_taskName);
 
 		/*
 		 * Setting the filter into match everything mode avoids filtering twice
@@ -552,13 +556,14 @@ public class FilteredTypesSelectionDialog extends FilteredItemsSelectionDialog i
 				manager.join(JavaUI.ID_PLUGIN, monitor);
 			}
 			OpenTypeHistory history= OpenTypeHistory.getInstance();
-			if (fgFirstTime || history.isEmpty()) {
+			if (fgFirstTime || !history.areSearchIndicesReady()) {
+				// usually done by the history's warm-up job already
 				if (history.needConsistencyCheck()) {
 					SubMonitor subMonitor= SubMonitor.convert(monitor,JavaUIMessages.TypeSelectionDialog_progress_consistency, 10 );
-					refreshSearchIndices(subMonitor.split(9));
+					refreshSearchIndices(history, subMonitor.split(9));
 					history.checkConsistency(subMonitor.split(1));
 				} else {
-					refreshSearchIndices(monitor);
+					refreshSearchIndices(history, monitor);
 				}
 				fgFirstTime= false;
 			} else {
@@ -567,21 +572,11 @@ public class FilteredTypesSelectionDialog extends FilteredItemsSelectionDialog i
 		}
 		public static boolean needsExecution() {
 			OpenTypeHistory history= OpenTypeHistory.getInstance();
-			return fgFirstTime || history.isEmpty() || history.needConsistencyCheck();
+			return fgFirstTime || !history.areSearchIndicesReady() || history.needConsistencyCheck();
 		}
-		private void refreshSearchIndices(IProgressMonitor monitor) throws InvocationTargetException {
+		private void refreshSearchIndices(OpenTypeHistory history, IProgressMonitor monitor) throws InvocationTargetException {
 			try {
-				new SearchEngine().searchAllTypeNames(
-						null,
-						0,
-						// make sure we search a concrete name. This is faster according to Kent
-						"_______________".toCharArray(), //$NON-NLS-1$
-						SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE,
-						IJavaSearchConstants.ENUM,
-						SearchEngine.createWorkspaceScope(),
-						new TypeNameRequestor() { /* dummy */},
-						IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH,
-						monitor);
+				history.waitForSearchIndices(monitor);
 			} catch (JavaModelException e) {
 				throw new InvocationTargetException(e);
 			}
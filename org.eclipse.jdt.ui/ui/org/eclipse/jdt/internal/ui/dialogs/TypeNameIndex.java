@@ -0,0 +1,463 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.dialogs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.WorkingCopyOwner;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+import org.eclipse.jdt.core.search.TypeNameMatchRequestor;
+
+import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.JavaUIMessages;
+
+/**
+ * In-memory index of the names of all types in the workspace scope, used by the
+ * {@link FilteredTypesSelectionDialog} instead of a search per keystroke.
+ * <p>
+ * The index is filled once by a background job and kept current from Java element deltas:
+ * types changed in a source folder cause only that folder to be searched again, classpath
+ * changes cause the whole index to be rebuilt. Until the index is ready, clients have to
+ * use the search engine. Changed source folders are searched again by the same background job,
+ * so queries never wait for them; until the job is done, they answer the previous types of
+ * these folders.
+ * </p>
+ * <p>
+ * The types are sorted by their case folded simple names, which are packed into one char array.
+ * A query only visits the range of types whose names start with the literal prefix of the pattern.
+ * </p>
+ */
+public final class TypeNameIndex {
+
+	/**
+	 * The immutable sorted state of the index.
+	 */
+	private static final class Snapshot {
+		private final TypeNameMatch[] fMatches;
+		private final char[] fNames;
+		private final int[] fOffsets;
+
+		Snapshot(Map<IPackageFragmentRoot, TypeNameMatch[]> entries) {
+			int size= 0;
+			for (TypeNameMatch[] matches : entries.values()) {
+				size+= matches.length;
+			}
+			String[] names= new String[size];
+			TypeNameMatch[] unsorted= new TypeNameMatch[size];
+			int i= 0;
+			for (TypeNameMatch[] matches : entries.values()) {
+				for (TypeNameMatch match : matches) {
+					names[i]= fold(match.getSimpleTypeName());
+					unsorted[i]= match;
+					i++;
+				}
+			}
+			Integer[] order= new Integer[size];
+			Arrays.setAll(order, k -> Integer.valueOf(k));
+			Arrays.sort(order, (i1, i2) -> names[i1.intValue()].compareTo(names[i2.intValue()]));
+
+			int length= 0;
+			for (String name : names) {
+				length+= name.length();
+			}
+			fMatches= new TypeNameMatch[size];
+			fNames= new char[length];
+			fOffsets= new int[size + 1];
+			int offset= 0;
+			for (int k= 0; k < size; k++) {
+				int index= order[k].intValue();
+				String name= names[index];
+				name.getChars(0, name.length(), fNames, offset);
+				fOffsets[k]= offset;
+				fMatches[k]= unsorted[index];
+				offset+= name.length();
+			}
+			fOffsets[size]= offset;
+		}
+
+		/**
+		 * @param prefix the case folded prefix
+		 * @return the index of the first name that is greater or equal to the prefix
+		 */
+		int lowerBound(String prefix) {
+			int low= 0;
+			int high= fMatches.length;
+			while (low < high) {
+				int mid= (low + high) >>> 1;
+				if (compare(mid, prefix) < 0)
+					low= mid + 1;
+				else
+					high= mid;
+			}
+			return low;
+		}
+
+		boolean startsWith(int index, String prefix) {
+			int start= fOffsets[index];
+			if (fOffsets[index + 1] - start < prefix.length())
+				return false;
+			for (int i= 0; i < prefix.length(); i++) {
+				if (fNames[start + i] != prefix.charAt(i))
+					return false;
+			}
+			return true;
+		}
+
+		private int compare(int index, String prefix) {
+			int start= fOffsets[index];
+			int length= fOffsets[index + 1] - start;
+			int n= Math.min(length, prefix.length());
+			for (int i= 0; i < n; i++) {
+				char c1= fNames[start + i];
+				char c2= prefix.charAt(i);
+				if (c1 != c2)
+					return c1 - c2;
+			}
+			return length - prefix.length();
+		}
+	}
+
+	private final class BuildJob extends Job {
+		public BuildJob() {
+			super(JavaUIMessages.FilteredTypesSelectionDialog_indexJob_name);
+			setSystem(true);
+			setPriority(Job.DECORATE);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			try {
+				build(monitor);
+				updateStaleRoots(monitor);
+			} catch (OperationCanceledException e) {
+				return Status.CANCEL_STATUS;
+			} catch (JavaModelException e) {
+				JavaPlugin.log(e);
+				invalidate();
+			}
+			return Status.OK_STATUS;
+		}
+	}
+
+	private final class DeltaListener implements IElementChangedListener {
+		@Override
+		public void elementChanged(ElementChangedEvent event) {
+			processDelta(event.getDelta());
+		}
+
+		private void processDelta(IJavaElementDelta delta) {
+			IJavaElement element= delta.getElement();
+			int kind= delta.getKind();
+			int flags= delta.getFlags();
+			boolean isAddedOrRemoved= kind == IJavaElementDelta.ADDED || kind == IJavaElementDelta.REMOVED;
+
+			switch (element.getElementType()) {
+				case IJavaElement.JAVA_MODEL:
+					processChildrenDelta(delta);
+					return;
+				case IJavaElement.JAVA_PROJECT:
+					if (isAddedOrRemoved || (flags & (IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED
+							| IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED)) != 0) {
+						invalidate();
+						return;
+					}
+					processChildrenDelta(delta);
+					return;
+				case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+					// archives and class folders can be shared by several projects, so rebuild
+					if (isAddedOrRemoved || (flags & (IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH
+							| IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED)) != 0) {
+						invalidate();
+						return;
+					}
+					processChildrenDelta(delta);
+					return;
+				case IJavaElement.PACKAGE_FRAGMENT:
+					if (isAddedOrRemoved) {
+						markStale(element);
+						return;
+					}
+					processChildrenDelta(delta);
+					return;
+				case IJavaElement.CLASS_FILE:
+					if (isAddedOrRemoved) {
+						invalidate();
+					}
+					return;
+				case IJavaElement.COMPILATION_UNIT:
+					if (!JavaModelUtil.isPrimary((ICompilationUnit) element)) {
+						return;
+					}
+					if (isAddedOrRemoved || (flags & IJavaElementDelta.F_PRIMARY_WORKING_COPY) != 0
+							|| ((flags & IJavaElementDelta.F_CONTENT) != 0 && (flags & IJavaElementDelta.F_FINE_GRAINED) == 0)) {
+						markStale(element);
+						return;
+					}
+					processChildrenDelta(delta);
+					return;
+				case IJavaElement.TYPE:
+					if (isAddedOrRemoved || (flags & IJavaElementDelta.F_MODIFIERS) != 0) {
+						markStale(element);
+						return;
+					}
+					processChildrenDelta(delta);
+					return;
+				default:
+					// fields, methods, imports etc.
+					return;
+			}
+		}
+
+		private void processChildrenDelta(IJavaElementDelta delta) {
+			for (IJavaElementDelta child : delta.getAffectedChildren()) {
+				processDelta(child);
+			}
+		}
+	}
+
+	/**
+	 * Delay in milliseconds before changed source folders are searched again, so that the
+	 * deltas of consecutive changes are handled together.
+	 */
+	private static final long STALE_ROOTS_DELAY= 200;
+
+	private static TypeNameIndex fgInstance;
+
+	private final IElementChangedListener fDeltaListener;
+	private final BuildJob fBuildJob;
+
+	// The types per package fragment root, guarded by 'this'
+	private Map<IPackageFragmentRoot, TypeNameMatch[]> fEntries;
+	private volatile Snapshot fSnapshot;
+	// Needs to be volatile since the delta listener does not synchronize
+	private volatile boolean fInvalid;
+	private final Set<IPackageFragmentRoot> fStaleRoots;
+
+	public static synchronized TypeNameIndex getInstance() {
+		if (fgInstance == null)
+			fgInstance= new TypeNameIndex();
+		return fgInstance;
+	}
+
+	public static synchronized void shutdown() {
+		if (fgInstance == null)
+			return;
+		fgInstance.doShutdown();
+		fgInstance= null;
+	}
+
+	private TypeNameIndex() {
+		fStaleRoots= ConcurrentHashMap.newKeySet();
+		fInvalid= true;
+		fBuildJob= new BuildJob();
+		fDeltaListener= new DeltaListener();
+		JavaCore.addElementChangedListener(fDeltaListener, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+	}
+
+	private void doShutdown() {
+		JavaCore.removeElementChangedListener(fDeltaListener);
+		fBuildJob.cancel();
+	}
+
+	private void invalidate() {
+		fInvalid= true;
+	}
+
+	private void markStale(IJavaElement element) {
+		IPackageFragmentRoot root= JavaModelUtil.getPackageFragmentRoot(element);
+		if (root == null) {
+			invalidate();
+		} else {
+			fStaleRoots.add(root);
+			if (fSnapshot != null)
+				fBuildJob.schedule(STALE_ROOTS_DELAY);
+		}
+	}
+
+	/**
+	 * Builds the index if necessary and waits until it is ready and all changed source folders
+	 * have been searched again.
+	 *
+	 * @param monitor the progress monitor
+	 * @throws InterruptedException if the thread got interrupted while waiting
+	 * @throws OperationCanceledException if the monitor got canceled
+	 */
+	public void waitUntilReady(IProgressMonitor monitor) throws InterruptedException {
+		while (fInvalid || fSnapshot == null || !fStaleRoots.isEmpty()) {
+			if (monitor.isCanceled())
+				throw new OperationCanceledException();
+			fBuildJob.schedule();
+			fBuildJob.join(0, monitor);
+		}
+	}
+
+	/**
+	 * Passes the types of the workspace scope whose simple names can match the given pattern
+	 * to the requestor. The requestor has to apply the actual filter, including the scope, the
+	 * kind of the type and the package.
+	 * <p>
+	 * If the index is not ready, nothing is reported and building the index is scheduled.
+	 * Changed source folders that have not been searched again yet report their previous types.
+	 * </p>
+	 *
+	 * @param namePattern the name pattern, see {@link org.eclipse.jdt.internal.ui.util.PatternMatcher#getPattern()}
+	 * @param matchKind the match kind, see {@link org.eclipse.jdt.internal.ui.util.PatternMatcher#getMatchKind()}
+	 * @param requestor the requestor
+	 * @param monitor the progress monitor
+	 * @return <code>true</code> if the index was used, <code>false</code> if the search engine has
+	 *         to be used instead
+	 * @throws OperationCanceledException if the monitor got canceled
+	 */
+	public boolean search(String namePattern, int matchKind, TypeNameMatchRequestor requestor, IProgressMonitor monitor) {
+		Snapshot snapshot= fSnapshot;
+		if (fInvalid || snapshot == null) {
+			fBuildJob.schedule();
+			return false;
+		}
+
+		String prefix= fold(getLiteralPrefix(namePattern, matchKind));
+		int start= snapshot.lowerBound(prefix);
+		for (int i= start; i < snapshot.fMatches.length && snapshot.startsWith(i, prefix); i++) {
+			if (((i - start) & 0x3ff) == 0 && monitor.isCanceled())
+				throw new OperationCanceledException();
+			requestor.acceptTypeNameMatch(snapshot.fMatches[i]);
+		}
+		return true;
+	}
+
+	/**
+	 * Returns a prefix that all names matching the pattern start with, ignoring case.
+	 *
+	 * @param namePattern the pattern
+	 * @param matchKind the match kind
+	 * @return the literal prefix, may be empty
+	 */
+	private static String getLiteralPrefix(String namePattern, int matchKind) {
+		if (namePattern.isEmpty())
+			return namePattern;
+		switch (matchKind) {
+			case SearchPattern.R_EXACT_MATCH:
+			case SearchPattern.R_PREFIX_MATCH:
+				return namePattern;
+			case SearchPattern.R_PATTERN_MATCH:
+				int end= 0;
+				while (end < namePattern.length() && namePattern.charAt(end) != '*' && namePattern.charAt(end) != '?')
+					end++;
+				return namePattern.substring(0, end);
+			default:
+				// camel case patterns and their prefix fall back share the first character only
+				return namePattern.substring(0, 1);
+		}
+	}
+
+	/**
+	 * Folds the case like {@link String#regionMatches(boolean, int, String, int, int)} does
+	 * when ignoring case.
+	 *
+	 * @param name the name
+	 * @return the case folded name
+	 */
+	private static String fold(String name) {
+		char[] chars= null;
+		for (int i= 0; i < name.length(); i++) {
+			char c= name.charAt(i);
+			char folded= Character.toLowerCase(Character.toUpperCase(c));
+			if (folded != c) {
+				if (chars == null)
+					chars= name.toCharArray();
+				chars[i]= folded;
+			}
+		}
+		return chars == null ? name : new String(chars);
+	}
+
+	private synchronized void build(IProgressMonitor monitor) throws JavaModelException {
+		if (!fInvalid && fSnapshot != null)
+			return;
+		// reset first, so that deltas arriving during the search invalidate the result
+		fInvalid= false;
+		fStaleRoots.clear();
+		Map<IPackageFragmentRoot, TypeNameMatch[]> entries= searchTypes(SearchEngine.createWorkspaceScope(), monitor);
+		fEntries= entries;
+		fSnapshot= new Snapshot(entries);
+	}
+
+	private synchronized void updateStaleRoots(IProgressMonitor monitor) throws JavaModelException {
+		if (fEntries == null || fStaleRoots.isEmpty())
+			return;
+		IPackageFragmentRoot[] roots= fStaleRoots.toArray(new IPackageFragmentRoot[0]);
+		// remove first, so that deltas arriving during the search mark the roots again
+		fStaleRoots.removeAll(Arrays.asList(roots));
+
+		Map<IPackageFragmentRoot, TypeNameMatch[]> updated;
+		try {
+			updated= searchTypes(SearchEngine.createJavaSearchScope(roots), monitor);
+		} catch (OperationCanceledException | JavaModelException e) {
+			fStaleRoots.addAll(Arrays.asList(roots));
+			throw e;
+		}
+		Map<IPackageFragmentRoot, TypeNameMatch[]> entries= new HashMap<>(fEntries);
+		for (IPackageFragmentRoot root : roots) {
+			entries.remove(root);
+		}
+		entries.putAll(updated);
+		fEntries= entries;
+		fSnapshot= new Snapshot(entries);
+	}
+
+	private static Map<IPackageFragmentRoot, TypeNameMatch[]> searchTypes(IJavaSearchScope scope, IProgressMonitor monitor) throws JavaModelException {
+		Map<IPackageFragmentRoot, List<TypeNameMatch>> result= new HashMap<>();
+		TypeNameMatchRequestor requestor= new TypeNameMatchRequestor() {
+			@Override
+			public void acceptTypeNameMatch(TypeNameMatch match) {
+				result.computeIfAbsent(match.getPackageFragmentRoot(), r -> new ArrayList<>()).add(match);
+			}
+		};
+		new SearchEngine((WorkingCopyOwner) null).searchAllTypeNames(null, 0, null, SearchPattern.R_PREFIX_MATCH,
+				IJavaSearchConstants.TYPE, scope, requestor, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, monitor);
+
+		Map<IPackageFragmentRoot, TypeNameMatch[]> entries= new HashMap<>();
+		for (Map.Entry<IPackageFragmentRoot, List<TypeNameMatch>> entry : result.entrySet()) {
+			List<TypeNameMatch> matches= entry.getValue();
+			entries.put(entry.getKey(), matches.toArray(new TypeNameMatch[matches.size()]));
+		}
+		return entries;
+	}
+}
@@ -83,6 +83,7 @@ public class CleanUpSaveParticipantPreferenceConfiguration extends AbstractSaveP
 	private IPreferencePageContainer fContainer;
 	private Button fAdditionalActionButton;
 	private Button fConfigureButton;
+	private Button fChangedRegionsOnlyButton;
 	private Button fFormatAllButton;
 
 	private Composite fCleanUpOptionsComposite;
@@ -213,6 +214,16 @@ public class CleanUpSaveParticipantPreferenceConfiguration extends AbstractSaveP
 
 		});
 
+		fChangedRegionsOnlyButton= new Button(composite, SWT.CHECK);
+		fChangedRegionsOnlyButton.setText(SaveParticipantMessages.CleanUpSaveParticipantPreferenceConfiguration_ChangedRegionsOnly_Checkbox);
+		fChangedRegionsOnlyButton.setLayoutData(new GridData(SWT.FILL, SWT.TOP, true, false, 2, 1));
+		fChangedRegionsOnlyButton.addSelectionListener(new SelectionAdapter() {
+			@Override
+			public void widgetSelected(SelectionEvent e) {
+				changeSettingsValue(CleanUpConstants.CLEANUP_ON_SAVE_CHANGED_REGIONS_ONLY, fChangedRegionsOnlyButton.getSelection());
+			}
+		});
+
 		return composite;
 	}
 
@@ -328,6 +339,8 @@ public class CleanUpSaveParticipantPreferenceConfiguration extends AbstractSaveP
 
 		fSelectedActionsText.setEnabled(additionalEnabled);
 		fConfigureButton.setEnabled(additionalEnabled);
+		fChangedRegionsOnlyButton.setSelection(CleanUpOptions.TRUE.equals(fSettings.get(CleanUpConstants.CLEANUP_ON_SAVE_CHANGED_REGIONS_ONLY)));
+		fChangedRegionsOnlyButton.setEnabled(additionalEnabled);
 
 		Map<String, String> settings= new HashMap<>(fSettings);
 		settings.put(CleanUpConstants.FORMAT_SOURCE_CODE, CleanUpOptions.FALSE);
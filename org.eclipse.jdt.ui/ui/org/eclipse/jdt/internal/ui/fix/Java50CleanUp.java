@@ -39,7 +39,7 @@ import org.eclipse.jdt.internal.ui.text.correction.ProblemLocation;
  * Create fixes which can transform pre Java50 code to Java50 code
  * @see org.eclipse.jdt.internal.corext.fix.Java50FixCore
  */
-public class Java50CleanUp extends AbstractMultiFix {
+public class Java50CleanUp extends AbstractMultiFix implements IChangedRegionsCleanUp {
 
 	public Java50CleanUp(Map<String, String> options) {
 		super(options);
@@ -64,6 +64,11 @@ public class Java50CleanUp extends AbstractMultiFix {
 		       isEnabled(CleanUpConstants.VARIABLE_DECLARATION_USE_TYPE_ARGUMENTS_FOR_RAW_TYPE_REFERENCES);
 	}
 
+	@Override
+	public boolean isRestrictedToChangedRegions() {
+		return requireAST() && isEnabled(CleanUpConstants.CLEANUP_ON_SAVE_CHANGED_REGIONS_ONLY);
+	}
+
 	@Override
 	protected ICleanUpFix createFix(CompilationUnit compilationUnit) throws CoreException {
 		boolean addAnotations= isEnabled(CleanUpConstants.ADD_MISSING_ANNOTATIONS);
@@ -102,6 +102,7 @@ import org.eclipse.jdt.ui.wizards.BuildPathDialogAccess;
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.JavaUIStatus;
 import org.eclipse.jdt.internal.ui.actions.CompositeActionGroup;
+import org.eclipse.jdt.internal.ui.text.javadoc.JavadocPrefetchJob;
 import org.eclipse.jdt.internal.ui.util.ExceptionHandler;
 import org.eclipse.jdt.internal.ui.wizards.buildpaths.SourceAttachmentBlock;
 
@@ -708,6 +709,8 @@ public class ClassFileEditor extends JavaEditor implements ClassFileDocumentProv
 		if (fSemanticManager != null) {
 			installSemanticHighlighting();
 		}
+
+		JavadocPrefetchJob.prefetch(((IClassFileEditorInput) input).getClassFile().findPrimaryType());
 	}
 
 	/*
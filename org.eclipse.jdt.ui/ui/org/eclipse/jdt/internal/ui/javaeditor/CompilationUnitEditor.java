@@ -148,6 +148,7 @@ import org.eclipse.jdt.internal.ui.text.java.ContentAssistProcessor;
 import org.eclipse.jdt.internal.ui.text.java.IJavaReconcilingListener;
 import org.eclipse.jdt.internal.ui.text.java.JavaFormattingContext;
 import org.eclipse.jdt.internal.ui.text.java.OverrideCompletionProposal;
+import org.eclipse.jdt.internal.ui.text.javadoc.JavadocPrefetchJob;
 
 
 /**
@@ -1416,6 +1417,20 @@ public class CompilationUnitEditor extends JavaEditor implements IJavaReconcilin
 		configureToggleCommentAction();
 		if (fJavaEditorErrorTickUpdater != null)
 			fJavaEditorErrorTickUpdater.updateEditorImage(getInputJavaElement());
+		prefetchJavadoc();
+	}
+
+	/**
+	 * Prefetches the Javadoc of the library types referenced near the visible range and the caret.
+	 */
+	private void prefetchJavadoc() {
+		ISourceViewer viewer= getSourceViewer();
+		if (viewer == null || !(getInputJavaElement() instanceof ICompilationUnit cu))
+			return;
+		int caret= viewer.getSelectedRange().x;
+		int start= Math.min(viewer.getTopIndexStartOffset(), caret);
+		int end= Math.max(viewer.getBottomIndexEndOffset(), caret);
+		JavadocPrefetchJob.prefetchReferencedTypes(cu, start, end - start);
 	}
 
 	/*
@@ -1540,6 +1555,8 @@ public class CompilationUnitEditor extends JavaEditor implements IJavaReconcilin
 
 		if (isMarkingOccurrences())
 			installOccurrencesFinder(false);
+
+		prefetchJavadoc();
 	}
 
 	private static char getEscapeCharacter(char character) {
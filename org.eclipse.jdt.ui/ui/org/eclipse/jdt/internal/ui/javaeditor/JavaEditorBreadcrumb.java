@@ -95,6 +95,7 @@ import org.eclipse.jdt.internal.ui.util.JavaUIHelp;
 import org.eclipse.jdt.internal.ui.viewsupport.AppearanceAwareLabelProvider;
 import org.eclipse.jdt.internal.ui.viewsupport.DecoratingJavaLabelProvider;
 import org.eclipse.jdt.internal.ui.viewsupport.JavaElementImageProvider;
+import org.eclipse.jdt.internal.ui.viewsupport.ProblemElementsChangedEvent;
 import org.eclipse.jdt.internal.ui.viewsupport.ResourceToItemsMapper;
 
 
@@ -173,7 +174,7 @@ public class JavaEditorBreadcrumb extends EditorBreadcrumb {
 				ArrayList<Object> others= new ArrayList<>(changed.length);
 				for (Object curr : changed) {
 					if (curr instanceof IResource) {
-						fResourceToItemsMapper.resourceChanged((IResource) curr);
+						fResourceToItemsMapper.resourceChanged((IResource) curr, ProblemElementsChangedEvent.getChangedElements(event, (IResource) curr));
 					} else {
 						others.add(curr);
 					}
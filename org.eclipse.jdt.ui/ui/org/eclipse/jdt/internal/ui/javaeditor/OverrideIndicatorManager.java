@@ -14,10 +14,14 @@
 
 package org.eclipse.jdt.internal.ui.javaeditor;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
@@ -126,6 +130,33 @@ class OverrideIndicatorManager implements IJavaReconcilingListener {
 		}
 	}
 
+	/**
+	 * The result of the override search for a method.
+	 *
+	 * @param qualifiedMethodName the qualified name of the overridden method or <code>null</code>
+	 *            if the method does not override
+	 * @param isImplements <code>true</code> if the overridden method is abstract
+	 */
+	private record OverrideInfo(String qualifiedMethodName, boolean isImplements) {
+	}
+
+	private static final OverrideInfo NO_OVERRIDE= new OverrideInfo(null, false);
+
+	/**
+	 * The override search results for the methods of a type. The results stay valid as long as
+	 * the supertypes of the type, including the methods of those supertypes that are declared in
+	 * the same compilation unit, are unchanged.
+	 */
+	private static final class TypeOverrides {
+
+		private final String fHierarchyKey;
+		private final Map<String, OverrideInfo> fMethods= new HashMap<>();
+
+		TypeOverrides(String hierarchyKey) {
+			fHierarchyKey= hierarchyKey;
+		}
+	}
+
 	static final String ANNOTATION_TYPE= "org.eclipse.jdt.ui.overrideIndicator"; //$NON-NLS-1$
 
 	private IAnnotationModel fAnnotationModel;
@@ -133,6 +164,12 @@ class OverrideIndicatorManager implements IJavaReconcilingListener {
 	private Annotation[] fOverrideAnnotations;
 	private ITypeRoot fJavaElement;
 
+	/**
+	 * Override search results by declaring type key, shared across reconciles.
+	 * Access is guarded by the map itself.
+	 */
+	private final Map<String, TypeOverrides> fOverrideCache= new HashMap<>();
+
 
 	public OverrideIndicatorManager(IAnnotationModel annotationModel, ITypeRoot javaElement, CompilationUnit ast) {
 		Assert.isNotNull(annotationModel);
@@ -175,6 +212,7 @@ class OverrideIndicatorManager implements IJavaReconcilingListener {
 			return;
 
 		final Map<Annotation, Position> annotationMap= new HashMap<>(50);
+		final Map<ITypeBinding, TypeOverrides> typeOverrides= new HashMap<>();
 
 		ast.accept(new ASTVisitor(false) {
 			/*
@@ -184,13 +222,10 @@ class OverrideIndicatorManager implements IJavaReconcilingListener {
 			public boolean visit(MethodDeclaration node) {
 				IMethodBinding binding= node.resolveBinding();
 				if (binding != null) {
-					IMethodBinding definingMethod= Bindings.findOverriddenMethod(binding, true);
-					if (definingMethod != null) {
-
-						ITypeBinding definingType= definingMethod.getDeclaringClass();
-						String qualifiedMethodName= definingType.getQualifiedName() + "." + binding.getName(); //$NON-NLS-1$
-
-						boolean isImplements= JdtFlags.isAbstract(definingMethod);
+					OverrideInfo info= getOverrideInfo(binding, ast, typeOverrides);
+					if (info != NO_OVERRIDE) {
+						String qualifiedMethodName= info.qualifiedMethodName();
+						boolean isImplements= info.isImplements();
 						String text;
 						if (isImplements)
 							text= Messages.format(JavaEditorMessages.OverrideIndicatorManager_implements, BasicElementLabels.getJavaElementName(qualifiedMethodName));
@@ -210,12 +245,26 @@ class OverrideIndicatorManager implements IJavaReconcilingListener {
 			}
 		});
 
+		synchronized (fOverrideCache) {
+			// forget the types which are no longer declared in the compilation unit
+			Set<String> typeKeys= new HashSet<>();
+			for (ITypeBinding type : typeOverrides.keySet()) {
+				typeKeys.add(type.getKey());
+			}
+			fOverrideCache.keySet().retainAll(typeKeys);
+		}
+
 		if (progressMonitor.isCanceled())
 			return;
 
 		synchronized (fAnnotationModelLockObject) {
 			if (fAnnotationModel instanceof IAnnotationModelExtension) {
-				((IAnnotationModelExtension)fAnnotationModel).replaceAnnotations(fOverrideAnnotations, annotationMap);
+				List<Annotation> kept= new ArrayList<>();
+				List<Annotation> removed= new ArrayList<>();
+				retainUnchangedAnnotations(annotationMap, kept, removed);
+				((IAnnotationModelExtension)fAnnotationModel).replaceAnnotations(removed.toArray(new Annotation[removed.size()]), annotationMap);
+				kept.addAll(annotationMap.keySet());
+				fOverrideAnnotations= kept.toArray(new Annotation[kept.size()]);
 			} else {
 				removeAnnotations();
 				Iterator<Entry<Annotation, Position>> iter= annotationMap.entrySet().iterator();
@@ -223,11 +272,131 @@ class OverrideIndicatorManager implements IJavaReconcilingListener {
 					Entry<Annotation, Position> mapEntry= iter.next();
 					fAnnotationModel.addAnnotation(mapEntry.getKey(), mapEntry.getValue());
 				}
+				fOverrideAnnotations= annotationMap.keySet().toArray(new Annotation[annotationMap.size()]);
 			}
-			fOverrideAnnotations= annotationMap.keySet().toArray(new Annotation[annotationMap.size()]);
 		}
 	}
 
+	/**
+	 * Moves the current annotations which are equal to a new one, including their position, to
+	 * <code>kept</code> and removes the new one from <code>annotationMap</code>. All other current
+	 * annotations are added to <code>removed</code>.
+	 *
+	 * @param annotationMap the new annotations
+	 * @param kept the current annotations to keep
+	 * @param removed the current annotations to remove
+	 */
+	private void retainUnchangedAnnotations(Map<Annotation, Position> annotationMap, List<Annotation> kept, List<Annotation> removed) {
+		if (fOverrideAnnotations == null)
+			return;
+
+		Map<String, OverrideIndicator> newIndicators= new HashMap<>();
+		for (Annotation annotation : annotationMap.keySet()) {
+			OverrideIndicator indicator= (OverrideIndicator) annotation;
+			newIndicators.put(indicator.fAstNodeKey, indicator);
+		}
+		for (Annotation annotation : fOverrideAnnotations) {
+			OverrideIndicator current= (OverrideIndicator) annotation;
+			OverrideIndicator indicator= newIndicators.get(current.fAstNodeKey);
+			if (indicator != null
+					&& indicator.isOverwriteIndicator() == current.isOverwriteIndicator()
+					&& indicator.getText().equals(current.getText())
+					&& annotationMap.get(indicator).equals(fAnnotationModel.getPosition(current))) {
+				newIndicators.remove(current.fAstNodeKey);
+				annotationMap.remove(indicator);
+				kept.add(current);
+			} else {
+				removed.add(current);
+			}
+		}
+	}
+
+	/**
+	 * Returns the override information for the given method, either from the cache or by searching
+	 * the supertypes of its declaring type.
+	 *
+	 * @param binding the method binding
+	 * @param ast the compilation unit AST declaring the method
+	 * @param typeOverrides the cache entries already validated in this update
+	 * @return the override information, {@link #NO_OVERRIDE} if the method does not override
+	 */
+	private OverrideInfo getOverrideInfo(IMethodBinding binding, CompilationUnit ast, Map<ITypeBinding, TypeOverrides> typeOverrides) {
+		ITypeBinding declaringType= binding.getDeclaringClass();
+		TypeOverrides overrides= typeOverrides.get(declaringType);
+		if (overrides == null) {
+			String hierarchyKey= getHierarchyKey(declaringType, ast);
+			synchronized (fOverrideCache) {
+				overrides= fOverrideCache.get(declaringType.getKey());
+				if (overrides == null || !overrides.fHierarchyKey.equals(hierarchyKey)) {
+					overrides= new TypeOverrides(hierarchyKey);
+					fOverrideCache.put(declaringType.getKey(), overrides);
+				}
+			}
+			typeOverrides.put(declaringType, overrides);
+		}
+
+		// the modifiers decide whether the method can override at all
+		String methodKey= binding.getKey() + '#' + binding.getModifiers();
+		synchronized (fOverrideCache) {
+			OverrideInfo info= overrides.fMethods.get(methodKey);
+			if (info != null)
+				return info;
+		}
+
+		OverrideInfo info= NO_OVERRIDE;
+		IMethodBinding definingMethod= Bindings.findOverriddenMethod(binding, true);
+		if (definingMethod != null) {
+			ITypeBinding definingType= definingMethod.getDeclaringClass();
+			String qualifiedMethodName= definingType.getQualifiedName() + "." + binding.getName(); //$NON-NLS-1$
+			info= new OverrideInfo(qualifiedMethodName, JdtFlags.isAbstract(definingMethod));
+		}
+		synchronized (fOverrideCache) {
+			overrides.fMethods.put(methodKey, info);
+		}
+		return info;
+	}
+
+	/**
+	 * Computes a key describing the supertype structure of the given type. For supertypes declared
+	 * in the given AST the key also covers their methods, since those can change with any reconcile.
+	 * Changes to other compilation units are handled by clearing the cache on forced reconciles.
+	 *
+	 * @param type the type
+	 * @param ast the compilation unit AST
+	 * @return the hierarchy key
+	 */
+	private static String getHierarchyKey(ITypeBinding type, CompilationUnit ast) {
+		StringBuilder buf= new StringBuilder();
+		appendSupertypes(type, ast, buf, new HashSet<>());
+		return buf.toString();
+	}
+
+	private static void appendSupertypes(ITypeBinding type, CompilationUnit ast, StringBuilder buf, Set<String> visited) {
+		ITypeBinding superclass= type.getSuperclass();
+		if (superclass != null)
+			appendType(superclass, ast, buf, visited);
+		for (ITypeBinding intf : type.getInterfaces()) {
+			appendType(intf, ast, buf, visited);
+		}
+	}
+
+	private static void appendType(ITypeBinding type, CompilationUnit ast, StringBuilder buf, Set<String> visited) {
+		String key= type.getKey();
+		buf.append(key).append(';');
+		if (!visited.add(key))
+			return;
+
+		ITypeBinding declaration= type.getTypeDeclaration();
+		if (ast.findDeclaringNode(declaration) != null) {
+			buf.append('{');
+			for (IMethodBinding method : declaration.getDeclaredMethods()) {
+				buf.append(method.getKey()).append('#').append(method.getModifiers()).append(',');
+			}
+			buf.append('}');
+		}
+		appendSupertypes(type, ast, buf, visited);
+	}
+
 	/**
 	 * Removes all override indicators from this manager's annotation model.
 	 */
@@ -258,6 +427,12 @@ class OverrideIndicatorManager implements IJavaReconcilingListener {
 	 */
 	@Override
 	public void reconciled(CompilationUnit ast, boolean forced, IProgressMonitor progressMonitor) {
+		if (forced) {
+			// other compilation units or the class path might have changed
+			synchronized (fOverrideCache) {
+				fOverrideCache.clear();
+			}
+		}
 		updateAnnotations(ast, progressMonitor);
 	}
 }
@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.javadoc;
+
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IImportDeclaration;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.ISourceRange;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.SourceRange;
+import org.eclipse.jdt.core.manipulation.internal.javadoc.JavadocHTMLCache;
+
+import org.eclipse.jdt.internal.corext.javadoc.JavaDocLocations;
+
+
+/**
+ * Renders the Javadoc of the members of library types in the background, so that hovers, the
+ * Javadoc view and content assist find it in the {@link JavadocHTMLCache}. The types are those
+ * open in class file editors and the imported types referenced near the caret or the visible
+ * range of compilation units open in editors. Types whose Javadoc is attached from a remote
+ * location are skipped, and at most {@link #MAX_MEMBERS} members are rendered per request.
+ */
+public final class JavadocPrefetchJob extends Job {
+
+	/** Maximum number of members whose Javadoc is rendered for one type or compilation unit */
+	private static final int MAX_MEMBERS= 100;
+
+	/** Number of characters around the visible range in which references are looked for */
+	private static final int NEAR_RANGE= 2000;
+
+	private static final JavadocPrefetchJob fgJob= new JavadocPrefetchJob();
+
+	/**
+	 * A range of a compilation unit in which the referenced imported types are prefetched.
+	 *
+	 * @param cu the compilation unit
+	 * @param offset the offset of the range
+	 * @param length the length of the range
+	 */
+	private record ReferencedTypes(ICompilationUnit cu, int offset, int length) {
+	}
+
+	/**
+	 * Prefetches the Javadoc of the members of a type that is shown in an editor.
+	 *
+	 * @param type the type; ignored unless it is a binary type in an archive
+	 */
+	public static void prefetch(IType type) {
+		if (type == null || !type.isBinary())
+			return;
+		enqueue(type);
+	}
+
+	/**
+	 * Prefetches the Javadoc of the members of the library types that are imported by a
+	 * compilation unit shown in an editor and referenced near the given range.
+	 *
+	 * @param cu the compilation unit
+	 * @param offset the offset of the visible range or of the caret
+	 * @param length the length of the range
+	 */
+	public static void prefetchReferencedTypes(ICompilationUnit cu, int offset, int length) {
+		if (cu != null)
+			enqueue(new ReferencedTypes(cu, offset, length));
+	}
+
+	private static void enqueue(Object request) {
+		synchronized (fgJob.fRequests) {
+			if (fgJob.fRequests.contains(request))
+				return;
+			fgJob.fRequests.addLast(request);
+		}
+		fgJob.schedule();
+	}
+
+	/** The types and compilation unit ranges to prefetch, guarded by itself */
+	private final Deque<Object> fRequests= new ArrayDeque<>();
+
+	private JavadocPrefetchJob() {
+		super(JavaDocMessages.JavadocPrefetchJob_name);
+		setSystem(true);
+		setPriority(DECORATE);
+	}
+
+	@Override
+	protected IStatus run(IProgressMonitor monitor) {
+		JavadocHTMLCache cache= JavadocHTMLCache.getDefault();
+		while (!monitor.isCanceled()) {
+			Object request;
+			synchronized (fRequests) {
+				request= fRequests.pollFirst();
+			}
+			if (request == null)
+				return Status.OK_STATUS;
+			try {
+				int[] budget= { MAX_MEMBERS };
+				if (request instanceof ReferencedTypes referencedTypes)
+					prefetchReferencedTypes(referencedTypes, cache, budget, monitor);
+				else
+					prefetchMembers((IType) request, cache, budget, monitor);
+			} catch (CoreException e) {
+				// the type is gone or its library cannot be read: hovers will report the problem
+			}
+		}
+		return Status.CANCEL_STATUS;
+	}
+
+	private static void prefetchReferencedTypes(ReferencedTypes request, JavadocHTMLCache cache, int[] budget, IProgressMonitor monitor) throws CoreException {
+		ICompilationUnit cu= request.cu();
+		String source= cu.getSource();
+		if (source == null)
+			return;
+		int start= Math.max(0, request.offset() - NEAR_RANGE);
+		int end= Math.min(source.length(), request.offset() + request.length() + NEAR_RANGE);
+		ISourceRange imports= cu.getImportContainer().exists() ? cu.getImportContainer().getSourceRange() : null;
+		if (SourceRange.isAvailable(imports))
+			start= Math.max(start, imports.getOffset() + imports.getLength()); // the imports mention every imported type
+		if (start >= end)
+			return;
+		String text= source.substring(start, end);
+
+		IJavaProject project= cu.getJavaProject();
+		for (IImportDeclaration importDeclaration : cu.getImports()) {
+			if (monitor.isCanceled() || budget[0] <= 0)
+				return;
+			if (importDeclaration.isOnDemand() || Flags.isStatic(importDeclaration.getFlags()))
+				continue;
+			String name= importDeclaration.getElementName();
+			if (!containsIdentifier(text, name.substring(name.lastIndexOf('.') + 1)))
+				continue;
+			IType type= project.findType(name);
+			if (type != null && type.isBinary())
+				prefetchMembers(type, cache, budget, monitor);
+		}
+	}
+
+	private static boolean containsIdentifier(String text, String identifier) {
+		int index= text.indexOf(identifier);
+		while (index != -1) {
+			int end= index + identifier.length();
+			if ((index == 0 || !Character.isJavaIdentifierPart(text.charAt(index - 1)))
+					&& (end == text.length() || !Character.isJavaIdentifierPart(text.charAt(end))))
+				return true;
+			index= text.indexOf(identifier, end);
+		}
+		return false;
+	}
+
+	private static void prefetchMembers(IType type, JavadocHTMLCache cache, int[] budget, IProgressMonitor monitor) throws CoreException {
+		if (hasRemoteJavadoc(type))
+			return;
+		prefetchMember(type, cache, budget);
+		for (IJavaElement child : type.getChildren()) {
+			if (monitor.isCanceled() || budget[0] <= 0)
+				return;
+			if (child instanceof IMember member)
+				prefetchMember(member, cache, budget);
+		}
+	}
+
+	/*
+	 * Javadoc is read from the source attachment if there is one, and otherwise from the
+	 * attached Javadoc location, which may require network access.
+	 */
+	private static boolean hasRemoteJavadoc(IType type) throws CoreException {
+		IPackageFragmentRoot root= (IPackageFragmentRoot) type.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+		if (root == null || root.getSourceAttachmentPath() != null)
+			return false;
+		URL location= JavaDocLocations.getJavadocBaseLocation(type);
+		if (location == null)
+			return false;
+		String protocol= location.getProtocol();
+		if ("jar".equals(protocol)) //$NON-NLS-1$
+			return !location.getPath().startsWith("file:"); //$NON-NLS-1$
+		return !"file".equals(protocol) && !"platform".equals(protocol) //$NON-NLS-1$ //$NON-NLS-2$
+				&& !"bundleentry".equals(protocol) && !"bundleresource".equals(protocol); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private static void prefetchMember(IMember member, JavadocHTMLCache cache, int[] budget) throws CoreException {
+		JavadocHTMLCache.Key key= cache.createKey(member, true);
+		if (key == null || cache.isInMemory(key))
+			return;
+		budget[0]--;
+		JavadocContentAccess2.getHTMLContent(member, true);
+	}
+}
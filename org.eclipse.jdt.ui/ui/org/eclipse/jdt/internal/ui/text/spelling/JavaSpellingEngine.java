@@ -13,6 +13,10 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.text.spelling;
 
+import java.text.BreakIterator;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.core.runtime.AssertionFailedException;
 import org.eclipse.core.runtime.IProgressMonitor;
 
@@ -28,6 +32,8 @@ import org.eclipse.jdt.ui.PreferenceConstants;
 import org.eclipse.jdt.ui.text.IJavaPartitions;
 
 import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellChecker;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellEvent;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellEventListener;
 
 
 /**
@@ -45,6 +51,10 @@ public class JavaSpellingEngine extends SpellingEngine {
 	protected void check(IDocument document, IRegion[] regions, ISpellChecker checker, ISpellingProblemCollector collector, IProgressMonitor monitor) {
 		SpellEventListener listener= new SpellEventListener(collector, document);
 		boolean isIgnoringJavaStrings= PreferenceConstants.getPreferenceStore().getBoolean(PreferenceConstants.SPELLING_IGNORE_JAVA_STRINGS);
+		SpellingPartitionCache cache= collector instanceof SpellingPartitionCache.IProvider provider ? provider.getPartitionCache() : null;
+		boolean complete= false;
+		if (cache != null)
+			cache.beginPass(checker, TextUtilities.getDefaultLineDelimiter(document));
 		try {
 			for (IRegion region : regions) {
 				for (ITypedRegion partition : TextUtilities.computePartitioning(document, IJavaPartitions.JAVA_PARTITIONING, region.getOffset(), region.getLength(), false)) {
@@ -55,12 +65,55 @@ public class JavaSpellingEngine extends SpellingEngine {
 					final String type= partition.getType();
 					if (isIgnoringJavaStrings && (IJavaPartitions.JAVA_STRING.equals(type) || IJavaPartitions.JAVA_MULTI_LINE_STRING.equals(type)))
 						continue;
-					if (!IDocument.DEFAULT_CONTENT_TYPE.equals(type) && !IJavaPartitions.JAVA_CHARACTER.equals(type))
-						checker.execute(listener, new SpellCheckIterator(document, partition, checker.getLocale(), monitor));
+					if (!IDocument.DEFAULT_CONTENT_TYPE.equals(type) && !IJavaPartitions.JAVA_CHARACTER.equals(type)) {
+						if (cache == null)
+							checker.execute(listener, new SpellCheckIterator(document, partition, checker.getLocale(), monitor));
+						else
+							check(document, partition, checker, listener, cache, monitor);
+					}
 				}
 			}
+			complete= true;
 		} catch (BadLocationException | AssertionFailedException x) {
 			// ignore: the document has been changed in another thread and will be checked again
+		} finally {
+			if (cache != null)
+				cache.endPass(complete);
+		}
+	}
+
+	/**
+	 * Spell checks a partition unless its content has been checked in a previous pass, in which
+	 * case the spell events of the previous pass are reported again.
+	 *
+	 * @param document the document
+	 * @param partition the partition
+	 * @param checker the spell checker
+	 * @param listener the listener that reports the spell events
+	 * @param cache the spell events of the previous pass
+	 * @param monitor the progress monitor, can be <code>null</code>
+	 * @throws BadLocationException if the partition is not in the document
+	 */
+	private void check(IDocument document, ITypedRegion partition, ISpellChecker checker, SpellEventListener listener, SpellingPartitionCache cache, IProgressMonitor monitor) throws BadLocationException {
+		SpellingPartitionCache.Key key= SpellingPartitionCache.createKey(document, partition);
+		ISpellEvent[] cached= cache.get(key, partition.getOffset());
+		if (cached != null) {
+			for (ISpellEvent event : cached) {
+				listener.handle(event);
+			}
+			return;
 		}
+
+		List<ISpellEvent> events= new ArrayList<>();
+		ISpellEventListener recorder= event -> {
+			events.add(event);
+			listener.handle(event);
+		};
+		String content= document.get(partition.getOffset(), partition.getLength());
+		checker.execute(recorder, new SpellCheckIterator(document, partition, content, checker.getLocale(), BreakIterator.getWordInstance(checker.getLocale()), monitor));
+
+		// a partition that has been cut short by the problem threshold or a cancellation is checked again in the next pass
+		if ((monitor == null || !monitor.isCanceled()) && !listener.isProblemsThresholdReached())
+			cache.put(key, partition.getOffset(), events);
 	}
 }
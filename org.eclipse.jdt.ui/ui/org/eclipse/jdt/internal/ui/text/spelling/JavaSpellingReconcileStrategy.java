@@ -50,7 +50,12 @@ public class JavaSpellingReconcileStrategy extends SpellingReconcileStrategy {
 	 * Spelling problem collector that forwards {@link SpellingProblem}s as
 	 * {@link IProblem}s to the {@link IProblemRequestor}.
 	 */
-	private class SpellingProblemCollector implements ISpellingProblemCollector {
+	private class SpellingProblemCollector implements ISpellingProblemCollector, SpellingPartitionCache.IProvider {
+
+		@Override
+		public SpellingPartitionCache getPartitionCache() {
+			return fPartitionCache;
+		}
 
 		/*
 		 * @see org.eclipse.ui.texteditor.spelling.ISpellingProblemCollector#accept(org.eclipse.ui.texteditor.spelling.SpellingProblem)
@@ -112,6 +117,9 @@ public class JavaSpellingReconcileStrategy extends SpellingReconcileStrategy {
 	/** The problem requester. */
 	private IProblemRequestor fRequestor;
 
+	/** The spell events of the partitions checked by the previous reconcile. */
+	private SpellingPartitionCache fPartitionCache= new SpellingPartitionCache();
+
 
 	/**
 	 * Creates a new comment reconcile strategy.
@@ -160,6 +168,7 @@ public class JavaSpellingReconcileStrategy extends SpellingReconcileStrategy {
 	 */
 	@Override
 	public void setDocument(IDocument document) {
+		fPartitionCache= new SpellingPartitionCache();
 		super.setDocument(document);
 		updateProblemRequester();
 	}
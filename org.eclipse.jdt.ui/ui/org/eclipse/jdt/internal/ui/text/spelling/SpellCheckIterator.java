@@ -14,7 +14,7 @@
 package org.eclipse.jdt.internal.ui.text.spelling;
 
 import java.text.BreakIterator;
-import java.util.LinkedList;
+import java.util.Arrays;
 import java.util.Locale;
 
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -67,7 +67,13 @@ public class SpellCheckIterator implements ISpellCheckIterator {
 	protected int fPrevious= 0;
 
 	/** The sentence breaks */
-	private final LinkedList<Integer> fSentenceBreaks= new LinkedList<>();
+	private int[] fSentenceBreaks;
+
+	/** The index of the next sentence break in {@link #fSentenceBreaks} */
+	private int fSentenceBreakIndex;
+
+	/** The number of sentence breaks */
+	private int fSentenceBreakCount;
 
 	/** Does the current word start a sentence? */
 	private boolean fStartsSentence= false;
@@ -107,21 +113,27 @@ public class SpellCheckIterator implements ISpellCheckIterator {
 	 * @param monitor for cancellation checks
 	 */
 	public SpellCheckIterator(IDocument document, IRegion region, Locale locale, BreakIterator breakIterator, IProgressMonitor monitor) {
+		this(document, region, getContent(document, region), locale, breakIterator, monitor);
+	}
+
+	/**
+	 * Creates a new spell check iterator for a region whose content has already been read.
+	 *
+	 * @param document the document containing the specified partition
+	 * @param region the region to spell check
+	 * @param content the content of the region
+	 * @param locale the locale to use for spell checking
+	 * @param breakIterator the break-iterator
+	 * @param monitor for cancellation checks
+	 */
+	public SpellCheckIterator(IDocument document, IRegion region, String content, Locale locale, BreakIterator breakIterator, IProgressMonitor monitor) {
 		fOffset= region.getOffset();
 		fWordIterator= breakIterator;
 		fDelimiter= TextUtilities.getDefaultLineDelimiter(document);
 		fMonitor = monitor == null ? new NullProgressMonitor() : monitor;
 
-		String content;
-		try {
-
-			content= document.get(region.getOffset(), region.getLength());
-			if (content.startsWith(NLSElement.TAG_PREFIX))
-				content= ""; //$NON-NLS-1$
-
-		} catch (Exception exception) {
+		if (content.startsWith(NLSElement.TAG_PREFIX))
 			content= ""; //$NON-NLS-1$
-		}
 		fContent= content;
 
 		fWordIterator.setText(content);
@@ -131,14 +143,25 @@ public class SpellCheckIterator implements ISpellCheckIterator {
 		final BreakIterator iterator= BreakIterator.getSentenceInstance(locale);
 		iterator.setText(content);
 
+		fSentenceBreaks= new int[16];
 		int offset= iterator.current();
 		while (offset != BreakIterator.DONE) {
 
-			fSentenceBreaks.add(offset);
+			if (fSentenceBreakCount == fSentenceBreaks.length)
+				fSentenceBreaks= Arrays.copyOf(fSentenceBreaks, 2 * fSentenceBreakCount);
+			fSentenceBreaks[fSentenceBreakCount++]= offset;
 			offset= iterator.next();
 		}
 	}
 
+	private static String getContent(IDocument document, IRegion region) {
+		try {
+			return document.get(region.getOffset(), region.getLength());
+		} catch (Exception exception) {
+			return ""; //$NON-NLS-1$
+		}
+	}
+
 	/*
 	 * @see org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellCheckIterator#setIgnoreSingleLetters(boolean)
 	 * @since 3.3
@@ -229,6 +252,24 @@ public class SpellCheckIterator implements ISpellCheckIterator {
 		return false;
 	}
 
+	/**
+	 * Checks the content between the given indices against the given tags without copying it.
+	 *
+	 * @param begin the begin index
+	 * @param end the end index
+	 * @param tags the tags to check
+	 * @return <code>true</code> iff the content between the indices is in the given array
+	 */
+	private boolean isToken(final int begin, final int end, final String[] tags) {
+		final int length= end - begin;
+		for (String tag : tags) {
+			if (tag.length() == length && fContent.startsWith(tag, begin)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Is the current token a single letter token surrounded by
 	 * non-whitespace characters?
@@ -317,7 +358,7 @@ public class SpellCheckIterator implements ISpellCheckIterator {
 	 * @return the next sentence break
 	 */
 	protected final int nextSentence() {
-		return fSentenceBreaks.getFirst();
+		return fSentenceBreaks[fSentenceBreakIndex];
 	}
 
 	/**
@@ -367,7 +408,7 @@ public class SpellCheckIterator implements ISpellCheckIterator {
 				nextBreak();
 				if (fSuccessor != BreakIterator.DONE && fContent.charAt(fNext) == IHtmlTagConstants.HTML_ENTITY_END) {
 					nextBreak();
-					if (isToken(fContent.substring(fPrevious, fNext), IHtmlTagConstants.HTML_ENTITY_CODES)) {
+					if (isToken(fPrevious, fNext, IHtmlTagConstants.HTML_ENTITY_CODES)) {
 						skipTokens(fPrevious, IHtmlTagConstants.HTML_ENTITY_END);
 						update= true;
 					} else
@@ -396,12 +437,12 @@ public class SpellCheckIterator implements ISpellCheckIterator {
 			}
 		}
 
-		if (update && fSentenceBreaks.size() > 0) {
+		if (update && fSentenceBreakIndex < fSentenceBreakCount) {
 
 			if (fPrevious >= nextSentence()) {
 
-				while (fSentenceBreaks.size() > 0 && fPrevious >= nextSentence())
-					fSentenceBreaks.removeFirst();
+				while (fSentenceBreakIndex < fSentenceBreakCount && fPrevious >= nextSentence())
+					fSentenceBreakIndex++;
 
 				fStartsSentence= (fLastToken == null) || (token != null);
 			}
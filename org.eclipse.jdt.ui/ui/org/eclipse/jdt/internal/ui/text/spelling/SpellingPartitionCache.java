@@ -0,0 +1,225 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.spelling;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.ITypedRegion;
+
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellChecker;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellEvent;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.RankedWordProposal;
+
+/**
+ * Remembers the spell events of the partitions of a document, so that a spelling reconcile
+ * only checks the partitions that changed since the previous pass.
+ * <p>
+ * Partitions are identified by their type and content, not by their offset: a partition that
+ * only moved is not checked again, its events are moved with it.
+ * </p>
+ */
+public final class SpellingPartitionCache {
+
+	/**
+	 * Collector that provides the partition cache of its document to the spelling engine.
+	 */
+	public interface IProvider {
+
+		/**
+		 * Returns the partition cache.
+		 *
+		 * @return the partition cache, or <code>null</code> if partitions are not cached
+		 */
+		SpellingPartitionCache getPartitionCache();
+	}
+
+	/**
+	 * Identifies a partition by its type and content.
+	 */
+	record Key(String type, int length, long hash) {
+	}
+
+	private static final class Entry {
+		final int fOffset;
+		final ISpellEvent[] fEvents;
+
+		Entry(int offset, ISpellEvent[] events) {
+			fOffset= offset;
+			fEvents= events;
+		}
+	}
+
+	/**
+	 * Spell event moved by a fixed delta.
+	 */
+	private static final class MovedSpellEvent implements ISpellEvent {
+		private final ISpellEvent fEvent;
+		private final int fDelta;
+
+		MovedSpellEvent(ISpellEvent event, int delta) {
+			fEvent= event;
+			fDelta= delta;
+		}
+
+		@Override
+		public int getBegin() {
+			return fEvent.getBegin() + fDelta;
+		}
+
+		@Override
+		public int getEnd() {
+			return fEvent.getEnd() + fDelta;
+		}
+
+		@Override
+		public Set<RankedWordProposal> getProposals() {
+			return fEvent.getProposals();
+		}
+
+		@Override
+		public String getWord() {
+			return fEvent.getWord();
+		}
+
+		@Override
+		public boolean isMatch() {
+			return fEvent.isMatch();
+		}
+
+		@Override
+		public boolean isStart() {
+			return fEvent.isStart();
+		}
+	}
+
+	private static final ISpellEvent[] NO_EVENTS= new ISpellEvent[0];
+
+	/**
+	 * Changes whenever words are added to the dictionaries or ignored, or the spelling
+	 * preferences change.
+	 */
+	private static final AtomicInteger fgGeneration= new AtomicInteger();
+
+	/**
+	 * Invalidates the cached events of all documents, e.g. because the dictionaries changed.
+	 */
+	static void invalidateAll() {
+		fgGeneration.incrementAndGet();
+	}
+
+	/**
+	 * Computes the key of a partition. The content is read from the document character by
+	 * character, so that partitions whose events are cached are never copied.
+	 *
+	 * @param document the document
+	 * @param partition the partition
+	 * @return the key
+	 * @throws BadLocationException if the partition is not in the document
+	 */
+	static Key createKey(IDocument document, ITypedRegion partition) throws BadLocationException {
+		long hash= 1125899906842597L;
+		int offset= partition.getOffset();
+		int length= partition.getLength();
+		for (int i= offset, end= offset + length; i < end; i++) {
+			hash= 31 * hash + document.getChar(i);
+		}
+		return new Key(partition.getType(), length, hash);
+	}
+
+	private Map<Key, Entry> fEntries= new HashMap<>();
+
+	/** The entries used in the current pass, or <code>null</code> */
+	private Map<Key, Entry> fUsedEntries;
+
+	private ISpellChecker fChecker;
+
+	private int fGeneration;
+
+	private String fLineDelimiter;
+
+	/**
+	 * Starts a spelling pass over the document. Drops all entries if the spell checker, the
+	 * dictionaries or the line delimiter changed since the previous pass.
+	 *
+	 * @param checker the spell checker
+	 * @param lineDelimiter the default line delimiter of the document
+	 */
+	synchronized void beginPass(ISpellChecker checker, String lineDelimiter) {
+		int generation= fgGeneration.get();
+		if (checker != fChecker || generation != fGeneration || !lineDelimiter.equals(fLineDelimiter)) {
+			fEntries.clear();
+			fChecker= checker;
+			fGeneration= generation;
+			fLineDelimiter= lineDelimiter;
+		}
+		fUsedEntries= new HashMap<>();
+	}
+
+	/**
+	 * Ends a spelling pass. Entries of partitions that no longer exist are dropped if the pass
+	 * visited all partitions.
+	 *
+	 * @param complete <code>true</code> iff all partitions of the document have been visited
+	 */
+	synchronized void endPass(boolean complete) {
+		if (fUsedEntries == null)
+			return;
+		if (complete)
+			fEntries= fUsedEntries;
+		else
+			fEntries.putAll(fUsedEntries);
+		fUsedEntries= null;
+	}
+
+	/**
+	 * Returns the spell events of a partition that has been checked before.
+	 *
+	 * @param key the key of the partition
+	 * @param offset the offset of the partition
+	 * @return the spell events, or <code>null</code> if the partition has to be checked
+	 */
+	synchronized ISpellEvent[] get(Key key, int offset) {
+		Entry entry= fEntries.get(key);
+		if (entry == null || fUsedEntries == null)
+			return null;
+		fUsedEntries.put(key, entry);
+
+		int delta= offset - entry.fOffset;
+		if (delta == 0 || entry.fEvents.length == 0)
+			return entry.fEvents;
+		ISpellEvent[] events= new ISpellEvent[entry.fEvents.length];
+		for (int i= 0; i < events.length; i++) {
+			events[i]= new MovedSpellEvent(entry.fEvents[i], delta);
+		}
+		return events;
+	}
+
+	/**
+	 * Remembers the spell events of a partition that has been checked completely.
+	 *
+	 * @param key the key of the partition
+	 * @param offset the offset of the partition
+	 * @param events the spell events
+	 */
+	synchronized void put(Key key, int offset, List<ISpellEvent> events) {
+		if (fUsedEntries != null)
+			fUsedEntries.put(key, new Entry(offset, events.isEmpty() ? NO_EVENTS : events.toArray(new ISpellEvent[events.size()])));
+	}
+}
@@ -16,7 +16,11 @@ package org.eclipse.jdt.internal.ui.typehierarchy;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.swt.widgets.Display;
 
@@ -32,17 +36,18 @@ import org.eclipse.jface.operation.IRunnableWithProgress;
 import org.eclipse.ui.progress.IWorkbenchSiteProgressService;
 
 import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.Flags;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IElementChangedListener;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaElementDelta;
 import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IOrdinaryClassFile;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.IRegion;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.ITypeHierarchy;
-import org.eclipse.jdt.core.ITypeHierarchyChangedListener;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 
@@ -53,13 +58,80 @@ import org.eclipse.jdt.internal.ui.JavaPlugin;
 
 /**
  * Manages a type hierarchy, to keep it refreshed, and to allow it to be shared.
+ * <p>
+ * Element changes are checked against the current hierarchy: only classpath changes, added or
+ * removed types and changed supertype declarations require the hierarchy to be rebuilt. When
+ * used by the type hierarchy view, the hierarchy is rebuilt in the background and replaces the
+ * shown hierarchy once it is complete.
+ * </p>
  */
-public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IElementChangedListener {
+public class TypeHierarchyLifeCycle implements IElementChangedListener {
 
-	private boolean fHierarchyRefreshNeeded;
-	private ITypeHierarchy fHierarchy;
-	private IJavaElement[] fInputElements;
+	/**
+	 * Supertypes that a hierarchy reports even when they are not declared.
+	 */
+	private static final Set<String> IMPLICIT_SUPERTYPES= Set.of(
+			"java.lang.Object", //$NON-NLS-1$
+			"java.lang.Enum", //$NON-NLS-1$
+			"java.lang.Record", //$NON-NLS-1$
+			"java.lang.annotation.Annotation"); //$NON-NLS-1$
+
+	/**
+	 * Modifiers that are shown in the hierarchy and therefore must be up to date.
+	 */
+	private static final int SHOWN_FLAGS= Flags.AccInterface | Flags.AccAnnotation | Flags.AccEnum | Flags.AccAbstract | Flags.AccFinal
+			| Flags.AccStatic | Flags.AccPublic | Flags.AccProtected | Flags.AccPrivate;
+
+	private static final int CLASSPATH_CHANGE_FLAGS= IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
+			| IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH | IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED
+			| IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_REORDER;
+
+	/**
+	 * The types of a hierarchy, indexed for checking element changes.
+	 *
+	 * @param hierarchy the indexed hierarchy
+	 * @param memberNames qualified names of the types that new types can be added below, or
+	 *            <code>null</code> if every type in the region belongs to the hierarchy
+	 * @param typesByUnit the types of the hierarchy declared in each compilation unit
+	 */
+	private record HierarchyIndex(ITypeHierarchy hierarchy, Set<String> memberNames, Map<ICompilationUnit, List<IType>> typesByUnit) {
+	}
+
+	private final class RefreshJob extends Job {
+
+		private final IJavaElement[] fElements;
+		private volatile boolean fSuperseded;
+		private volatile boolean fStale;
+
+		public RefreshJob(String label, IJavaElement[] elements) {
+			super(label);
+			fElements= elements;
+		}
+
+		@Override
+		public IStatus run(IProgressMonitor pm) {
+			pm.beginTask(getName(), LONG);
+			try {
+				doHierarchyRefreshBackground(this, pm);
+			} catch (OperationCanceledException e) {
+				if (!fSuperseded) {
+					fTypeHierarchyViewPart.showEmptyViewer();
+				}
+				return Status.CANCEL_STATUS;
+			} catch (JavaModelException e) {
+				return e.getStatus();
+			} finally {
+				pm.done();
+			}
+			return Status.OK_STATUS;
+		}
+	}
+
+	private volatile boolean fHierarchyRefreshNeeded;
+	private volatile ITypeHierarchy fHierarchy;
+	private volatile IJavaElement[] fInputElements;
 	private boolean fIsSuperTypesOnly;
+	private volatile HierarchyIndex fHierarchyIndex;
 
 	private List<ITypeHierarchyLifeCycleListener> fChangeListeners;
 
@@ -75,14 +147,7 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 	 *
 	 * @since 3.6
 	 */
-	private Job fRefreshHierarchyJob;
-
-	/**
-	 * Indicates whether the refresh job was canceled explicitly.
-	 *
-	 * @since 3.6
-	 */
-	private boolean fRefreshJobCanceledExplicitly= true;
+	private volatile RefreshJob fRefreshHierarchyJob;
 
 	/**
 	 * Creates the type hierarchy life cycle.
@@ -119,9 +184,9 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 
 	public void freeHierarchy() {
 		if (fHierarchy != null) {
-			fHierarchy.removeTypeHierarchyChangedListener(this);
 			JavaCore.removeElementChangedListener(this);
 			fHierarchy= null;
+			fHierarchyIndex= null;
 			fInputElements= null;
 		}
 		synchronized (this) {
@@ -163,6 +228,11 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 
 	/**
 	 * Refreshes the type hierarchy for the java elements if they exist.
+	 * <p>
+	 * When used by the type hierarchy view, the refresh runs in the background and does not
+	 * block the caller. A refresh that is still running is superseded, and the current hierarchy
+	 * stays available until the new one is complete.
+	 * </p>
 	 *
 	 * @param elements the java elements for which the type hierarchy is computed
 	 * @param context the runnable context
@@ -173,16 +243,9 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 	public void ensureRefreshedTypeHierarchy(final IJavaElement[] elements, IRunnableContext context) throws InvocationTargetException, InterruptedException {
 		synchronized (this) {
 			if (fRefreshHierarchyJob != null) {
+				fRefreshHierarchyJob.fSuperseded= true;
 				fRefreshHierarchyJob.cancel();
-				fRefreshJobCanceledExplicitly= false;
-				try {
-					fRefreshHierarchyJob.join();
-				} catch (InterruptedException e) {
-					// ignore
-				} finally {
-					fRefreshHierarchyJob= null;
-					fRefreshJobCanceledExplicitly= true;
-				}
+				fRefreshHierarchyJob= null;
 			}
 		}
 		if (elements == null || elements.length == 0) {
@@ -214,29 +277,7 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 			} else {
 				final String label= Messages.format(TypeHierarchyMessages.TypeHierarchyLifeCycle_computeInput, HistoryAction.getElementLabel(elements));
 				synchronized (this) {
-					fRefreshHierarchyJob= new Job(label) {
-						/*
-						 * @see org.eclipse.core.runtime.jobs.Job#run(org.eclipse.core.runtime.IProgressMonitor)
-						 */
-						@Override
-						public IStatus run(IProgressMonitor pm) {
-							pm.beginTask(label, LONG);
-							try {
-								doHierarchyRefreshBackground(elements, pm);
-							} catch (OperationCanceledException e) {
-								if (fRefreshJobCanceledExplicitly) {
-									fTypeHierarchyViewPart.showEmptyViewer();
-								}
-								return Status.CANCEL_STATUS;
-							} catch (JavaModelException e) {
-								return e.getStatus();
-							} finally {
-								fHierarchyRefreshNeeded= true;
-								pm.done();
-							}
-							return Status.OK_STATUS;
-						}
-					};
+					fRefreshHierarchyJob= new RefreshJob(label, elements);
 					fRefreshHierarchyJob.setUser(true);
 					IWorkbenchSiteProgressService progressService= fTypeHierarchyViewPart.getSite()
 														.getAdapter(IWorkbenchSiteProgressService.class);
@@ -258,32 +299,38 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 	}
 
 	/**
-	 * Refreshes the hierarchy in the background and updates the hierarchy viewer asynchronously in
-	 * the UI thread.
+	 * Computes a new hierarchy in the background and installs it and updates the hierarchy
+	 * viewer asynchronously in the UI thread. Until then, the current hierarchy stays in place.
 	 *
-	 * @param elements the java elements on which the hierarchy is computed
+	 * @param job the refresh job
 	 * @param pm the progress monitor
 	 * @throws JavaModelException if the java element does not exist or if an exception occurs while
 	 *             accessing its corresponding resource.
-	 *
-	 * @since 3.6
 	 */
-	protected void doHierarchyRefreshBackground(final IJavaElement[] elements, final IProgressMonitor pm) throws JavaModelException {
-		doHierarchyRefresh(elements, pm);
-		if (!pm.isCanceled()) {
-			Display.getDefault().asyncExec(() -> {
-				synchronized (TypeHierarchyLifeCycle.this) {
-					if (fRefreshHierarchyJob == null) {
-						return;
-					}
-					fRefreshHierarchyJob= null;
-				}
-				if (pm.isCanceled())
-					return;
-				fTypeHierarchyViewPart.setViewersInput();
-				fTypeHierarchyViewPart.updateViewers();
-			});
+	private void doHierarchyRefreshBackground(final RefreshJob job, final IProgressMonitor pm) throws JavaModelException {
+		final IJavaElement[] elements= job.fElements;
+		final ITypeHierarchy hierarchy= createTypeHierarchy(elements, pm);
+		if (pm.isCanceled()) {
+			throw new OperationCanceledException();
 		}
+		Display.getDefault().asyncExec(() -> {
+			synchronized (TypeHierarchyLifeCycle.this) {
+				if (fRefreshHierarchyJob != job) {
+					return;
+				}
+				fRefreshHierarchyJob= null;
+			}
+			if (pm.isCanceled())
+				return;
+			installHierarchy(hierarchy, elements);
+			fHierarchyRefreshNeeded= job.fStale;
+			fTypeHierarchyViewPart.setViewersInput();
+			fTypeHierarchyViewPart.updateViewers();
+			if (job.fStale) {
+				// elements changed while the hierarchy was computed
+				fireChange(null);
+			}
+		});
 	}
 
 	private ITypeHierarchy createTypeHierarchy(IJavaElement[] elements, IProgressMonitor pm) throws JavaModelException {
@@ -312,58 +359,338 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 		}
 	}
 
+	private void installHierarchy(ITypeHierarchy hierarchy, IJavaElement[] elements) {
+		JavaCore.removeElementChangedListener(this);
+		fHierarchy= hierarchy;
+		fHierarchyIndex= null;
+		fInputElements= elements;
+		JavaCore.addElementChangedListener(this);
+	}
+
 
 	public void doHierarchyRefresh(IJavaElement[] elements, IProgressMonitor pm) throws JavaModelException {
 		boolean hierachyCreationNeeded= (fHierarchy == null || !Arrays.equals(elements, fInputElements));
-		// to ensure the order of the two listeners always remove / add listeners on operations
-		// on type hierarchies
-		if (fHierarchy != null) {
-			fHierarchy.removeTypeHierarchyChangedListener(this);
-			JavaCore.removeElementChangedListener(this);
-		}
+		ITypeHierarchy hierarchy;
 		if (hierachyCreationNeeded) {
-			fHierarchy= createTypeHierarchy(elements, pm);
+			hierarchy= createTypeHierarchy(elements, pm);
 			if (pm != null && pm.isCanceled()) {
 				throw new OperationCanceledException();
 			}
-			fInputElements= elements;
 		} else {
-			fHierarchy.refresh(pm);
+			hierarchy= fHierarchy;
+			hierarchy.refresh(pm);
 			if (pm != null && pm.isCanceled())
 				throw new OperationCanceledException();
 		}
-		fHierarchy.addTypeHierarchyChangedListener(this);
-		JavaCore.addElementChangedListener(this);
+		installHierarchy(hierarchy, elements);
 		fHierarchyRefreshNeeded= false;
 	}
 
-	/*
-	 * @see ITypeHierarchyChangedListener#typeHierarchyChanged
-	 */
-	@Override
-	public void typeHierarchyChanged(ITypeHierarchy typeHierarchy) {
-	 	fHierarchyRefreshNeeded= true;
- 		fireChange(null);
-	}
-
 	/*
 	 * @see IElementChangedListener#elementChanged(ElementChangedEvent)
 	 */
 	@Override
 	public void elementChanged(ElementChangedEvent event) {
 		if (fChangeListeners.isEmpty()) {
+			// nobody shows the hierarchy, so do not classify the delta
+			fHierarchyRefreshNeeded= true;
+			return;
+		}
+		ITypeHierarchy hierarchy= fHierarchy;
+		RefreshJob job= fRefreshHierarchyJob;
+		if (hierarchy == null || (fHierarchyRefreshNeeded && job == null)) {
 			return;
 		}
 
-		if (fHierarchyRefreshNeeded) {
+		boolean fullRefresh;
+		try {
+			fullRefresh= needsFullRefresh(event.getDelta(), hierarchy);
+		} catch (JavaModelException e) {
+			fullRefresh= true;
+		}
+		if (fullRefresh) {
+			if (job != null) {
+				job.fStale= true;
+			} else {
+				fHierarchyRefreshNeeded= true;
+				fireChange(null);
+			}
 			return;
+		}
+
+		// labels of the shown types, also while a new hierarchy is computed
+		ArrayList<IType> changedTypes= new ArrayList<>();
+		processDelta(event.getDelta(), changedTypes);
+		if (changedTypes.size() > 0) {
+			fireChange(changedTypes.toArray(new IType[changedTypes.size()]));
+		}
+	}
+
+	/*
+	 * Returns whether the delta can change the shape of the hierarchy. Edges of the hierarchy
+	 * only originate from the supertype declarations of its types, so the declarations of the
+	 * changed types are compared with the hierarchy. Classpath changes and added or removed
+	 * types require a full rebuild. Fine-grained deltas, like the ones of a reconcile, tell which
+	 * types changed their declarations, so only these are compared.
+	 */
+	private boolean needsFullRefresh(IJavaElementDelta delta, ITypeHierarchy hierarchy) throws JavaModelException {
+		IJavaElement element= delta.getElement();
+		int kind= delta.getKind();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				return needsFullRefresh(delta.getAffectedChildren(), hierarchy);
+			case IJavaElement.JAVA_PROJECT:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+				if (kind != IJavaElementDelta.CHANGED || (delta.getFlags() & CLASSPATH_CHANGE_FLAGS) != 0) {
+					return true;
+				}
+				return needsFullRefresh(delta.getAffectedChildren(), hierarchy);
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (kind == IJavaElementDelta.REMOVED) {
+					return true;
+				}
+				return needsFullRefresh(delta.getAffectedChildren(), hierarchy);
+			case IJavaElement.COMPILATION_UNIT:
+				ICompilationUnit cu= (ICompilationUnit) element;
+				if (!JavaModelUtil.isPrimary(cu)) {
+					return false;
+				}
+				if (kind == IJavaElementDelta.CHANGED && (delta.getFlags() & (IJavaElementDelta.F_CONTENT | IJavaElementDelta.F_CHILDREN)) == 0) {
+					return false;
+				}
+				if (kind == IJavaElementDelta.CHANGED && (delta.getFlags() & IJavaElementDelta.F_FINE_GRAINED) != 0) {
+					return hasChangedEdges(delta.getAffectedChildren(), hierarchy);
+				}
+				return hasChangedEdges(cu, hierarchy);
+			case IJavaElement.CLASS_FILE:
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	private boolean needsFullRefresh(IJavaElementDelta[] deltas, ITypeHierarchy hierarchy) throws JavaModelException {
+		for (IJavaElementDelta child : deltas) {
+			if (needsFullRefresh(child, hierarchy)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean hasChangedEdges(ICompilationUnit cu, ITypeHierarchy hierarchy) throws JavaModelException {
+		HierarchyIndex index= getHierarchyIndex(hierarchy);
+		List<IType> typesInHierarchy= index.typesByUnit().getOrDefault(cu, List.of());
+		if (!cu.exists()) {
+			return !typesInHierarchy.isEmpty();
+		}
+		List<IType> types= new ArrayList<>();
+		collectTypes(cu.getTypes(), types);
+		for (IType type : types) {
+			if (hierarchy.contains(type)) {
+				if (!hasSameSupertypes(type, hierarchy)) {
+					return true;
+				}
+			} else if (isPossibleMember(type, index)) {
+				return true;
+			}
+		}
+		return !new HashSet<>(types).containsAll(typesInHierarchy);
+	}
+
+	private boolean hasChangedEdges(IJavaElementDelta[] deltas, ITypeHierarchy hierarchy) throws JavaModelException {
+		for (IJavaElementDelta delta : deltas) {
+			IJavaElement element= delta.getElement();
+			switch (element.getElementType()) {
+				case IJavaElement.PACKAGE_DECLARATION:
+				case IJavaElement.IMPORT_CONTAINER:
+				case IJavaElement.IMPORT_DECLARATION:
+					// the supertype names of all types in the unit may resolve differently
+					if (hasChangedEdges((ICompilationUnit) element.getAncestor(IJavaElement.COMPILATION_UNIT), hierarchy)) {
+						return true;
+					}
+					continue;
+				default:
+					break;
+			}
+			switch (delta.getKind()) {
+				case IJavaElementDelta.ADDED:
+					List<IType> added= new ArrayList<>();
+					collectTypes(new IJavaElement[] { element }, added);
+					HierarchyIndex index= getHierarchyIndex(hierarchy);
+					for (IType type : added) {
+						if (hierarchy.contains(type) || isPossibleMember(type, index)) {
+							return true;
+						}
+					}
+					break;
+				case IJavaElementDelta.REMOVED:
+					if (containsTypesOf(element, hierarchy)) {
+						return true;
+					}
+					break;
+				default:
+					if (element instanceof IType type && (delta.getFlags() & (IJavaElementDelta.F_SUPER_TYPES | IJavaElementDelta.F_MODIFIERS)) != 0) {
+						if (hierarchy.contains(type) ? !hasSameSupertypes(type, hierarchy) : isPossibleMember(type, getHierarchyIndex(hierarchy))) {
+							return true;
+						}
+					}
+					if (hasChangedEdges(delta.getAffectedChildren(), hierarchy)) {
+						return true;
+					}
+					break;
+			}
+		}
+		return false;
+	}
+
+	/*
+	 * Returns whether the hierarchy contains the given element or types declared inside it.
+	 */
+	private boolean containsTypesOf(IJavaElement element, ITypeHierarchy hierarchy) {
+		ICompilationUnit cu= (ICompilationUnit) element.getAncestor(IJavaElement.COMPILATION_UNIT);
+		if (cu == null) {
+			return false;
+		}
+		for (IType type : getHierarchyIndex(hierarchy).typesByUnit().getOrDefault(cu, List.of())) {
+			for (IJavaElement curr= type; curr != null && curr != cu; curr= curr.getParent()) {
+				if (curr.equals(element)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private static void collectTypes(IJavaElement[] elements, List<IType> result) throws JavaModelException {
+		for (IJavaElement element : elements) {
+			if (element instanceof IType type) {
+				result.add(type);
+			}
+			if (element instanceof IMember member) {
+				collectTypes(member.getChildren(), result); // member, local and anonymous types
+			}
+		}
+	}
+
+	private static boolean hasSameSupertypes(IType type, ITypeHierarchy hierarchy) throws JavaModelException {
+		int cachedFlags= hierarchy.getCachedFlags(type);
+		if (cachedFlags != -1 && (cachedFlags & SHOWN_FLAGS) != (type.getFlags() & SHOWN_FLAGS)) {
+			return false;
+		}
+		Set<String> declared= getDeclaredSupertypes(type);
+		if (declared == null) {
+			return false;
+		}
+		Set<String> actual= new HashSet<>();
+		IType superclass= hierarchy.getSuperclass(type);
+		if (superclass != null) {
+			actual.add(superclass.getFullyQualifiedName('.'));
+		}
+		for (IType superInterface : hierarchy.getSuperInterfaces(type)) {
+			actual.add(superInterface.getFullyQualifiedName('.'));
+		}
+		actual.removeAll(IMPLICIT_SUPERTYPES);
+		return declared.equals(actual);
+	}
+
+	private boolean isPossibleMember(IType type, HierarchyIndex index) throws JavaModelException {
+		if (index.memberNames() == null) {
+			// region based hierarchy: contains all types of the region
+			IJavaElement[] inputElements= fInputElements;
+			if (inputElements == null) {
+				return false;
+			}
+			for (IJavaElement input : inputElements) {
+				for (IJavaElement curr= type; curr != null; curr= curr.getParent()) {
+					if (curr.equals(input)) {
+						return true;
+					}
+				}
+			}
+			return false;
+		}
+		if (index.memberNames().isEmpty()) {
+			return false;
+		}
+		Set<String> declared= getDeclaredSupertypes(type);
+		if (declared == null) {
+			return true;
+		}
+		for (String name : declared) {
+			if (index.memberNames().contains(name)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Resolves the declared superclass and super interfaces of a source type.
+	 *
+	 * @param type the type
+	 * @return the qualified names of the explicitly declared supertypes, or <code>null</code> if a
+	 *         name cannot be resolved unambiguously
+	 * @throws JavaModelException if the type does not exist
+	 */
+	private static Set<String> getDeclaredSupertypes(IType type) throws JavaModelException {
+		List<String> names= new ArrayList<>();
+		String superclassName= type.getSuperclassName();
+		if (superclassName != null) {
+			names.add(superclassName);
+		}
+		names.addAll(Arrays.asList(type.getSuperInterfaceNames()));
+
+		IType context= type;
+		while (context != null && (context.isAnonymous() || context.isLocal())) {
+			context= context.getDeclaringType();
+		}
+		if (context == null) {
+			return null;
+		}
+		Set<String> result= new HashSet<>();
+		for (String name : names) {
+			int typeArguments= name.indexOf('<');
+			String erasure= typeArguments != -1 ? name.substring(0, typeArguments) : name;
+			String[][] resolved= context.resolveType(erasure.trim());
+			if (resolved == null || resolved.length != 1) {
+				return null;
+			}
+			result.add(JavaModelUtil.concatenateName(resolved[0][0], resolved[0][1]));
+		}
+		result.removeAll(IMPLICIT_SUPERTYPES);
+		return result;
+	}
+
+	private HierarchyIndex getHierarchyIndex(ITypeHierarchy hierarchy) {
+		HierarchyIndex index= fHierarchyIndex;
+		if (index != null && index.hierarchy() == hierarchy) {
+			return index;
+		}
+		Set<String> memberNames;
+		IType focus= hierarchy.getType();
+		if (focus == null) {
+			memberNames= null;
+		} else if (fIsSuperTypesOnly) {
+			memberNames= Set.of();
 		} else {
-			ArrayList<IType> changedTypes= new ArrayList<>();
-			processDelta(event.getDelta(), changedTypes);
-			if (changedTypes.size() > 0) {
-				fireChange(changedTypes.toArray(new IType[changedTypes.size()]));
+			IType[] subtypes= hierarchy.getAllSubtypes(focus);
+			memberNames= new HashSet<>(subtypes.length * 2 + 1);
+			memberNames.add(focus.getFullyQualifiedName('.'));
+			for (IType subtype : subtypes) {
+				memberNames.add(subtype.getFullyQualifiedName('.'));
+			}
+		}
+		Map<ICompilationUnit, List<IType>> typesByUnit= new HashMap<>();
+		for (IType type : hierarchy.getAllTypes()) {
+			ICompilationUnit cu= type.getCompilationUnit();
+			if (cu != null) {
+				typesByUnit.computeIfAbsent(cu, k -> new ArrayList<>()).add(type);
 			}
 		}
+		index= new HierarchyIndex(hierarchy, memberNames, typesByUnit);
+		fHierarchyIndex= index;
+		return index;
 	}
 
 	/*
@@ -15,6 +15,8 @@ package org.eclipse.jdt.internal.ui.viewsupport;
 
 import org.eclipse.core.resources.IResource;
 
+import org.eclipse.jdt.core.IJavaElement;
+
 /**
  * Can be added to a ProblemMarkerManager to get notified about problem
  * marker changes. Used to update error ticks.
@@ -31,4 +33,23 @@ public interface IProblemChangedListener {
 	 */
 	void problemsChanged(IResource[] changedResources, boolean isMarkerChange);
 
+	/**
+	 * Called when problems changed. In addition to the changed resources, the Java elements whose
+	 * problems changed are passed where they are known. For a resource that is the underlying
+	 * resource of one of these elements, only the passed elements and the resource itself are
+	 * affected. For all other resources, everything inside the resource may be affected.
+	 * <p>
+	 * The default implementation calls {@link #problemsChanged(IResource[], boolean)}.
+	 * </p>
+	 *
+	 * @param changedResources the resources that had a problem change
+	 * @param changedElements the elements inside the changed resources that had a problem change,
+	 *            including their enclosing members
+	 * @param isMarkerChange If set to <code>true</code>, the change was a marker change, if
+	 *            <code>false</code>, the change came from an annotation model modification.
+	 */
+	default void problemsChanged(IResource[] changedResources, IJavaElement[] changedElements, boolean isMarkerChange) {
+		problemsChanged(changedResources, isMarkerChange);
+	}
+
 }
@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.viewsupport;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.jface.viewers.IBaseLabelProvider;
+import org.eclipse.jface.viewers.LabelProviderChangedEvent;
+
+import org.eclipse.jdt.core.IJavaElement;
+
+import org.eclipse.jdt.ui.ProblemsLabelDecorator.ProblemsLabelChangedEvent;
+
+/**
+ * A problems label changed event that also tells which elements inside the changed resources are
+ * affected. Viewers can use it to update only the items of these elements instead of all items
+ * of a resource.
+ *
+ * @see IProblemChangedListener#problemsChanged(IResource[], IJavaElement[], boolean)
+ */
+public class ProblemElementsChangedEvent extends ProblemsLabelChangedEvent {
+
+	private static final long serialVersionUID= 1L;
+
+	private final transient Map<IResource, Set<IJavaElement>> fChangedElements;
+
+	/**
+	 * @param eventSource the base label provider
+	 * @param changedResources the changed resources
+	 * @param changedElements the changed elements inside the changed resources
+	 * @param isMarkerChange <code>true</code> if the change is a marker change; otherwise
+	 *            <code>false</code>
+	 */
+	public ProblemElementsChangedEvent(IBaseLabelProvider eventSource, IResource[] changedResources, IJavaElement[] changedElements, boolean isMarkerChange) {
+		super(eventSource, changedResources, isMarkerChange);
+		fChangedElements= new HashMap<>();
+		for (IJavaElement element : changedElements) {
+			IResource resource= element.getResource();
+			if (resource != null) {
+				fChangedElements.computeIfAbsent(resource, r -> new HashSet<>()).add(element);
+			}
+		}
+	}
+
+	/**
+	 * Returns the changed elements inside the given resource.
+	 *
+	 * @param resource the changed resource
+	 * @return the changed elements, or <code>null</code> if all elements inside the resource may
+	 *         have changed
+	 */
+	public Set<IJavaElement> getChangedElements(IResource resource) {
+		return fChangedElements.get(resource);
+	}
+
+	/**
+	 * Returns the changed elements inside the given resource.
+	 *
+	 * @param event the label provider changed event
+	 * @param resource the changed resource
+	 * @return the changed elements, or <code>null</code> if all elements inside the resource may
+	 *         have changed
+	 */
+	public static Set<IJavaElement> getChangedElements(LabelProviderChangedEvent event, IResource resource) {
+		if (event instanceof ProblemElementsChangedEvent) {
+			return ((ProblemElementsChangedEvent) event).getChangedElements(resource);
+		}
+		return null;
+	}
+}
@@ -16,13 +16,16 @@ package org.eclipse.jdt.internal.ui.viewsupport;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.ListenerList;
 
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IMarkerDelta;
 import org.eclipse.core.resources.IProject;
@@ -41,6 +44,11 @@ import org.eclipse.jface.text.source.IAnnotationModelListenerExtension;
 
 import org.eclipse.ui.PlatformUI;
 
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.javaeditor.CompilationUnitAnnotationModelEvent;
 
@@ -48,6 +56,11 @@ import org.eclipse.jdt.internal.ui.javaeditor.CompilationUnitAnnotationModelEven
  * Listens to resource deltas and filters for marker changes of type IMarker.PROBLEM
  * Viewers showing error ticks should register as listener to
  * this type.
+ * <p>
+ * Changes are coalesced and sent out in batches. For marker changes in compilation units that
+ * are open in the Java model, the members containing the changed markers are passed along, so
+ * that listeners can refresh these members instead of everything inside the compilation unit.
+ * </p>
  */
 public class ProblemMarkerManager implements IResourceChangeListener, IAnnotationModelListener , IAnnotationModelListenerExtension {
 
@@ -57,9 +70,13 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 	private static class ProjectErrorVisitor implements IResourceDeltaVisitor {
 
 		private HashSet<IResource> fChangedElements;
+		private Map<IResource, Set<IJavaElement>> fChangedMembers;
+		private Map<IResource, Long> fMarkerStamps;
 
-		public ProjectErrorVisitor(HashSet<IResource> changedElements) {
+		public ProjectErrorVisitor(HashSet<IResource> changedElements, Map<IResource, Set<IJavaElement>> changedMembers, Map<IResource, Long> markerStamps) {
 			fChangedElements= changedElements;
+			fChangedMembers= changedMembers;
+			fMarkerStamps= markerStamps;
 		}
 
 		@Override
@@ -78,7 +95,13 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 
 		private void checkInvalidate(IResourceDelta delta, IResource resource) {
 			int kind= delta.getKind();
+			if (kind == IResourceDelta.REMOVED) {
+				fMarkerStamps.remove(resource);
+			}
 			if (kind == IResourceDelta.REMOVED || kind == IResourceDelta.ADDED || (kind == IResourceDelta.CHANGED && isErrorDelta(delta))) {
+				if (kind == IResourceDelta.CHANGED) {
+					collectChangedMembers(delta, resource);
+				}
 				// invalidate the resource and all parents
 				while (resource.getType() != IResource.ROOT && fChangedElements.add(resource)) {
 					resource= resource.getParent();
@@ -86,6 +109,69 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 			}
 		}
 
+		/*
+		 * Maps the offsets of the changed problem markers to the members containing them. Only done
+		 * when the compilation unit is open and its content did not change with the markers, so
+		 * that the marker offsets fit the Java model. Marker offsets refer to the saved file, so a
+		 * working copy with unsaved changes reports the whole resource instead.
+		 * The old offsets of removed and changed markers are only used if the file has not been
+		 * modified since the last marker change that was seen for it, since the content change
+		 * and the marker change often arrive in separate deltas, e.g. when the file is replaced
+		 * and built afterwards.
+		 */
+		private void collectChangedMembers(IResourceDelta delta, IResource resource) {
+			if (!(resource instanceof IFile)) {
+				return;
+			}
+			Long currentStamp= Long.valueOf(resource.getModificationStamp());
+			boolean oldOffsetsValid= currentStamp.equals(fMarkerStamps.put(resource, currentStamp));
+			if ((delta.getFlags() & IResourceDelta.CONTENT) != 0) {
+				return;
+			}
+			IJavaElement element= JavaCore.create((IFile) resource);
+			if (!(element instanceof ICompilationUnit) || !((ICompilationUnit) element).isOpen()) {
+				return;
+			}
+			ICompilationUnit cu= (ICompilationUnit) element;
+			Set<IJavaElement> members= new HashSet<>();
+			try {
+				if (cu.hasUnsavedChanges()) {
+					return;
+				}
+				for (IMarkerDelta markerDelta : delta.getMarkerDeltas()) {
+					if (!markerDelta.isSubtypeOf(IMarker.PROBLEM)) {
+						continue;
+					}
+					if (markerDelta.getKind() != IResourceDelta.ADDED && !oldOffsetsValid) {
+						return;
+					}
+					if (!addEnclosingMembers(cu, markerDelta.getAttribute(IMarker.CHAR_START, -1), members)) {
+						return;
+					}
+					if (markerDelta.getKind() == IResourceDelta.CHANGED
+							&& !addEnclosingMembers(cu, markerDelta.getMarker().getAttribute(IMarker.CHAR_START, -1), members)) {
+						return;
+					}
+				}
+			} catch (JavaModelException e) {
+				return;
+			}
+			if (!members.isEmpty()) {
+				fChangedMembers.put(resource, members);
+			}
+		}
+
+		private static boolean addEnclosingMembers(ICompilationUnit cu, int offset, Set<IJavaElement> members) throws JavaModelException {
+			if (offset < 0) {
+				return false;
+			}
+			IJavaElement element= cu.getElementAt(offset);
+			while (element != null && !element.equals(cu) && members.add(element)) {
+				element= element.getParent();
+			}
+			return true;
+		}
+
 		private boolean isErrorDelta(IResourceDelta delta) {
 			if ((delta.getFlags() & IResourceDelta.MARKERS) != 0) {
 				for (IMarkerDelta markerDelta : delta.getMarkerDeltas()) {
@@ -108,6 +194,9 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 
 	private final Set<IResource> fResourcesWithMarkerChanges= ConcurrentHashMap.newKeySet();
 	private final Set<IResource> fResourcesWithAnnotationChanges= ConcurrentHashMap.newKeySet();
+	private final Map<IResource, Set<IJavaElement>> fChangedMembers= new ConcurrentHashMap<>();
+	// modification stamps of the files at their last marker change
+	private final Map<IResource, Long> fMarkerStamps= new ConcurrentHashMap<>();
 
 	private final Throttler throttledUpdates= new Throttler(PlatformUI.getWorkbench().getDisplay(), Duration.ofMillis(250), this::runPendingUpdates);
 
@@ -120,15 +209,25 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 	@Override
 	public void resourceChanged(IResourceChangeEvent event) {
 		HashSet<IResource> changedElements= new HashSet<>();
+		HashMap<IResource, Set<IJavaElement>> changedMembers= new HashMap<>();
 
 		try {
 			IResourceDelta delta= event.getDelta();
 			if (delta != null)
-				delta.accept(new ProjectErrorVisitor(changedElements));
+				delta.accept(new ProjectErrorVisitor(changedElements, changedMembers, fMarkerStamps));
 		} catch (CoreException e) {
 			JavaPlugin.log(e.getStatus());
 		}
 
+		for (IResource resource : changedElements) {
+			Set<IJavaElement> members= changedMembers.get(resource);
+			if (members == null) {
+				// everything inside the resource may have changed
+				fChangedMembers.put(resource, Set.of());
+			} else {
+				fChangedMembers.merge(resource, members, ProblemMarkerManager::mergeMembers);
+			}
+		}
 		if (fResourcesWithMarkerChanges.addAll(changedElements)) {
 			fireChanges();
 		}
@@ -174,6 +273,7 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 		if (fListeners.isEmpty()) {
 			JavaPlugin.getWorkspace().removeResourceChangeListener(this);
 			JavaPlugin.getDefault().getCompilationUnitDocumentProvider().removeGlobalAnnotationModelListener(this);
+			fMarkerStamps.clear();
 		}
 	}
 
@@ -181,6 +281,18 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 		throttledUpdates.throttledExec();
 	}
 
+	/*
+	 * An empty set stands for a change of the whole resource and wins over any member set.
+	 */
+	private static Set<IJavaElement> mergeMembers(Set<IJavaElement> members1, Set<IJavaElement> members2) {
+		if (members1.isEmpty() || members2.isEmpty()) {
+			return Set.of();
+		}
+		Set<IJavaElement> merged= new HashSet<>(members1);
+		merged.addAll(members2);
+		return merged;
+	}
+
 	/**
 	 * Notify all IProblemChangedListener. Must be called in the display thread.
 	 */
@@ -189,11 +301,19 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 		ArrayList<IResource> resourcesWithAnnotationChanges= new ArrayList<>();
 		fResourcesWithMarkerChanges.removeIf(e -> resourcesWithMarkerChanges.add(e));
 		fResourcesWithAnnotationChanges.removeIf(e -> resourcesWithAnnotationChanges.add(e));
+		ArrayList<IJavaElement> changedMembers= new ArrayList<>();
+		for (IResource resource : resourcesWithMarkerChanges) {
+			Set<IJavaElement> members= fChangedMembers.remove(resource);
+			if (members != null) {
+				changedMembers.addAll(members);
+			}
+		}
 		IResource[] markerResources= resourcesWithMarkerChanges.toArray(IResource[]::new);
 		IResource[] annotationResources= resourcesWithAnnotationChanges.toArray(IResource[]::new);
+		IJavaElement[] memberElements= changedMembers.toArray(IJavaElement[]::new);
 		for (IProblemChangedListener curr : fListeners) {
 			if (markerResources.length != 0) {
-				curr.problemsChanged(markerResources, true);
+				curr.problemsChanged(markerResources, memberElements, true);
 			}
 			if (annotationResources.length != 0) {
 				curr.problemsChanged(annotationResources, false);
@@ -127,7 +127,7 @@ public class ProblemTableViewer extends TableViewer implements ResourceToItemsMa
 			ArrayList<Object> others= new ArrayList<>(changed.length);
 			for (Object curr : changed) {
 				if (curr instanceof IResource) {
-					fResourceToItemsMapper.resourceChanged((IResource) curr);
+					fResourceToItemsMapper.resourceChanged((IResource) curr, ProblemElementsChangedEvent.getChangedElements(event, (IResource) curr));
 				} else {
 					others.add(curr);
 				}
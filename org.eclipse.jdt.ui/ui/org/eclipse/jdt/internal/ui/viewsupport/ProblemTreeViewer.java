@@ -189,7 +189,7 @@ public class ProblemTreeViewer extends TreeViewer implements ResourceToItemsMapp
 			ArrayList<Object> others= new ArrayList<>();
 			for (Object curr : changed) {
 				if (curr instanceof IResource) {
-					fResourceToItemsMapper.resourceChanged((IResource) curr);
+					fResourceToItemsMapper.resourceChanged((IResource) curr, ProblemElementsChangedEvent.getChangedElements(event, (IResource) curr));
 				} else {
 					others.add(curr);
 				}
@@ -16,6 +16,7 @@ package org.eclipse.jdt.internal.ui.viewsupport;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.Stack;
 
 import org.eclipse.swt.widgets.Item;
@@ -73,6 +74,48 @@ public class ResourceToItemsMapper {
 		}
 	}
 
+	/**
+	 * Updates the items of the changed resource. Items of elements inside a compilation unit are
+	 * only updated if their element is one of the given affected elements. Must be called from the
+	 * UI thread.
+	 *
+	 * @param changedResource Changed resource
+	 * @param affectedElements the affected elements inside the resource, or <code>null</code> to
+	 *            update all items of the resource
+	 */
+	public void resourceChanged(IResource changedResource, Set<IJavaElement> affectedElements) {
+		if (affectedElements == null) {
+			resourceChanged(changedResource);
+			return;
+		}
+		Object obj= fResourceToItem.get(changedResource);
+		if (obj == null) {
+			// not mapped
+		} else if (obj instanceof Item) {
+			updateItem((Item) obj, affectedElements);
+		} else { // List of Items
+			@SuppressWarnings("unchecked")
+			List<Item> list= (List<Item>) obj;
+			for (Item element : list) {
+				updateItem(element, affectedElements);
+			}
+		}
+	}
+
+	private void updateItem(Item item, Set<IJavaElement> affectedElements) {
+		if (!item.isDisposed()) {
+			Object data= item.getData();
+			if (data instanceof IJavaElement) {
+				IJavaElement element= (IJavaElement) data;
+				IJavaElement cu= element.getAncestor(IJavaElement.COMPILATION_UNIT);
+				if (cu != null && !cu.equals(element) && !affectedElements.contains(element)) {
+					return;
+				}
+			}
+			fContentViewerAccess.doUpdateItem(item);
+		}
+	}
+
 	private void updateItem(Item item) {
 		if (!item.isDisposed()) {
 			fContentViewerAccess.doUpdateItem(item);
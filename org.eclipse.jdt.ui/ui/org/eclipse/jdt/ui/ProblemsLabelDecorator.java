@@ -82,6 +82,7 @@ import org.eclipse.jdt.internal.ui.JavaPluginImages;
 import org.eclipse.jdt.internal.ui.viewsupport.IProblemChangedListener;
 import org.eclipse.jdt.internal.ui.viewsupport.ImageDescriptorRegistry;
 import org.eclipse.jdt.internal.ui.viewsupport.ImageImageDescriptor;
+import org.eclipse.jdt.internal.ui.viewsupport.ProblemElementsChangedEvent;
 
 /**
  * LabelDecorator that decorates an element's image with error and warning overlays that
@@ -795,7 +796,17 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 		}
 		fListeners.add(listener);
 		if (fProblemChangedListener == null) {
-			fProblemChangedListener= this::fireProblemsChanged;
+			fProblemChangedListener= new IProblemChangedListener() {
+				@Override
+				public void problemsChanged(IResource[] changedResources, boolean isMarkerChange) {
+					fireProblemsChanged(changedResources, isMarkerChange);
+				}
+
+				@Override
+				public void problemsChanged(IResource[] changedResources, IJavaElement[] changedElements, boolean isMarkerChange) {
+					fireProblemsChanged(changedResources, changedElements, isMarkerChange);
+				}
+			};
 			JavaPlugin.getDefault().getProblemMarkerManager().addListener(fProblemChangedListener);
 		}
 	}
@@ -812,8 +823,17 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 	}
 
 	private void fireProblemsChanged(IResource[] changedResources, boolean isMarkerChange) {
+		fireProblemsChanged(changedResources, null, isMarkerChange);
+	}
+
+	private void fireProblemsChanged(IResource[] changedResources, IJavaElement[] changedElements, boolean isMarkerChange) {
 		if (fListeners != null && !fListeners.isEmpty()) {
-			LabelProviderChangedEvent event= new ProblemsLabelChangedEvent(this, changedResources, isMarkerChange);
+			LabelProviderChangedEvent event;
+			if (changedElements != null && changedElements.length > 0) {
+				event= new ProblemElementsChangedEvent(this, changedResources, changedElements, isMarkerChange);
+			} else {
+				event= new ProblemsLabelChangedEvent(this, changedResources, isMarkerChange);
+			}
 			for (ILabelProviderListener listener : fListeners) {
 				listener.labelProviderChanged(event);
 			}
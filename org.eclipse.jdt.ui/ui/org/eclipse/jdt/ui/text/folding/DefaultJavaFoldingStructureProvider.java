@@ -20,6 +20,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -31,7 +32,9 @@ import org.eclipse.core.runtime.Assert;
 import org.eclipse.jface.preference.IPreferenceStore;
 
 import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentListener;
 import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.Position;
 import org.eclipse.jface.text.Region;
@@ -365,7 +368,7 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 
 				fUpdatingCount++;
 				try {
-					update(createContext(false));
+					update(createContext(false), computeUpdateScope(delta));
 				} finally {
 					fUpdatingCount--;
 				}
@@ -448,6 +451,162 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 		}
 	}
 
+	/**
+	 * Tracks the document range that was edited since the last folding updates. The range is used
+	 * to restrict an update to the members that contain the edit.
+	 *
+	 * @since 3.33
+	 */
+	private static final class ChangedRegionTracker implements IDocumentListener {
+		private final Object fLock= new Object();
+		private IDocument fDocument;
+		/* the range edited since the last update, -1 if none */
+		private int fStart= -1;
+		private int fEnd= -1;
+		/* the range that was handed out by the last update, -1 if none */
+		private int fPreviousStart= -1;
+		private int fPreviousEnd= -1;
+
+		void connect(IDocument document) {
+			disconnect();
+			if (document != null) {
+				document.addDocumentListener(this);
+				synchronized (fLock) {
+					fDocument= document;
+				}
+			}
+		}
+
+		void disconnect() {
+			IDocument document;
+			synchronized (fLock) {
+				document= fDocument;
+				fDocument= null;
+				fStart= fEnd= fPreviousStart= fPreviousEnd= -1;
+			}
+			if (document != null)
+				document.removeDocumentListener(this);
+		}
+
+		/**
+		 * Returns the range edited since the update before the last one and starts a new tracking
+		 * period. Every edit is reported by two consecutive calls, since the Java model may not yet
+		 * reflect edits that happened while the reconciler was running.
+		 *
+		 * @param document the document to be folded
+		 * @return the edited range, or <code>null</code> if unknown
+		 */
+		IRegion consume(IDocument document) {
+			synchronized (fLock) {
+				if (document == null || document != fDocument || fStart == -1 && fPreviousStart == -1)
+					return null;
+
+				int start, end;
+				if (fStart == -1) {
+					start= fPreviousStart;
+					end= fPreviousEnd;
+				} else if (fPreviousStart == -1) {
+					start= fStart;
+					end= fEnd;
+				} else {
+					start= Math.min(fStart, fPreviousStart);
+					end= Math.max(fEnd, fPreviousEnd);
+				}
+				fPreviousStart= fStart;
+				fPreviousEnd= fEnd;
+				fStart= fEnd= -1;
+
+				if (end > document.getLength())
+					return null;
+				return new Region(start, end - start);
+			}
+		}
+
+		@Override
+		public void documentAboutToBeChanged(DocumentEvent event) {
+		}
+
+		@Override
+		public void documentChanged(DocumentEvent event) {
+			int offset= event.getOffset();
+			int removedEnd= offset + event.getLength();
+			String text= event.getText();
+			int insertedEnd= offset + (text == null ? 0 : text.length());
+			synchronized (fLock) {
+				if (event.getDocument() != fDocument)
+					return;
+
+				if (fStart == -1) {
+					fStart= offset;
+					fEnd= insertedEnd;
+				} else {
+					fStart= Math.min(mapStart(fStart, offset, removedEnd, insertedEnd), offset);
+					fEnd= Math.max(mapEnd(fEnd, offset, removedEnd, insertedEnd), insertedEnd);
+				}
+				if (fPreviousStart != -1) {
+					fPreviousStart= mapStart(fPreviousStart, offset, removedEnd, insertedEnd);
+					fPreviousEnd= mapEnd(fPreviousEnd, offset, removedEnd, insertedEnd);
+				}
+			}
+		}
+
+		private static int mapStart(int position, int offset, int removedEnd, int insertedEnd) {
+			if (position <= offset)
+				return position;
+			if (position >= removedEnd)
+				return position + insertedEnd - removedEnd;
+			return offset;
+		}
+
+		private static int mapEnd(int position, int offset, int removedEnd, int insertedEnd) {
+			if (position <= offset)
+				return position;
+			if (position >= removedEnd)
+				return position + insertedEnd - removedEnd;
+			return insertedEnd;
+		}
+	}
+
+	/**
+	 * The part of the folding structure that is recomputed by a delta-scoped update: the direct
+	 * members of a top-level type that contain the edited range, and the members removed by the
+	 * delta.
+	 *
+	 * @since 3.33
+	 */
+	private static final class UpdateScope {
+		private final ICompilationUnit fUnit;
+		private final List<IMember> fMembers;
+		private final Set<IJavaElement> fMemberSet;
+		private final Set<IJavaElement> fRemoved;
+
+		UpdateScope(ICompilationUnit unit, List<IMember> members, Set<IJavaElement> removed) {
+			fUnit= unit;
+			fMembers= members;
+			fMemberSet= new HashSet<>(members);
+			fRemoved= removed;
+		}
+
+		/**
+		 * Returns <code>true</code> if the annotation belongs to the recomputed part of the folding
+		 * structure.
+		 *
+		 * @param annotation the annotation to test
+		 * @return <code>true</code> if the annotation is in scope
+		 */
+		boolean contains(JavaProjectionAnnotation annotation) {
+			IJavaElement element= annotation.getElement();
+			if (fRemoved.contains(element))
+				return true;
+			while (element != null && element.getElementType() > IJavaElement.COMPILATION_UNIT) {
+				if (fMemberSet.contains(element))
+					return true;
+				element= element.getParent();
+			}
+			return false;
+		}
+	}
+
 	/**
 	 * Projection position that will return two foldable regions: one folding away
 	 * the region from after the '/**' to the beginning of the content, the other
@@ -725,6 +884,12 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 	 */
 	private IScanner fSharedScanner= ToolFactory.createScanner(true, false, false, false);
 
+	/**
+	 * Tracks the edited range for delta-scoped updates.
+	 * @since 3.33
+	 */
+	private final ChangedRegionTracker fChangedRegionTracker= new ChangedRegionTracker();
+
 	private volatile int fUpdatingCount= 0;
 
 	/**
@@ -831,6 +996,7 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 			JavaCore.removeElementChangedListener(fElementListener);
 			fElementListener= null;
 		}
+		fChangedRegionTracker.disconnect();
 	}
 
 	/*
@@ -840,6 +1006,7 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 	public final void initialize() {
 		fUpdatingCount++;
 		try {
+			fChangedRegionTracker.connect(isInstalled() ? getDocument() : null);
 			update(createInitialContext());
 		} finally {
 			fUpdatingCount--;
@@ -888,6 +1055,18 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 	}
 
 	private void update(FoldingStructureComputationContext ctx) {
+		update(ctx, null);
+	}
+
+	/**
+	 * Updates the folding structure. If a scope is given, only the folding regions of the members
+	 * in the scope are recomputed, all other annotations are left untouched.
+	 *
+	 * @param ctx the context, may be <code>null</code>
+	 * @param scope the part of the structure to update, or <code>null</code> to update the
+	 *            complete structure
+	 */
+	private void update(FoldingStructureComputationContext ctx, UpdateScope scope) {
 		if (ctx == null)
 			return;
 
@@ -895,9 +1074,12 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 		List<JavaProjectionAnnotation> deletions= new ArrayList<>();
 		List<JavaProjectionAnnotation> updates= new ArrayList<>();
 
-		computeFoldingStructure(ctx);
+		if (scope == null)
+			computeFoldingStructure(ctx);
+		else
+			computeFoldingStructure(scope, ctx);
 		Map<JavaProjectionAnnotation, Position> newStructure= ctx.fMap;
-		Map<IJavaElement, List<Tuple>> oldStructure= computeCurrentStructure(ctx);
+		Map<IJavaElement, List<Tuple>> oldStructure= computeCurrentStructure(ctx, scope);
 
 		Iterator<JavaProjectionAnnotation> e= newStructure.keySet().iterator();
 		while (e.hasNext()) {
@@ -968,6 +1150,99 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 		ctx.fScanner.setSource(null);
 	}
 
+	/**
+	 * Computes the part of the folding structure affected by a Java element delta. Returns
+	 * <code>null</code> if the complete structure has to be recomputed, which is the case if the
+	 * delta changes top-level types, imports or the package declaration, or if the edited range is
+	 * not covered by members of a top-level type.
+	 *
+	 * @param delta the delta of the input element
+	 * @return the scope to update, or <code>null</code> for a complete update
+	 * @since 3.33
+	 */
+	private UpdateScope computeUpdateScope(IJavaElementDelta delta) {
+		IRegion changed= fChangedRegionTracker.consume(getDocument());
+		if (changed == null || !(fInput instanceof ICompilationUnit))
+			return null;
+
+		Set<IJavaElement> removed= new HashSet<>();
+		if (!collectRemovedMembers(delta, removed))
+			return null;
+
+		ICompilationUnit unit= (ICompilationUnit) fInput;
+		try {
+			List<IMember> members= collectChangedMembers(unit, changed);
+			if (members == null)
+				return null;
+			return new UpdateScope(unit, members, removed);
+		} catch (JavaModelException e) {
+			return null;
+		}
+	}
+
+	private static boolean collectRemovedMembers(IJavaElementDelta delta, Set<IJavaElement> removed) {
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			IJavaElement element= child.getElement();
+			if (!(element instanceof IMember))
+				return false;
+			boolean isTopLevelType= element.getElementType() == IJavaElement.TYPE && ((IType) element).getDeclaringType() == null;
+			switch (child.getKind()) {
+				case IJavaElementDelta.REMOVED:
+					if (isTopLevelType)
+						return false;
+					removed.add(element);
+					break;
+				case IJavaElementDelta.ADDED:
+					if (isTopLevelType)
+						return false;
+					break;
+				default:
+					if (!collectRemovedMembers(child, removed))
+						return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the direct members of a top-level type that together cover the changed range.
+	 *
+	 * @param unit the compilation unit
+	 * @param changed the changed range
+	 * @return the members in source order, or <code>null</code> if the range is not covered by
+	 *         the members of a single top-level type
+	 * @throws JavaModelException if accessing the Java model fails
+	 */
+	private static List<IMember> collectChangedMembers(ICompilationUnit unit, IRegion changed) throws JavaModelException {
+		int start= changed.getOffset();
+		int end= start + changed.getLength();
+		for (IType type : unit.getTypes()) {
+			ISourceRange typeRange= type.getSourceRange();
+			if (!SourceRange.isAvailable(typeRange) || start < typeRange.getOffset() || end > typeRange.getOffset() + typeRange.getLength())
+				continue;
+
+			List<IMember> members= new ArrayList<>();
+			int covered= start;
+			for (IJavaElement child : type.getChildren()) {
+				if (!(child instanceof IMember))
+					continue;
+				ISourceRange range= ((IMember) child).getSourceRange();
+				if (!SourceRange.isAvailable(range))
+					return null;
+				int childStart= range.getOffset();
+				int childEnd= childStart + range.getLength();
+				if (childEnd < start || childStart > end)
+					continue;
+				if (childStart > covered)
+					return null; // the edit touches the type outside of its members
+				covered= Math.max(covered, childEnd);
+				members.add((IMember) child);
+			}
+			return covered >= end && !members.isEmpty() ? members : null;
+		}
+		return null;
+	}
+
 	private void computeFoldingStructure(FoldingStructureComputationContext ctx) {
 		IParent parent= (IParent) fInput;
 		try {
@@ -983,6 +1258,22 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 		}
 	}
 
+	private void computeFoldingStructure(UpdateScope scope, FoldingStructureComputationContext ctx) {
+		try {
+			String source= scope.fUnit.getSource();
+			if (source == null)
+				return;
+
+			IType[] types= scope.fUnit.getTypes();
+			if (types.length > 0)
+				ctx.setFirstType(types[0]); // header comments are not in scope
+
+			ctx.getScanner().setSource(source.toCharArray());
+			computeFoldingStructure(scope.fMembers.toArray(new IJavaElement[scope.fMembers.size()]), ctx);
+		} catch (JavaModelException x) {
+		}
+	}
+
 	private void computeFoldingStructure(IJavaElement[] elements, FoldingStructureComputationContext ctx) throws JavaModelException {
 		for (IJavaElement element : elements) {
 			computeFoldingStructure(element, ctx);
@@ -1311,6 +1602,10 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 		List<JavaProjectionAnnotation> newDeletions= new ArrayList<>();
 		List<JavaProjectionAnnotation> newChanges= new ArrayList<>();
 
+		Map<Long, List<Tuple>> changesIndex= createOffsetIndex(changes, null, ctx);
+		Map<Long, List<Tuple>> additionsIndex= createOffsetIndex(additions.keySet(), additions, ctx);
+		Set<JavaProjectionAnnotation> matchedChanges= Collections.newSetFromMap(new IdentityHashMap<>());
+
 		Iterator<JavaProjectionAnnotation> deletionIterator= deletions.iterator();
 		while (deletionIterator.hasNext()) {
 			JavaProjectionAnnotation deleted= deletionIterator.next();
@@ -1320,11 +1615,15 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 
 			Tuple deletedTuple= new Tuple(deleted, deletedPosition);
 
-			Tuple match= findMatch(deletedTuple, changes, null, ctx);
+			Tuple match= findMatch(deletedTuple, changesIndex);
 			boolean addToDeletions= true;
-			if (match == null) {
-				match= findMatch(deletedTuple, additions.keySet(), additions, ctx);
+			if (match != null) {
+				matchedChanges.add(match.annotation);
+			} else {
+				match= findMatch(deletedTuple, additionsIndex);
 				addToDeletions= false;
+				if (match != null)
+					additions.remove(match.annotation);
 			}
 
 			if (match != null) {
@@ -1344,54 +1643,61 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 			}
 		}
 
+		if (!matchedChanges.isEmpty())
+			changes.removeIf(matchedChanges::contains);
 		deletions.addAll(newDeletions);
 		changes.addAll(newChanges);
 	}
 
 	/**
-	 * Finds a match for <code>tuple</code> in a collection of
-	 * annotations. The positions for the
-	 * <code>JavaProjectionAnnotation</code> instances in
-	 * <code>annotations</code> can be found in the passed
-	 * <code>positionMap</code> or <code>fCachedModel</code> if
-	 * <code>positionMap</code> is <code>null</code>.
+	 * Indexes annotations by their comment flag and position offset, see
+	 * {@link #findMatch(Tuple, Map)}. The positions for the <code>JavaProjectionAnnotation</code>
+	 * instances in <code>annotations</code> can be found in the passed <code>positionMap</code> or
+	 * the projection annotation model if <code>positionMap</code> is <code>null</code>.
+	 *
+	 * @param annotations collection of <code>JavaProjectionAnnotation</code>
+	 * @param positionMap a <code>Map&lt;Annotation, Position&gt;</code> or <code>null</code>
+	 * @param ctx the context
+	 * @return the tuples by key, in iteration order of <code>annotations</code>
+	 */
+	private Map<Long, List<Tuple>> createOffsetIndex(Collection<JavaProjectionAnnotation> annotations, Map<JavaProjectionAnnotation, Position> positionMap, FoldingStructureComputationContext ctx) {
+		Map<Long, List<Tuple>> index= new HashMap<>();
+		for (JavaProjectionAnnotation annotation : annotations) {
+			Position position= positionMap == null ? ctx.getModel().getPosition(annotation) : positionMap.get(annotation);
+			if (position == null)
+				continue;
+			index.computeIfAbsent(getMatchKey(annotation, position), k -> new ArrayList<>(1)).add(new Tuple(annotation, position));
+		}
+		return index;
+	}
+
+	private static Long getMatchKey(JavaProjectionAnnotation annotation, Position position) {
+		return Long.valueOf(((long) position.getOffset() << 1) | (annotation.isComment() ? 1 : 0));
+	}
+
+	/**
+	 * Finds a match for <code>tuple</code> in an index created by
+	 * {@link #createOffsetIndex(Collection, Map, DefaultJavaFoldingStructureProvider.FoldingStructureComputationContext)}.
 	 * <p>
 	 * A tuple is said to match another if their annotations have the
 	 * same comment flag and their position offsets are equal.
 	 * </p>
 	 * <p>
-	 * If a match is found, the annotation gets removed from
-	 * <code>annotations</code>.
+	 * If a match is found, it gets removed from <code>index</code>.
 	 * </p>
 	 *
 	 * @param tuple the tuple for which we want to find a match
-	 * @param annotations collection of
-	 *        <code>JavaProjectionAnnotation</code>
-	 * @param positionMap a <code>Map&lt;Annotation, Position&gt;</code>
-	 *        or <code>null</code>
-	 * @param ctx the context
+	 * @param index the annotations indexed by comment flag and offset
 	 * @return a matching tuple or <code>null</code> for no match
 	 */
-	private Tuple findMatch(Tuple tuple, Collection<JavaProjectionAnnotation> annotations, Map<JavaProjectionAnnotation, Position> positionMap, FoldingStructureComputationContext ctx) {
-		Iterator<JavaProjectionAnnotation> it= annotations.iterator();
-		while (it.hasNext()) {
-			JavaProjectionAnnotation annotation= it.next();
-			if (tuple.annotation.isComment() == annotation.isComment()) {
-				Position position= positionMap == null ? ctx.getModel().getPosition(annotation) : positionMap.get(annotation);
-				if (position == null)
-					continue;
-
-				if (tuple.position.getOffset() == position.getOffset()) {
-					it.remove();
-					return new Tuple(annotation, position);
-				}
-			}
-		}
-
-		return null;
+	private Tuple findMatch(Tuple tuple, Map<Long, List<Tuple>> index) {
+		List<Tuple> candidates= index.get(getMatchKey(tuple.annotation, tuple.position));
+		if (candidates == null || candidates.isEmpty())
+			return null;
+		return candidates.remove(0);
 	}
 
-	private Map<IJavaElement, List<Tuple>> computeCurrentStructure(FoldingStructureComputationContext ctx) {
+	private Map<IJavaElement, List<Tuple>> computeCurrentStructure(FoldingStructureComputationContext ctx, UpdateScope scope) {
 		Map<IJavaElement, List<Tuple>> map= new HashMap<>();
 		ProjectionAnnotationModel model= ctx.getModel();
 		Iterator<Annotation> e= model.getAnnotationIterator();
@@ -1399,6 +1705,8 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 			Object annotation= e.next();
 			if (annotation instanceof JavaProjectionAnnotation) {
 				JavaProjectionAnnotation java= (JavaProjectionAnnotation) annotation;
+				if (scope != null && !scope.contains(java))
+					continue;
 				Position position= model.getPosition(java);
 				Assert.isNotNull(position);
 				List<Tuple> list= map.get(java.getElement());